@@ -0,0 +1,198 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source code of class IntLongMapBenchmark
+ *
+ *---------------------------------------------------------------------*/
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import dev.flang.util.IntMap;
+import dev.flang.util.LongMap;
+
+
+/**
+ * Micro benchmark for dev.flang.util.IntMap and LongMap compared to
+ * java.util.HashMap with boxed keys, e.g., using
+ *
+ *   java --class-path build/classes benchmarks/IntLongMapBenchmark.java
+ *
+ * Each test fills a new map with n keys, then looks up every key and the
+ * same number of missing keys, which is the pattern of the caches in
+ * GeneratingFUIR and the DFA.  Dense keys are like clazz or site ids, random
+ * keys and int pairs are like the long keys the DFA builds from two ids.
+ *
+ * There is no JMH setup in this repository, so this does a fixed number of
+ * warm-up rounds and reports the median time per operation of the measured
+ * rounds.
+ */
+public class IntLongMapBenchmark
+{
+
+  static final int WARMUP = 10;
+  static final int ROUNDS = 15;
+
+  static long _sink = 0;
+
+
+  interface Test
+  {
+    void run(int[] ik, long[] lk);
+  }
+
+
+  static void intMap(int[] ik, long[] lk)
+  {
+    var m = new IntMap<Object>();
+    var n = ik.length / 2;
+    for (var i = 0; i < n; i++)
+      {
+        m.put(ik[i], ik);
+      }
+    for (var i = 0; i < ik.length; i++)
+      {
+        _sink += m.get(ik[i]) == null ? 1 : 2;
+      }
+  }
+
+
+  static void intHashMap(int[] ik, long[] lk)
+  {
+    var m = new HashMap<Integer, Object>();
+    var n = ik.length / 2;
+    for (var i = 0; i < n; i++)
+      {
+        m.put(ik[i], ik);
+      }
+    for (var i = 0; i < ik.length; i++)
+      {
+        _sink += m.get(ik[i]) == null ? 1 : 2;
+      }
+  }
+
+
+  static void longMap(int[] ik, long[] lk)
+  {
+    var m = new LongMap<Object>();
+    var n = lk.length / 2;
+    for (var i = 0; i < n; i++)
+      {
+        m.put(lk[i], lk);
+      }
+    for (var i = 0; i < lk.length; i++)
+      {
+        _sink += m.get(lk[i]) == null ? 1 : 2;
+      }
+  }
+
+
+  static void longHashMap(int[] ik, long[] lk)
+  {
+    var m = new HashMap<Long, Object>();
+    var n = lk.length / 2;
+    for (var i = 0; i < n; i++)
+      {
+        m.put(lk[i], lk);
+      }
+    for (var i = 0; i < lk.length; i++)
+      {
+        _sink += m.get(lk[i]) == null ? 1 : 2;
+      }
+  }
+
+
+  /**
+   * Run t on keys ik/lk and print the median time per put or get.
+   */
+  static void measure(String name, Test t, int[] ik, long[] lk)
+  {
+    var ops = ik.length + ik.length / 2;
+    var times = new double[ROUNDS];
+    for (var r = 0; r < WARMUP + ROUNDS; r++)
+      {
+        var t0 = System.nanoTime();
+        t.run(ik, lk);
+        var t1 = System.nanoTime();
+        if (r >= WARMUP)
+          {
+            times[r - WARMUP] = (double) (t1 - t0) / ops;
+          }
+      }
+    Arrays.sort(times);
+    System.out.printf("%-40s %8.1f ns/op%n", name, times[ROUNDS / 2]);
+  }
+
+
+  /**
+   * Create 2*n distinct keys, the first n will be added to the map, the second
+   * n will be looked up but are missing.
+   */
+  static void run(String keys, int n, Random r, int kind)
+  {
+    var ik = new int[2 * n];
+    var lk = new long[2 * n];
+    var si = new java.util.HashSet<Long>();
+    for (var i = 0; i < 2 * n; )
+      {
+        long k = switch (kind)
+          {
+          case 0  -> i;
+          case 1  -> r.nextInt();
+          default -> (long) r.nextInt(1 << 16) << 32 | r.nextInt(1 << 16);
+          };
+        if (si.add(k))
+          {
+            ik[i] = (int) (kind == 2 ? k ^ k >>> 32 : k);
+            lk[i] = k;
+            i++;
+          }
+      }
+    if (kind != 2)
+      {
+        measure("IntMap       " + keys + " n=" + n, IntLongMapBenchmark::intMap     , ik, lk);
+        measure("HashMap<Int> " + keys + " n=" + n, IntLongMapBenchmark::intHashMap , ik, lk);
+      }
+    measure("LongMap      " + keys + " n=" + n, IntLongMapBenchmark::longMap    , ik, lk);
+    measure("HashMap<Long>" + keys + " n=" + n, IntLongMapBenchmark::longHashMap, ik, lk);
+  }
+
+
+  public static void main(String[] args)
+  {
+    var r = new Random(42);
+    for (var n : new int[] { 100, 10_000, 1_000_000 })
+      {
+        run(" dense    ", n, r, 0);
+        run(" random   ", n, r, 1);
+        run(" int pairs", n, r, 2);
+      }
+    if (_sink == 42)
+      {
+        System.out.println();
+      }
+  }
+
+}
+
+/* end of file */
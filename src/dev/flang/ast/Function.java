@@ -54,7 +54,7 @@ public class Function extends AbstractLambda
   /**
    * quick-and-dirty way to make unique names for function wrappers
    */
-  static private long id = 0;
+  static long id = 0;
 
 
   /*----------------------------  variables  ----------------------------*/
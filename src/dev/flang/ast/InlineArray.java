@@ -53,7 +53,7 @@ public class InlineArray extends ExprWithPos
    * quick-and-dirty way to make unique names for temporary variables needed for
    * array initialization.
    */
-  static private long _id_ = 0;
+  static long _id_ = 0;
 
 
   /*----------------------------  variables  ----------------------------*/
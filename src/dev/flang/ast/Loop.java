@@ -159,12 +159,12 @@ public class Loop extends ANY
   /**
    * quick-and-dirty way to make unique names for loop result vars
    */
-  static private long _id_ = 0;
+  static long _id_ = 0;
 
   /**
    * quick-and-dirty way to make unique names for loop variants
    */
-  static private long _id_var_ = 0;
+  static long _id_var_ = 0;
 
 
   /**
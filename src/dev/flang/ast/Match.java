@@ -55,7 +55,7 @@ public class Match extends AbstractMatch
   /**
    * quick-and-dirty way to make unique names for match result vars
    */
-  static private long _id_ = 0;
+  static long _id_ = 0;
 
 
   /*----------------------------  constants  ----------------------------*/
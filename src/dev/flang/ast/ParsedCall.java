@@ -76,7 +76,7 @@ public class ParsedCall extends Call
    * quick-and-dirty way to get unique values for temp fields in
    * findChainedBooleans.
    */
-  private static int _chainedBoolTempId_ = 0;
+  static int _chainedBoolTempId_ = 0;
 
 
   /*---------------------------  constructors  --------------------------*/
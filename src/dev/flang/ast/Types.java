@@ -396,4 +396,24 @@ public class Types extends ANY
     _options    = options;
   }
 
+
+  /**
+   * Reset the counters used to create names of artificial features, such that
+   * a compilation in a VM that already compiled code, e.g., in fz -daemon,
+   * creates the same names as a compilation in a fresh VM.
+   */
+  public static void resetIds()
+  {
+    Feature.uniqueAnonymousFeatureId = 0;
+    Feature.underscoreId = 0;
+    Feature.uniqueDestructureFeatureId = 0;
+    Function.id = 0;
+    InlineArray._id_ = 0;
+    Loop._id_ = 0;
+    Loop._id_var_ = 0;
+    Match._id_ = 0;
+    ParsedCall._chainedBoolTempId_ = 0;
+    Partial._partialFunctionArgumentId_ = 0;
+  }
+
 }
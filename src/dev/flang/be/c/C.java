@@ -28,10 +28,18 @@ package dev.flang.be.c;
 
 import static dev.flang.ir.IR.NO_CLAZZ;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.TreeSet;
@@ -697,10 +705,18 @@ public class C extends ANY
     var name = _options._binaryName != null ? _options._binaryName : _fuir.clazzBaseName(cl);
     var cf = new CFile(name, _options._keepGeneratedCode, false);
     var hf = new CFile(name, _options._keepGeneratedCode, true);
-    _options.verbosePrintln(" + " + cf.fileName());
+    var units = new List<CFile>(cf);
+    for (var i = 1; i < _options._cUnits; i++)
+      {
+        units.add(new CFile(name + "_" + i, _options._keepGeneratedCode, false));
+      }
+    for (var u : units)
+      {
+        _options.verbosePrintln(" + " + u.fileName());
+      }
     try
       {
-        createCode(cf, hf, _options);
+        createCode(units, hf, _options);
       }
     catch (IOException io)
       {
@@ -709,41 +725,247 @@ public class C extends ANY
       }
     finally
       {
-        cf.close();
+        for (var u : units)
+          {
+            u.close();
+          }
         hf.close();
       }
     Errors.showAndExit();
 
-    var command = buildCommand(name, cf);
+    var compiler = compilerCommand();
+    var files = new List<String>();
+    if (units.size() == 1 && _options._cCache == null)
+      {
+        files.add(cf.fileName());
+      }
+    else
+      {
+        // compile the translation units in parallel to object files that are
+        // linked in the final step, use cached object files if available:
+        var compiles = new List<List<String>>();
+        var toCache = new List<Pair<Path, Path>>();
+        var hits = 0;
+        for (var u : units)
+          {
+            var cached = _options._cCache == null ? null : cachedObject(compiler, u, hf);
+            if (cached != null && Files.exists(cached))
+              {
+                hits++;
+                files.add(cached.toString());
+              }
+            else
+              {
+                var o = u.fileName().replaceFirst("\\.c$", ".o");
+                if (!_options._keepGeneratedCode)
+                  {
+                    new File(o).deleteOnExit();
+                  }
+                var command = new List<String>();
+                command.addAll(compiler);
+                command.addAll("-c", u.fileName(), "-o", o);
+                compiles.add(command);
+                files.add(o);
+                if (cached != null)
+                  {
+                    toCache.add(new Pair<>(Path.of(o), cached));
+                  }
+              }
+          }
+        if (_options._cCache != null)
+          {
+            _options.verbosePrintln(" * C object cache: " + hits + " hits, " + compiles.size() + " misses");
+          }
+        runCCompiler(compiles);
+        for (var p : toCache)
+          {
+            storeInCache(p.v0(), p.v1());
+          }
+      }
+
+    runCCompiler(new List<List<String>>(buildCommand(compiler, name, files)));
+  }
 
-    _options.verbosePrintln(" * " + command.toString("", " ", ""));
+
+  /**
+   * Determine the path of the cached object file for the given translation
+   * unit.  The name is the hash of the compiler command, the code of the unit,
+   * the header it includes and fz.h, so any change in any of these results in
+   * a different object file.
+   *
+   * Since the header declares all clazzes and the generated names contain
+   * clazz ids that change whenever the application changes, any change of the
+   * Fuzion code results in misses for all units.  The cache hits only when
+   * the same code is compiled again, e.g., an unchanged application is rebuilt
+   * or only the options for linking changed.
+   *
+   * NYI: Key each unit on the declarations it uses once the generated names
+   * are stable.
+   *
+   * @param compiler the compiler command as created by compilerCommand().
+   *
+   * @param u the translation unit
+   *
+   * @param hf the header file included by u
+   *
+   * @return the path of the object file in the cache directory, null if it
+   * could not be determined.
+   */
+  private Path cachedObject(List<String> compiler, CFile u, CFile hf)
+  {
+    Path result = null;
     try
       {
-        var p = new ProcessBuilder().inheritIO().command(command).start();
-        p.waitFor();
-        if (p.exitValue() != 0)
+        var md = MessageDigest.getInstance("SHA-256");
+        md.update(compiler.toString("", "\0", "").getBytes(StandardCharsets.UTF_8));
+        // the name of the header may be a temp file that differs on every run,
+        // so remove it from the hashed code:
+        var code = Files.readString(Path.of(u.fileName())).replace(hf.fileName(), "");
+        md.update(code.getBytes(StandardCharsets.UTF_8));
+        md.update(Files.readAllBytes(Path.of(hf.fileName())));
+        md.update(Files.readAllBytes(Path.of(_options.pathOf("include/fz.h"))));
+        var hash = new StringBuilder();
+        for (var b : md.digest())
           {
-            Errors.error("C backend: C compiler failed",
-                         "C compiler call '" + command.toString("", " ", "") + "' failed with exit code '" + p.exitValue() + "'");
+            hash.append(String.format("%02x", b & 0xff));
           }
+        result = Path.of(_options._cCache).resolve(hash + ".o");
       }
-    catch (IOException | InterruptedException io)
+    catch (IOException | NoSuchAlgorithmException e)
       {
-        Errors.error("C backend I/O error when running C Compiler",
-                     "C compiler call '" + command.toString("", " ", "") + "'  received '" + io + "'");
+        _options.verbosePrintln(" * C object cache not used for '" + u.fileName() + "': " + e);
       }
-    Errors.showAndExit();
+    return result;
   }
 
 
   /**
-   * @param name the name of the produced binary
+   * Copy a freshly compiled object file to the cache.  The file is first
+   * copied to a temporary file that is then moved atomically to make sure
+   * concurrent builds never see partially written object files.  Since the
+   * cache is only an optimization, failures are reported with -verbose only.
+   *
+   * @param o the object file created by the C compiler.
+   *
+   * @param cached the target path in the cache.
+   */
+  private void storeInCache(Path o, Path cached)
+  {
+    try
+      {
+        Files.createDirectories(cached.getParent());
+        var tmp = Files.createTempFile(cached.getParent(), "fuzion_", ".o.tmp");
+        Files.copy(o, tmp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      }
+    catch (IOException e)
+      {
+        _options.verbosePrintln(" * C object cache: failed to store '" + o + "': " + e);
+      }
+  }
+
+
+  /**
+   * Start a thread that copies all data from in to out.
+   *
+   * @param in the stdout or stderr of a C compiler process
    *
-   * @param cf the generated code
+   * @param out the stream to copy to.
    *
-   * @return list of cmd and args to build the c code.
+   * @return the thread, to be joined after the process has terminated.
    */
-  private List<String> buildCommand(String name, CFile cf)
+  private static Thread copyOutput(InputStream in, PrintStream out)
+  {
+    var t = new Thread(() ->
+      {
+        try (in)
+          {
+            in.transferTo(out);
+          }
+        catch (IOException e)
+          {
+            // process output was closed, nothing left to copy.
+          }
+        out.flush();
+      });
+    t.setDaemon(true);
+    t.start();
+    return t;
+  }
+
+
+  /**
+   * Run the given C compiler commands in parallel and wait for all of them to
+   * finish.  Report an error and exit if any of them failed.
+   *
+   * The output of the C compilers is copied to System.out and System.err
+   * instead of being inherited from this process since these might have been
+   * redirected, e.g., by the fz daemon to send the output to its client.
+   *
+   * @param commands list of cmd and args of the commands to run.
+   */
+  private void runCCompiler(List<List<String>> commands)
+  {
+    var processes = new List<Process>();
+    var copiers = new List<Thread>();
+    for (var command : commands)
+      {
+        _options.verbosePrintln(" * " + command.toString("", " ", ""));
+        try
+          {
+            var p = new ProcessBuilder()
+              .redirectInput(ProcessBuilder.Redirect.INHERIT)
+              .command(command)
+              .start();
+            processes.add(p);
+            copiers.add(copyOutput(p.getInputStream(), System.out));
+            copiers.add(copyOutput(p.getErrorStream(), System.err));
+          }
+        catch (IOException io)
+          {
+            processes.add(null);
+            Errors.error("C backend I/O error when running C Compiler",
+                         "C compiler call '" + command.toString("", " ", "") + "'  received '" + io + "'");
+          }
+      }
+    for (var i = 0; i < processes.size(); i++)
+      {
+        var p = processes.get(i);
+        var command = commands.get(i);
+        try
+          {
+            if (p != null && p.waitFor() != 0)
+              {
+                Errors.error("C backend: C compiler failed",
+                             "C compiler call '" + command.toString("", " ", "") + "' failed with exit code '" + p.exitValue() + "'");
+              }
+          }
+        catch (InterruptedException io)
+          {
+            Errors.error("C backend I/O error when running C Compiler",
+                         "C compiler call '" + command.toString("", " ", "") + "'  received '" + io + "'");
+          }
+      }
+    for (var t : copiers)
+      {
+        try
+          {
+            t.join();
+          }
+        catch (InterruptedException e)
+          {
+            Errors.error("C backend: interrupted while copying C compiler output", e.toString());
+          }
+      }
+    Errors.showAndExit();
+  }
+
+
+  /**
+   * @return list of cmd and args to compile C code, without the files to
+   * compile and without the options for linking.
+   */
+  private List<String> compilerCommand()
   {
     var clangVersion = getClangVersion();
     // NYI: UNDER DEVELOPMENT: should be clangVersion == expectedClangVersion but workflows etc. must be updated first
@@ -873,6 +1095,35 @@ public class C extends ANY
     // NYI: UNDER DEVELOPMENT: does not work for macOS/windows/arm64 without adjustments
     // command.addAll("-fstack-protector-strong", "-fstack-clash-protection", "-fcf-protection");
 
+    command.addAll("-std=c11");
+
+    if (linkJVM())
+      {
+        command.addAll(
+          "-I" + JAVA_HOME + "/include",
+          "-I" + JAVA_HOME + "/include/linux",
+          "-I" + JAVA_HOME + "/include/win32",
+          "-I" + JAVA_HOME + "/include/darwin");
+      }
+
+    return command;
+  }
+
+
+  /**
+   * @param compiler the compiler command as created by compilerCommand().
+   *
+   * @param name the name of the produced binary
+   *
+   * @param files the generated C files or the object files compiled from them.
+   *
+   * @return list of cmd and args to build the binary.
+   */
+  private List<String> buildCommand(List<String> compiler, String name, List<String> files)
+  {
+    var command = new List<String>();
+    command.addAll(compiler);
+
     command.add("-lm");
 
     if (usesThreads() && !isWindows())
@@ -880,7 +1131,7 @@ public class C extends ANY
         command.add("-lpthread");
       }
 
-    command.addAll("-std=c11", "-o", name);
+    command.addAll("-o", name);
 
     // add the c-files
     command.addAll(_options.pathOf("include/shared.c"));
@@ -894,16 +1145,11 @@ public class C extends ANY
         command.addAll(_options.pathOf("include/posix.c"));
       }
 
-    command.addAll(cf.fileName());
+    command.addAll(files);
 
     if (linkJVM())
       {
-        command.addAll(
-          "-I" + JAVA_HOME + "/include",
-          "-I" + JAVA_HOME + "/include/linux",
-          "-I" + JAVA_HOME + "/include/win32",
-          "-I" + JAVA_HOME + "/include/darwin",
-          "-L" + JAVA_HOME + "/lib/server");
+        command.addAll("-L" + JAVA_HOME + "/lib/server");
 
         if (!isWindows())
           {
@@ -1042,14 +1288,25 @@ public class C extends ANY
 
 
   /**
-   * After the CFile has been opened and stored in _c, this methods generates
-   * the code into this file.
+   * After the CFiles have been opened, this methods generates the code into
+   * these files.
+   *
+   * @param units the C files to create.  The first unit receives the global
+   * definitions and main(), the functions implementing the clazzes are
+   * distributed over all units.
+   *
+   * @param hf the header file included by all units.
+   *
    * @throws IOException
    */
-  private void createCode(CFile cf, CFile hf, COptions _options) throws IOException
+  private void createCode(List<CFile> units, CFile hf, COptions _options) throws IOException
   {
+    var cf = units.getFirst();
     printHeaderFileHeader(hf);
-    printCodeFileHeader(cf, hf, _options);
+    for (var u : units)
+      {
+        printCodeFileHeader(u, hf, _options, u == cf);
+      }
 
     var ordered = _types.inOrder();
 
@@ -1062,7 +1319,7 @@ public class C extends ANY
               case TYPES -> (stmnt)->hf.print(stmnt);
               case STRUCTS -> (stmnt)->hf.print(stmnt);
               case FORWARDS -> (stmnt)->hf.print(stmnt);
-              case IMPLEMENTATIONS -> (stmnt)->cf.print(stmnt);
+              case IMPLEMENTATIONS -> (stmnt)->smallest(units).print(stmnt);
             };
         Consumer<String> printStr =
           switch(p)
@@ -1102,9 +1359,11 @@ public class C extends ANY
              printStmnt.accept(
                CStmnt.seq(
                  CStmnt.struct(CNames.fzThreadEffectsEnvironment.code(), effectsData),
-                 CStmnt.decl("_Thread_local", "struct " + CNames.fzThreadEffectsEnvironment.code() + "*", CNames.fzThreadEffectsEnvironment)
+                 CStmnt.decl("extern _Thread_local", "struct " + CNames.fzThreadEffectsEnvironment.code() + "*", CNames.fzThreadEffectsEnvironment)
                )
              );
+             cf.print(CStmnt.decl("_Thread_local", "struct " + CNames.fzThreadEffectsEnvironment.code() + "*", CNames.fzThreadEffectsEnvironment));
+             cf.print(CStmnt.decl(_names.struct(_fuir.clazzUniverse()), CNames.UNIVERSE));
            }
        });
 
@@ -1130,19 +1389,49 @@ public class C extends ANY
   }
 
 
+  /**
+   * Find the unit that the least code was written to.
+   *
+   * @param units the C files code is distributed over.
+   *
+   * @return the smallest element of units.
+   */
+  private CFile smallest(List<CFile> units)
+  {
+    var result = units.getFirst();
+    for (var u : units)
+      {
+        if (u.size() < result.size())
+          {
+            result = u;
+          }
+      }
+    return result;
+  }
+
+
   /*
    * print header in .h file
    */
   private void printHeaderFileHeader(CFile hf)
   {
     hf.print("#include <stdint.h>\n");
+    hf.print("#include <stddef.h>\n"); /* for size_t */
     hf.print("#include <stdbool.h>\n"); /* for bool fzEnvInstalled */
     hf.print("#include <setjmp.h>\n"); /* for jmp_buf */
 
     hf.print
-      (CStmnt.decl("int", CNames.GLOBAL_ARGC));
+      (CStmnt.decl("extern", "int", CNames.GLOBAL_ARGC));
     hf.print
-      (CStmnt.decl("char **", CNames.GLOBAL_ARGV));
+      (CStmnt.decl("extern", "char **", CNames.GLOBAL_ARGV));
+    hf.print
+      (CStmnt.decl("extern _Thread_local", "void *", new CIdent("fzW_native_outer")));
+    hf.print
+      (CStmnt.functionDecl("void *",
+                           CNames.HEAP_CLONE,
+                           new List<>("void *", "size_t"),
+                           new List<>(new CIdent("of"), new CIdent("sz")),
+                           null));
 
     // declaration of struct that is meant to passed to
     // the thread start routine
@@ -1156,9 +1445,10 @@ public class C extends ANY
 
 
   /*
-   * print header in .c file
+   * print header in .c file, including the definitions of global variables
+   * and helpers in case isMain is set.
    */
-  private void printCodeFileHeader(CFile cf, CFile hf, COptions _options)
+  private void printCodeFileHeader(CFile cf, CFile hf, COptions _options, boolean isMain)
   {
     if (_options._useBoehmGC)
       {
@@ -1198,6 +1488,16 @@ public class C extends ANY
           .forEach(x -> cf.println("#include <" + x + ">"));
       }
 
+    if (!isMain)
+      {
+        return;
+      }
+
+    cf.print
+      (CStmnt.decl("int", CNames.GLOBAL_ARGC));
+    cf.print
+      (CStmnt.decl("char **", CNames.GLOBAL_ARGV));
+
     var o = new CIdent("of");
     var s = new CIdent("sz");
     var r = new CIdent("r");
@@ -1234,7 +1534,7 @@ public class C extends ANY
       tmp.assign(CIdent.arg(0)),
       CExpr.call("((void *(*)(void *))" + tmp.code() + "->"+ CNames.fzThreadStartRoutineArgFun.code() + ")", new List<>(tmp.deref().field(CNames.fzThreadStartRoutineArgArg))).ret()
     );
-    return CStmnt.functionDecl("static void *", CNames.fzThreadStartRoutine, new List<>("void *"), new List<>(CIdent.arg(0)), includeBody ? body : null);
+    return CStmnt.functionDecl("void *", CNames.fzThreadStartRoutine, new List<>("void *"), new List<>(CIdent.arg(0)), includeBody ? body : null);
   }
 
 
@@ -74,6 +74,12 @@ public class CFile extends ANY
   private Path _path;
 
 
+  /**
+   * Number of characters written to this file so far.
+   */
+  private long _size = 0;
+
+
   /*---------------------------  constructors  ---------------------------*/
 
 
@@ -146,9 +152,11 @@ public class CFile extends ANY
               {
                 _cout.print(" ");
               }
+            _size += _c_indentation;
           }
         _cout.print(s);
         _c_col += l;
+        _size += l;
       }
   }
 
@@ -169,6 +177,7 @@ public class CFile extends ANY
             printSimpleString(s.substring(start, end));
             _cout.print("\n");
             _c_col = 0;
+            _size++;
             start = end + 1;
           }
         else
@@ -238,6 +247,15 @@ public class CFile extends ANY
   }
 
 
+  /**
+   * @return the number of characters written to this file so far.
+   */
+  public long size()
+  {
+    return _size;
+  }
+
+
   /**
    * @return the absolute path of the file
    * the c-code is written to.
@@ -26,6 +26,8 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.be.c;
 
+import java.nio.file.Path;
+
 import dev.flang.util.FuzionOptions;
 
 
@@ -38,6 +40,15 @@ public class COptions extends FuzionOptions
 {
 
 
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Value of option -CCache to disable the object file cache.
+   */
+  static final String CCACHE_OFF = "off";
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
@@ -99,6 +110,21 @@ public class COptions extends FuzionOptions
   final String _cLink;
 
 
+  /**
+   * Number of C translation units to split the generated code into.  These
+   * are compiled by parallel C compiler processes and linked in a final step.
+   * 1 to create and compile a single C file.
+   */
+  final int _cUnits;
+
+
+  /**
+   * Directory used to cache object files compiled from generated C code,
+   * null if caching was disabled by -CCache=off.
+   */
+  final String _cCache;
+
+
   /*--------------------------  constructors  ---------------------------*/
 
 
@@ -106,7 +132,7 @@ public class COptions extends FuzionOptions
    * Constructor initializing fields as given.
    * @param keepGeneratedCode
    */
-  public COptions(FuzionOptions fo, String binaryName, boolean useBoehmGC, String cCompiler, String cFlags, String cTarget, String cInclude, String cLink, boolean keepGeneratedCode, boolean debugBuild)
+  public COptions(FuzionOptions fo, String binaryName, boolean useBoehmGC, String cCompiler, String cFlags, String cTarget, String cInclude, String cLink, int cUnits, String cCache, boolean keepGeneratedCode, boolean debugBuild)
   {
     super(fo);
 
@@ -117,6 +143,11 @@ public class COptions extends FuzionOptions
     _cTarget = cTarget;
     _cInclude = cInclude;
     _cLink = cLink;
+    _cUnits = cUnits;
+    _cCache =
+      cCache == null            ? defaultCCache() :
+      cCache.equals(CCACHE_OFF) ? null
+                                : cCache;
     _keepGeneratedCode = keepGeneratedCode;
     _debugBuild = debugBuild;
   }
@@ -135,6 +166,18 @@ public class COptions extends FuzionOptions
   }
 
 
+  /**
+   * The default directory of the C object file cache: fuzion/c in
+   * XDG_CACHE_HOME, if set, or in ~/.cache otherwise.
+   */
+  private static String defaultCCache()
+  {
+    var ch = System.getenv("XDG_CACHE_HOME");
+    var dir = ch != null ? Path.of(ch) : Path.of(System.getProperty("user.home"), ".cache");
+    return dir.resolve("fuzion").resolve("c").toString();
+  }
+
+
   @Override
   public boolean needsEscapeAnalysis()
   {
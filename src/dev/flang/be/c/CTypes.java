@@ -339,7 +339,7 @@ public class CTypes extends ANY
         l.add(CStmnt.struct(_names.struct(cl), els));
         if (cl == _fuir.clazzUniverse())
           {
-            l.add(CStmnt.decl("static", _names.struct(cl), CNames.UNIVERSE));
+            l.add(CStmnt.decl("extern", _names.struct(cl), CNames.UNIVERSE));
           }
         result = CStmnt.seq(l);
       }
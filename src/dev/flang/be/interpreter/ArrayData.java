@@ -183,7 +183,7 @@ public class ArrayData extends Value
       case c_u64 ->         new u64Value (((long   [])_data)[x]       );
       case c_f32 ->         new f32Value (((float  [])_data)[x]       );
       case c_f64 ->         new f64Value (((double [])_data)[x]       );
-      case c_bool ->        new boolValue(((boolean[])_data)[x]       );
+      case c_bool ->        boolValue.get(((boolean[])_data)[x]       );
       default ->            (((Value[])_data)[x])        ;
     };
   }
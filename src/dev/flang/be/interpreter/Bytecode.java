@@ -0,0 +1,1015 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class Bytecode
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.be.interpreter;
+
+import static dev.flang.ir.IR.NO_CLAZZ;
+import static dev.flang.ir.IR.NO_SITE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import dev.flang.fuir.FUIR.LifeTime;
+import dev.flang.fuir.analysis.AbstractInterpreter;
+
+import dev.flang.ir.IR.FeatureKind;
+
+import dev.flang.util.Errors;
+import dev.flang.util.IntArray;
+import dev.flang.util.List;
+
+
+/**
+ * Bytecode is the pre-compiled form of one block of FUIR code that is executed
+ * by the interpreter if option {@code -Xbytecode=on} is given.
+ *
+ * The tree walking interpreter runs every call through AbstractInterpreter,
+ * which pushes and pops values on a {@code java.util.Stack}, creates a new
+ * Executor and wraps every result in a Pair.  Instead, a Bytecode is created
+ * once per code block and then executed by a simple dispatch loop in
+ * {@link #execute}.
+ *
+ * Values are held in registers.  Since FUIR code is stack based and the stack
+ * is empty at the end of every basic block, the register of a value is just
+ * its stack depth at compile time.  Values of unit type are never stored in a
+ * register, an operand register of {@code UNIT} stands for
+ * {@code Value.UNIT}.
+ *
+ * Field offsets, called clazzes, tail call decisions, primitive constants and
+ * match case indices are resolved during compilation wherever the access is
+ * static, everything else falls back to the corresponding method in Executor.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+class Bytecode extends FUIRContext
+{
+
+
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Instruction opcodes.  Each instruction consists of STRIDE ints:
+   *
+   *   op, site, a, b, c, d
+   *
+   * where the meaning of a..d depends on op.
+   */
+  private static final int OP_SET_ARG      =  0; // a: arg index, c: field in _aux, d: offset or -1
+  private static final int OP_SET_OUTER    =  1; // c: field in _aux, d: offset or -1
+  private static final int OP_ASSIGN       =  2; // a: target, b: value
+  private static final int OP_SET_FIELD    =  3; // a: target, b: value, c: field in _aux, d: offset
+  private static final int OP_GET_FIELD    =  4; // a: target, b: result, c: field in _aux, d: offset
+  private static final int OP_CALL         =  5; // a: target, b: result, c: args in _aux
+  private static final int OP_CALL_ROUTINE =  6; // a: target, b: result, c: args in _aux, d: callee in _aux
+  private static final int OP_TAIL_CALL    =  7; // a: target, c: args in _aux
+  private static final int OP_BOX          =  8; // a: value, b: result, c: value clazz, d: ref clazz
+  private static final int OP_CURRENT      =  9; // b: result
+  private static final int OP_CONST        = 10; // b: result, c: index in _consts or -1
+  private static final int OP_UNIT         = 11; // b: result
+  private static final int OP_MATCH        = 12; // a: subject, c: index in _matchSites
+  private static final int OP_TAG          = 13; // a: value, b: result, c: new clazz, d: tag number
+  private static final int OP_UNREACHABLE  = 14;
+
+  private static final int STRIDE = 6;
+
+
+  /**
+   * Operand register used for values of unit type.
+   */
+  private static final int UNIT = -1;
+
+
+  /**
+   * Empty register file used for code that does not need any registers.
+   */
+  private static final Value[] NO_REGISTERS = new Value[0];
+
+
+  /*-----------------------------  statics  -----------------------------*/
+
+
+  /**
+   * Compiled code of clazzes, indexed by clazz id - firstClazz().  Filled
+   * lazily by all threads that execute Fuzion code.
+   */
+  private static volatile AtomicReferenceArray<Bytecode> _clazzCode_;
+
+
+  /**
+   * Number of code blocks compiled so far, for verbose output.
+   */
+  static final AtomicInteger _compiled_ = new AtomicInteger();
+
+
+  /**
+   * Drop all compiled code. Called when a new Executor is created since the
+   * code compiled for clazz ids of a different FUIR is not valid anymore.
+   */
+  static void reset()
+  {
+    _clazzCode_ = null;
+    _compiled_.set(0);
+  }
+
+
+  /**
+   * Get the compiled code for the given routine clazz including the prolog
+   * that initializes outer ref and argument fields.
+   *
+   * @param cl a clazz id
+   */
+  static Bytecode forClazz(int cl)
+  {
+    var cc = _clazzCode_;
+    if (cc == null)
+      {
+        synchronized (Bytecode.class)
+          {
+            cc = _clazzCode_;
+            if (cc == null)
+              {
+                cc = new AtomicReferenceArray<>(fuir().lastClazz() - fuir().firstClazz() + 1);
+                _clazzCode_ = cc;
+              }
+          }
+      }
+    var i = cl - fuir().firstClazz();
+    var result = cc.get(i);
+    if (result == null)
+      {
+        // two threads may compile the same clazz, the first one wins
+        result = new Bytecode(cl, fuir().clazzCode(cl), true);
+        var other = cc.compareAndExchange(i, null, result);
+        if (other != null)
+          {
+            result = other;
+          }
+      }
+    return result;
+  }
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * The clazz this code belongs to.
+   */
+  private final int _clazz;
+
+
+  /**
+   * The instructions, STRIDE ints per instruction.
+   */
+  private final int[] _code;
+
+
+  /**
+   * Auxiliary operands: argument register lists, fields together with the
+   * clazz of the stored value and called routines with their result fields.
+   */
+  private final int[] _aux;
+
+
+  /**
+   * true for the code of a routine, which initializes outer ref and argument
+   * fields first, false for the code of a match case.
+   */
+  private final boolean _routine;
+
+
+  /**
+   * true if the instance of _clazz is not accessible after a call returned,
+   * so it can be reused for self tail calls.
+   */
+  private final boolean _reuseInstance;
+
+
+  /**
+   * Constants of primitive types, created on first use.
+   */
+  private final Value[] _consts;
+
+
+  /**
+   * For each match instruction: the site of the match.
+   */
+  private final int[] _matchSites;
+
+
+  /**
+   * For each match instruction: map from tag to case index.
+   */
+  private final int[][] _matchCases;
+
+
+  /**
+   * For each match instruction: compiled code of the cases, created lazily.
+   */
+  private final Bytecode[][] _matchCode;
+
+
+  /**
+   * The number of registers needed.
+   */
+  private final int _registers;
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Compile the code starting at s0.
+   *
+   * @param cl the clazz containing the code
+   *
+   * @param s0 the first site of the code block, NO_SITE if there is no code.
+   *
+   * @param prolog true to initialize outer ref and argument fields first.
+   */
+  private Bytecode(int cl, int s0, boolean prolog)
+  {
+    _clazz = cl;
+    _routine = prolog;
+    _reuseInstance = fuir().lifeTime(cl) == LifeTime.Call;
+    var c = new Compiler();
+    if (s0 != NO_SITE)
+      {
+        if (prolog)
+          {
+            c.prolog(s0);
+          }
+        c.code(s0);
+      }
+    _code       = c._code      .toArray();
+    _aux        = c._aux       .toArray();
+    _consts     = new Value[c._consts];
+    _matchSites = c._matchSites.toArray();
+    _matchCases = c._matchCases.toArray(new int[c._matchCases.size()][]);
+    _matchCode  = new Bytecode[_matchSites.length][];
+    for (var i = 0; i < _matchSites.length; i++)
+      {
+        _matchCode[i] = new Bytecode[fuir().matchCaseCount(_matchSites[i])];
+      }
+    _registers = c._maxDepth;
+    _compiled_.incrementAndGet();
+  }
+
+
+  /*--------------------------  compilation  ---------------------------*/
+
+
+  /**
+   * Compiler keeps the state while compiling one code block.
+   */
+  private class Compiler
+  {
+
+    final IntArray _code = new IntArray();
+    final IntArray _aux = new IntArray();
+    final IntArray _matchSites = new IntArray();
+    final ArrayList<int[]> _matchCases = new ArrayList<>();
+
+
+    /**
+     * Number of primitive constants.
+     */
+    int _consts = 0;
+
+
+    /**
+     * Current stack depth, i.e., the next free register, and the maximum
+     * depth reached.
+     */
+    int _depth = 0;
+    int _maxDepth = 0;
+
+
+    /**
+     * Push a value of clazz cl.
+     *
+     * @return the register the value is stored in or UNIT.
+     */
+    int push(int cl)
+    {
+      var result = UNIT;
+      if (!AbstractInterpreter.clazzHasUnitValue(fuir(), cl))
+        {
+          result = _depth++;
+          _maxDepth = Math.max(_maxDepth, _depth);
+        }
+      return result;
+    }
+
+
+    /**
+     * Pop a value of clazz cl.
+     *
+     * @return the register the value was stored in or UNIT.
+     */
+    int pop(int cl)
+    {
+      return AbstractInterpreter.clazzHasUnitValue(fuir(), cl) ? UNIT : --_depth;
+    }
+
+
+    void emit(int op, int s, int a, int b, int c, int d)
+    {
+      _code.add(op);
+      _code.add(s);
+      _code.add(a);
+      _code.add(b);
+      _code.add(c);
+      _code.add(d);
+    }
+
+
+    /**
+     * Pop the arguments of a call to cc and store their registers in _aux.
+     *
+     * @return the index of the argument count in _aux, followed by the
+     * argument registers.
+     */
+    int args(int cc)
+    {
+      var n = fuir().clazzArgCount(cc);
+      var regs = new int[n];
+      for (var i = n-1; i >= 0; i--)
+        {
+          regs[i] = pop(fuir().clazzArgClazz(cc, i));
+        }
+      var result = _aux.size();
+      _aux.add(n);
+      for (var r : regs)
+        {
+          _aux.add(r);
+        }
+      return result;
+    }
+
+
+    /**
+     * Store field f and the clazz of its value in _aux.
+     *
+     * @return the index of f in _aux.
+     */
+    int field(int f)
+    {
+      var result = _aux.size();
+      _aux.add(f);
+      _aux.add(Interpreter.clazzForField(f));
+      return result;
+    }
+
+
+    /**
+     * Store routine cc and its result field in _aux.
+     *
+     * @return the index of cc in _aux, followed by the result field, the
+     * result field's value clazz and its offset.
+     */
+    int routine(int cc)
+    {
+      var result = _aux.size();
+      var rf = fuir().isConstructor(cc) ? NO_CLAZZ : fuir().clazzResultField(cc);
+      _aux.add(cc);
+      _aux.add(rf);
+      _aux.add(rf == NO_CLAZZ ? NO_CLAZZ : Interpreter.clazzForField(rf));
+      _aux.add(rf == NO_CLAZZ ? -1       : fieldOffset(cc, rf));
+      return result;
+    }
+
+
+    /**
+     * Compile the initialization of the outer ref and argument fields, see
+     * AbstractInterpreter.assignOuterAndArgFields.
+     */
+    void prolog(int s)
+    {
+      var or = fuir().clazzOuterRef(_clazz);
+      if (or != NO_CLAZZ && fuir().hasData(fuir().clazzResultClazz(or)))
+        {
+          emit(OP_SET_OUTER, s, 0, 0, field(or), fieldOffset(_clazz, or));
+        }
+      for (var i = 0; i < fuir().clazzArgCount(_clazz); i++)
+        {
+          if (fuir().hasData(fuir().clazzArgClazz(_clazz, i)))
+            {
+              var af = fuir().clazzArg(_clazz, i);
+              emit(OP_SET_ARG, s, i, 0, field(af), fieldOffset(_clazz, af));
+            }
+        }
+    }
+
+
+    /**
+     * Compile the code block starting at s0, see AbstractInterpreter.processCode.
+     */
+    void code(int s0)
+    {
+      var done = false;
+      for (var s = s0; !done && fuir().withinCode(s); s = s + fuir().codeSizeAt(s))
+        {
+          done = !expr(s);
+          if (fuir().alwaysResultsInVoid(s))
+            {
+              emit(OP_UNREACHABLE, s, 0, 0, 0, 0);
+              done = true;
+            }
+        }
+    }
+
+
+    /**
+     * Compile the expression at site s, see AbstractInterpreter.process.
+     *
+     * @return false if the expression results in void, so code following it
+     * is unreachable.
+     */
+    boolean expr(int s)
+    {
+      var result = true;
+      switch (fuir().codeAt(s))
+        {
+        case Assign:
+          {
+            var ft = fuir().assignedType(s);
+            var tc = fuir().accessTargetClazz(s);
+            var t = pop(tc);
+            var v = pop(ft);
+            var f = fuir().accessedClazz(s);
+            if (f != NO_CLAZZ && v != UNIT)
+              {
+                var tt = fuir().accessIsDynamic(s) ? NO_CLAZZ : fuir().clazzOuterClazz(f);
+                var off = tt != NO_CLAZZ && (t != UNIT || tt == fuir().clazzUniverse()) ? fieldOffset(tt, f) : -1;
+                if (off >= 0)
+                  {
+                    emit(OP_SET_FIELD, s, t, v, field(f), off);
+                  }
+                else
+                  {
+                    emit(OP_ASSIGN, s, t, v, 0, 0);
+                  }
+              }
+            break;
+          }
+        case Box:
+          {
+            var vc = fuir().boxValueClazz(s);
+            var rc = fuir().boxResultClazz(s);
+            if (!fuir().clazzIsRef(vc) && fuir().clazzIsRef(rc))
+              {
+                var v = pop(vc);
+                var r = push(rc);
+                emit(OP_BOX, s, v, r, vc, rc);
+              }
+            break;
+          }
+        case Call:
+          {
+            var cc = fuir().accessedClazz(s);
+            var rt = fuir().clazzResultClazz(cc);
+            var args = args(cc);
+            var tc = fuir().accessTargetClazz(s);
+            var t = pop(tc);
+            if (fuir().clazzKind(cc) == FeatureKind.TypeParameter)
+              {
+                var r = push(rt);
+                if (r != UNIT)
+                  {
+                    emit(OP_UNIT, s, 0, r, 0, 0);
+                  }
+              }
+            else if (fuir().clazzIsVoidType(rt))
+              {
+                emit(OP_CALL, s, t, UNIT, args, 0);
+                result = false;
+              }
+            else if (fuir().accessIsDynamic(s))
+              {
+                emit(OP_CALL, s, t, push(rt), args, 0);
+              }
+            else if (cc == _clazz && Executor.tailCall().callIsTailCall(_clazz, s))
+              {
+                emit(OP_TAIL_CALL, s, t, UNIT, args, 0);
+                result = false;
+              }
+            else
+              {
+                var tt = fuir().clazzOuterClazz(cc);
+                var off = fuir().clazzKind(cc) == FeatureKind.Field && (t != UNIT || tt == fuir().clazzUniverse())
+                  ? fieldOffset(tt, cc)
+                  : -1;
+                var r = push(rt);
+                if (off >= 0)
+                  {
+                    if (r != UNIT)
+                      {
+                        emit(OP_GET_FIELD, s, t, r, field(cc), off);
+                      }
+                  }
+                else if (fuir().clazzKind(cc) == FeatureKind.Routine)
+                  {
+                    emit(OP_CALL_ROUTINE, s, t, r, args, routine(cc));
+                  }
+                else
+                  {
+                    emit(OP_CALL, s, t, r, args, 0);
+                  }
+              }
+            break;
+          }
+        case Current:
+          {
+            var r = push(fuir().clazzAt(s));
+            if (r != UNIT)
+              {
+                emit(OP_CURRENT, s, 0, r, 0, 0);
+              }
+            break;
+          }
+        case Const:
+          {
+            var constCl = fuir().constClazz(s);
+            var r = push(constCl);
+            var ci = switch (fuir().getSpecialClazz(constCl))
+              {
+              case c_f32, c_f64, c_i8, c_i16, c_i32, c_i64, c_u8, c_u16, c_u32, c_u64 -> _consts++;
+              default -> -1;
+              };
+            if (r != UNIT)
+              {
+                emit(OP_CONST, s, 0, r, ci, 0);
+              }
+            break;
+          }
+        case Match:
+          {
+            var subj = pop(fuir().matchStaticSubject(s));
+            var mi = _matchSites.size();
+            _matchSites.add(s);
+            _matchCases.add(tagToCase(s));
+            emit(OP_MATCH, s, subj, 0, mi, 0);
+            break;
+          }
+        case Tag:
+          {
+            var v = pop(fuir().tagValueClazz(s));
+            var newcl = fuir().tagNewClazz(s);
+            var r = push(newcl);
+            emit(OP_TAG, s, v, r, newcl, fuir().tagTagNum(s));
+            break;
+          }
+        case Pop:
+          {
+            pop(fuir().clazzResultClazz(fuir().accessedClazz(s-1)));
+            break;
+          }
+        case Comment:
+          {
+            break;
+          }
+        default:
+          {
+            Errors.fatal("Bytecode compiler does not handle expressions of type " + fuir().codeAt(s));
+          }
+        }
+      return result;
+    }
+
+  }
+
+
+  /**
+   * For a field f in an instance of static clazz sc, determine the offset of f
+   * if the access can be resolved at compile time.
+   *
+   * @return the offset or -1 if the access must be done via
+   * Interpreter.getField/setField.
+   */
+  private static int fieldOffset(int sc, int f)
+  {
+    var result = -1;
+    if (!fuir().clazzIsRef(sc) &&
+        !fuir().clazzIsBoxed(sc) &&
+        fuir().clazzKind(sc) == FeatureKind.Routine &&
+        Interpreter.clazzForField(f) != NO_CLAZZ)
+      {
+        result = switch (fuir().getSpecialClazz(sc))
+          {
+          case c_f32 , c_f64 , c_i8 , c_i16 , c_i32 , c_i64 , c_u8 , c_u16 , c_u32 , c_u64 , c_bool -> -1;
+          default ->
+            {
+              var o = Layout.get(sc)._offsets.get(f);
+              yield o == null ? -1 : o;
+            }
+          };
+      }
+    return result;
+  }
+
+
+  /**
+   * Create the map from tags to case indices for the match at site s.
+   */
+  private static int[] tagToCase(int s)
+  {
+    var max = -1;
+    for (var j = 0; j < fuir().matchCaseCount(s); j++)
+      {
+        for (var t : fuir().matchCaseTags(s, j))
+          {
+            max = Math.max(max, t);
+          }
+      }
+    var result = new int[max + 1];
+    Arrays.fill(result, -1);
+    for (var j = 0; j < fuir().matchCaseCount(s); j++)
+      {
+        for (var t : fuir().matchCaseTags(s, j))
+          {
+            if (result[t] < 0)
+              {
+                result[t] = j;
+              }
+          }
+      }
+    return result;
+  }
+
+
+  /*-----------------------------  execution  -----------------------------*/
+
+
+  /**
+   * Execute this code of a routine.  Self tail calls re-enter the routine.
+   *
+   * The register file is reused for all iterations.  The arguments of a self
+   * tail call are passed in FuzionThread._tailCallArgsBuffer, which is reused
+   * as well.  This is safe since they are copied into the instance by the
+   * prolog before any other code runs.
+   *
+   * The instance is reused as well if the DFA found that it does not escape
+   * the call.  Argument values that refer to fields of the old instance are
+   * copied before its fields are reset.  Otherwise, every iteration gets a
+   * new instance.
+   *
+   * @param ex the executor used for operations that are not pre-resolved.
+   *
+   * @param cur the current instance
+   *
+   * @param outer the outer instance, i.e., the target of the call
+   *
+   * @param args the actual arguments
+   *
+   * @return the instance the code finished in, differs from cur after a self
+   * tail call.
+   */
+  Instance execute(Executor ex, Instance cur, Value outer, List<Value> args)
+  {
+    if (PRECONDITIONS) require
+      (_routine);
+
+    var r = newRegisters();
+    while (!run(ex, cur, outer, args, r))
+      {
+        var t = FuzionThread.current();
+        outer = t._tailCallTarget;
+        args = t._tailCallArgs;
+        t._tailCallArgs = null;
+        if (_reuseInstance)
+          {
+            outer = detach(cur, outer);
+            for (var i = 0; i < args.size(); i++)
+              {
+                args.set(i, detach(cur, args.get(i)));
+              }
+            cur.reset();
+          }
+        else
+          {
+            cur = new Instance(_clazz);
+          }
+      }
+    return cur;
+  }
+
+
+  /**
+   * Copy v if it is a value stored in a field of cur, such that it is not
+   * changed when cur is reset for a self tail call.
+   *
+   * @param cur the instance that will be reused
+   *
+   * @param v a value
+   *
+   * @return v or a copy of v that is independent of cur.
+   */
+  private static Value detach(Instance cur, Value v)
+  {
+    return v instanceof LValue lv && lv.container == cur ? lv.cloneValue(lv._clazz) : v;
+  }
+
+
+  /**
+   * Run this code once.
+   *
+   * @param ex the executor used for operations that are not pre-resolved.
+   *
+   * @param cur the current instance
+   *
+   * @param outer the outer instance, i.e., the target of the call
+   *
+   * @param args the actual arguments
+   *
+   * @param r the register file, see newRegisters().
+   *
+   * @return false if the code ended in a self tail call whose target and
+   * arguments are pending in FuzionThread.current(), true otherwise.
+   */
+  private boolean run(Executor ex, Instance cur, Value outer, List<Value> args, Value[] r)
+  {
+    var c = _code;
+    for (var pc = 0; pc < c.length; pc += STRIDE)
+      {
+        var s = c[pc + 1];
+        var a = c[pc + 2];
+        var b = c[pc + 3];
+        switch (c[pc])
+          {
+          case OP_SET_ARG:
+            {
+              setField(c[pc + 4], cur, c[pc + 5], args.get(a));
+              break;
+            }
+          case OP_SET_OUTER:
+            {
+              setField(c[pc + 4], cur, c[pc + 5], outer);
+              break;
+            }
+          case OP_ASSIGN:
+            {
+              ex.assign(s, reg(r, a), reg(r, b));
+              break;
+            }
+          case OP_SET_FIELD:
+            {
+              var v = r[b];
+              if (v != Value.UNIT)
+                {
+                  var t = a == UNIT ? Executor.universe() : r[a];
+                  var f = c[pc + 4];
+                  Interpreter.setFieldAt(_aux[f], _aux[f + 1], t, c[pc + 5], v);
+                }
+              break;
+            }
+          case OP_GET_FIELD:
+            {
+              var t = a == UNIT ? Executor.universe() : r[a];
+              var f = c[pc + 4];
+              r[b] = Interpreter.getFieldAt(_aux[f], _aux[f + 1], t, c[pc + 5]);
+              break;
+            }
+          case OP_CALL:
+            {
+              var res = ex.call(s, reg(r, a), args(r, c[pc + 4])).v0();
+              if (res == null)
+                {
+                  return FuzionThread.current()._tailCallArgs == null;
+                }
+              else if (b != UNIT)
+                {
+                  r[b] = res;
+                }
+              break;
+            }
+          case OP_CALL_ROUTINE:
+            {
+              var rc = c[pc + 5];
+              var inst = ex.callOnNewInstance(s, _aux[rc], reg(r, a), args(r, c[pc + 4]));
+              if (b != UNIT)
+                {
+                  r[b] = result(rc, inst);
+                }
+              break;
+            }
+          case OP_TAIL_CALL:
+            {
+              var t = FuzionThread.current();
+              var ta = t._tailCallArgsBuffer;
+              ta.clear();
+              t.tailCall(reg(r, a), args(r, c[pc + 4], ta));
+              return false;
+            }
+          case OP_BOX:
+            {
+              var v = reg(r, a);
+              if (_reuseInstance)
+                {
+                  // the boxed value must not change when cur is reused
+                  v = detach(cur, v);
+                }
+              r[b] = new Boxed(c[pc + 5], c[pc + 4], v);
+              break;
+            }
+          case OP_CURRENT:
+            {
+              r[b] = cur;
+              break;
+            }
+          case OP_CONST:
+            {
+              var ci = c[pc + 4];
+              var v = ci >= 0 ? _consts[ci] : null;
+              if (v == null)
+                {
+                  v = ex.constData(s, fuir().constClazz(s), fuir().constData(s)).v0();
+                  if (ci >= 0)
+                    {
+                      // benign race: other threads create an equal constant
+                      _consts[ci] = v;
+                    }
+                }
+              r[b] = v;
+              break;
+            }
+          case OP_UNIT:
+            {
+              r[b] = Value.UNIT;
+              break;
+            }
+          case OP_MATCH:
+            {
+              if (!match(ex, cur, outer, args, c[pc + 4], reg(r, a)))
+                {
+                  return false;
+                }
+              break;
+            }
+          case OP_TAG:
+            {
+              var newcl = c[pc + 4];
+              var tagNum = c[pc + 5];
+              r[b] = Interpreter.tag(newcl, fuir().clazzChoice(newcl, tagNum), reg(r, a), tagNum);
+              break;
+            }
+          case OP_UNREACHABLE:
+            {
+              ex.reportErrorInCode("Severe compiler bug! This code should be unreachable:\n" +
+                                   fuir().siteAsString(s));
+              return true;
+            }
+          default:
+            {
+              throw new Error("Bytecode: unknown opcode " + c[pc]);
+            }
+          }
+      }
+    return true;
+  }
+
+
+  /**
+   * Read register i, UNIT results in Value.UNIT.
+   */
+  private static Value reg(Value[] r, int i)
+  {
+    return i == UNIT ? Value.UNIT : r[i];
+  }
+
+
+  /**
+   * Create a register file for running this code.
+   */
+  private Value[] newRegisters()
+  {
+    return _registers == 0 ? NO_REGISTERS : new Value[_registers];
+  }
+
+
+  /**
+   * Create argument list from the argument registers stored at _aux[i].
+   */
+  private List<Value> args(Value[] r, int i)
+  {
+    return args(r, i, new List<Value>());
+  }
+
+
+  /**
+   * Add the argument registers stored at _aux[i] to result.
+   *
+   * @return result
+   */
+  private List<Value> args(Value[] r, int i, List<Value> result)
+  {
+    var n = _aux[i];
+    for (var j = 1; j <= n; j++)
+      {
+        result.add(reg(r, _aux[i + j]));
+      }
+    return result;
+  }
+
+
+  /**
+   * Store v in the field stored at _aux[f] of cur, using offset off if it is
+   * >= 0.
+   */
+  private void setField(int f, Instance cur, int off, Value v)
+  {
+    if (off >= 0)
+      {
+        Interpreter.setFieldAt(_aux[f], _aux[f + 1], cur, off, v);
+      }
+    else
+      {
+        Interpreter.setField(_aux[f], _clazz, cur, v);
+      }
+  }
+
+
+  /**
+   * Get the result of a call to the routine stored at _aux[rc] that was
+   * executed in instance inst.
+   */
+  private Value result(int rc, Instance inst)
+  {
+    var cc  = _aux[rc    ];
+    var rf  = _aux[rc + 1];
+    var rfc = _aux[rc + 2];
+    var off = _aux[rc + 3];
+    return
+      rf  == NO_CLAZZ ? inst :
+      off >= 0        ? Interpreter.getFieldAt(rf, rfc, inst, off)
+                      : Interpreter.getField(rf, cc, inst, false);
+  }
+
+
+  /**
+   * Execute a match, see Executor.match.
+   *
+   * @param mi the index of the match in _matchSites.
+   *
+   * @param subv the subject
+   *
+   * @return false if the code of the matching case ended in a self tail call,
+   * see run().
+   */
+  private boolean match(Executor ex, Instance cur, Value outer, List<Value> args, int mi, Value subv)
+  {
+    var s = _matchSites[mi];
+    var tagAndVal = ex.tagAndVal(subv);
+    var tag = tagAndVal.v0();
+    var cases = _matchCases[mi];
+    var cix = tag < cases.length ? cases[tag] : -1;
+
+    if (CHECKS) check
+      (cix >= 0);
+
+    var field = fuir().matchCaseField(s, cix);
+    if (field != NO_CLAZZ && !fuir().clazzIsUnitType(fuir().clazzResultClazz(field)))
+      {
+        Interpreter.setField(field, cur.clazz(), cur, tagAndVal.v1());
+      }
+    var code = _matchCode[mi][cix];
+    if (code == null)
+      {
+        code = new Bytecode(_clazz, fuir().matchCaseCode(s, cix), false);
+        // benign race: all fields of Bytecode are final, so the code compiled
+        // by another thread is safely published
+        _matchCode[mi][cix] = code;
+      }
+    return code.run(ex, cur, outer, args, code.newRegisters());
+  }
+
+}
+
+/* end of file */
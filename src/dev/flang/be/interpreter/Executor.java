@@ -36,6 +36,7 @@ import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
@@ -47,6 +48,7 @@ import dev.flang.fuir.analysis.AbstractInterpreter;
 import dev.flang.fuir.analysis.AbstractInterpreter.ProcessExpression;
 
 import dev.flang.fuir.analysis.TailCall;
+import dev.flang.ir.IR.FeatureKind;
 import dev.flang.util.Errors;
 import dev.flang.util.FuzionOptions;
 import dev.flang.util.List;
@@ -89,6 +91,27 @@ public class Executor extends ProcessExpression<Value, Object>
   private static FuzionOptions _options_;
 
 
+  /**
+   * Should code be executed as pre-compiled Bytecode instead of via
+   * AbstractInterpreter?
+   */
+  private static boolean _bytecode_;
+
+
+  /**
+   * Dense effect ids indexed by clazzId2num() of the effect type, -1 for
+   * clazzes that are not used as effect types.  Copied on write by
+   * addEffectId.
+   */
+  private static volatile int[] _effectIds_;
+
+
+  /**
+   * Number of effect ids assigned in _effectIds_.
+   */
+  private static int _effectCount_;
+
+
 
   /*-----------------------------  instance fields  -----------------------------*/
 
@@ -123,8 +146,12 @@ public class Executor extends ProcessExpression<Value, Object>
   {
     _fuir = fuir;
     _options_ = opt;
+    _bytecode_ = opt instanceof InterpreterOptions io && io._bytecode;
     _universe = new Instance(_fuir.clazzUniverse());
     _tailCall = new TailCall(fuir);
+    initEffectIds();
+    _nativeHandles_ = new MethodHandle[_fuir.lastClazz() - _fuir.firstClazz() + 1];
+    Bytecode.reset();
     this._cur = _fuir.mainClazz() == _fuir.clazzUniverse() ? _universe : new Instance(_fuir.mainClazz());
     this._outer = _universe;
     this._args = new List<>();
@@ -151,6 +178,103 @@ public class Executor extends ProcessExpression<Value, Object>
   /*-----------------------------  methods  -----------------------------*/
 
 
+  /**
+   * The universe instance.
+   */
+  static Instance universe()
+  {
+    return _universe;
+  }
+
+
+  /**
+   * The tail call analysis.
+   */
+  static TailCall tailCall()
+  {
+    return _tailCall;
+  }
+
+
+  /**
+   * Is execution done using pre-compiled Bytecode?
+   */
+  static boolean bytecode()
+  {
+    return _bytecode_;
+  }
+
+
+  /**
+   * Assign dense effect ids to all effect types used by effect intrinsics
+   * and by effect.type.from_env.
+   */
+  private static void initEffectIds()
+  {
+    var ids = new int[_fuir.lastClazz() - _fuir.firstClazz() + 1];
+    Arrays.fill(ids, -1);
+    _effectIds_ = ids;
+    _effectCount_ = 0;
+    for (var cl = _fuir.firstClazz(); cl <= _fuir.lastClazz(); cl++)
+      {
+        if (_fuir.clazzKind(cl) == FeatureKind.Intrinsic)
+          {
+            var ecl = _fuir.isEffectIntrinsic(cl)
+              ? _fuir.effectTypeFromIntrinsic(cl)
+              : switch (_fuir.clazzOriginalName(cl))
+                  {
+                  case "effect.type.from_env",
+                       "effect.type.unsafe_from_env" -> _fuir.clazzResultClazz(cl);
+                  default                            -> NO_CLAZZ;
+                  };
+            if (ecl != NO_CLAZZ)
+              {
+                effectId(ecl);
+              }
+          }
+      }
+  }
+
+
+  /**
+   * Get the dense id of an effect type, used to index
+   * FuzionThread._effects.
+   *
+   * @param ecl the effect type
+   *
+   * @return the effect id, 0, 1, 2, ...
+   */
+  static int effectId(int ecl)
+  {
+    var n = _fuir.clazzId2num(ecl);
+    var ids = _effectIds_;
+    var result = n < ids.length ? ids[n] : -1;
+    return result >= 0 ? result : addEffectId(n);
+  }
+
+
+  /**
+   * Assign a new effect id for effect type with given clazzId2num(), unless
+   * another thread did so already.
+   *
+   * @param n the clazzId2num() of the effect type.
+   *
+   * @return the effect id
+   */
+  private static synchronized int addEffectId(int n)
+  {
+    var ids = _effectIds_;
+    if (n >= ids.length || ids[n] < 0)
+      {
+        var l = ids.length;
+        ids = Arrays.copyOf(ids, Math.max(l, n + 1));
+        Arrays.fill(ids, l, ids.length, -1);
+        ids[n] = _effectCount_++;
+        _effectIds_ = ids;
+      }
+    return ids[n];
+  }
+
 
   /*
    * For obtaining the current FUIR by
@@ -242,6 +366,12 @@ public class Executor extends ProcessExpression<Value, Object>
   private static final SymbolLookup libs = libs();
 
 
+  /**
+   * Cached downcall handles of native clazzes indexed by clazzId2num().
+   */
+  private static MethodHandle[] _nativeHandles_;
+
+
   /**
    * @return SymbolLookup for fuzion_rt and libmath
    */
@@ -275,8 +405,55 @@ public class Executor extends ProcessExpression<Value, Object>
   }
 
 
-  @Override
+  /**
+   * Get the downcall handle for a call to native clazz cc.  The handle is
+   * created on the first call and cached in _nativeHandles_.
+   *
+   * @param cc0 the called clazz as given at the call site, used for the
+   * argument and result layouts.
+   *
+   * @param cc the native clazz
+   *
+   * @return a handle that takes the arguments as an Object[] and returns an
+   * Object, null for a unit result.
+   */
   @SuppressWarnings("restricted")
+  private static MethodHandle nativeHandle(int cc0, int cc)
+  {
+    var n = _fuir.clazzId2num(cc);
+    var handles = _nativeHandles_;
+    var result = n < handles.length ? handles[n] : null;
+    if (result == null)
+      {
+        var rt = _fuir.clazzResultClazz(cc0);
+        var mh = Linker.nativeLinker()
+          .downcallHandle(
+            libs
+              .find(_fuir.clazzNativeName(cc))
+              .orElseThrow(() -> new UnsatisfiedLinkError(
+              "Unresolved symbol: " + _fuir.clazzBaseName(cc) + ". " +
+              (true
+                ? "NYI: interpreter does not yet support libraries. You probably forgot to use the -Libraries option."
+                : "Likely causes: Either your native method is misspelled or you forgot to include a library in the -Libraries option.")
+              )),
+
+              _fuir.clazzIsUnitType(rt)
+                ? FunctionDescriptor.ofVoid(layoutArgs(cc0))
+                : FunctionDescriptor.of(layout(rt), layoutArgs(cc0)));
+        result = mh
+          .asType(mh.type().generic())
+          .asSpreader(Object[].class, mh.type().parameterCount());
+        if (n < handles.length)
+          {
+            // benign race: another thread may store an equivalent handle
+            handles[n] = result;
+          }
+      }
+    return result;
+  }
+
+
+  @Override
   public Pair<Value, Object> call(int s, Value tvalue, List<Value> args)
   {
     var cc0 = _fuir.accessedClazz(s);
@@ -295,7 +472,8 @@ public class Executor extends ProcessExpression<Value, Object>
     if (cc == cl // calling myself
         && _tailCall.callIsTailCall(cl, s))
       {
-        throw new TailCallException(tvalue, args);
+        FuzionThread.current().tailCall(tvalue, args);
+        return pair(null);
       }
 
     var result = switch (_fuir.clazzKind(cc))
@@ -327,27 +505,16 @@ public class Executor extends ProcessExpression<Value, Object>
       case Intrinsic :
         yield pair(Intrinsics.call(this, s, cc).call(new List<>(tvalue, args)));
       case Native:
-        var llu = libs;
-        var mh = Linker.nativeLinker()
-          .downcallHandle(
-            llu
-              .find(_fuir.clazzNativeName(cc))
-              .orElseThrow(() -> new UnsatisfiedLinkError(
-              "Unresolved symbol: " + _fuir.clazzBaseName(cc) + ". " +
-              (true
-                ? "NYI: interpreter does not yet support libraries. You probably forgot to use the -Libraries option."
-                : "Likely causes: Either your native method is misspelled or you forgot to include a library in the -Libraries option.")
-              )),
-
-              _fuir.clazzIsUnitType(rt)
-                ? FunctionDescriptor.ofVoid(layoutArgs(cc0))
-                : FunctionDescriptor.of(layout(rt), layoutArgs(cc0)));
-
-        var arguments = args.stream().map(arg -> arg.toNative()).toList();
+        var mh = nativeHandle(cc0, cc);
+        var arguments = new Object[args.size()];
+        for (int i = 0; i < arguments.length; i++)
+          {
+            arguments[i] = args.get(i).toNative();
+          }
         Object tmp = null;
         try
           {
-            tmp = mh.invokeWithArguments(arguments);
+            tmp = mh.invokeExact(arguments);
           }
         catch (Throwable e)
           {
@@ -358,7 +525,7 @@ public class Executor extends ProcessExpression<Value, Object>
          {
             if (args.get(i) instanceof ArrayData ad)
               {
-                ad.set((MemorySegment)arguments.get(i));
+                ad.set((MemorySegment)arguments[i]);
               }
           }
         yield pair(JavaInterface.javaObjectToPlainInstance(tmp, rt));
@@ -373,7 +540,7 @@ public class Executor extends ProcessExpression<Value, Object>
   /*
    * get MemoryLayout/ValueLayout of args of cc.
    */
-  private MemoryLayout[] layoutArgs(int cc)
+  private static MemoryLayout[] layoutArgs(int cc)
   {
     var result = new MemoryLayout[_fuir.clazzArgCount(cc)];
     for (int i = 0; i < _fuir.clazzArgCount(cc); i++)
@@ -387,7 +554,7 @@ public class Executor extends ProcessExpression<Value, Object>
   /*
    * get MemoryLayout/ValueLayout for clazz c.
    */
-  private MemoryLayout layout(int c)
+  private static MemoryLayout layout(int c)
   {
     return switch (_fuir.getSpecialClazz(c))
       {
@@ -556,12 +723,7 @@ public class Executor extends ProcessExpression<Value, Object>
   @Override
   public Pair<Value, Object> match(int s, AbstractInterpreter<Value, Object> ai, Value subv)
   {
-    var staticSubjectClazz = subv instanceof boolValue ? fuir().clazz(SpecialClazzes.c_bool) : ((ValueWithClazz)subv)._clazz;
-
-    if (CHECKS) check
-      (fuir().clazzIsChoice(staticSubjectClazz));
-
-    var tagAndChoiceElement = tagAndVal(staticSubjectClazz, subv);
+    var tagAndChoiceElement = tagAndVal(subv);
 
     var cix = _fuir.matchCaseIndex(s, tagAndChoiceElement.v0());
 
@@ -578,6 +740,33 @@ public class Executor extends ProcessExpression<Value, Object>
   }
 
 
+  /**
+   * Stop execution of the current code block after a match if the executed
+   * case ended in a self tail call.
+   */
+  @Override
+  public boolean stopAfterMatch()
+  {
+    return FuzionThread.current()._tailCallArgs != null;
+  }
+
+
+  /**
+   * @param subv the current value of the subject of a match
+   *
+   * @return pair where first value is the tag, the second value the extracted value.
+   */
+  Pair<Integer, Value> tagAndVal(Value subv)
+  {
+    var staticSubjectClazz = subv instanceof boolValue ? fuir().clazz(SpecialClazzes.c_bool) : ((ValueWithClazz)subv)._clazz;
+
+    if (CHECKS) check
+      (fuir().clazzIsChoice(staticSubjectClazz));
+
+    return tagAndVal(staticSubjectClazz, subv);
+  }
+
+
   /**
    * @param staticSubjectClazz the clazz of the subject, a choice
    *
@@ -637,7 +826,12 @@ public class Executor extends ProcessExpression<Value, Object>
   @Override
   public Object reportErrorInCode(String msg)
   {
-    Errors.fatal(msg);
+    // code following a self tail call is reached since call() returns to
+    // let callOnNewInstance re-enter the routine, see call().
+    if (FuzionThread.current()._tailCallArgs == null)
+      {
+        Errors.fatal(msg);
+      }
     return null;
   }
 
@@ -658,35 +852,48 @@ public class Executor extends ProcessExpression<Value, Object>
    */
   Instance callOnNewInstance(int s, int cc, Value outer, List<Value> args)
   {
-    FuzionThread.current()._callStackFrames.push(cc);
-    FuzionThread.current()._callSiteStack.push(s);
+    var t = FuzionThread.current();
+    t._callStackFrames.push(cc);
+    t._callSiteStack.push(s);
 
-    var o = outer;
-    var a = args;
     var cur = new Instance(cc);
-    while (o != null)
+    if (_bytecode_)
       {
-        try
-          {
-            new AbstractInterpreter<>(_fuir, new Executor(cur, o, a))
-              .processClazz(cc);
-            o = null;
-          }
-        catch(TailCallException tce)
+        cur = Bytecode.forClazz(cc).execute(this, cur, outer, args);
+      }
+    else
+      {
+        new AbstractInterpreter<>(_fuir, new Executor(cur, outer, args))
+          .processClazz(cc);
+        while (t._tailCallArgs != null)
           {
+            var a = t._tailCallArgs;
+            t._tailCallArgs = null;
             cur = new Instance(cc);
-            o = tce.tvalue;
-            a = tce.args;
+            new AbstractInterpreter<>(_fuir, new Executor(cur, t._tailCallTarget, a))
+              .processClazz(cc);
           }
       }
 
-    FuzionThread.current()._callSiteStack.pop();
-    FuzionThread.current()._callStackFrames.pop();
+    t._callSiteStack.pop();
+    t._callStackFrames.pop();
 
     return cur;
   }
 
 
+  /**
+   * Run the main clazz using pre-compiled Bytecode.
+   */
+  void runMain()
+  {
+    if (PRECONDITIONS) require
+      (_bytecode_);
+
+    Bytecode.forClazz(_fuir.mainClazz()).execute(this, _cur, _outer, _args);
+  }
+
+
   /**
    * Helper for callStack() to show one single frame
    *
@@ -26,10 +26,11 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.be.interpreter;
 
+import java.util.Arrays;
 import java.util.Stack;
-import java.util.TreeMap;
 
 import dev.flang.util.ANY;
+import dev.flang.util.List;
 
 
 /**
@@ -41,6 +42,15 @@ public class FuzionThread extends ANY
 {
 
 
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Initial length of _effects.
+   */
+  private static final int INITIAL_EFFECTS_CAPACITY = 16;
+
+
   /*-----------------------------  statics  -----------------------------*/
 
 
@@ -74,9 +84,79 @@ public class FuzionThread extends ANY
 
 
   /**
-   * Currently installed effects.
+   * Currently installed effects, indexed by Executor.effectId() of the effect
+   * type, null if not installed.
+   */
+  private Value[] _effects = new Value[INITIAL_EFFECTS_CAPACITY];
+
+
+  /**
+   * Target and actual arguments of a pending self tail call.  Set by the tail
+   * call and reset by the caller that re-enters the routine with these
+   * values.  _tailCallArgs is null if no tail call is pending.
+   */
+  Value _tailCallTarget;
+  List<Value> _tailCallArgs;
+
+
+  /**
+   * List reused for the arguments of self tail calls from Bytecode to avoid
+   * allocating a new list for every iteration, see Bytecode.execute.
    */
-  TreeMap<Integer, Value> _effects = new TreeMap<>();
+  final List<Value> _tailCallArgsBuffer = new List<>();
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Get the currently installed effect instance for the given id.
+   *
+   * @param id an effect id.
+   *
+   * @return the instance or null if not installed.
+   */
+  Value effect_load(int id)
+  {
+    var e = _effects;
+    return id < e.length ? e[id] : null;
+  }
+
+
+  /**
+   * Install an effect instance for the given id.
+   *
+   * @param id an effect id.
+   *
+   * @param instance the instance, null to remove the effect.
+   */
+  void effect_store(int id, Value instance)
+  {
+    if (_effects.length < id+1)
+      {
+        _effects = Arrays.copyOf(_effects, Math.max(id+1, 2*_effects.length));
+      }
+    _effects[id] = instance;
+  }
+
+
+  /**
+   * Record a pending self tail call to be performed by the caller of the
+   * current routine once the execution of its code was stopped.
+   *
+   * @param target the target of the tail call
+   *
+   * @param args the actual arguments of the tail call
+   */
+  void tailCall(Value target, List<Value> args)
+  {
+    if (PRECONDITIONS) require
+      (_tailCallArgs == null,
+       args != null);
+
+    _tailCallTarget = target;
+    _tailCallArgs = args;
+  }
 
 }
 
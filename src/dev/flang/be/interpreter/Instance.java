@@ -26,6 +26,8 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.be.interpreter;
 
+import java.util.Arrays;
+
 import dev.flang.fuir.SpecialClazzes;
 
 /**
@@ -42,7 +44,7 @@ public class Instance extends ValueWithClazz
   /**
    * Just for debugging: value used for uninitialized non-ref data
    */
-  static final int UNINITIALIZED_INT = -555555555;
+  static final long UNINITIALIZED_LONG = -555555555555555555L;
 
 
   /*----------------------------  variables  ----------------------------*/
@@ -55,9 +57,11 @@ public class Instance extends ValueWithClazz
   public Value[] refs;
 
   /**
-   *
+   * Storage for non-ref data.  Every scalar (i8..u64, f32, f64, bool, choice
+   * tags) occupies exactly one slot, values of type f32 and f64 are stored
+   * using their raw bits.
    */
-  public int[] nonrefs;
+  public long[] nonrefs;
 
 
   /*--------------------------  constructors  ---------------------------*/
@@ -77,10 +81,10 @@ public class Instance extends ValueWithClazz
 
     int sz = Layout.get(clazz).size();
     this.refs = new Value[sz];
-    this.nonrefs = new int[sz];
-    for (int i = 0; i<sz; i++)
+    this.nonrefs = new long[sz];
+    if (CHECKS)
       {
-        this.nonrefs[i] = UNINITIALIZED_INT;
+        Arrays.fill(this.nonrefs, UNINITIALIZED_LONG);
       }
   }
 
@@ -99,11 +103,8 @@ public class Instance extends ValueWithClazz
   {
     this(clazz);
     int sz = Layout.get(clazz).size();
-    for (int i = 0; i<sz; i++)
-      {
-        this.nonrefs[i] = from.nonrefs[offset + i];
-        this.refs   [i] = from.refs   [offset + i];
-      }
+    System.arraycopy(from.nonrefs, offset, this.nonrefs, 0, sz);
+    System.arraycopy(from.refs   , offset, this.refs   , 0, sz);
   }
 
 
@@ -138,6 +139,20 @@ public class Instance extends ValueWithClazz
   }
 
 
+  /**
+   * Reset all fields to their state after construction.  Used to reuse the
+   * instance of a routine for a self tail call.
+   */
+  void reset()
+  {
+    Arrays.fill(refs, null);
+    if (CHECKS)
+      {
+        Arrays.fill(nonrefs, UNINITIALIZED_LONG);
+      }
+  }
+
+
   /**
    * For a value of type i8, return the value.
    *
@@ -150,7 +165,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_i8) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_i8));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -166,7 +181,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_i16) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_i16));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -182,7 +197,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_i32) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_i32));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -198,9 +213,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_i64) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_i64));
 
-    return
-        nonrefs[0    ] & 0xFFFFffffL |
-      ((nonrefs[0 + 1] & 0xFFFFffffL) << 32);
+    return nonrefs[0];
   }
 
 
@@ -216,7 +229,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_u8) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_u8));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -233,7 +246,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_u16) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_u16));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -249,7 +262,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_u32) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_u32));
 
-    return nonrefs[0];
+    return (int) nonrefs[0];
   }
 
 
@@ -265,9 +278,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_u64) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_u64));
 
-    return
-        nonrefs[0    ] & 0xFFFFffffL |
-      ((nonrefs[0 + 1] & 0xFFFFffffL) << 32);
+    return nonrefs[0];
   }
 
 
@@ -283,7 +294,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_f32) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_f32));
 
-    return Float.intBitsToFloat(nonrefs[0]);
+    return Float.intBitsToFloat((int) nonrefs[0]);
   }
 
 
@@ -299,10 +310,7 @@ public class Instance extends ValueWithClazz
       (_clazz == fuir().clazz(SpecialClazzes.c_f64) ||
        fuir().clazzAsValue(_clazz) == fuir().clazz(SpecialClazzes.c_f64));
 
-    var l =
-        nonrefs[0    ] & 0xFFFFffffL |
-      ((nonrefs[0 + 1] & 0xFFFFffffL) << 32);
-    return Double.longBitsToDouble(l);
+    return Double.longBitsToDouble(nonrefs[0]);
   }
 
 
@@ -321,6 +329,21 @@ public class Instance extends ValueWithClazz
   }
 
 
+  /**
+   * For an instance of a scalar clazz, return the raw bits of its value.
+   *
+   * @return the raw bits of the value.
+   */
+  @Override
+  long scalarBits()
+  {
+    if (PRECONDITIONS) require
+      (Layout.get(_clazz).size() == 1);
+
+    return nonrefs[0];
+  }
+
+
   /**
    * Debugging only: Check that this value is valid as the current instance for
    * a feature with given static clazz.
@@ -397,11 +420,8 @@ public class Instance extends ValueWithClazz
     Instance cur    = slot.container;
     int      offset = slot.offset;
 
-    for (int i=0; i < size; i++)
-      {
-        cur.refs   [offset + i] = refs   [voffset + i];
-        cur.nonrefs[offset + i] = nonrefs[voffset + i];
-      }
+    System.arraycopy(refs   , voffset, cur.refs   , offset, size);
+    System.arraycopy(nonrefs, voffset, cur.nonrefs, offset, size);
   }
 
 
@@ -470,7 +490,7 @@ public class Instance extends ValueWithClazz
     if (PRECONDITIONS) require
       (fuir().clazzIsChoice(_clazz) & !fuir().clazzIsChoiceOfOnlyRefs(_clazz));
 
-    var tag = nonrefs[0];
+    var tag = (int) nonrefs[0];
     if (POSTCONDITIONS) ensure
       (tag >= 0);
 
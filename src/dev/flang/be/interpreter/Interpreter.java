@@ -37,7 +37,6 @@ import dev.flang.ir.IR.FeatureKind;
 
 import dev.flang.util.Errors;
 import dev.flang.util.FatalError;
-import dev.flang.util.FuzionOptions;
 
 
 /**
@@ -48,14 +47,15 @@ public class Interpreter extends FUIRContext
 {
   private final AbstractInterpreter<Value, Object> _ai;
   private final FUIR _fuir;
-  private final FuzionOptions _options_;
-  public Interpreter(FuzionOptions options, FUIR fuir)
+  private final InterpreterOptions _options_;
+  private final Executor _executor;
+  public Interpreter(InterpreterOptions options, FUIR fuir)
   {
     this._options_ = options;
     this._fuir = fuir;
     FUIRContext.set_fuir(fuir);
-    var processor = new Executor(_fuir, _options_);
-    _ai = new AbstractInterpreter<Value, Object>(_fuir, processor);
+    _executor = new Executor(_fuir, _options_);
+    _ai = new AbstractInterpreter<Value, Object>(_fuir, _executor);
   }
 
 
@@ -71,7 +71,15 @@ public class Interpreter extends FUIRContext
     try
       {
         FuzionThread.current()._callStackFrames.push(_fuir.mainClazz());
-        _ai.processClazz(_fuir.mainClazz());
+        if (_options_._bytecode)
+          {
+            _executor.runMain();
+            _options_.verbosePrintln(2, "Interpreter compiled " + Bytecode._compiled_.get() + " code blocks to bytecode.");
+          }
+        else
+          {
+            _ai.processClazz(_fuir.mainClazz());
+          }
       }
     catch (FatalError e)
       {
@@ -155,11 +163,164 @@ public class Interpreter extends FUIRContext
   }
 
 
+  /**
+   * setFieldAt stores a value into a field at an offset that was determined
+   * in advance, e.g., by the Bytecode compiler.
+   *
+   * @param thiz the field
+   *
+   * @param fclazz the result of clazzForField(thiz)
+   *
+   * @param curValue the Instance or LValue of the value type that contains the
+   * written field
+   *
+   * @param off the offset of thiz in curValue as given by Layout.offset()
+   *
+   * @param v the value to be stored in the field
+   */
+  static void setFieldAt(int thiz, int fclazz, Value curValue, int off, Value v)
+  {
+    if (PRECONDITIONS) require
+      (fuir().clazzKind(thiz) == FeatureKind.Field,
+       (curValue instanceof Instance) || (curValue instanceof LValue),
+       fclazz == clazzForField(thiz));
+
+    if (Layout.isScalar(fclazz))
+      {
+        setScalarFieldAt(curValue, off, v.scalarBits());
+      }
+    else
+      {
+        setFieldSlot(thiz, fclazz, curValue.at(fclazz, off), v);
+      }
+  }
+
+
+  /**
+   * getFieldAt loads the value of a field at an offset that was determined in
+   * advance, e.g., by the Bytecode compiler.
+   *
+   * @param thiz the field
+   *
+   * @param fclazz the result of clazzForField(thiz)
+   *
+   * @param curValue the Instance or LValue of the value type that contains the
+   * loaded field
+   *
+   * @param off the offset of thiz in curValue as given by Layout.offset()
+   *
+   * @return the value that was loaded, see getField().
+   */
+  static Value getFieldAt(int thiz, int fclazz, Value curValue, int off)
+  {
+    if (PRECONDITIONS) require
+      (fuir().clazzKind(thiz) == FeatureKind.Field,
+       (curValue instanceof Instance) || (curValue instanceof LValue),
+       fclazz == clazzForField(thiz));
+
+    return Layout.isScalar(fclazz)
+      ? scalarValue(fclazz, getScalarFieldAt(curValue, off))
+      : loadField(thiz, fclazz, curValue.at(fclazz, off), false);
+  }
+
+
+  /**
+   * setScalarFieldAt stores the raw bits of a scalar value into a field
+   * without creating an LValue for the field.
+   *
+   * @param curValue the Instance or LValue of the value type that contains the
+   * written field
+   *
+   * @param off the offset of the field in curValue as given by Layout.offset()
+   *
+   * @param bits the raw bits of the scalar value, see Value.scalarBits().
+   */
+  static void setScalarFieldAt(Value curValue, int off, long bits)
+  {
+    if (curValue instanceof LValue lv)
+      {
+        lv.container.nonrefs[lv.offset + off] = bits;
+      }
+    else
+      {
+        ((Instance) curValue).nonrefs[off] = bits;
+      }
+  }
+
+
+  /**
+   * getScalarFieldAt loads the raw bits of a scalar field without creating an
+   * LValue for the field.
+   *
+   * @param curValue the Instance or LValue of the value type that contains the
+   * loaded field
+   *
+   * @param off the offset of the field in curValue as given by Layout.offset()
+   *
+   * @return the raw bits of the scalar value, see Value.scalarBits().
+   */
+  static long getScalarFieldAt(Value curValue, int off)
+  {
+    return curValue instanceof LValue lv
+      ? lv.container.nonrefs[lv.offset + off]
+      : ((Instance) curValue).nonrefs[off];
+  }
+
+
+  /**
+   * Shared instances of small integer values returned by scalarValue: all
+   * values of i8 and u8, -128..1023 for wider signed and 0..1023 for wider
+   * unsigned integers.
+   */
+  private static final ValueCache<i8Value > _i8Values_  = new ValueCache<>(-128,  127, v -> new i8Value ((int) v));
+  private static final ValueCache<i16Value> _i16Values_ = new ValueCache<>(-128, 1023, v -> new i16Value((int) v));
+  private static final ValueCache<i32Value> _i32Values_ = new ValueCache<>(-128, 1023, v -> new i32Value((int) v));
+  private static final ValueCache<i64Value> _i64Values_ = new ValueCache<>(-128, 1023, v -> new i64Value(      v));
+  private static final ValueCache<u8Value > _u8Values_  = new ValueCache<>(   0,  255, v -> new u8Value ((int) v));
+  private static final ValueCache<u16Value> _u16Values_ = new ValueCache<>(   0, 1023, v -> new u16Value((int) v));
+  private static final ValueCache<u32Value> _u32Values_ = new ValueCache<>(   0, 1023, v -> new u32Value((int) v));
+  private static final ValueCache<u64Value> _u64Values_ = new ValueCache<>(   0, 1023, v -> new u64Value(      v));
+
+
+  /**
+   * Create the value of a scalar clazz from the raw bits stored in a field.
+   * Small integers and bools are shared instances, so reading them does not
+   * allocate.
+   *
+   * @param cl a scalar clazz, see Layout.isScalar().
+   *
+   * @param bits the raw bits as stored in Instance.nonrefs.
+   *
+   * @return the corresponding value.
+   */
+  static Value scalarValue(int cl, long bits)
+  {
+    if (PRECONDITIONS) require
+      (Layout.isScalar(cl));
+
+    return switch (fuir().getSpecialClazz(cl))
+      {
+      case c_i8   -> _i8Values_ .get((int) bits);
+      case c_i16  -> _i16Values_.get((int) bits);
+      case c_i32  -> _i32Values_.get((int) bits);
+      case c_i64  -> _i64Values_.get(      bits);
+      case c_u8   -> _u8Values_ .get((int) bits);
+      case c_u16  -> _u16Values_.get((int) bits);
+      case c_u32  -> _u32Values_.get((int) bits);
+      case c_u64  -> _u64Values_.get(      bits);
+      case c_f32  -> new f32Value(Float.intBitsToFloat((int) bits));
+      case c_f64  -> new f64Value(Double.longBitsToDouble(bits));
+      case c_bool -> boolValue.get(bits != 0);
+      default     -> throw new Error("scalarValue called for non-scalar clazz " + fuir().clazzName(cl));
+      };
+  }
+
+
   /**
    * Get the result clazz of thiz
    * or if thiz is an address to clazz Any.
    */
-  private static int clazzForField(int thiz)
+  static int clazzForField(int thiz)
   {
     return fuir().clazzFieldIsAdrOfValue(thiz)
       ? fuir().clazzAny()
@@ -345,11 +506,12 @@ public class Interpreter extends FUIRContext
       (fclazz > 0,
        slot != null);
 
-    Value result = fuir().clazzIsRef(fclazz) ? loadRefField(thiz, slot, allowUninitializedRefField)
-                                  : slot;
+    Value result = fuir().clazzIsRef(fclazz) ? loadRefField(thiz, slot, allowUninitializedRefField) :
+                   Layout.isScalar(fclazz)  ? scalarValue(fclazz, slot.container.nonrefs[slot.offset])
+                                            : slot;
 
     if (POSTCONDITIONS) ensure
-      (valueTypeMatches(thiz, result, allowUninitializedRefField));
+      (Layout.isScalar(fclazz) || valueTypeMatches(thiz, result, allowUninitializedRefField));
 
     return result;
   }
@@ -396,8 +558,7 @@ public class Interpreter extends FUIRContext
       }
     else
       { // store tag and value separately
-        LValue slot   = choice.at(vclazz, 0);
-        (new i32Value(tagNum)).storeNonRef(slot, 1);
+        choice.container.nonrefs[choice.offset] = tagNum;
       }
 
     setFieldSlot(thiz, vclazz, valSlot, v);
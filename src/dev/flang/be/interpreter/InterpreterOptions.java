@@ -20,22 +20,50 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
  *
  * Tokiwa Software GmbH, Germany
  *
- * Source of class TailCallException
+ * Source of class InterpreterOptions
  *
  *---------------------------------------------------------------------*/
 
 package dev.flang.be.interpreter;
 
-import dev.flang.util.List;
+import dev.flang.util.FuzionOptions;
 
-public class TailCallException extends RuntimeException {
 
-  public final Value tvalue;
-  public final List<Value> args;
+/**
+ * InterpreterOptions specify the configuration of the interpreter back end
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+public class InterpreterOptions extends FuzionOptions
+{
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * Should routines be compiled to register based bytecode (see class
+   * Bytecode) before they are executed instead of walking the FUIR for every
+   * call?
+   */
+  final boolean _bytecode;
+
 
-  public TailCallException(Value tvalue, List<Value> args)
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Constructor initializing fields as given.
+   */
+  public InterpreterOptions(FuzionOptions fo,
+                            boolean bytecode)
   {
-    this.tvalue = tvalue;
-    this.args = args;
+    super(fo);
+
+    this._bytecode = bytecode;
+    setBackendArgs(fo.getBackendArgs());
   }
+
 }
+
+/* end of file */
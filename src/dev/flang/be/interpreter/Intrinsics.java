@@ -222,9 +222,9 @@ public class Intrinsics extends ANY
               if (Interpreter.compareField(f, a, thiz, expected))
                 {
                   Interpreter.setField(f, a, thiz, new_value);
-                  return new boolValue(true);
+                  return boolValue.get(true);
                 }
-              return new boolValue(false);
+              return boolValue.get(false);
             }
         });
     put("concur.atomic.racy_accesses_supported",  (executor, innerClazz) -> args ->
@@ -307,7 +307,7 @@ public class Intrinsics extends ANY
     put("fuzion.jvm.is_null0", (executor, innerClazz) -> args ->
         {
           Object thiz = ((JavaRef)args.get(1))._javaRef;
-          return new boolValue(thiz == null);
+          return boolValue.get(thiz == null);
         });
     put("fuzion.jvm.get_static_field0",
         "fuzion.jvm.get_field0"      , (executor, innerClazz) ->
@@ -457,7 +457,7 @@ public class Intrinsics extends ANY
         {
           return Value.UNIT;
         });
-    put("fuzion.sys.env_vars.has0", (executor, innerClazz) -> args -> new boolValue(System.getenv(utf8ByteArrayDataToString(args.get(1))) != null));
+    put("fuzion.sys.env_vars.has0", (executor, innerClazz) -> args -> boolValue.get(System.getenv(utf8ByteArrayDataToString(args.get(1))) != null));
     put("fuzion.sys.env_vars.get0", (executor, innerClazz) -> args -> Interpreter.boxedConstString(System.getenv(utf8ByteArrayDataToString(args.get(1)))));
     put("fuzion.sys.thread.current", (executor, innerClazz) -> args ->
         {
@@ -505,8 +505,8 @@ public class Intrinsics extends ANY
           return new i32Value(38 /* ENOSYS - Function not implemented */);
         });
 
-    put("safety"                , (executor, innerClazz) -> args -> new boolValue(executor.options().fuzionSafety()));
-    put("debug"                 , (executor, innerClazz) -> args -> new boolValue(executor.options().fuzionDebug()));
+    put("safety"                , (executor, innerClazz) -> args -> boolValue.get(executor.options().fuzionSafety()));
+    put("debug"                 , (executor, innerClazz) -> args -> boolValue.get(executor.options().fuzionDebug()));
     put("debug_level"           , (executor, innerClazz) -> args -> new i32Value (executor.options().fuzionDebugLevel()));
     put("i8.as_i32"             , (executor, innerClazz) -> args -> new i32Value (              (                           args.get(0).i8Value() )));
     put("i8.cast_to_u8"         , (executor, innerClazz) -> args -> new u8Value  (       0xff & (                           args.get(0).i8Value() )));
@@ -521,8 +521,8 @@ public class Intrinsics extends ANY
     put("i8.infix ^"            , (executor, innerClazz) -> args -> new i8Value  (              (args.get(0).i8Value()  ^   args.get(1).i8Value() )));
     put("i8.infix >>"           , (executor, innerClazz) -> args -> new i8Value  (              (args.get(0).i8Value()  >>  args.get(1).i8Value() )));
     put("i8.infix <<"           , (executor, innerClazz) -> args -> new i8Value  ((int) (byte)  (args.get(0).i8Value()  <<  args.get(1).i8Value() )));
-    put("i8.type.equality"      , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i8Value()  ==  args.get(2).i8Value() )));
-    put("i8.type.lteq"          , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i8Value()  <=  args.get(2).i8Value() )));
+    put("i8.type.equality"      , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i8Value()  ==  args.get(2).i8Value() )));
+    put("i8.type.lteq"          , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i8Value()  <=  args.get(2).i8Value() )));
     put("i16.as_i32"            , (executor, innerClazz) -> args -> new i32Value (              (                           args.get(0).i16Value())));
     put("i16.cast_to_u16"       , (executor, innerClazz) -> args -> new u16Value (     0xffff & (                           args.get(0).i16Value())));
     put("i16.prefix -°"         , (executor, innerClazz) -> args -> new i16Value ((int) (short) (                       -   args.get(0).i16Value())));
@@ -536,8 +536,8 @@ public class Intrinsics extends ANY
     put("i16.infix ^"           , (executor, innerClazz) -> args -> new i16Value (              (args.get(0).i16Value() ^   args.get(1).i16Value())));
     put("i16.infix >>"          , (executor, innerClazz) -> args -> new i16Value (              (args.get(0).i16Value() >>  args.get(1).i16Value())));
     put("i16.infix <<"          , (executor, innerClazz) -> args -> new i16Value ((int) (short) (args.get(0).i16Value() <<  args.get(1).i16Value())));
-    put("i16.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i16Value() ==  args.get(2).i16Value())));
-    put("i16.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i16Value() <=  args.get(2).i16Value())));
+    put("i16.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i16Value() ==  args.get(2).i16Value())));
+    put("i16.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i16Value() <=  args.get(2).i16Value())));
     put("i32.as_i64"            , (executor, innerClazz) -> args -> new i64Value ((long)        (                           args.get(0).i32Value())));
     put("i32.cast_to_u32"       , (executor, innerClazz) -> args -> new u32Value (              (                           args.get(0).i32Value())));
     put("i32.as_f64"            , (executor, innerClazz) -> args -> new f64Value ((double)      (                           args.get(0).i32Value())));
@@ -552,8 +552,8 @@ public class Intrinsics extends ANY
     put("i32.infix ^"           , (executor, innerClazz) -> args -> new i32Value (              (args.get(0).i32Value() ^   args.get(1).i32Value())));
     put("i32.infix >>"          , (executor, innerClazz) -> args -> new i32Value (              (args.get(0).i32Value() >>  args.get(1).i32Value())));
     put("i32.infix <<"          , (executor, innerClazz) -> args -> new i32Value (              (args.get(0).i32Value() <<  args.get(1).i32Value())));
-    put("i32.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i32Value() ==  args.get(2).i32Value())));
-    put("i32.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i32Value() <=  args.get(2).i32Value())));
+    put("i32.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i32Value() ==  args.get(2).i32Value())));
+    put("i32.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i32Value() <=  args.get(2).i32Value())));
     put("i64.cast_to_u64"       , (executor, innerClazz) -> args -> new u64Value (              (                           args.get(0).i64Value())));
     put("i64.as_f64"            , (executor, innerClazz) -> args -> new f64Value ((double)      (                           args.get(0).i64Value())));
     put("i64.prefix -°"         , (executor, innerClazz) -> args -> new i64Value (              (                       -   args.get(0).i64Value())));
@@ -567,8 +567,8 @@ public class Intrinsics extends ANY
     put("i64.infix ^"           , (executor, innerClazz) -> args -> new i64Value (              (args.get(0).i64Value() ^   args.get(1).i64Value())));
     put("i64.infix >>"          , (executor, innerClazz) -> args -> new i64Value (              (args.get(0).i64Value() >>  args.get(1).i64Value())));
     put("i64.infix <<"          , (executor, innerClazz) -> args -> new i64Value (              (args.get(0).i64Value() <<  args.get(1).i64Value())));
-    put("i64.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i64Value() ==  args.get(2).i64Value())));
-    put("i64.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).i64Value() <=  args.get(2).i64Value())));
+    put("i64.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i64Value() ==  args.get(2).i64Value())));
+    put("i64.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).i64Value() <=  args.get(2).i64Value())));
     put("u8.as_i32"             , (executor, innerClazz) -> args -> new i32Value (              (                           args.get(0).u8Value() )));
     put("u8.cast_to_i8"         , (executor, innerClazz) -> args -> new i8Value  ((int) (byte)  (                           args.get(0).u8Value() )));
     put("u8.prefix -°"          , (executor, innerClazz) -> args -> new u8Value  (       0xff & (                       -   args.get(0).u8Value() )));
@@ -582,8 +582,8 @@ public class Intrinsics extends ANY
     put("u8.infix ^"            , (executor, innerClazz) -> args -> new u8Value  (              (args.get(0).u8Value()  ^   args.get(1).u8Value() )));
     put("u8.infix >>"           , (executor, innerClazz) -> args -> new u8Value  (              (args.get(0).u8Value()  >>> args.get(1).u8Value() )));
     put("u8.infix <<"           , (executor, innerClazz) -> args -> new u8Value  (       0xff & (args.get(0).u8Value()  <<  args.get(1).u8Value() )));
-    put("u8.type.equality"      , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).u8Value()  ==  args.get(2).u8Value() )));
-    put("u8.type.lteq"          , (executor, innerClazz) -> args -> new boolValue(Integer.compareUnsigned(args.get(1).u8Value(), args.get(2).u8Value()) <= 0));
+    put("u8.type.equality"      , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).u8Value()  ==  args.get(2).u8Value() )));
+    put("u8.type.lteq"          , (executor, innerClazz) -> args -> boolValue.get(Integer.compareUnsigned(args.get(1).u8Value(), args.get(2).u8Value()) <= 0));
     put("u16.as_i32"            , (executor, innerClazz) -> args -> new i32Value (              (                           args.get(0).u16Value())));
     put("u16.low8bits"          , (executor, innerClazz) -> args -> new u8Value  (       0xff & (                           args.get(0).u16Value())));
     put("u16.cast_to_i16"       , (executor, innerClazz) -> args -> new i16Value ((short)       (                           args.get(0).u16Value())));
@@ -598,8 +598,8 @@ public class Intrinsics extends ANY
     put("u16.infix ^"           , (executor, innerClazz) -> args -> new u16Value (              (args.get(0).u16Value() ^   args.get(1).u16Value())));
     put("u16.infix >>"          , (executor, innerClazz) -> args -> new u16Value (              (args.get(0).u16Value() >>> args.get(1).u16Value())));
     put("u16.infix <<"          , (executor, innerClazz) -> args -> new u16Value (     0xffff & (args.get(0).u16Value() <<  args.get(1).u16Value())));
-    put("u16.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).u16Value() ==  args.get(2).u16Value())));
-    put("u16.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(Integer.compareUnsigned(args.get(1).u16Value(), args.get(2).u16Value()) <= 0));
+    put("u16.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).u16Value() ==  args.get(2).u16Value())));
+    put("u16.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(Integer.compareUnsigned(args.get(1).u16Value(), args.get(2).u16Value()) <= 0));
     put("u32.as_i64"            , (executor, innerClazz) -> args -> new i64Value (Integer.toUnsignedLong(args.get(0).u32Value())));
     put("u32.low8bits"          , (executor, innerClazz) -> args -> new u8Value  (       0xff & (                           args.get(0).u32Value())));
     put("u32.low16bits"         , (executor, innerClazz) -> args -> new u16Value (     0xffff & (                           args.get(0).u32Value())));
@@ -617,8 +617,8 @@ public class Intrinsics extends ANY
     put("u32.infix ^"           , (executor, innerClazz) -> args -> new u32Value (              (args.get(0).u32Value() ^   args.get(1).u32Value())));
     put("u32.infix >>"          , (executor, innerClazz) -> args -> new u32Value (              (args.get(0).u32Value() >>> args.get(1).u32Value())));
     put("u32.infix <<"          , (executor, innerClazz) -> args -> new u32Value (              (args.get(0).u32Value() <<  args.get(1).u32Value())));
-    put("u32.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).u32Value() ==  args.get(2).u32Value())));
-    put("u32.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(Integer.compareUnsigned(args.get(1).u32Value(), args.get(2).u32Value()) <= 0));
+    put("u32.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).u32Value() ==  args.get(2).u32Value())));
+    put("u32.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(Integer.compareUnsigned(args.get(1).u32Value(), args.get(2).u32Value()) <= 0));
     put("u64.low8bits"          , (executor, innerClazz) -> args -> new u8Value  (       0xff & ((int)                      args.get(0).u64Value())));
     put("u64.low16bits"         , (executor, innerClazz) -> args -> new u16Value (     0xffff & ((int)                      args.get(0).u64Value())));
     put("u64.low32bits"         , (executor, innerClazz) -> args -> new u32Value ((int)         (                           args.get(0).u64Value())));
@@ -636,16 +636,16 @@ public class Intrinsics extends ANY
     put("u64.infix ^"           , (executor, innerClazz) -> args -> new u64Value (              (args.get(0).u64Value() ^   args.get(1).u64Value())));
     put("u64.infix >>"          , (executor, innerClazz) -> args -> new u64Value (              (args.get(0).u64Value() >>> args.get(1).u64Value())));
     put("u64.infix <<"          , (executor, innerClazz) -> args -> new u64Value (              (args.get(0).u64Value() <<  args.get(1).u64Value())));
-    put("u64.type.equality"     , (executor, innerClazz) -> args -> new boolValue(              (args.get(1).u64Value() ==  args.get(2).u64Value())));
-    put("u64.type.lteq"         , (executor, innerClazz) -> args -> new boolValue(Long.compareUnsigned(args.get(1).u64Value(), args.get(2).u64Value()) <= 0));
+    put("u64.type.equality"     , (executor, innerClazz) -> args -> boolValue.get(              (args.get(1).u64Value() ==  args.get(2).u64Value())));
+    put("u64.type.lteq"         , (executor, innerClazz) -> args -> boolValue.get(Long.compareUnsigned(args.get(1).u64Value(), args.get(2).u64Value()) <= 0));
     put("f32.prefix -"          , (executor, innerClazz) -> args -> new f32Value (                (                       -  args.get(0).f32Value())));
     put("f32.infix +"           , (executor, innerClazz) -> args -> new f32Value (                (args.get(0).f32Value() +  args.get(1).f32Value())));
     put("f32.infix -"           , (executor, innerClazz) -> args -> new f32Value (                (args.get(0).f32Value() -  args.get(1).f32Value())));
     put("f32.infix *"           , (executor, innerClazz) -> args -> new f32Value (                (args.get(0).f32Value() *  args.get(1).f32Value())));
     put("f32.infix /"           , (executor, innerClazz) -> args -> new f32Value (                (args.get(0).f32Value() /  args.get(1).f32Value())));
-    put("f32.type.equal"        , (executor, innerClazz) -> args -> new boolValue(                (args.get(1).f32Value() == args.get(2).f32Value())));
+    put("f32.type.equal"        , (executor, innerClazz) -> args -> boolValue.get(                (args.get(1).f32Value() == args.get(2).f32Value())));
     put("f32.type.lower_than_or_equal"
-                                , (executor, innerClazz) -> args -> new boolValue(                (args.get(1).f32Value() <= args.get(2).f32Value())));
+                                , (executor, innerClazz) -> args -> boolValue.get(                (args.get(1).f32Value() <= args.get(2).f32Value())));
     put("f32.as_f64"            , (executor, innerClazz) -> args -> new f64Value((double)                                    args.get(0).f32Value() ));
     put("f32.cast_to_u32"       , (executor, innerClazz) -> args -> new u32Value (    Float.floatToIntBits(                  args.get(0).f32Value())));
     put("f64.prefix -"          , (executor, innerClazz) -> args -> new f64Value (                (                       -  args.get(0).f64Value())));
@@ -653,9 +653,9 @@ public class Intrinsics extends ANY
     put("f64.infix -"           , (executor, innerClazz) -> args -> new f64Value (                (args.get(0).f64Value() -  args.get(1).f64Value())));
     put("f64.infix *"           , (executor, innerClazz) -> args -> new f64Value (                (args.get(0).f64Value() *  args.get(1).f64Value())));
     put("f64.infix /"           , (executor, innerClazz) -> args -> new f64Value (                (args.get(0).f64Value() /  args.get(1).f64Value())));
-    put("f64.type.equal"        , (executor, innerClazz) -> args -> new boolValue(                (args.get(1).f64Value() == args.get(2).f64Value())));
+    put("f64.type.equal"        , (executor, innerClazz) -> args -> boolValue.get(                (args.get(1).f64Value() == args.get(2).f64Value())));
     put("f64.type.lower_than_or_equal"
-                                , (executor, innerClazz) -> args -> new boolValue(                (args.get(1).f64Value() <= args.get(2).f64Value())));
+                                , (executor, innerClazz) -> args -> boolValue.get(                (args.get(1).f64Value() <= args.get(2).f64Value())));
     put("f64.as_i64_lax"        , (executor, innerClazz) -> args -> new i64Value((long)                                      args.get(0).f64Value() ));
     put("f64.as_f32"            , (executor, innerClazz) -> args -> new f32Value((float)                                     args.get(0).f64Value() ));
     put("f64.cast_to_u64"       , (executor, innerClazz) -> args -> new u64Value (    Double.doubleToLongBits(               args.get(0).f64Value())));
@@ -671,7 +671,7 @@ public class Intrinsics extends ANY
         (executor, innerClazz) -> args ->
         {
           var ecl = executor.fuir().clazzResultClazz(innerClazz); // type
-          var result = FuzionThread.current()._effects.get(ecl);
+          var result = FuzionThread.current().effect_load(Executor.effectId(ecl));
           if (result == null)
             {
               Errors.fatal("No effect installed: " + executor.fuir().clazzNameHuman(ecl));
@@ -695,19 +695,19 @@ public class Intrinsics extends ANY
     });
     put("concur.sync.mtx_lock", (executor, innerClazz) -> args -> {
       ((ReentrantLock) ((JavaRef) args.get(1))._javaRef).lock();
-      return new boolValue(true);
+      return boolValue.get(true);
     });
-    put("concur.sync.mtx_trylock", (executor, innerClazz) -> args -> new boolValue(
+    put("concur.sync.mtx_trylock", (executor, innerClazz) -> args -> boolValue.get(
       ((ReentrantLock) ((JavaRef) args.get(1))._javaRef).tryLock()));
     put("concur.sync.mtx_unlock", (executor, innerClazz) -> args -> {
       try
         {
           ((ReentrantLock) ((JavaRef) args.get(1))._javaRef).unlock();
-          return new boolValue(true);
+          return boolValue.get(true);
         }
       catch (IllegalMonitorStateException e)
         {
-          return new boolValue(false);
+          return boolValue.get(false);
         }
     });
     put("concur.sync.mtx_destroy", (executor, innerClazz) -> args -> Value.UNIT);
@@ -811,22 +811,23 @@ public class Intrinsics extends ANY
         var in  = fuir.clazzOriginalName(innerClazz);
         int ecl = fuir.effectTypeFromIntrinsic(innerClazz);
         var ev  = args.size() > 1 ? args.get(1) : null;
-        var effects = FuzionThread.current()._effects;
+        var id  = Executor.effectId(ecl);
+        var t   = FuzionThread.current();
         switch (in)
           {
           case "effect.type.abort0"    : throw new Abort(ecl);
           case "effect.type.instate_at_singularity0":
             {
-              check(effects.get(ecl) == null);
+              check(t.effect_load(id) == null);
               check(fuir.clazzIsUnitType(ecl) || ev != Value.UNIT);
-              effects.put(ecl, ev);
+              t.effect_store(id, ev);
               break;
             }
           case FuzionConstants.EFFECT_INSTATE_NAME :
             {
               // save old and instate new effect value ev:
-              var prev = effects.get(ecl);
-              effects.put(ecl, ev);
+              var prev = t.effect_load(id);
+              t.effect_store(id, ev);
 
               // the callbacks to Fuzion for the code, fallback and finally:
               var call     = fuir.lookupCall(fuir.clazzActualGeneric(innerClazz, 0));
@@ -844,8 +845,8 @@ public class Intrinsics extends ANY
                 }
 
               // in any case, restore old state and run finally on final effect value:
-              var final_ev = effects.get(ecl);
-              effects.put(ecl, prev);
+              var final_ev = t.effect_load(id);
+              t.effect_store(id, prev);
               var ignore = executor.callOnNewInstance(NO_SITE, finallie, final_ev, new List<>());
 
               if (aborted != null)
@@ -859,10 +860,10 @@ public class Intrinsics extends ANY
                 }
             }
             break;
-          case "effect.type.is_instated0": return new boolValue(effects.get(ecl) != null /* NOTE not containsKey since ecl may map to null! */ );
+          case "effect.type.is_instated0": return boolValue.get(t.effect_load(id) != null);
           case "effect.type.set0"        : check(fuir.clazzIsUnitType(ecl) || ev != Value.UNIT);
-                                           effects.put(ecl, ev);   break;
-          case "effect.type.remove0"     : effects.put(ecl, null); break;
+                                           t.effect_store(id, ev);   break;
+          case "effect.type.remove0"     : t.effect_store(id, null); break;
           default: throw new Error("unexpected effect intrinsic '"+in+"'");
           }
         return Value.UNIT;
@@ -28,10 +28,13 @@ package dev.flang.be.interpreter;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import dev.flang.fuir.FUIR;
 import dev.flang.fuir.SpecialClazzes;
 import dev.flang.util.Errors;
@@ -47,9 +50,50 @@ public class JavaInterface extends FUIRContext
 {
 
 
+  /*-----------------------------  statics  -----------------------------*/
+
+
+  /**
+   * Cache of fields resolved by getField and setField.  The key is the class
+   * name followed by a space and the field name.
+   */
+  private static final ConcurrentHashMap<String, Field> _fields_ = new ConcurrentHashMap<>();
+
+
+  /**
+   * Cache of methods and constructors resolved by call.  The key is the class
+   * name followed by a space, the method name and the signature.
+   */
+  private static final ConcurrentHashMap<String, Executable> _executables_ = new ConcurrentHashMap<>();
+
+
   /*-----------------------------  methods  -----------------------------*/
 
 
+  /**
+   * Helper for getField and setField to resolve a field and cache the result.
+   *
+   * @param clazz the class name, null to use the class of thiz.
+   *
+   * @param thiz the target instance if clazz is null.
+   *
+   * @param field the name of the field
+   */
+  private static Field field(String clazz, Object thiz, String field) throws ClassNotFoundException, NoSuchFieldException
+  {
+    var cn = clazz != null ? clazz : thiz.getClass().getName();
+    var key = cn + " " + field;
+    var result = _fields_.get(key);
+    if (result == null)
+      {
+        Class cl = clazz != null ? Class.forName(clazz) : thiz.getClass();
+        result = cl.getDeclaredField(field);
+        _fields_.put(key, result);
+      }
+    return result;
+  }
+
+
   static Value getField(String clazz,
                         Object thiz,
                         String field,
@@ -58,8 +102,7 @@ public class JavaInterface extends FUIRContext
     Value result;
     try
       {
-        Class cl = clazz != null ? Class.forName(clazz) : thiz.getClass();
-        Field f = cl.getDeclaredField(field);
+        Field f = field(clazz, thiz, field);
         Object value = f.get(thiz);
         result = javaObjectToInstance(value, resultClass);
       }
@@ -89,9 +132,8 @@ public class JavaInterface extends FUIRContext
   {
     try
       {
-        Class cl = clazz != null ? Class.forName(clazz) : thiz.getClass();
-        Field f = cl.getDeclaredField(field);
-        f.set(cl, value);
+        Field f = field(clazz, thiz, field);
+        f.set(thiz, value);  // thiz is null and ignored for a static field
       }
     catch (IllegalAccessException e)
       {
@@ -195,7 +237,7 @@ public class JavaInterface extends FUIRContext
         case SpecialClazzes.c_u64 -> o instanceof Long j ? new u64Value(j): new u64Value(((Value) o).u64Value());
         case SpecialClazzes.c_f32 -> o instanceof Float f ? new f32Value(f.floatValue()): new f32Value(((Value) o).f32Value());
         case SpecialClazzes.c_f64 -> o instanceof Double d ? new f64Value(d.doubleValue()): new f64Value(((Value) o).f64Value());
-        case SpecialClazzes.c_bool -> o instanceof Boolean z ? new boolValue(z): new boolValue(((Value) o).boolValue());
+        case SpecialClazzes.c_bool -> o instanceof Boolean z ? boolValue.get(z): boolValue.get(((Value) o).boolValue());
         // NYI: UNDER DEVELOPMENT: remove this, abusing javaObjectToPlainInstance in mtx_*, cnd_* intrinsics
         case SpecialClazzes.c_Mutex -> new JavaRef(o);
         case SpecialClazzes.c_Condition -> new JavaRef(o);
@@ -278,31 +320,17 @@ public class JavaInterface extends FUIRContext
 
 
   /**
-   * Call virtual or static Java method or constructor
+   * Helper for call to resolve the method or constructor to be called.
    *
-   * @param clName name of the class that declares the method or constructor.
+   * @param clName name of the class
    *
-   * @param name name the method, null to call constructor
+   * @param name name the method, null for a constructor
    *
    * @param sig Java signature of the method or constructor
-   *
-   * @param thiz target instance for a virtual call, null for static method or
-   * constructor call
-   *
-   * @param args array of arguments to be passed to the method or constructor,
-   * must be of type array data, i.e., the value in {@code fuzion.sys.array<JavaObject>.data}.
-   *
-   * @param resultClazz the result type of the constructed instance
    */
-  static Value call(String clName, String name, String sig, Object thiz, Value args, int resultClazz)
+  private static Executable resolve(String clName, String name, String sig)
   {
-    if (PRECONDITIONS) require
-      (clName != null);
-
-    Object res = null;
-    Throwable err = null;
-    Method m = null;
-    Constructor co = null;
+    Executable result = null;
     var  p = dev.flang.util.JavaInterface.getPars(sig);
     if (p == null)
       {
@@ -323,11 +351,11 @@ public class JavaInterface extends FUIRContext
       {
         if (name == null)
           {
-            co = cl.getConstructor(p);
+            result = cl.getConstructor(p);
           }
         else
           {
-            m = cl.getMethod(name,p);
+            result = cl.getMethod(name,p);
           }
       }
     catch (NoSuchMethodException e)
@@ -335,6 +363,42 @@ public class JavaInterface extends FUIRContext
         Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_static/call_virtual/call_constructor calling " +
                            (name == null ? "new " + clName : (cl.getName() + "." + name)) + sig);
       }
+    return result;
+  }
+
+
+  /**
+   * Call virtual or static Java method or constructor
+   *
+   * @param clName name of the class that declares the method or constructor.
+   *
+   * @param name name the method, null to call constructor
+   *
+   * @param sig Java signature of the method or constructor
+   *
+   * @param thiz target instance for a virtual call, null for static method or
+   * constructor call
+   *
+   * @param args array of arguments to be passed to the method or constructor,
+   * must be of type array data, i.e., the value in {@code fuzion.sys.array<JavaObject>.data}.
+   *
+   * @param resultClazz the result type of the constructed instance
+   */
+  static Value call(String clName, String name, String sig, Object thiz, Value args, int resultClazz)
+  {
+    if (PRECONDITIONS) require
+      (clName != null);
+
+    Object res = null;
+    Throwable err = null;
+    var key = clName + " " + (name == null ? "<init>" : name) + sig;
+    var ex = _executables_.get(key);
+    if (ex == null)
+      {
+        ex = resolve(clName, name, sig);
+        _executables_.put(key, ex);
+      }
+    var p = ex.getParameterTypes();
     Object[] argz = javaRefToJavaObjects(args);
     try
       {
@@ -350,7 +414,7 @@ public class JavaInterface extends FUIRContext
                 argz[i] = Array.newInstance(pi.componentType(), 0);
               }
           }
-        res = (name == null) ? co.newInstance(argz) : m.invoke(thiz, argz);
+        res = ex instanceof Constructor co ? co.newInstance(argz) : ((Method) ex).invoke(thiz, argz);
       }
     catch (InvocationTargetException e)
       {
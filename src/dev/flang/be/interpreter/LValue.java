@@ -99,7 +99,7 @@ public class LValue extends ValueWithClazz
    */
   public int i8Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -110,7 +110,7 @@ public class LValue extends ValueWithClazz
    */
   public int i16Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -121,7 +121,7 @@ public class LValue extends ValueWithClazz
    */
   public int i32Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -132,9 +132,7 @@ public class LValue extends ValueWithClazz
    */
   public long i64Value()
   {
-    return
-        container.nonrefs[offset    ] & 0xFFFFffffL |
-      ((container.nonrefs[offset + 1] & 0xFFFFffffL) << 32);
+    return container.nonrefs[offset];
   }
 
 
@@ -145,7 +143,7 @@ public class LValue extends ValueWithClazz
    */
   public int u8Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -156,7 +154,7 @@ public class LValue extends ValueWithClazz
    */
   public int u16Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -167,7 +165,7 @@ public class LValue extends ValueWithClazz
    */
   public int u32Value()
   {
-    return container.nonrefs[offset];
+    return (int) container.nonrefs[offset];
   }
 
 
@@ -178,9 +176,7 @@ public class LValue extends ValueWithClazz
    */
   public long u64Value()
   {
-    return
-        container.nonrefs[offset    ] & 0xFFFFffffL |
-      ((container.nonrefs[offset + 1] & 0xFFFFffffL) << 32);
+    return container.nonrefs[offset];
   }
 
 
@@ -191,7 +187,7 @@ public class LValue extends ValueWithClazz
    */
   public float f32Value()
   {
-    return Float.intBitsToFloat(container.nonrefs[offset]);
+    return Float.intBitsToFloat((int) container.nonrefs[offset]);
   }
 
 
@@ -202,8 +198,7 @@ public class LValue extends ValueWithClazz
    */
   public double f64Value()
   {
-    return Double.longBitsToDouble(  container.nonrefs[offset    ] & 0xFFFFffffL |
-                                   ((container.nonrefs[offset + 1] & 0xFFFFffffL) << 32));
+    return Double.longBitsToDouble(container.nonrefs[offset]);
   }
 
 
@@ -218,6 +213,17 @@ public class LValue extends ValueWithClazz
   }
 
 
+  /**
+   * For an LValue of a scalar clazz, return the raw bits of its value.
+   *
+   * @return the raw bits of the value.
+   */
+  long scalarBits()
+  {
+    return container.nonrefs[offset];
+  }
+
+
   /**
    * Convert this value into an LValue with the given offset.
    *
@@ -318,7 +324,7 @@ public class LValue extends ValueWithClazz
     if (PRECONDITIONS) require
       (fuir().clazzIsChoice(_clazz) && !fuir().clazzIsChoiceOfOnlyRefs(_clazz));
 
-    var tag = container.nonrefs[offset];
+    var tag = (int) container.nonrefs[offset];
     if (POSTCONDITIONS) ensure
       (tag >= 0);
 
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import dev.flang.fuir.FUIR;
+import dev.flang.fuir.SpecialClazzes;
 
 
 /**
@@ -145,6 +146,27 @@ class Layout extends FUIRContext
   /*-----------------------------  methods  -----------------------------*/
 
 
+  /**
+   * Is cl a scalar clazz, i.e., one of the integer types, f32, f64 or bool?
+   * Values of scalar clazzes are stored unboxed in exactly one slot of
+   * Instance.nonrefs.
+   *
+   * @param cl a clazz id
+   *
+   * @return true iff cl is scalar.
+   */
+  static boolean isScalar(int cl)
+  {
+    return switch (fuir().getSpecialClazz(cl))
+      {
+      case c_i8, c_i16, c_i32, c_i64,
+           c_u8, c_u16, c_u32, c_u64,
+           c_f32, c_f64, c_bool -> true;
+      default                   -> false;
+      };
+  }
+
+
   /**
    * For field f get the size needed to store it.
    *
@@ -156,23 +178,11 @@ class Layout extends FUIRContext
     int fc = fuir().clazzResultClazz(f);
     return fuir().clazzIsUnitType(fc)
       ? 0
-      : fuir().clazzFieldIsAdrOfValue(f) || fuir().clazzIsRef(fc)
+      : fuir().clazzFieldIsAdrOfValue(f) || fuir().clazzIsRef(fc) || isScalar(fc)
       ? 1
-      : switch (fuir().getSpecialClazz(fc))
-        {
-        case c_i8   -> 1;
-        case c_i16  -> 1;
-        case c_i32  -> 1;
-        case c_i64  -> 2;
-        case c_u8   -> 1;
-        case c_u16  -> 1;
-        case c_u32  -> 1;
-        case c_u64  -> 2;
-        case c_f32  -> 1;
-        case c_f64  -> 2;
-        case c_void -> 0;
-        default     -> get(fc).size();
-        };
+      : fuir().clazzIs(fc, SpecialClazzes.c_void)
+      ? 0
+      : get(fc).size();
   }
 
 
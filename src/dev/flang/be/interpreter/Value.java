@@ -227,6 +227,18 @@ public abstract class Value extends FUIRContext
   }
 
 
+  /**
+   * For a scalar value (i8..u64, f32, f64 or bool), return the bits that are
+   * used to store this value in a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this scalar value.
+   */
+  long scalarBits()
+  {
+    throw new Error("this is not a scalar value, but " + getClass());
+  }
+
+
   /**
    * Convert this value into an LValue with the given offset.
    *
@@ -259,6 +271,10 @@ public abstract class Value extends FUIRContext
    * Does this value equal the value in slot of given size on a low-level
    * bit-wise comparison?
    *
+   * This default implementation is for scalar values that are stored in one
+   * nonrefs slot by storeNonRef, e.g., the expected value of an atomic
+   * compare_and_set on a bool or integer field.
+   *
    * @param slot the slot that addresses the field this should be compared
    * against.
    *
@@ -266,7 +282,10 @@ public abstract class Value extends FUIRContext
    */
   boolean equalsBitWise(LValue slot, int size)
   {
-    throw new Error("value "+ this + " not allowed for equalsBitWise");
+    if (PRECONDITIONS) require
+      (size == 1);
+
+    return slot.container.nonrefs[slot.offset] == scalarBits();
   }
 
 
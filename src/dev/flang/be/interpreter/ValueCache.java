@@ -0,0 +1,111 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class ValueCache
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.be.interpreter;
+
+import java.util.function.LongFunction;
+
+
+/**
+ * ValueCache holds shared instances of an integer value class for the values
+ * in a small range, such that reading a scalar field does not need to allocate
+ * a new value.
+ *
+ * This is safe since integer values are immutable.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+class ValueCache<V extends Value>
+{
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * The smallest value in the cache.
+   */
+  private final long _min;
+
+
+  /**
+   * Function to create a value that is not in the cache.
+   */
+  private final LongFunction<V> _create;
+
+
+  /**
+   * The shared values for _min.._min+_values.length-1.
+   */
+  private final Object[] _values;
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Create a cache for the values min..max.
+   *
+   * @param min the smallest cached value
+   *
+   * @param max the largest cached value
+   *
+   * @param create function to create a value.
+   */
+  ValueCache(int min, int max, LongFunction<V> create)
+  {
+    _min = min;
+    _create = create;
+    _values = new Object[max - min + 1];
+    for (var i = 0; i < _values.length; i++)
+      {
+        _values[i] = create.apply(min + i);
+      }
+  }
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Get the value for v, a shared instance if v is in the cached range.
+   *
+   * @param v the value
+   *
+   * @return a value for v.
+   */
+  @SuppressWarnings("unchecked")
+  V get(long v)
+  {
+    var i = v - _min;
+    return 0 <= i && i < _values.length
+      ? (V) _values[(int) i]
+      : _create.apply(v);
+  }
+
+}
+
+/* end of file */
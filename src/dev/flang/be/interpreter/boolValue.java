@@ -37,13 +37,23 @@ public class boolValue extends Value
 {
 
 
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * The two bool values, to avoid allocation of new instances.
+   */
+  static final boolValue FALSE = new boolValue(false);
+  static final boolValue TRUE  = new boolValue(true);
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
   /**
    *
    */
-  private boolean b;
+  private final boolean b;
 
 
   /*--------------------------  constructors  ---------------------------*/
@@ -58,6 +68,22 @@ public class boolValue extends Value
   }
 
 
+  /*-------------------------  static methods  --------------------------*/
+
+
+  /**
+   * Get the bool value for b.
+   *
+   * @param b a boolean
+   *
+   * @return TRUE or FALSE.
+   */
+  static boolValue get(boolean b)
+  {
+    return b ? TRUE : FALSE;
+  }
+
+
   /*-----------------------------  methods  -----------------------------*/
 
 
@@ -83,6 +109,18 @@ public class boolValue extends Value
   }
 
 
+  /**
+   * For a scalar value, return the bits that are used to store this value in
+   * a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this value.
+   */
+  long scalarBits()
+  {
+    return b ? 1 : 0;
+  }
+
+
   /**
    * Store this value in a field
    *
@@ -95,7 +133,7 @@ public class boolValue extends Value
     if (PRECONDITIONS) require
       (size == 1);
 
-    slot.container.nonrefs[slot.offset] = b ? 1 : 0;
+    slot.container.nonrefs[slot.offset] = scalarBits();
   }
 
 
@@ -83,6 +83,18 @@ public class f32Value extends Value
   }
 
 
+  /**
+   * For a scalar value, return the bits that are used to store this value in
+   * a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this value.
+   */
+  long scalarBits()
+  {
+    return Float.floatToRawIntBits(_val);
+  }
+
+
   /**
    * Store this value in a field
    *
@@ -95,7 +107,7 @@ public class f32Value extends Value
     if (PRECONDITIONS) require
       (size == 1);
 
-    slot.container.nonrefs[slot.offset] = Float.floatToRawIntBits(_val);
+    slot.container.nonrefs[slot.offset] = scalarBits();
   }
 
 
@@ -83,6 +83,18 @@ public class f64Value extends Value
   }
 
 
+  /**
+   * For a scalar value, return the bits that are used to store this value in
+   * a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this value.
+   */
+  long scalarBits()
+  {
+    return Double.doubleToRawLongBits(_val);
+  }
+
+
   /**
    * Store this value in a field
    *
@@ -93,11 +105,9 @@ public class f64Value extends Value
   void storeNonRef(LValue slot, int size)
   {
     if (PRECONDITIONS) require
-      (size == 2);
+      (size == 1);
 
-    var l = Double.doubleToRawLongBits(_val);
-    slot.container.nonrefs[slot.offset    ] = (int) l;
-    slot.container.nonrefs[slot.offset + 1] = (int) (l >> 32);
+    slot.container.nonrefs[slot.offset] = scalarBits();
   }
 
 
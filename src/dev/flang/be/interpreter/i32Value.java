@@ -43,7 +43,7 @@ public class i32Value extends Value
   /**
    *
    */
-  private int _val;
+  private final int _val;
 
 
   /*--------------------------  constructors  ---------------------------*/
@@ -84,6 +84,19 @@ public class i32Value extends Value
   }
 
 
+  /**
+   * For a scalar value, return the bits that are used to store this value in
+   * a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this value.
+   */
+  @Override
+  long scalarBits()
+  {
+    return _val;
+  }
+
+
   /**
    * Store this value in a field
    *
@@ -97,7 +110,7 @@ public class i32Value extends Value
     if (PRECONDITIONS) require
       (size == 1);
 
-    slot.container.nonrefs[slot.offset] = _val;
+    slot.container.nonrefs[slot.offset] = scalarBits();
   }
 
 
@@ -43,7 +43,7 @@ public class u64Value extends Value
   /**
    *
    */
-  private long _val;
+  private final long _val;
 
 
   /*--------------------------  constructors  ---------------------------*/
@@ -83,6 +83,18 @@ public class u64Value extends Value
   }
 
 
+  /**
+   * For a scalar value, return the bits that are used to store this value in
+   * a single slot of Instance.nonrefs.
+   *
+   * @return the raw bits of this value.
+   */
+  long scalarBits()
+  {
+    return _val;
+  }
+
+
   /**
    * Store this value in a field
    *
@@ -93,10 +105,9 @@ public class u64Value extends Value
   void storeNonRef(LValue slot, int size)
   {
     if (PRECONDITIONS) require
-      (size == 2);
+      (size == 1);
 
-    slot.container.nonrefs[slot.offset    ] = (int) _val;
-    slot.container.nonrefs[slot.offset + 1] = (int) (_val >> 32);
+    slot.container.nonrefs[slot.offset] = scalarBits();
   }
 
 
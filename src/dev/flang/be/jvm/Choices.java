@@ -34,7 +34,6 @@ import static dev.flang.ir.IR.NO_CLAZZ;
 import dev.flang.be.jvm.classfile.ClassFile;
 import dev.flang.be.jvm.classfile.ClassFileConstants;
 import dev.flang.be.jvm.classfile.Expr;
-import dev.flang.be.jvm.classfile.Label;
 import dev.flang.be.jvm.classfile.VerificationType;
 
 import dev.flang.fuir.analysis.AbstractInterpreter;
@@ -490,12 +489,10 @@ public class Choices extends ANY implements ClassFileConstants
         }
       case intlike:
         {
-          code = sub;  // == tag!
-
-          var lEnd = new Label();
+          var tagNums = new List<Integer>();
+          var cases = new List<Expr>();
           for (var mc = 0; mc < _fuir.matchCaseCount(s); mc++)
             {
-              // NYI: OPTIMIZATION: This currently uses a cascade of if..else if.., should better uses tableswitch.
               var tags = _fuir.matchCaseTags(s, mc);
               for (var tagNum : tags)
                 {
@@ -504,18 +501,13 @@ public class Choices extends ANY implements ClassFileConstants
                     {
                       if (CHECKS) check
                         (_fuir.clazzIsUnitType(tc));
-                      code = code.andThen(Expr.DUP)                                 //          tag, tag
-                        .andThen(Expr.iconst(tagNum))                               //          tag, tag, tagNum
-                        .andThen(Expr.branch(ClassFileConstants.O_if_icmpeq,        //          tag
-                                             Expr.POP                               //          -
-                                               .andThen(ai.processCode(_fuir.matchCaseCode(s, mc)))
-                                               .andThen(Expr.gotoLabel(lEnd))));
+                      tagNums.add(tagNum);
+                      cases.add(Expr.UNIT.andThen(ai.processCode(_fuir.matchCaseCode(s, mc))));
                     }
                 }
             }
-          code = code                                                               //          tag
-            .andThen(Expr.POP)                                                      //          -
-            .andThen(lEnd);
+          code = sub                                                                // stack is tag
+            .andThen(Expr.switchInt(tagNums, cases, Expr.UNIT));                    //          -
           break;
         }
       case nullable:
@@ -572,10 +564,10 @@ public class Choices extends ANY implements ClassFileConstants
                                           PrimitiveType.type_int,
                                           _fuir.sitePos(s).line()));
 
-          var lEnd = new Label();
+          var tagNums = new List<Integer>();
+          var cases = new List<Expr>();
           for (var mc = 0; mc < _fuir.matchCaseCount(s); mc++)
             {
-              // NYI: OPTIMIZATION: This currently uses a cascade of if..else if.., should better uses tableswitch.
               var field = _fuir.matchCaseField(s, mc);
               var tags = _fuir.matchCaseTags(s, mc);
               for (var tagNum : tags)
@@ -587,9 +579,8 @@ public class Choices extends ANY implements ClassFileConstants
                       if (field != NO_CLAZZ && jvm.fieldExists(field))
                         {
                           var rt = _types.resultType(_fuir.clazzResultClazz(field));
-                          pos =                                                 // stack is sub, tag
-                            Expr.POP                                            //          sub
-                            .andThen(cl == _fuir.clazzUniverse()
+                          pos =                                                 // stack is sub
+                            (cl == _fuir.clazzUniverse()
                               ? jvm.LOAD_UNIVERSE
                               : Expr.aload(jvm.current_index(cl), _types.resultType(cl))) // sub, cur
                             .andThen(Expr.SWAP)                                 //          cur, sub
@@ -598,23 +589,15 @@ public class Choices extends ANY implements ClassFileConstants
                         }
                       else
                         {
-                          pos = Expr.UNIT                                       //          sub, tag
-                            .andThen(Expr.POP)                                  //          sub
-                            .andThen(Expr.POP);                                 //          -
+                          pos = Expr.POP;                                       //          -
                         }
-                      pos = pos.andThen(ai.processCode(_fuir.matchCaseCode(s, mc)))
-                        .andThen(Expr.gotoLabel(lEnd));
-                      code = code.andThen(Expr.DUP)                             //          sub, tag, tag
-                        .andThen(Expr.iconst(tagNum))                           //          sub, tag, tag, tagNum
-                        .andThen(Expr.branch(ClassFileConstants.O_if_icmpeq,    //          sub, tag
-                                             pos));
+                      tagNums.add(tagNum);
+                      cases.add(pos.andThen(ai.processCode(_fuir.matchCaseCode(s, mc))));
                     }
                 }
             }
           code = code                                                           //          sub, tag
-            .andThen(Expr.POP)                                                  //          sub
-            .andThen(Expr.POP)                                                  //          -
-            .andThen(lEnd);
+            .andThen(Expr.switchInt(tagNums, cases, Expr.POP));                 //          -
           break;
         }
       case general:
@@ -624,10 +607,10 @@ public class Choices extends ANY implements ClassFileConstants
             .andThen(Expr.getfield(_names.javaClass(subjClazz),                 //          sub, tag
                                    Names.TAG_NAME,
                                    ClassFileConstants.PrimitiveType.type_int));
-          var lEnd = new Label();
+          var tagNums = new List<Integer>();
+          var cases = new List<Expr>();
           for (var mc = 0; mc < _fuir.matchCaseCount(s); mc++)
             {
-              // NYI: OPTIMIZATION: This currently uses a cascade of if..else if.., should better uses tableswitch.
               var field = _fuir.matchCaseField(s, mc);
               var tags = _fuir.matchCaseTags(s, mc);
               for (var tagNum : tags)
@@ -640,9 +623,8 @@ public class Choices extends ANY implements ClassFileConstants
                         {
                           var rc = _fuir.clazzResultClazz(field);
                           var rt = _types.resultType(rc);
-                          pos =                                                     // stack is sub, tag
-                            Expr.POP                                                //          sub
-                            .andThen(cl == _fuir.clazzUniverse()
+                          pos =                                                     // stack is sub
+                            (cl == _fuir.clazzUniverse()
                               ? jvm.LOAD_UNIVERSE
                               : Expr.aload(jvm.current_index(cl), _types.resultType(cl))) // sub, cur
                             .andThen(Expr.SWAP)                                     //          cur, sub
@@ -655,24 +637,15 @@ public class Choices extends ANY implements ClassFileConstants
                         }
                       else
                         {
-                          pos = Expr.UNIT                                           //          sub, tag
-                            .andThen(Expr.POP)                                      //          sub
-                            .andThen(Expr.POP);                                     //          -
+                          pos = Expr.POP;                                           //          -
                         }
-                      pos = pos
-                        .andThen(ai.processCode(_fuir.matchCaseCode(s, mc)))
-                        .andThen(Expr.gotoLabel(lEnd));
-                      code = code.andThen(Expr.DUP)                                 //          sub, tag, tag
-                        .andThen(Expr.iconst(tagNum))                               //          sub, tag, tag, tagNum
-                        .andThen(Expr.branch(ClassFileConstants.O_if_icmpeq,        //          sub, tag
-                                             pos));
+                      tagNums.add(tagNum);
+                      cases.add(pos.andThen(ai.processCode(_fuir.matchCaseCode(s, mc))));
                     }
                 }
             }
           code = code                                                               //          sub, tag
-            .andThen(Expr.POP)                                                      //          sub
-            .andThen(Expr.POP)                                                      //          -
-            .andThen(lEnd);
+            .andThen(Expr.switchInt(tagNums, cases, Expr.POP));                     //          -
           break;
         }
       default: throw new Error("Unexpected choice kind in match of JVM backend: " + kind(subjClazz));
@@ -34,6 +34,7 @@ import static dev.flang.ir.IR.NO_CLAZZ;
 import static dev.flang.ir.IR.NO_SITE;
 
 import dev.flang.be.jvm.classfile.Expr;
+import dev.flang.be.jvm.classfile.Label;
 import dev.flang.be.jvm.classfile.VerificationType;
 import dev.flang.be.jvm.classfile.ClassFile;
 import dev.flang.be.jvm.classfile.ClassFileConstants;
@@ -626,7 +627,12 @@ class CodeGen
                   var call = args(false, tvalue, args, cc, _fuir.clazzArgCount(cc))
                     .andThen(_types.invokeStatic(cc, _fuir.sitePos(si).line()));
 
-                  res = makePair(call, rt);
+                  // the result of a routine whose instance does not escape
+                  // cannot be accessed through that instance anymore.
+                  var fresh =
+                    _fuir.clazzKind(cc) == FeatureKind.Routine &&
+                    _fuir.lifeTime(cc) == FUIR.LifeTime.Call;
+                  res = makePair(fresh ? _jvm.fresh(call) : call, rt);
                 }
             }
           else
@@ -670,17 +676,73 @@ class CodeGen
 
     var argSlots = new List<Integer>();
     var localSlotsOfMemorySegments = new List<Integer>();
-    return assignArgsToLocals(si, args, argSlots, cc)
-          .andThen(Expr
-            .getstatic(_names.javaClass(cc),
-                       Names.METHOD_HANDLE_FIELD_NAME,
-                       Names.CT_JAVA_LANG_INVOKE_METHODHANDLE)                                   // MethodHandle
-          )
-          .andThen(convertArgumentsToMemorySegments(si, argSlots, localSlotsOfMemorySegments, cc)) // MethodHandle, args...
-          .andThen(invokeMethodHandle(rt, invokeDescr))                                        // rt
-          .andThen(copyValueResultToFuzion(rt))                                                // rt
-          .andThen(copyMemorySegmentsToArrays(cc, argSlots, localSlotsOfMemorySegments))           // rt
-          .is(_types.javaType(rt));
+    var assignArgs = assignArgsToLocals(si, args, argSlots, cc);  // must come first, sets argSlots
+    var call = Expr
+      .getstatic(_names.javaClass(cc),
+                 Names.METHOD_HANDLE_FIELD_NAME,
+                 Names.CT_JAVA_LANG_INVOKE_METHODHANDLE)                                         // MethodHandle
+      .andThen(convertArgumentsToMemorySegments(si, argSlots, localSlotsOfMemorySegments, cc)) // MethodHandle, args...
+      .andThen(invokeMethodHandle(rt, invokeDescr))                                            // rt
+      .andThen(copyValueResultToFuzion(rt))                                                    // rt
+      .andThen(copyMemorySegmentsToArrays(cc, argSlots, localSlotsOfMemorySegments));          // rt
+    if (needsNativeCallArena(cc, rt))
+      {
+        // the arena must be closed even if the call or an upcall throws,
+        // otherwise it would stay on the stack of arenas of this thread.
+        var try_end   = new Label();
+        var try_catch = new Label();
+        var try_after = new Label();
+        var try_start = Expr.tryCatch(try_end,
+                                      try_catch,
+                                      new ClassType(Throwable.class.getName().replace(".","/")));
+        call = invokeNativeCallArena("native_call_begin")
+          .andThen(try_start)
+          .andThen(call)                                                                       // rt
+          .andThen(try_end)
+          .andThen(invokeNativeCallArena("native_call_end"))                                   // rt
+          .andThen(Expr.gotoLabel(try_after))
+          .andThen(try_catch)                                                                  // Throwable
+          .andThen(invokeNativeCallArena("native_call_end"))                                   // Throwable
+          .andThen(Expr.THROW)
+          .andThen(try_after);                                                                 // rt
+      }
+    return assignArgs
+      .andThen(call)
+      .is(_types.javaType(rt));
+  }
+
+
+  /**
+   * Does a native call to cc allocate native memory for its arguments or its
+   * result?  If so, this memory is allocated from an arena that is opened by
+   * Runtime.native_call_begin and released by Runtime.native_call_end.
+   *
+   * @param cc the native feature that is called
+   *
+   * @param rt the result type of cc
+   */
+  private boolean needsNativeCallArena(int cc, int rt)
+  {
+    var result = !_jvm.isAddressLike(rt) && !_types.javaType(rt).isPrimitive();
+    for (int i = 0; !result && i < _fuir.clazzArgCount(cc); i++)
+      {
+        var at = _fuir.clazzArgClazz(cc, i);
+        result = _fuir.lookupCall(at) == NO_CLAZZ && !_types.javaType(at).isPrimitive();
+      }
+    return result;
+  }
+
+
+  /**
+   * byte code to invoke Runtime.native_call_begin or Runtime.native_call_end.
+   */
+  private Expr invokeNativeCallArena(String name)
+  {
+    return Expr.invokeStatic(
+      Names.RUNTIME_CLASS,
+      name,
+      "()V",
+      PrimitiveType.type_void);
   }
 
 
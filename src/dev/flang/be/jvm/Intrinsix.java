@@ -112,6 +112,109 @@ public class Intrinsix extends ANY implements ClassFileConstants
   }
 
 
+  /**
+   * Get a VarHandle for the value field v of an atomic if the value can be
+   * accessed atomically without locking, i.e., if it is a ref, a Java
+   * primitive or a choice that is implemented as a nullable reference or as
+   * refs and units.
+   *
+   * These are the types JVM.compareValues compares by identity or by value of
+   * the primitive, which is what VarHandle.compareAndSet does.  Other value
+   * types, e.g. product types that are compiled to a Java class or general
+   * choices, must be compared field by field and hence use
+   * Runtime.LOCK_FOR_ATOMIC.
+   *
+   * The VarHandle is stored in a static field of the atomic's class that is
+   * initialized by the class initializer.
+   *
+   * @param jvm the JVM backend
+   *
+   * @param v the value field of an atomic, see FUIR.lookupAtomicValue.
+   *
+   * @return code to load the VarHandle or null if v requires
+   * Runtime.LOCK_FOR_ATOMIC.
+   */
+  private static Expr atomicVarHandle(JVM jvm, int v)
+  {
+    Expr result = null;
+    var ac = jvm._fuir.clazzOuterClazz(v);
+    var rc = jvm._fuir.clazzResultClazz(v);
+    var jt = jvm._types.resultType(rc);
+    var cf = jvm._types.classFile(ac);
+    if (cf != null &&
+        jvm.fieldExists(v) &&
+        (jt.isPrimitive() && jt != PrimitiveType.type_void ||
+         jt instanceof ClassType &&
+         (jvm._fuir.clazzIsRef(rc) ||
+          jvm._fuir.clazzIsChoice(rc) &&
+          (jvm._types._choices.kind(rc) == Choices.ImplKind.nullable ||
+           jvm._types._choices.kind(rc) == Choices.ImplKind.refsAndUnits))))
+      {
+        var vh = Names.VAR_HANDLE_PREFIX + jvm._names.field(v);
+        if (!cf.hasField(vh))
+          {
+            cf.field(ACC_PUBLIC | ACC_STATIC,
+                     vh,
+                     Names.CT_JAVA_LANG_INVOKE_VARHANDLE.descriptor());
+            cf.addToClInit(Expr.invokeStatic(Names.JAVA_LANG_INVOKE_METHODHANDLES,
+                                             "lookup",
+                                             "()" + Names.CT_JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP.descriptor(),
+                                             Names.CT_JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP)          // Lookup
+                           .andThen(Expr.classconst(new ClassType(cf._name)))                       // Lookup, Class
+                           .andThen(Expr.stringconst(jvm._names.field(v)))                          // Lookup, Class, String
+                           .andThen(Expr.classconst(jt))                                            // Lookup, Class, String, Class
+                           .andThen(Expr.invokeVirtual(Names.JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP,
+                                                       "findVarHandle",
+                                                       "(" + JAVA_LANG_CLASS.descriptor() + JAVA_LANG_STRING.descriptor() + JAVA_LANG_CLASS.descriptor() + ")" +
+                                                       Names.CT_JAVA_LANG_INVOKE_VARHANDLE.descriptor(),
+                                                       Names.CT_JAVA_LANG_INVOKE_VARHANDLE))        // VarHandle
+                           .andThen(Expr.putstatic(cf._name,
+                                                   vh,
+                                                   Names.CT_JAVA_LANG_INVOKE_VARHANDLE)));          // -
+          }
+        result = Expr.getstatic(cf._name,
+                                vh,
+                                Names.CT_JAVA_LANG_INVOKE_VARHANDLE);
+      }
+    return result;
+  }
+
+
+  /**
+   * Create code to call an access mode method of the VarHandle for the value
+   * field v of an atomic.  The VarHandle, the target and the arguments must be
+   * on the stack.
+   *
+   * @param jvm the JVM backend
+   *
+   * @param v the value field of an atomic, see FUIR.lookupAtomicValue.
+   *
+   * @param name the access mode method, e.g., "getVolatile".
+   *
+   * @param nargs number of value arguments passed to the access mode method.
+   *
+   * @param rt the result type of the access mode method.
+   *
+   * @return the code for the call.
+   */
+  private static Expr invokeVarHandle(JVM jvm, int v, String name, int nargs, JavaType rt)
+  {
+    var ac = jvm._fuir.clazzOuterClazz(v);
+    var jt = jvm._types.resultType(jvm._fuir.clazzResultClazz(v));
+    var descr = new StringBuilder("(")
+      .append(new ClassType(jvm._names.javaClass(ac)).descriptor());
+    for (var i = 0; i < nargs; i++)
+      {
+        descr.append(jt.descriptor());
+      }
+    descr.append(")").append(rt.descriptor());
+    return Expr.invokeVirtual(Names.JAVA_LANG_INVOKE_VARHANDLE,
+                              name,
+                              descr.toString(),
+                              rt);
+  }
+
+
   /**
    * Set of code generators for intrinsics that produce inline code
    */
@@ -151,7 +254,10 @@ public class Intrinsix extends ANY implements ClassFileConstants
         (jvm, si, cc, tvalue, args) ->
         {
           return new Pair<>(Expr.UNIT,
-                            locked(Expr.UNIT));
+                            Expr.invokeStatic(Names.JAVA_LANG_INVOKE_VARHANDLE,
+                                              "fullFence",
+                                              "()V",
+                                              PrimitiveType.type_void));
         });
 
     put("concur.atomic.read0",
@@ -159,8 +265,13 @@ public class Intrinsix extends ANY implements ClassFileConstants
         {
           var ac = jvm._fuir.clazzOuterClazz(cc);
           var v = jvm._fuir.lookupAtomicValue(ac);
-          var val = locked(tvalue
-                           .andThen(jvm.getfield(v)));
+          var vh = atomicVarHandle(jvm, v);
+          var val = vh != null
+            ? vh
+              .andThen(tvalue)
+              .andThen(invokeVarHandle(jvm, v, "getVolatile", 0, jvm._types.resultType(jvm._fuir.clazzResultClazz(v))))
+            : locked(tvalue
+                     .andThen(jvm.getfield(v)));
           return new Pair<>(val, Expr.UNIT);
         });
 
@@ -169,9 +280,15 @@ public class Intrinsix extends ANY implements ClassFileConstants
         {
           var ac = jvm._fuir.clazzOuterClazz(cc);
           var v = jvm._fuir.lookupAtomicValue(ac);
-          var code = locked(tvalue
-                            .andThen(args.get(0))
-                            .andThen(jvm.putfield(v)));
+          var vh = atomicVarHandle(jvm, v);
+          var code = vh != null
+            ? vh
+              .andThen(tvalue)
+              .andThen(args.get(0))
+              .andThen(invokeVarHandle(jvm, v, "setVolatile", 1, PrimitiveType.type_void))
+            : locked(tvalue
+                     .andThen(args.get(0))
+                     .andThen(jvm.putfield(v)));
           return new Pair<>(Expr.UNIT, code);
         });
 
@@ -182,14 +299,27 @@ public class Intrinsix extends ANY implements ClassFileConstants
           var ac = jvm._fuir.clazzOuterClazz(cc);
           var v = jvm._fuir.lookupAtomicValue(ac);
           var rc  = jvm._fuir.clazzResultClazz(v);
-          var tt = tvalue.type();
           var jt = jvm._types.resultType(rc);
+          var cas = jvm._fuir.clazzOriginalName(cc).equals("concur.atomic.compare_and_set0");
+          var vh = atomicVarHandle(jvm, v);
+          if (vh != null)
+            { // lock-free: VarHandle.compareAndSet or compareAndExchange, both compare bit-wise
+              var val = vh
+                .andThen(tvalue)
+                .andThen(args.get(0))
+                .andThen(args.get(1))
+                .andThen(cas ? invokeVarHandle(jvm, v, "compareAndSet"     , 2, PrimitiveType.type_boolean)
+                             : invokeVarHandle(jvm, v, "compareAndExchange", 2, jt));
+              return new Pair<>(val, Expr.UNIT);
+            }
+
+          var tt = tvalue.type();
           int tslot  = jvm.allocLocal(si, 1);                  // local var slot for target
           int nvslot = jvm.allocLocal(si, jt.stackSlots());    // local var slot for arg(1), new value, not casted
           int vslot  = jvm.allocLocal(si, jt.stackSlots());    // local var slot for old value, not casted.
 
           Expr pos, neg, oldv;
-          if (jvm._fuir.clazzOriginalName(cc).equals("concur.atomic.compare_and_set0"))
+          if (cas)
             { // compare_and_set: return true or false
               pos = Expr.iconst(1);            // 1
               neg = Expr.iconst(0);            // 0
@@ -64,7 +64,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
@@ -760,6 +762,13 @@ should be avoided as much as possible.
   Map2Int<Integer> _effectIds = new Map2Int<>();
 
 
+  /**
+   * Values produced by the code of the routine that is currently compiled that
+   * are fresh instances of a value type, see fresh().
+   */
+  private final Set<Expr> _freshValues = Collections.newSetFromMap(new IdentityHashMap<>());
+
+
   /*---------------------------  constructors  ---------------------------*/
 
 
@@ -1453,6 +1462,7 @@ should be avoided as much as possible.
 
     var cf = _types.classFile(cl);
     if (cf == null) return;
+    _freshValues.clear();
     var prolog = Expr.UNIT;
     var epilog = Expr.UNIT;
     Expr code;
@@ -1489,6 +1499,7 @@ should be avoided as much as possible.
                                     new List<>(), dev.flang.be.jvm.classfile.ClassFile.StackMapTable.fromCode(cf, locals, bc_cl));
 
     cf.method(ClassFileConstants.ACC_STATIC | ClassFileConstants.ACC_PUBLIC, name, _types.descriptor(cl), new List<>(code_cl));
+    _freshValues.clear();
   }
 
 
@@ -1990,6 +2001,11 @@ should be avoided as much as possible.
    * this creates a new instance and copies all the fields from value into the
    * new instance.
    *
+   * Instances of value clazzes that are never modified once they were created
+   * (see Types.isImmutableValue) are shared instead of being cloned.  Fresh
+   * values such as the result of a call to a routine are not cloned either, see
+   * fresh().
+   *
    * NYI: OPTIMIZATION: Once value features like {@code point(x,y i32)} are
    * represented as tuples of primitive values ({@code int, int}) instead of instances
    * of Java classes ({@code class Point { int x, y; }}, this cloning will no longer
@@ -2010,10 +2026,12 @@ should be avoided as much as possible.
    */
   Expr cloneValue(int s, Expr value, int rt, int f)
   {
-    if (!_fuir.clazzIsRef(rt) &&
+    if (!_freshValues.contains(value) &&
+        !_fuir.clazzIsRef(rt) &&
         (f == NO_CLAZZ || !_fuir.clazzFieldIsAdrOfValue(f)) && // an outer ref field must not be cloned
         !_fuir.isScalar(rt) &&
-        (!_fuir.clazzIsChoice(rt) || _types._choices.kind(rt) == Choices.ImplKind.general))
+        (!_fuir.clazzIsChoice(rt) || _types._choices.kind(rt) == Choices.ImplKind.general) &&
+        !_types.isImmutableValue(rt))
       {
         var vti = _types.resultType(rt).vti();
         var vl = allocLocal(s, 1);
@@ -2091,6 +2109,35 @@ should be avoided as much as possible.
   }
 
 
+  /**
+   * Mark value as a fresh instance of a value type, i.e., an instance that is
+   * not referenced from anywhere else such that it does not need to be cloned
+   * when it is assigned to a field.
+   *
+   * This is the case for the result of a call to a routine whose instance
+   * does not escape the call, i.e., FUIR.lifeTime() is LifeTime.Call: the
+   * result field of the called routine was assigned a clone, a fresh value or
+   * an immutable value, and the routine's instance is not used after the call
+   * returned.  If the instance escapes, e.g., to a lambda that reads `result`
+   * later, the result must still be cloned.  Consequently, returning a value
+   * type through a chain of calls does not allocate a copy on every level.
+   *
+   * NYI: OPTIMIZATION: Value type results could be returned without any
+   * allocation through fields in the current FuzionThread, but this requires
+   * value types to be represented as tuples of primitive values first, see
+   * cloneValue.
+   *
+   * @param value code producing a value
+   *
+   * @return value
+   */
+  Expr fresh(Expr value)
+  {
+    _freshValues.add(value);
+    return value;
+  }
+
+
   /**
    * Helper for cloneValue to clone the value of a field in a choice or a
    * product type that may be null.
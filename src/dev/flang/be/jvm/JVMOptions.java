@@ -117,6 +117,13 @@ public class JVMOptions extends FuzionOptions
   final Optional<String> _jLibs;
 
 
+  /**
+   * Should threads spawned by the application run on virtual threads?  Set
+   * via option {@code -XjvmThreads=virtual}.
+   */
+  final boolean _virtualThreads;
+
+
   /*--------------------------  constructors  ---------------------------*/
 
 
@@ -128,7 +135,8 @@ public class JVMOptions extends FuzionOptions
                     boolean saveClasses,
                     boolean saveJAR,
                     Optional<String> outputName,
-                    Optional<String> jLibs)
+                    Optional<String> jLibs,
+                    boolean virtualThreads)
   {
     super(fo);
 
@@ -138,6 +146,7 @@ public class JVMOptions extends FuzionOptions
     this._applicationArgs = fo.getBackendArgs();
     this._outputName = outputName;
     this._jLibs = jLibs;
+    this._virtualThreads = virtualThreads;
   }
 
 
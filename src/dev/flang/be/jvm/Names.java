@@ -113,6 +113,12 @@ public class Names extends ANY implements ClassFileConstants
   static final String RUNTIME_ARGS_GET_SIG = "(I)[B";
 
 
+  /**
+   * Name of Runtime._virtualThreads_ field
+   */
+  static final String RUNTIME_VIRTUAL_THREADS = "_virtualThreads_";
+
+
   /**
    * Name and signature of Runtime.internalArrayForConstString().
    */
@@ -233,6 +239,23 @@ public class Names extends ANY implements ClassFileConstants
   static final ClassType CT_JAVA_LANG_FOREIGN_STRUCT_LAYOUT = new ClassType(JAVA_LANG_FOREIGN_STRUCT_LAYOUT);
 
 
+  /**
+   * Predefined constants used for lock-free atomic accesses.
+   */
+  static final String    JAVA_LANG_INVOKE_VARHANDLE = "java/lang/invoke/VarHandle";
+  static final ClassType CT_JAVA_LANG_INVOKE_VARHANDLE = new ClassType(JAVA_LANG_INVOKE_VARHANDLE);
+  static final String    JAVA_LANG_INVOKE_METHODHANDLES = "java/lang/invoke/MethodHandles";
+  static final String    JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
+  static final ClassType CT_JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP = new ClassType(JAVA_LANG_INVOKE_METHODHANDLES_LOOKUP);
+
+
+  /**
+   * Prefix for static fields holding a VarHandle for the value field of an
+   * atomic, will be concatenated with the name of the field.
+   */
+  static final String VAR_HANDLE_PREFIX = "fzVH_";
+
+
 
   /*----------------------------  variables  ----------------------------*/
 
@@ -35,11 +35,12 @@ import dev.flang.be.jvm.classfile.Expr;
 import dev.flang.be.jvm.classfile.VerificationType;
 
 import dev.flang.util.ANY;
-import dev.flang.util.FuzionOptions;
+import dev.flang.util.IntMap;
 import dev.flang.util.List;
 
 import static dev.flang.ir.IR.NO_CLAZZ;
 
+import java.util.BitSet;
 import java.util.TreeMap;
 
 
@@ -55,7 +56,7 @@ public class Types extends ANY implements ClassFileConstants
   /*----------------------------  variables  ----------------------------*/
 
 
-  private final FuzionOptions _opt;
+  private final JVMOptions _opt;
 
 
   /**
@@ -76,6 +77,19 @@ public class Types extends ANY implements ClassFileConstants
   JavaType UNIVERSE_TYPE;
 
 
+  /**
+   * Value clazzes whose instances may be modified after they were created,
+   * indexed by clazzId2num.  Lazily created by modifiedValues().
+   */
+  private BitSet _modifiedValues;
+
+
+  /**
+   * Cache for isImmutableValue().
+   */
+  private final IntMap<Boolean> _immutableValues = new IntMap<>();
+
+
   /*---------------------------  constructors  ---------------------------*/
 
 
@@ -194,6 +208,10 @@ public class Types extends ANY implements ClassFileConstants
             var bc_main =
               Expr.aload(0, JAVA_LANG_STRING.array())
               .andThen(Expr.putstatic(Names.RUNTIME_CLASS, Names.RUNTIME_ARGS, JAVA_LANG_STRING.array()))
+              .andThen(_opt._virtualThreads
+                       ? Expr.iconst(1)
+                         .andThen(Expr.putstatic(Names.RUNTIME_CLASS, Names.RUNTIME_VIRTUAL_THREADS, PrimitiveType.type_boolean))
+                       : Expr.UNIT)
               .andThen(Expr.new0(cn, javaType(cl)))
               .andThen(Expr.DUP)
               .andThen(Expr.invokeSpecial(cn, "<init>", "()V"))
@@ -481,6 +499,148 @@ public class Types extends ANY implements ClassFileConstants
   }
 
 
+  /**
+   * Check if instances of value clazz {@code cl} are never modified once they
+   * were created.  Such instances may be shared instead of being cloned to
+   * obtain value semantics, see JVM.cloneValue.
+   *
+   * This is the case if all the fields of {@code cl} are assigned at most once,
+   * by {@code cl}'s own code, there are no intrinsics or native features that
+   * could modify an instance of {@code cl} via their outer reference, and all
+   * the fields of value type are immutable as well.
+   *
+   * @param cl a clazz id
+   *
+   * @return true if cl is a value clazz that is not a choice and that is known
+   * to be immutable.
+   */
+  boolean isImmutableValue(int cl)
+  {
+    var res = _immutableValues.get(cl);
+    if (res == null)
+      {
+        res =
+          !_fuir.clazzIsRef(cl)                          &&
+          !_fuir.clazzIsChoice(cl)                       &&
+          _fuir.clazzResultField(cl) == NO_CLAZZ         &&
+          !modifiedValues().get(_fuir.clazzId2num(cl));
+        for (var i = 0; res && i < _fuir.clazzFieldCount(cl); i++)
+          {
+            var fi = _fuir.clazzField(cl, i);
+            var rti = _fuir.clazzResultClazz(fi);
+            res =
+              _fuir.clazzIsRef(rti)                      ||
+              _fuir.clazzIsUnitType(rti)                 ||
+              _fuir.isScalar(rti)                        ||
+              _fuir.clazzFieldIsAdrOfValue(fi)           ||
+              (_fuir.clazzIsChoice(rti) ? _choices.kind(rti) != Choices.ImplKind.general
+                                        : isImmutableValue(rti));
+          }
+        _immutableValues.put(cl, res);
+      }
+    return res;
+  }
+
+
+  /**
+   * Find all value clazzes whose instances may be modified after they were
+   * created.
+   *
+   * @return a set of clazzes, indexed by clazzId2num.
+   */
+  private BitSet modifiedValues()
+  {
+    if (_modifiedValues == null)
+      {
+        _modifiedValues = new BitSet();
+        var assigned = new BitSet();
+        var done = new BitSet();
+        for (var cl = _fuir.firstClazz(); cl <= _fuir.lastClazz(); cl++)
+          {
+            switch (_fuir.clazzKind(cl))
+              {
+              case Intrinsic, Native ->
+                {
+                  var o = _fuir.clazzOuterClazz(cl);
+                  if (o != NO_CLAZZ)
+                    {
+                      _modifiedValues.set(_fuir.clazzId2num(o));
+                    }
+                }
+              case Routine ->
+                {
+                  if (_fuir.clazzNeedsCode(cl))
+                    {
+                      findModifiedValues(_fuir.clazzCode(cl), assigned, done);
+                    }
+                }
+              default -> { }
+              }
+          }
+      }
+    return _modifiedValues;
+  }
+
+
+  /**
+   * Helper for modifiedValues() to process the assignments in the code block
+   * starting at {@code c} and in all nested match cases.
+   *
+   * @param c the first site of a code block
+   *
+   * @param assigned the fields assigned by their outer clazz's code, indexed
+   * by clazzId2num.
+   *
+   * @param done the sites of code blocks processed already
+   */
+  private void findModifiedValues(int c, BitSet assigned, BitSet done)
+  {
+    if (_fuir.withinCode(c) && !done.get(c - FUIR.SITE_BASE))
+      {
+        done.set(c - FUIR.SITE_BASE);
+        var last = FUIR.NO_SITE;
+        // code following an expression that never returns was not analyzed by
+        // the DFA, so it cannot be inspected, see AbstractInterpreter.processCode
+        for (var s = c; _fuir.withinCode(s) && !_fuir.alwaysResultsInVoid(last); s = s + _fuir.codeSizeAt(s))
+          {
+            last = s;
+            switch (_fuir.codeAt(s))
+              {
+              case Assign ->
+                {
+                  var f = _fuir.accessedClazz(s);
+                  if (f != NO_CLAZZ)
+                    {
+                      var o = _fuir.clazzOuterClazz(f);
+                      var fn = _fuir.clazzId2num(f);
+                      if (_fuir.accessIsDynamic(s) ||
+                          _fuir.clazzAt(s) != o    ||
+                          assigned.get(fn))
+                        {
+                          _modifiedValues.set(_fuir.clazzId2num(o));
+                        }
+                      assigned.set(fn);
+                    }
+                }
+              case Match ->
+                {
+                  for (var cix = 0; cix < _fuir.matchCaseCount(s); cix++)
+                    {
+                      // cases that are never taken were not analyzed by the
+                      // DFA, so their code cannot be inspected
+                      if (_fuir.matchCaseTags(s, cix).length > 0)
+                        {
+                          findModifiedValues(_fuir.matchCaseCode(s, cix), assigned, done);
+                        }
+                    }
+                }
+              default -> { }
+              }
+          }
+      }
+  }
+
+
   /**
    * Add {@code jt} to the list of locals.
    * If {@code jt} is javaVoid-like it is not added.
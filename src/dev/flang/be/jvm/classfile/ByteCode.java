@@ -401,6 +401,112 @@ abstract class ByteCode extends ANY implements ClassFileConstants
   }
 
 
+  /**
+   * Write a tableswitch or lookupswitch instruction, depending on the density
+   * of keys, see isTableSwitch.
+   *
+   * @param bw target to write bytecodes to.
+   *
+   * @param from label at the position of the switch instruction
+   *
+   * @param keys the keys, sorted and without duplicates, must not be empty.
+   *
+   * @param targets the branch targets for keys
+   *
+   * @param dflt the branch target for all values not in keys
+   */
+  void codeSwitch(ClassFile.ByteCodeWriter bw, Label from, int[] keys, Label[] targets, Label dflt)
+  {
+    if (PRECONDITIONS) require
+      (keys.length > 0,
+       keys.length == targets.length);
+
+    // offsets must be determined before anything is written since they set from:
+    var offsets = new int[targets.length];
+    for (var i = 0; i < targets.length; i++)
+      {
+        offsets[i] = bw.offset(from, targets[i]);
+      }
+    var dfltOffset = bw.offset(from, dflt);
+
+    var table = isTableSwitch(keys);
+    bw.write(table ? O_tableswitch : O_lookupswitch);
+    for (var i = 0; i < switchPadding(from); i++)
+      {
+        bw.write((byte) 0);
+      }
+    bw.writeI4(dfltOffset);
+    if (table)
+      {
+        var low  = keys[0];
+        var high = keys[keys.length-1];
+        bw.writeI4(low);
+        bw.writeI4(high);
+        var k = 0;
+        for (long v = low; v <= high; v++)
+          {
+            if (keys[k] == v)
+              {
+                bw.writeI4(offsets[k]);
+                k++;
+              }
+            else
+              {
+                bw.writeI4(dfltOffset);
+              }
+          }
+      }
+    else
+      {
+        bw.writeI4(keys.length);
+        for (var i = 0; i < keys.length; i++)
+          {
+            bw.writeI4(keys[i]);
+            bw.writeI4(offsets[i]);
+          }
+      }
+  }
+
+
+  /**
+   * Should a switch over the given keys be compiled into a tableswitch or a
+   * lookupswitch?  This uses the same cost function as javac that weighs code
+   * size against the number of comparisons.
+   *
+   * @param keys the keys, sorted and without duplicates, must not be empty.
+   */
+  static boolean isTableSwitch(int[] keys)
+  {
+    long n = keys.length;
+    long range = (long) keys[keys.length-1] - keys[0] + 1;
+    long tableCost  = 4 + range + 3 * 3;
+    long lookupCost = 3 + 2 * n + 3 * n;
+    return tableCost <= lookupCost;
+  }
+
+
+  /**
+   * Number of padding bytes following a tableswitch or lookupswitch at from.
+   * The operands must be 4-byte aligned relative to the start of the code.
+   * Before the final position of from is known, this is the maximum of 3.
+   */
+  static int switchPadding(Label from)
+  {
+    return from._posFinal == -1 ? 3 : 3 - (from._posFinal & 3);
+  }
+
+
+  /**
+   * The size of a switch instruction written by codeSwitch.
+   */
+  static int switchSize(Label from, int[] keys)
+  {
+    return 1 + switchPadding(from) + 4 +
+      (isTableSwitch(keys) ? 8 + 4 * (keys[keys.length-1] - keys[0] + 1)
+                           : 4 + 8 * keys.length);
+  }
+
+
   /**
    * Create byte[] of O_invokeinterface
    *
@@ -27,7 +27,9 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 package dev.flang.be.jvm.classfile;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Stack;
+import java.util.stream.IntStream;
 
 import dev.flang.be.jvm.classfile.ClassFile.StackMapTable;
 
@@ -1917,6 +1919,103 @@ public abstract class Expr extends ByteCode
   }
 
 
+  /**
+   * Create a switch on the int value on top of the stack.  This results in a
+   * tableswitch or a lookupswitch, depending on the density of the keys.
+   *
+   * All cases and dflt must affect the stack in the same way.
+   *
+   * @param keys the keys, must not contain duplicates.
+   *
+   * @param cases code to be executed if the value is equal to keys.get(i).
+   *
+   * @param dflt code to be executed if the value is not in keys.
+   */
+  public static Expr switchInt(List<Integer> keys, List<Expr> cases, Expr dflt)
+  {
+    if (PRECONDITIONS) require
+      (keys.size() == cases.size(),
+       keys.stream().distinct().count() == keys.size());
+
+    if (keys.isEmpty())
+      {
+        return POP.andThen(dflt);
+      }
+
+    var n = keys.size();
+    var labels = new Label[n];
+    for (var i = 0; i < n; i++)
+      {
+        labels[i] = new Label();
+      }
+    var order = IntStream.range(0, n)
+      .boxed()
+      .sorted(Comparator.comparingInt(i -> keys.get(i)))
+      .mapToInt(i -> i)
+      .toArray();
+    var sortedKeys = Arrays.stream(order).map(i -> keys.get(i)).toArray();
+    var targets = Arrays.stream(order).mapToObj(i -> labels[i]).toArray(Label[]::new);
+    var lFrom = new Label();
+    var lDflt = new Label();
+    var lEnd  = new Label();
+
+    Expr result = lFrom.andThen
+      (new Expr()
+        {
+          public String toString() { return "switch(" + keys + ")"; }
+          public JavaType type()
+          {
+            return PrimitiveType.type_void;
+          }
+          public void code(ClassFile.ByteCodeWriter ba, ClassFile cf)
+          {
+            codeSwitch(ba, lFrom, sortedKeys, targets, lDflt);
+          }
+
+          @Override
+          public void buildStackMapTable(StackMapTable smt, Stack<VerificationType> stack, List<VerificationType> locals)
+          {
+            // pop the key
+            stack.pop();
+
+            // add frames at all targets and save stack and locals there
+            for (var l : targets)
+              {
+                addFrame(smt, l, stack, locals);
+              }
+            addFrame(smt, lDflt, stack, locals);
+          }
+
+          /**
+           * Add a stack map frame at target l for the given stack and locals.
+           */
+          private void addFrame(StackMapTable smt, Label l, Stack<VerificationType> stack, List<VerificationType> locals)
+          {
+            smt.stackMapFrames.add(new StackMapFullFrame(smt, l._posFinal));
+            smt.stacks.put(l._posFinal, clone(stack));
+            smt.locals.add(new Pair<>(l._posFinal, locals.clone()));
+          }
+
+          @Override
+          public void buildLineNumberTable(ClassFile cf, List<Pair<Integer, Integer>> lnt, int[] idx)
+          {
+            idx[0] += switchSize(lFrom, sortedKeys);
+          }
+        });
+    for (var i = 0; i < n; i++)
+      {
+        result = result
+          .andThen(labels[i])
+          .andThen(cases.get(i))
+          .andThen(gotoLabel(lEnd));
+      }
+    return result
+      .andThen(lDflt)
+      .andThen(dflt)
+      .andThen(lEnd);
+  }
+
+
   /**
    * Is bc an {@code if} instruction?
    */
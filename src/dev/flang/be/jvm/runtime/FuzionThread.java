@@ -27,21 +27,105 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 package dev.flang.be.jvm.runtime;
 
 import dev.flang.util.Errors;
-import dev.flang.util.List;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 import java.lang.reflect.Method;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 /**
  * FuzionThread is a thread spawned for code running in the JVM backend.
  *
+ * This holds the per-thread state of the Fuzion runtime.  The Java thread
+ * running the code is either a platform thread of class Platform, or, if
+ * Runtime._virtualThreads_ is set, a virtual thread for threads spawned via
+ * fuzion.sys.thread.spawn0.
+ *
  * @author Fridtjof Siebert (siebert@tokiwa.software)
  */
-public class FuzionThread extends Thread
+public class FuzionThread
 {
 
 
+  /*-----------------------------  classes  -----------------------------*/
+
+
+  /**
+   * Platform thread running a FuzionThread.
+   */
+  private static class Platform extends Thread
+  {
+    /**
+     * The FuzionThread run by this thread.
+     */
+    final FuzionThread _fuzionThread;
+
+    Platform(FuzionThread ft, Runnable r)
+    {
+      super(r, "Fuzion thread");
+      _fuzionThread = ft;
+    }
+  }
+
+
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Initial length of _installedEffects and _effectStack.
+   */
+  private static final int INITIAL_EFFECTS_CAPACITY = 16;
+
+
+  /*-------------------------  static variables  ------------------------*/
+
+
+  /**
+   * The FuzionThread run by the current virtual thread.  Platform threads use
+   * Platform._fuzionThread instead since that is cheaper to access.
+   */
+  private static final ThreadLocal<FuzionThread> _virtualCurrent_ = new ThreadLocal<>();
+
+
+  /**
+   * The virtual threads that were started and did not terminate yet.  Virtual
+   * threads are daemon threads, so the main thread waits for these to mimic
+   * the behavior of platform threads.
+   */
+  private static final Set<Thread> _liveVirtualThreads_ = ConcurrentHashMap.newKeySet();
+
+
+  /**
+   * Cached MethodHandle of the Runtime.ROUTINE_NAME method for each class
+   * passed to thread_spawn.
+   */
+  private static final ClassValue<MethodHandle> _routines_ = new ClassValue<>()
+    {
+      protected MethodHandle computeValue(Class<?> call)
+      {
+        MethodHandle result = null;
+        for (var m : call.getDeclaredMethods())
+          {
+            if (m.getName().equals(Runtime.ROUTINE_NAME))
+              {
+                result = routine(m);
+              }
+          }
+        if (result == null)
+          {
+            Errors.fatal("in " + Runtime.class.getName() + ".thread_spawn: missing `" + Runtime.ROUTINE_NAME + "` in class `" + call + "`");
+          }
+        return result;
+      }
+    };
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
@@ -50,7 +134,7 @@ public class FuzionThread extends Thread
    *
    * This is a map from effect JVM.effectId() to effect instance values.
    */
-  List<AnyI> _installedEffects = new List<>();
+  private AnyI[] _installedEffects = new AnyI[INITIAL_EFFECTS_CAPACITY];
 
 
   /**
@@ -64,7 +148,13 @@ public class FuzionThread extends Thread
    * effect_push/effect_pop is guaranteed to be perfectly nested even for
    * different effect types.
    */
-  List<AnyI> _effectStack = new List<>();
+  private AnyI[] _effectStack = new AnyI[INITIAL_EFFECTS_CAPACITY];
+
+
+  /**
+   * Number of entries used in _effectStack.
+   */
+  private int _effectStackSize = 0;
 
 
   /**
@@ -80,35 +170,29 @@ public class FuzionThread extends Thread
   final ClassLoader _loader;
 
 
+  /**
+   * The Java thread running this FuzionThread.
+   */
+  private final Thread _thread;
+
+
   /*--------------------------  constructors  ---------------------------*/
 
 
   /**
    * Create and start a new thread for the given code.
    *
-   * @param r the static Java method that is the main fuzion function for this
-   * thread.
+   * @param call the class containing the static Java method that is the main
+   * fuzion function for this thread.
    *
-   * @param code the argument to pass to r, i.e. the outer instance
+   * @param code the argument to pass to call's routine, i.e. the outer
+   * instance
    */
-  FuzionThread(Method r, Any code)
+  FuzionThread(Class<?> call, Any code)
   {
-    this((Runnable) () ->
-         {
-           try
-             {
-               r.invoke(null, code);
-             }
-           catch (IllegalAccessException e)
-             {
-               Errors.fatal("thread_spawn call caused `" + e + "` when calling `" + r + "`");
-             }
-           catch (InvocationTargetException e)
-             {
-               Runtime.handleInvocationTargetException(e);
-             }
-         },
-         r.getDeclaringClass().getClassLoader());
+    this(runnable(_routines_.get(call), code),
+         call.getClassLoader(),
+         Runtime._virtualThreads_);
   }
 
 
@@ -117,7 +201,13 @@ public class FuzionThread extends Thread
    */
   FuzionThread(Main main)
   {
-    this((Runnable) ()->main.fz_run(), main.getClass().getClassLoader());
+    this((Runnable) ()->
+         {
+           main.fz_run();
+           awaitVirtualThreads();
+         },
+         main.getClass().getClassLoader(),
+         false);
   }
 
 
@@ -126,18 +216,157 @@ public class FuzionThread extends Thread
    *
    * @oaran loader class loader used to load resources related to compiled
    * fuzion code.
+   *
+   * @param virtual true to run on a virtual thread, false for a platform
+   * thread.
    */
-  private FuzionThread(Runnable r, ClassLoader l)
+  private FuzionThread(Runnable r, ClassLoader l, boolean virtual)
   {
-    super(()->Errors.runAndExit(r), "Fuzion thread");
     _loader = l;
-    start();
+    if (virtual)
+      {
+        _thread = Thread
+          .ofVirtual()
+          .name("Fuzion thread")
+          .unstarted(()->
+                     {
+                       _virtualCurrent_.set(this);
+                       try
+                         {
+                           Errors.runAndExit(r);
+                         }
+                       finally
+                         {
+                           _liveVirtualThreads_.remove(Thread.currentThread());
+                         }
+                     });
+        _liveVirtualThreads_.add(_thread);
+      }
+    else
+      {
+        _thread = new Platform(this, ()->Errors.runAndExit(r));
+      }
+    _thread.start();
+  }
+
+
+  /*--------------------------  static methods  -------------------------*/
+
+
+  /**
+   * Create a MethodHandle for the given static routine that accepts an
+   * instance of Any and ignores any result.
+   *
+   * @param m a static method with one argument, the outer instance.
+   */
+  private static MethodHandle routine(Method m)
+  {
+    MethodHandle result = null;
+    try
+      {
+        result = MethodHandles
+          .lookup()
+          .unreflect(m)
+          .asType(MethodType.methodType(void.class, Any.class));
+      }
+    catch (IllegalAccessException e)
+      {
+        Errors.fatal("thread_spawn call caused `" + e + "` when accessing `" + m + "`");
+      }
+    return result;
+  }
+
+
+  /**
+   * Create a Runnable that runs routine r with argument code.
+   */
+  private static Runnable runnable(MethodHandle r, Any code)
+  {
+    return () ->
+      {
+        try
+          {
+            r.invokeExact(code);
+          }
+        catch (StackOverflowError so)
+          {
+            Errors.fatal("Stack overflow", Runtime.stackTrace(so));
+          }
+        catch (RuntimeException | Error e)
+          {
+            throw e;
+          }
+        catch (Throwable e)
+          {
+            Errors.fatal("Error while running JVM compiled code: " + e);
+          }
+      };
+  }
+
+
+  /**
+   * Get the FuzionThread of the current Java thread.
+   *
+   * @return the FuzionThread or null if the current thread is not attached to
+   * the Fuzion runtime.
+   */
+  static FuzionThread current()
+  {
+    return Thread.currentThread() instanceof Platform p
+      ? p._fuzionThread
+      : _virtualCurrent_.get();
+  }
+
+
+  /**
+   * Wait until all virtual threads started so far and those started by them
+   * have terminated.
+   */
+  private static void awaitVirtualThreads()
+  {
+    while (!_liveVirtualThreads_.isEmpty())
+      {
+        for (var t : _liveVirtualThreads_)
+          {
+            join(t);
+          }
+      }
+  }
+
+
+  /**
+   * Wait for thread t to terminate, ignoring interrupts.
+   */
+  private static void join(Thread t)
+  {
+    var done = false;
+    do
+      {
+        try
+          {
+            t.join();
+            done = true;
+          }
+        catch (InterruptedException e)
+          {
+          }
+      }
+    while (!done);
   }
 
 
   /*-----------------------------  methods  -----------------------------*/
 
 
+  /**
+   * Wait for this thread to terminate.
+   */
+  void join()
+  {
+    join(_thread);
+  }
+
+
   /**
    * Make sure _installedEffects is large enough to hold effect with given id.
    *
@@ -145,9 +374,9 @@ public class FuzionThread extends Thread
    */
   private void ensure_effect_capacity(int id)
   {
-    while (_installedEffects.size() < id+1)
+    if (_installedEffects.length < id+1)
       {
-        _installedEffects.add(null);
+        _installedEffects = Arrays.copyOf(_installedEffects, Math.max(id+1, 2*_installedEffects.length));
       }
   }
 
@@ -160,7 +389,7 @@ public class FuzionThread extends Thread
   public AnyI effect_load(int id)
   {
     ensure_effect_capacity(id);
-    return _installedEffects.get(id);
+    return _installedEffects[id];
   }
 
 
@@ -172,7 +401,33 @@ public class FuzionThread extends Thread
   void effect_store(int id, AnyI instance)
   {
     ensure_effect_capacity(id);
-    _installedEffects.set(id, instance);
+    _installedEffects[id] = instance;
+  }
+
+
+  /**
+   * Push an effect instance onto _effectStack.
+   *
+   * @param instance the instance, may be null.
+   */
+  void effect_stack_push(AnyI instance)
+  {
+    if (_effectStackSize == _effectStack.length)
+      {
+        _effectStack = Arrays.copyOf(_effectStack, 2*_effectStack.length);
+      }
+    _effectStack[_effectStackSize++] = instance;
+  }
+
+
+  /**
+   * Pop the last instance pushed by effect_stack_push.
+   */
+  AnyI effect_stack_pop()
+  {
+    var result = _effectStack[--_effectStackSize];
+    _effectStack[_effectStackSize] = null;
+    return result;
   }
 
 
@@ -213,20 +213,7 @@ public class Intrinsics extends ANY
 
   public static int fuzion_sys_thread_join0(Object thread)
   {
-    var result = false;
-    do
-      {
-        try
-          {
-            ((Thread)thread).join();
-            result = true;
-          }
-        catch (InterruptedException e)
-          {
-
-          }
-      }
-    while (!result);
+    ((FuzionThread)thread).join();
     return 0;
   }
 
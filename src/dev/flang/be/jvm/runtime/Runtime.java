@@ -52,17 +52,21 @@ import java.lang.foreign.ValueLayout.OfShort;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -84,29 +88,88 @@ import dev.flang.util.Terminal;
 public class Runtime extends ANY
 {
 
-  /* NYI: UNDER DEVELOPMENT: memory leak */
+  /**
+   * Arena for memory that must live as long as the program, e.g., upcall stubs
+   * and loaded libraries.
+   */
   private static final Arena arena = Arena.global();
 
+
+  /**
+   * Per thread stack of confined arenas for memory allocated for the arguments
+   * and results of the currently running native calls, see native_call_begin
+   * and native_call_end.
+   */
+  private static final ThreadLocal<ArrayList<Arena>> _nativeCallArenas_ = ThreadLocal.withInitial(() -> new ArrayList<>());
+
+
+  /**
+   * Allocator used for the results of native calls that return structs.  This
+   * allocates from the arena of the current native call.
+   */
+  private static final SegmentAllocator _nativeCallAllocator_ = (byteSize, byteAlignment) -> nativeCallArena().allocate(byteSize, byteAlignment);
+
   /*-----------------------------  classes  -----------------------------*/
 
 
   /**
    * Exception that is thrown by effect.abort
+   *
+   * Aborts are used for control flow, so this does not record a stack trace
+   * and there is only one preallocated instance per effect id, see get.
    */
   public static class Abort extends Error
   {
 
+    /**
+     * The preallocated instances, indexed by effect id, null if not created
+     * yet.
+     */
+    private static volatile Abort[] _instances_ = new Abort[0];
+
+
     public final int _effect;
 
     /**
      * @param effect the id of the effect that is aborted.
      */
-    Abort(int effect)
+    private Abort(int effect)
     {
-      super();
+      super(null, null, false, false);
       this._effect = effect;
     }
 
+
+    /**
+     * Get the instance for the given effect id.
+     *
+     * @param effect the id of the effect that is aborted.
+     */
+    static Abort get(int effect)
+    {
+      var a = _instances_;
+      var result = effect < a.length ? a[effect] : null;
+      if (result == null)
+        {
+          synchronized (Abort.class)
+            {
+              a = _instances_;
+              if (effect >= a.length)
+                {
+                  a = Arrays.copyOf(a, effect + 1);
+                }
+              result = a[effect];
+              if (result == null)
+                {
+                  result = new Abort(effect);
+                  a[effect] = result;
+                }
+              _instances_ = a;
+            }
+        }
+      return result;
+    }
+
   }
 
   /**
@@ -187,6 +250,15 @@ public class Runtime extends ANY
   public static String[] _args_ = new String[] { "argument list not initialized", "this may indicate a severe bug" };
 
 
+  /**
+   * Should threads spawned via fuzion.sys.thread.spawn0 run on virtual
+   * threads instead of platform threads?  This is set by the main() method
+   * created for the compiled application if option -XjvmThreads=virtual was
+   * given.
+   */
+  public static boolean _virtualThreads_ = false;
+
+
   /*-------------------------  static methods  --------------------------*/
 
 
@@ -239,15 +311,10 @@ public class Runtime extends ANY
    */
   public static FuzionThread currentThread()
   {
-    FuzionThread result = null;
-    var ct = Thread.currentThread();
-    if (ct instanceof FuzionThread ft)
-      {
-        result = ft;
-      }
-    else
+    var result = FuzionThread.current();
+    if (result == null)
       {
-        Errors.fatal("Fuzion Runtime used from detached thread " + ct, stackTrace());
+        Errors.fatal("Fuzion Runtime used from detached thread " + Thread.currentThread(), stackTrace());
       }
     return result;
   }
@@ -548,7 +615,7 @@ public class Runtime extends ANY
    */
   public static void effect_abort(int id)
   {
-    throw new Abort(id);
+    throw Abort.get(id);
   }
 
 
@@ -573,7 +640,7 @@ public class Runtime extends ANY
 
     var old = t.effect_load(id);
     t.effect_store(id, instance);
-    t._effectStack.add(old);
+    t.effect_stack_push(old);
   }
 
 
@@ -594,7 +661,7 @@ public class Runtime extends ANY
     var t = currentThread();
 
     var res = t.effect_load(id);
-    var instance = t._effectStack.removeLast();
+    var instance = t.effect_stack_pop();
     t.effect_store(id, instance);
     return res;
   }
@@ -605,7 +672,7 @@ public class Runtime extends ANY
    */
   public static String getException()
   {
-    var result = ((FuzionThread)Thread.currentThread())._thrownException.getMessage();
+    var result = currentThread()._thrownException.getMessage();
     if (result == null)
       {
         result = "";
@@ -640,7 +707,8 @@ public class Runtime extends ANY
   public static synchronized Map<String,String> classNameToFeatureName()
   {
     Map<String,String> result = null;
-    var l = Thread.currentThread() instanceof FuzionThread ft ? ft._loader : null;
+    var ft = FuzionThread.current();
+    var l = ft != null ? ft._loader : null;
     if (l != null)
       {
         result = _classNameToFeatureName.get(l);
@@ -1012,26 +1080,118 @@ public class Runtime extends ANY
     if (PRECONDITIONS) require
       (clName != null);
 
-    Method m = null;
-    var pcl = getParsAndClass("virtual", clName, name, sig);
-    var p = pcl.v0();
-    var cl = pcl.v1();
+    var mh = _javaCalls_.get(javaCallKey("virtual", clName, name, sig));
+    if (mh == null)
+      {
+        Method m = null;
+        var pcl = getParsAndClass("virtual", clName, name, sig);
+        var p = pcl.v0();
+        var cl = pcl.v1();
+        try
+          {
+            m = cl.getMethod(name, p);
+          }
+        catch (NoSuchMethodException e)
+          {
+            Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_virtual calling " +
+                               (cl.getName() + "." + name) + sig);
+          }
+        mh = javaCallHandle("virtual", clName, name, sig, m, null);
+      }
+    var h = mh;
+    return invokeAndWrapException(()->(Object) h.invokeExact(thiz, args));
+  }
+
+
+  /**
+   * Cache for fuzion_java_call_v0, fuzion_java_call_s0, and
+   * fuzion_java_call_c0: Maps the key created by javaCallKey to a method handle
+   * of type {@code (Object, Object[])Object} that receives the target instance
+   * and the arguments.  For static calls and constructors, the target instance
+   * is ignored.
+   */
+  private static final ConcurrentHashMap<String, MethodHandle> _javaCalls_ = new ConcurrentHashMap<>();
+
+
+  /**
+   * Create the key for _javaCalls_.
+   *
+   * @param what one of virtual, static, or constructor
+   *
+   * @param clName name of the class
+   *
+   * @param name name of the method, null for a constructor
+   *
+   * @param sig signature of the method or constructor
+   */
+  private static String javaCallKey(String what, String clName, String name, String sig)
+  {
+    return what + "\0" + clName + "\0" + name + "\0" + sig;
+  }
+
+
+  /**
+   * Create a method handle for a method or constructor found for a call to
+   * fuzion_java_call_v0, fuzion_java_call_s0, or fuzion_java_call_c0 and add it
+   * to _javaCalls_.
+   *
+   * The handle spreads an Object[] of arguments and converts arguments and
+   * result the same way Method.invoke does.  If the method is not accessible
+   * via a method handle, e.g., since its declaring class is not public, the
+   * handle falls back to calling Method.invoke or Constructor.newInstance.
+   *
+   * @param what one of virtual, static, or constructor
+   *
+   * @param clName name of the class
+   *
+   * @param name name of the method, null for a constructor
+   *
+   * @param sig signature of the method or constructor
+   *
+   * @param m the method to call or null for a constructor
+   *
+   * @param co the constructor to call or null for a method
+   *
+   * @return a method handle of type {@code (Object, Object[])Object}.
+   */
+  private static MethodHandle javaCallHandle(String what, String clName, String name, String sig, Method m, Constructor<?> co)
+  {
+    var type = MethodType.methodType(Object.class, Object.class, Object[].class);
+    MethodHandle result;
     try
       {
-        m = cl.getMethod(name, p);
+        var lookup = MethodHandles.publicLookup();
+        var mh = (m != null ? lookup.unreflect(m) : lookup.unreflectConstructor(co)).asFixedArity();
+        var n = m != null ? m.getParameterCount() : co.getParameterCount();
+        mh = mh.asSpreader(Object[].class, n);
+        if (m == null || Modifier.isStatic(m.getModifiers()))
+          {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+          }
+        result = mh.asType(type);
       }
-    catch (NoSuchMethodException e)
+    catch (IllegalAccessException e)
       {
-        Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_virtual calling " +
-                           (cl.getName() + "." + name) + sig);
+        try
+          {
+            var mh = m != null
+              ? MethodHandles.lookup().findVirtual(Method.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class)).bindTo(m)
+              : MethodHandles.dropArguments(MethodHandles.lookup().findVirtual(Constructor.class, "newInstance", MethodType.methodType(Object.class, Object[].class)).bindTo(co), 0, Object.class);
+            result = mh.asType(type);
+          }
+        catch (NoSuchMethodException | IllegalAccessException e2)
+          {
+            throw new Error(e2);
+          }
       }
-    return invoke(m, thiz, args);
+    _javaCalls_.put(javaCallKey(what, clName, name, sig), result);
+    return result;
   }
 
 
   static interface ReflectionInvoker
   {
-    Object invoke() throws InvocationTargetException, IllegalAccessException, InstantiationException;
+    Object invoke() throws Throwable;
   }
 
 
@@ -1050,35 +1210,18 @@ public class Runtime extends ANY
       }
     catch (InvocationTargetException e)
       {
-        ((FuzionThread)Thread.currentThread())._thrownException = e.getCause();
+        currentThread()._thrownException = e.getCause();
         res = _JAVA_ERROR_;
       }
     catch (Throwable e)
       {
-        ((FuzionThread)Thread.currentThread())._thrownException = e;
+        currentThread()._thrownException = e;
         res = _JAVA_ERROR_;
       }
     return res;
   }
 
 
-  /**
-   * Invoke a method using {@link #invokeAndWrapException(ReflectionInvoker)}.
-   *
-   * @param m the {@link Method} to be invoked
-   *
-   * @param thiz the {@link Object instance} on which the {@link Method} shall be invoked
-   *
-   * @param args arguments to invoke this {@link Method} with
-   *
-   * @return the result of the invocation
-   */
-  private static Object invoke(Method m, Object thiz, Object[] args)
-  {
-    return invokeAndWrapException(()->m.invoke(thiz, args));
-  }
-
-
   /**
    * Helper method called by the fuzion.jvm.env.call_s0 intrinsic.
    *
@@ -1100,20 +1243,26 @@ public class Runtime extends ANY
     if (PRECONDITIONS) require
       (clName != null);
 
-    Method m = null;
-    var pcl = getParsAndClass("static", clName, name, sig);
-    var p = pcl.v0();
-    var cl = pcl.v1();
-    try
-      {
-        m = cl.getMethod(name,p);
-      }
-    catch (NoSuchMethodException e)
+    var mh = _javaCalls_.get(javaCallKey("static", clName, name, sig));
+    if (mh == null)
       {
-        Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_static calling " +
-                           (cl.getName() + "." + name) + sig);
+        Method m = null;
+        var pcl = getParsAndClass("static", clName, name, sig);
+        var p = pcl.v0();
+        var cl = pcl.v1();
+        try
+          {
+            m = cl.getMethod(name,p);
+          }
+        catch (NoSuchMethodException e)
+          {
+            Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_static calling " +
+                               (cl.getName() + "." + name) + sig);
+          }
+        mh = javaCallHandle("static", clName, name, sig, m, null);
       }
-    return invoke(m, null, args);
+    var h = mh;
+    return invokeAndWrapException(()->(Object) h.invokeExact((Object) null, args));
   }
 
 
@@ -1135,21 +1284,27 @@ public class Runtime extends ANY
     if (PRECONDITIONS) require
       (clName != null);
 
-    var pcl = getParsAndClass("constructor", clName, null, sig);
-    var p = pcl.v0();
-    var cl = pcl.v1();
-    try
-      {
-        @SuppressWarnings("unchecked")
-        var co = cl.getConstructor(p);
-        return invokeAndWrapException(()->co.newInstance(args));
-      }
-    catch (NoSuchMethodException e)
+    var mh = _javaCalls_.get(javaCallKey("constructor", clName, null, sig));
+    if (mh == null)
       {
-        Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_constructor calling " +
-                           ("new " + clName) + sig);
-        return null; // not reached
+        var pcl = getParsAndClass("constructor", clName, null, sig);
+        var p = pcl.v0();
+        var cl = pcl.v1();
+        try
+          {
+            @SuppressWarnings("unchecked")
+            var co = cl.getConstructor(p);
+            mh = javaCallHandle("constructor", clName, null, sig, null, co);
+          }
+        catch (NoSuchMethodException e)
+          {
+            Errors.fatal("NoSuchMethodException when calling fuzion.jvm.env.call_constructor calling " +
+                               ("new " + clName) + sig);
+            return null; // not reached
+          }
       }
+    var h = mh;
+    return invokeAndWrapException(()->(Object) h.invokeExact((Object) null, args));
   }
 
 
@@ -1160,24 +1315,7 @@ public class Runtime extends ANY
    */
   public static Object thread_spawn(Any code, Class call)
   {
-    Object result = null;
-    Method r = null;
-    for (var m : call.getDeclaredMethods())
-      {
-        if (m.getName().equals(ROUTINE_NAME))
-          {
-            r = m;
-          }
-      }
-    if (r == null)
-      {
-        Errors.fatal("in " + Runtime.class.getName() + ".thread_spawn: missing `" + ROUTINE_NAME + "` in class `" + call + "`");
-      }
-    else
-      {
-        result = new FuzionThread(r, code);
-      }
-    return result;
+    return new FuzionThread(call, code);
   }
 
 
@@ -1355,6 +1493,20 @@ public class Runtime extends ANY
   private static final SymbolLookup libs = libs();
 
 
+  /**
+   * Lookups for the libraries given via -JLibraries, each library is loaded
+   * only once.
+   */
+  private static final ConcurrentHashMap<String, SymbolLookup> _libraryLookups_ = new ConcurrentHashMap<>();
+
+
+  /**
+   * Downcall handles created by get_method_handle indexed by symbol, function
+   * descriptor and libraries.
+   */
+  private static final ConcurrentHashMap<String, MethodHandle> _downcallHandles_ = new ConcurrentHashMap<>();
+
+
   /**
    * @return SymbolLookup for fuzion_rt and libmath
    */
@@ -1395,27 +1547,55 @@ public class Runtime extends ANY
    *
    * @param desc the FunctionDescriptor of the function
    *
-   * NYI: PERFORMANCE: remove param libraries. do init of library lookup once at program start.
+   * @param libraries the libraries given via -JLibraries
    *
-   * @return
+   * @return the downcall handle, created only once for equal arguments.
    */
-  @SuppressWarnings("restricted")
   public static MethodHandle get_method_handle(String str, FunctionDescriptor desc, String[] libraries)
   {
-    SymbolLookup llu = libs;
-    for (String library : libraries)
+    return _downcallHandles_.computeIfAbsent(str + " " + desc + " " + String.join(" ", libraries),
+                                             k -> downcallHandle(str, desc, libraries));
+  }
+
+
+  /**
+   * Get the lookup for the given library, load the library if this was not
+   * done before.
+   *
+   * @param library the library name, e.g. "sqlite3"
+   */
+  @SuppressWarnings("restricted")
+  private static SymbolLookup libraryLookup(String library)
+  {
+    return _libraryLookups_.computeIfAbsent(library, l ->
       {
-        var ln = System.mapLibraryName(library);
+        var ln = System.mapLibraryName(l);
         try
           {
-            llu = llu.or(SymbolLookup.libraryLookup(ln, arena));
+            return SymbolLookup.libraryLookup(ln, arena);
           }
         catch (IllegalArgumentException e)
           {
             Errors.error("'" + ln + "' not found on your system. "
                         + "Make sure to install the corresponding package, that provides '" + ln + "'.");
             System.exit(1);
+            return null; // not reached
           }
+      });
+  }
+
+
+  /**
+   * Create the method handle of a native function, helper for
+   * get_method_handle.
+   */
+  @SuppressWarnings("restricted")
+  private static MethodHandle downcallHandle(String str, FunctionDescriptor desc, String[] libraries)
+  {
+    SymbolLookup llu = libs;
+    for (String library : libraries)
+      {
+        llu = llu.or(libraryLookup(library));
       }
 
     var memSeg = llu
@@ -1436,11 +1616,44 @@ public class Runtime extends ANY
     // if first argument is a segment allocator
     // the native method returns a value type (struct)
     return params.size() > 0 && params.getFirst() == SegmentAllocator.class
-      ? result.bindTo(arena)
+      ? result.bindTo(_nativeCallAllocator_)
       : result;
   }
 
 
+  /**
+   * Called before the arguments of a native call are converted to memory
+   * segments: open a confined arena that the memory for the arguments and the
+   * result of this call is allocated from.
+   */
+  public static void native_call_begin()
+  {
+    _nativeCallArenas_.get().add(Arena.ofConfined());
+  }
+
+
+  /**
+   * Called after a native call returned and its results have been copied, or
+   * after the native call threw: release the memory allocated since the
+   * matching call to native_call_begin.
+   */
+  public static void native_call_end()
+  {
+    _nativeCallArenas_.get().removeLast().close();
+  }
+
+
+  /**
+   * The arena to allocate memory for the current native call from.  The global
+   * arena if no native call is in progress.
+   */
+  private static Arena nativeCallArena()
+  {
+    var a = _nativeCallArenas_.get();
+    return a.isEmpty() ? arena : a.getLast();
+  }
+
+
   /**
    * copy the contents of memSeg to obj
    */
@@ -1481,6 +1694,7 @@ public class Runtime extends ANY
    */
   public static MemorySegment obj2MemorySegment(Object obj)
   {
+    var arena = nativeCallArena();
     return
       switch (obj) {
         case int    [] arr -> arena.allocate(arr.length * 4).copyFrom(MemorySegment.ofArray(arr));
@@ -1517,7 +1731,7 @@ public class Runtime extends ANY
   {
     var cl = obj.getClass();
     var df = cl.getDeclaredFields();
-    var result = arena.allocate(byteSize(df));
+    var result = nativeCallArena().allocate(byteSize(df));
     long offset = 0;
     for (int i = 0; i < df.length; i++)
       {
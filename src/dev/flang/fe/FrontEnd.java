@@ -35,12 +35,14 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,9 +75,19 @@ public class FrontEnd extends ANY
    */
   static final int GLOBAL_INDEX_OFFSET = 0x40000000;
 
+
   /*-----------------------------  classes  -----------------------------*/
 
 
+  /**
+   * Data of a mapped module file together with the file attributes at the
+   * time it was mapped.
+   */
+  private record MappedModule(FileTime modified, long size, ByteBuffer data)
+  {
+  }
+
+
   /**
    * Class for the Universe Feature.
    */
@@ -95,6 +107,18 @@ public class FrontEnd extends ANY
     }
   }
 
+
+  /*-----------------------------  statics  -----------------------------*/
+
+
+  /**
+   * Module files mapped so far.  A VM that compiles repeatedly, e.g., for fz
+   * -daemon, maps every module file only once and keeps its pages resident.
+   * An entry is replaced if the file's size or modification time changed.
+   */
+  private static final Map<Path, MappedModule> _mappedModules_ = new ConcurrentHashMap<>();
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
@@ -269,9 +293,9 @@ public class FrontEnd extends ANY
   private LibraryModule module(String m, Path p, AbstractFeature universe)
   {
     LibraryModule result = null;
-    try (var ch = (FileChannel) Files.newByteChannel(p, EnumSet.of(StandardOpenOption.READ)))
+    try
       {
-        var data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        var data = mapModule(p);
         result = libModule(data, universe);
         // NYI: BUG: does not work anymore
         // if (!m.equals(result.name()))
@@ -295,6 +319,32 @@ public class FrontEnd extends ANY
   }
 
 
+  /**
+   * Get the data of the module file at p, map it if it was not mapped before or
+   * if the file changed since.
+   *
+   * @param p the path of a module file
+   *
+   * @return the data, positioned at 0.
+   */
+  private static ByteBuffer mapModule(Path p) throws IOException
+  {
+    var key = p.toAbsolutePath().normalize();
+    var modified = Files.getLastModifiedTime(key);
+    var size = Files.size(key);
+    var m = _mappedModules_.get(key);
+    if (m == null || !m.modified().equals(modified) || m.size() != size)
+      {
+        try (var ch = (FileChannel) Files.newByteChannel(key, EnumSet.of(StandardOpenOption.READ)))
+          {
+            m = new MappedModule(modified, size, ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+          }
+        _mappedModules_.put(key, m);
+      }
+    return m.data().duplicate();
+  }
+
+
   /**
    * create a new LibraryModule from {@code data}
    */
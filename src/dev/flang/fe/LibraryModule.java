@@ -33,6 +33,8 @@ import java.nio.ByteBuffer;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -158,6 +160,21 @@ public class LibraryModule extends Module implements MirModule
   private final Map<Integer, List<AbstractFeature>> _innerFeatures = new TreeMap<>();
 
 
+  /**
+   * Index of the DeclFeatures sections of this module: Map from outer feature
+   * to the position of its InnerFeatures, created on demand.
+   */
+  private Map<AbstractFeature, Integer> _declFeaturesIndex;
+
+
+  /**
+   * Caches for the results of declaredFeaturesShallow(outer) and
+   * declaredFeatures(outer), indexed by outer.
+   */
+  private final Map<AbstractFeature, SortedMap<FeatureName, AbstractFeature>> _declaredFeaturesShallow = new HashMap<>();
+  private final Map<AbstractFeature, SortedMap<FeatureName, AbstractFeature>> _declaredFeatures = new HashMap<>();
+
+
   /**
    * Source code files, created on demand
    */
@@ -335,10 +352,16 @@ public class LibraryModule extends Module implements MirModule
    */
   public SortedMap<FeatureName, AbstractFeature> declaredFeatures(AbstractFeature outer)
   {
-    var result = declaredFeaturesShallow(outer);
-    for (Module d : _dependsOn)
+    var result = _declaredFeatures.get(outer);
+    if (result == null)
       {
-        result.putAll(d.declaredFeatures(outer));  // NYI: handle equally named features from different modules
+        var m = new TreeMap<>(declaredFeaturesShallow(outer));
+        for (Module d : _dependsOn)
+          {
+            m.putAll(d.declaredFeatures(outer));  // NYI: handle equally named features from different modules
+          }
+        result = Collections.unmodifiableSortedMap(m);
+        _declaredFeatures.put(outer, result);
       }
     return result;
   }
@@ -352,17 +375,23 @@ public class LibraryModule extends Module implements MirModule
    */
   public SortedMap<FeatureName, AbstractFeature> declaredFeaturesShallow(AbstractFeature outer)
   {
-    var result = new TreeMap<FeatureName, AbstractFeature>();
-    if (outer instanceof LibraryFeature lf)
+    var result = _declaredFeaturesShallow.get(outer);
+    if (result == null)
       {
-        for (var d : lf.declaredFeatures())
+        var m = new TreeMap<FeatureName, AbstractFeature>();
+        if (outer instanceof LibraryFeature lf)
           {
-            result.put(d.featureName(), d);  // NYI: handle equally named features from different modules
+            for (var d : lf.declaredFeatures())
+              {
+                m.put(d.featureName(), d);  // NYI: handle equally named features from different modules
+              }
           }
-      }
-    for (var d : features(outer))
-      {
-        result.put(d.featureName(), d);  // NYI: handle equally named features from different modules
+        for (var d : features(outer))
+          {
+            m.put(d.featureName(), d);  // NYI: handle equally named features from different modules
+          }
+        result = Collections.unmodifiableSortedMap(m);
+        _declaredFeaturesShallow.put(outer, result);
       }
     return result;
   }
@@ -436,17 +465,19 @@ public class LibraryModule extends Module implements MirModule
       }
     else
       {
-        var n = moduleNumDeclFeatures();
-        var at = moduleDeclFeaturesPos();
-        for (int i = 0; i < n; i++)
+        if (_declFeaturesIndex == null)
           {
-            if (feature(declFeaturesOuter(at)) == outer)
+            _declFeaturesIndex = new HashMap<>();
+            var n = moduleNumDeclFeatures();
+            var at = moduleDeclFeaturesPos();
+            for (int i = 0; i < n; i++)
               {
-                return innerFeatures(declFeaturesInnerPos(at));
+                _declFeaturesIndex.putIfAbsent(feature(declFeaturesOuter(at)), declFeaturesInnerPos(at));
+                at = declFeaturesNextPos(at);
               }
-            at = declFeaturesNextPos(at);
           }
-        return new List<>();
+        var pos = _declFeaturesIndex.get(outer);
+        return pos == null ? new List<>() : innerFeatures(pos);
       }
   }
 
@@ -416,26 +416,28 @@ part of the (((inner features))) declarations of the corresponding
 
                     var used = new TreeMap<String, String>();
 
-                    Files.list(d._dir)
-                      .filter(p -> isValidSourceFile(p))
-                      .sorted(Comparator.comparing(p -> p.toString()))
-                      .forEach(p ->
-                               {
-                                 if (used.containsKey(p.toString().toLowerCase()))
+                    try (var l = Files.list(d._dir))
+                      {
+                        l.filter(p -> isValidSourceFile(p))
+                         .sorted(Comparator.comparing(p -> p.toString()))
+                         .forEach(p ->
                                   {
-                                    AstErrors.duplicateFile(p.toString(), used.get(p.toString().toLowerCase()));
-                                  }
-
-                                 used.put(p.toString().toLowerCase(), p.toString());
-                                 for (var inner : parseAndGetFeatures(p))
-                                   {
-                                     findDeclarations(inner, f);
-                                     if (inner.state().atLeast(State.LOADED))
-                                       {
-                                         inner.scheduleForResolution(_res);
-                                       }
-                                   }
-                               });
+                                    if (used.containsKey(p.toString().toLowerCase()))
+                                     {
+                                       AstErrors.duplicateFile(p.toString(), used.get(p.toString().toLowerCase()));
+                                     }
+
+                                    used.put(p.toString().toLowerCase(), p.toString());
+                                    for (var inner : parseAndGetFeatures(p))
+                                      {
+                                        findDeclarations(inner, f);
+                                        if (inner.state().atLeast(State.LOADED))
+                                          {
+                                            inner.scheduleForResolution(_res);
+                                          }
+                                      }
+                                  });
+                      }
                   }
               }
             catch (IOException | UncheckedIOException e)
@@ -55,6 +55,15 @@ public class FuirErrors extends AstErrors
   public static int count() { return count; }
 
 
+  /**
+   * Reset static fields
+   */
+  public static void reset()
+  {
+    count = 0;
+  }
+
+
   /*-----------------------------  methods  -----------------------------*/
 
 
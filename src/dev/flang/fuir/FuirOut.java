@@ -0,0 +1,436 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class FuirOut
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.fuir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import dev.flang.util.ANY;
+import dev.flang.util.Errors;
+import dev.flang.util.FuzionConstants;
+import dev.flang.util.List;
+
+
+/**
+ * FuirOut collects the data of a .fuir file.
+ *
+ * The data is organized in columns: For every property of a clazz or a site,
+ * there is one column of ints containing the value of this property for all
+ * clazzes or sites, respectively.  Properties that do not fit into an int such
+ * as strings, arrays or longs are stored in a pool, the column then contains
+ * the offset of the data within the pool or -1 for null.  Strings are interned
+ * and the column contains an index into the string table.
+ *
+ * This permits LibraryFuir to read any property of any clazz or site directly
+ * from a memory mapped file without decoding the remaining data.
+ *
+ * <pre>
+ *   +---------------------------------------------------------------------------------+
+ *   | FUIR File                                                                       |
+ *   +--------+--------+---------------+-----------------------------------------------+
+ *   | cond.  | repeat | type          | what                                          |
+ *   +--------+--------+---------------+-----------------------------------------------+
+ *   | true   | 1      | int           | FUIR_FILE_MAGIC0                              |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | FUIR_FILE_VERSION                             |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | main clazz                                    |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of clazzes n                           |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of sites m                             |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of special clazzes k                   |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | k      | int           | special clazzes                               |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of clazz columns cc                    |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of site columns sc                     |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | cc * n | int           | clazz columns, see ClazzColumn                |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | sc * m | int           | site columns, see SiteColumn                  |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | number of strings s                           |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | s      | int           | pool offsets of the strings                   |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | 1      | int           | size of the pool p                            |
+ *   +        +--------+---------------+-----------------------------------------------+
+ *   |        | p      | byte          | pool                                          |
+ *   +--------+--------+---------------+-----------------------------------------------+
+ * </pre>
+ *
+ * Entries in the pool are an int length followed by the elements, i.e., ints
+ * for int[], bytes for byte[] and UTF-8 encoded Strings, or offsets of int[]
+ * entries for int[][].  A long is stored as 8 bytes without length.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+class FuirOut extends ANY
+{
+
+
+  /*-----------------------------  classes  -----------------------------*/
+
+
+  /**
+   * The columns of clazz data.  Comments give the encoding if this is not just
+   * the int value.
+   */
+  enum ClazzColumn
+  {
+    BASE_NAME,              // String
+    OUTER_CLAZZ,
+    IS_BOXED,               // boolean
+    ARGS,                   // int[]
+    KIND,                   // FeatureKind ordinal
+    OUTER_REF,
+    RESULT_CLAZZ,
+    IS_REF,                 // boolean
+    IS_UNIT_TYPE,           // boolean
+    AS_VALUE,
+    CHOICES,                // int[]
+    INSTANTIATED_HEIRS,     // int[]
+    NEEDS_CODE,             // boolean
+    FIELDS,                 // int[]
+    CODE,
+    RESULT_FIELD,
+    ORIGINAL_NAME,          // String
+    ACTUAL_GENERICS,        // int[]
+    LOOKUP_CALL,
+    LOOKUP_STATIC_FINALLY,
+    LIFE_TIME,              // LifeTime ordinal or -1
+    TYPE_NAME,              // byte[]
+    NAME,                   // String
+    NAME_HUMAN,             // String
+    SRC_FILE,               // String
+    SRC_BYTE_POS,
+    LOOKUP_JAVA_REF,
+    LOOKUP_CAUSE;
+  }
+
+
+  /**
+   * The columns of site data.  Comments give the encoding if this is not just
+   * the int value.
+   */
+  enum SiteColumn
+  {
+    CLAZZ_AT,
+    ALWAYS_RESULTS_IN_VOID, // boolean
+    DOES_RESULT_ESCAPE,     // boolean
+    CODE_AT,                // ExprKind ordinal or -1
+    CONST_CLAZZ,
+    CONST_DATA,             // byte[]
+    ACCESSED_CLAZZ,
+    ACCESSED_CLAZZES,       // int[]
+    ACCESS_TARGET_CLAZZ,
+    TAG_VALUE_CLAZZ,
+    ASSIGNED_TYPE,
+    BOX_VALUE_CLAZZ,
+    BOX_RESULT_CLAZZ,
+    MATCH_STATIC_SUBJECT,
+    MATCH_CASE_COUNT,
+    MATCH_CASE_TAGS,        // int[][]
+    MATCH_CASE_CODE,        // int[]
+    TAG_NEW_CLAZZ,
+    TAG_TAG_NUM,
+    MATCH_CASE_FIELD,       // int[]
+    ACCESS_IS_DYNAMIC,      // boolean
+    MODULE,                 // String
+    BYTE_POS;               // long
+  }
+
+
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Version of the format, to be incremented on every incompatible change.
+   */
+  static final int FUIR_FILE_VERSION = 1;
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * clazz columns, indexed by ClazzColumn.ordinal() and clazz number.
+   */
+  private final int[][] _clazzes;
+
+
+  /**
+   * site columns, indexed by SiteColumn.ordinal() and site number.
+   */
+  private final int[][] _sites;
+
+
+  /**
+   * The pool of variable sized data.
+   */
+  private final ByteArrayOutputStream _poolBytes = new ByteArrayOutputStream();
+  private final DataOutputStream _pool = new DataOutputStream(_poolBytes);
+
+
+  /**
+   * Interned strings: map from string to its index and pool offsets of the
+   * strings in order of their index.
+   */
+  private final HashMap<String, Integer> _stringIds = new HashMap<>();
+  private final List<Integer> _stringOffsets = new List<>();
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Create FuirOut for the given number of clazzes and sites.
+   */
+  FuirOut(int clazzCount, int siteCount)
+  {
+    _clazzes = new int[ClazzColumn.values().length][clazzCount];
+    _sites   = new int[SiteColumn .values().length][siteCount];
+  }
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Set the value of column c for clazz number num.
+   */
+  void clazz(int num, ClazzColumn c, int v)
+  {
+    _clazzes[c.ordinal()][num] = v;
+  }
+
+
+  /**
+   * Set the value of column c for site number num.
+   */
+  void site(int num, SiteColumn c, int v)
+  {
+    _sites[c.ordinal()][num] = v;
+  }
+
+
+  /**
+   * Encode a boolean as an int column value.
+   */
+  static int bool(boolean b)
+  {
+    return b ? 1 : 0;
+  }
+
+
+  /**
+   * Encode an enum as an int column value.
+   */
+  static int ordinal(Enum<?> e)
+  {
+    return e == null ? -1 : e.ordinal();
+  }
+
+
+  /**
+   * Intern the given string.
+   *
+   * @return the index of s in the string table, -1 if s is null.
+   */
+  int string(String s)
+  {
+    return s == null
+      ? -1
+      : _stringIds.computeIfAbsent(s, x ->
+          {
+            _stringOffsets.add(bytes(x.getBytes(StandardCharsets.UTF_8)));
+            return _stringOffsets.size() - 1;
+          });
+  }
+
+
+  /**
+   * Add the given int array to the pool.
+   *
+   * @return the pool offset of a, -1 if a is null.
+   */
+  int ints(int[] a)
+  {
+    var result = -1;
+    if (a != null)
+      {
+        result = _pool.size();
+        write(() ->
+          {
+            _pool.writeInt(a.length);
+            for (var i : a)
+              {
+                _pool.writeInt(i);
+              }
+          });
+      }
+    return result;
+  }
+
+
+  /**
+   * Add the given array of int arrays to the pool.
+   *
+   * @return the pool offset of a, -1 if a is null.
+   */
+  int intss(int[][] a)
+  {
+    var result = -1;
+    if (a != null)
+      {
+        var offsets = Arrays.stream(a).mapToInt(x -> ints(x)).toArray();
+        result = ints(offsets);
+      }
+    return result;
+  }
+
+
+  /**
+   * Add the given byte array to the pool.
+   *
+   * @return the pool offset of b, -1 if b is null.
+   */
+  int bytes(byte[] b)
+  {
+    var result = -1;
+    if (b != null)
+      {
+        result = _pool.size();
+        write(() ->
+          {
+            _pool.writeInt(b.length);
+            _pool.write(b);
+          });
+      }
+    return result;
+  }
+
+
+  /**
+   * Add the given long to the pool.
+   *
+   * @return the pool offset of l.
+   */
+  int longValue(long l)
+  {
+    var result = _pool.size();
+    write(() -> _pool.writeLong(l));
+    return result;
+  }
+
+
+  /**
+   * Helper for write operations that may throw IOException.
+   */
+  private interface Write
+  {
+    void run() throws IOException;
+  }
+
+
+  /**
+   * Run w, an IOException is fatal since we write to memory only.
+   */
+  private void write(Write w)
+  {
+    try
+      {
+        w.run();
+      }
+    catch (IOException e)
+      {
+        Errors.fatal(e);
+      }
+  }
+
+
+  /**
+   * Create the data of the .fuir file.
+   *
+   * @param mainClazz the main clazz
+   *
+   * @param specialClazzes the clazzes for SpecialClazzes.values().
+   */
+  byte[] data(int mainClazz, int[] specialClazzes)
+  {
+    var baos = new ByteArrayOutputStream();
+    var out = new DataOutputStream(baos);
+    write(() ->
+      {
+        out.writeInt(FuzionConstants.FUIR_FILE_MAGIC0);
+        out.writeInt(FUIR_FILE_VERSION);
+        out.writeInt(mainClazz);
+        out.writeInt(_clazzes[0].length);
+        out.writeInt(_sites[0].length);
+        out.writeInt(specialClazzes.length);
+        for (var c : specialClazzes)
+          {
+            out.writeInt(c);
+          }
+        out.writeInt(_clazzes.length);
+        out.writeInt(_sites.length);
+        for (var col : _clazzes)
+          {
+            for (var v : col)
+              {
+                out.writeInt(v);
+              }
+          }
+        for (var col : _sites)
+          {
+            for (var v : col)
+              {
+                out.writeInt(v);
+              }
+          }
+        out.writeInt(_stringOffsets.size());
+        for (var o : _stringOffsets)
+          {
+            out.writeInt(o);
+          }
+        out.writeInt(_pool.size());
+        _poolBytes.writeTo(out);
+        out.flush();
+      });
+    return baos.toByteArray();
+  }
+
+}
+
+/* end of file */
@@ -26,70 +26,261 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.fuir;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import dev.flang.util.SourcePosition;
 import dev.flang.fe.LibraryModule;
+import dev.flang.fuir.FuirOut.ClazzColumn;
+import dev.flang.fuir.FuirOut.SiteColumn;
 import dev.flang.util.Errors;
 import dev.flang.util.FuzionConstants;
 import dev.flang.util.SourceFile;
 
 
 /**
- * The FUIR loaded/deserialized from a byte array
+ * The FUIR loaded from a .fuir file created by FuirOut.
+ *
+ * The data is read lazily from the given ByteBuffer, which is typically a
+ * MappedByteBuffer, so only the parts used by a backend are ever decoded.
  */
 public class LibraryFuir extends FUIR {
 
 
+  /*-----------------------------  constants  -----------------------------*/
+
+
+  /**
+   * Enum values to decode ordinals without cloning values() on every access.
+   */
+  private static final FeatureKind[] FEATURE_KINDS = FeatureKind.values();
+  private static final ExprKind[] EXPR_KINDS = ExprKind.values();
+  private static final LifeTime[] LIFE_TIMES = LifeTime.values();
+
+
   /*-----------------------------  final fields  -----------------------------*/
 
 
+  /**
+   * The data of the .fuir file.
+   */
+  private final ByteBuffer _data;
+
   private final int _mainClazz;
-  private final ClazzRecord[] _clazzes;
+  private final int _clazzCount;
+  private final int _siteCount;
   private final int[] _specialClazzes;
-  private final SiteRecord[] _sites;
   private final LibraryModule _mainModule;
 
 
+  /**
+   * Positions within _data of the clazz columns, the site columns, the string
+   * table and the pool.
+   */
+  private final int _clazzColumns;
+  private final int _siteColumns;
+  private final int _strings;
+  private final int _pool;
+
+
   /*-----------------------------  cache  -----------------------------*/
 
 
   private final Map<String,SourceFile> _srcFiles = new ConcurrentHashMap<String, SourceFile>();
 
 
+  /**
+   * Strings decoded so far, indexed by string table index.
+   */
+  private final String[] _stringCache;
+
+
+  /**
+   * int arrays decoded so far, indexed by pool offset.
+   */
+  private final Map<Integer,int[]> _intArrays = new ConcurrentHashMap<>();
+
+
   /*-----------------------------  constructor  -----------------------------*/
 
 
-  public LibraryFuir(byte[] data, LibraryModule lm)
+  /**
+   * Create LibraryFuir from the data of a .fuir file.
+   *
+   * @param data the data, must start with a valid header, see hasValidHeader.
+   *
+   * @param lm the main module.
+   */
+  public LibraryFuir(ByteBuffer data, LibraryModule lm)
   {
-    var mainClazz = NO_CLAZZ;
-    var clazzes = new ClazzRecord[0];
-    var sites = new SiteRecord[0];
-    var specialClazzes = new int[0];
-    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data)))
+    if (!hasValidHeader(data))
       {
-        mainClazz = ois.readInt();
-        clazzes = (ClazzRecord[]) ois.readObject();
-        sites = (SiteRecord[]) ois.readObject();
-        specialClazzes = (int[]) ois.readObject();
+        Errors.fatal("invalid .fuir file, wrong magic or version");
       }
-    catch(ClassNotFoundException | IOException e)
+    _data = data;
+    _mainClazz = data.getInt(8);
+    _clazzCount = data.getInt(12);
+    _siteCount = data.getInt(16);
+    var sc = data.getInt(20);
+    _specialClazzes = new int[sc];
+    for (int i = 0; i < sc; i++)
       {
-        Errors.fatal(e);
+        _specialClazzes[i] = data.getInt(24 + 4 * i);
       }
-    _mainClazz = mainClazz;
-    _clazzes = clazzes;
-    _sites = sites;
-    _specialClazzes = specialClazzes;
+    var pos = 24 + 4 * sc;
+    var clazzColumnCount = data.getInt(pos);
+    var siteColumnCount = data.getInt(pos + 4);
+    if (clazzColumnCount != ClazzColumn.values().length ||
+        siteColumnCount  != SiteColumn .values().length)
+      {
+        Errors.fatal("invalid .fuir file, wrong number of columns");
+      }
+    _clazzColumns = pos + 8;
+    _siteColumns = _clazzColumns + 4 * clazzColumnCount * _clazzCount;
+    _strings = _siteColumns + 4 * siteColumnCount * _siteCount;
+    var stringCount = data.getInt(_strings);
+    _stringCache = new String[stringCount];
+    _pool = _strings + 4 + 4 * stringCount + 4;
     _mainModule = lm;
   }
 
 
+  /**
+   * Check if data starts with the magic number and version of the current
+   * .fuir file format.
+   */
+  public static boolean hasValidHeader(ByteBuffer data)
+  {
+    return
+      data.limit() >= 8 &&
+      data.getInt(0) == FuzionConstants.FUIR_FILE_MAGIC0 &&
+      data.getInt(4) == FuirOut.FUIR_FILE_VERSION;
+  }
+
+
+  /*-------------------------  reading the data  -------------------------*/
+
+
+  /**
+   * Read column c of clazz cl.
+   */
+  private int clazzInt(int cl, ClazzColumn c)
+  {
+    return _data.getInt(_clazzColumns + 4 * (c.ordinal() * _clazzCount + clazzId2num(cl)));
+  }
+
+
+  /**
+   * Read boolean column c of clazz cl.
+   */
+  private boolean clazzBool(int cl, ClazzColumn c)
+  {
+    return clazzInt(cl, c) != 0;
+  }
+
+
+  /**
+   * Read String column c of clazz cl.
+   */
+  private String clazzString(int cl, ClazzColumn c)
+  {
+    return string(clazzInt(cl, c));
+  }
+
+
+  /**
+   * Read column c of site s.
+   */
+  private int siteInt(int s, SiteColumn c)
+  {
+    return _data.getInt(_siteColumns + 4 * (c.ordinal() * _siteCount + s - SITE_BASE));
+  }
+
+
+  /**
+   * Read boolean column c of site s.
+   */
+  private boolean siteBool(int s, SiteColumn c)
+  {
+    return siteInt(s, c) != 0;
+  }
+
+
+  /**
+   * Get the string with index i in the string table, null if i is -1.
+   */
+  private String string(int i)
+  {
+    String result = null;
+    if (i >= 0)
+      {
+        result = _stringCache[i];
+        if (result == null)
+          {
+            var b = bytes(_data.getInt(_strings + 4 + 4 * i));
+            result = new String(b, StandardCharsets.UTF_8);
+            _stringCache[i] = result;
+          }
+      }
+    return result;
+  }
+
+
+  /**
+   * Get the byte array at the given pool offset, null if offset is -1.
+   */
+  private byte[] bytes(int offset)
+  {
+    byte[] result = null;
+    if (offset >= 0)
+      {
+        result = new byte[_data.getInt(_pool + offset)];
+        _data.get(_pool + offset + 4, result);
+      }
+    return result;
+  }
+
+
+  /**
+   * Get the int array at the given pool offset, null if offset is -1.
+   */
+  private int[] ints(int offset)
+  {
+    return offset < 0
+      ? null
+      : _intArrays.computeIfAbsent(offset, o ->
+          {
+            var result = new int[intsLength(o)];
+            for (int i = 0; i < result.length; i++)
+              {
+                result[i] = intsAt(o, i);
+              }
+            return result;
+          });
+  }
+
+
+  /**
+   * Get the length of the int array at the given pool offset.
+   */
+  private int intsLength(int offset)
+  {
+    return _data.getInt(_pool + offset);
+  }
+
+
+  /**
+   * Get element i of the int array at the given pool offset.
+   */
+  private int intsAt(int offset, int i)
+  {
+    return _data.getInt(_pool + offset + 4 + 4 * i);
+  }
+
+
   /*-----------------------------  methods  -----------------------------*/
 
 
@@ -111,7 +302,7 @@ public class LibraryFuir extends FUIR {
   @Override
   public int lastClazz()
   {
-    return CLAZZ_BASE+_clazzes.length-1;
+    return CLAZZ_BASE+_clazzCount-1;
   }
 
   @Override
@@ -123,55 +314,55 @@ public class LibraryFuir extends FUIR {
   @Override
   public FeatureKind clazzKind(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzKind();
+    return FEATURE_KINDS[clazzInt(cl, ClazzColumn.KIND)];
   }
 
   @Override
   public String clazzBaseName(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzBaseName();
+    return clazzString(cl, ClazzColumn.BASE_NAME);
   }
 
   @Override
   public int clazzResultClazz(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzResultClazz();
+    return clazzInt(cl, ClazzColumn.RESULT_CLAZZ);
   }
 
   @Override
   public String clazzOriginalName(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzOriginalName();
+    return clazzString(cl, ClazzColumn.ORIGINAL_NAME);
   }
 
   @Override
   public String clazzName(int cl)
   {
-    return cl == NO_CLAZZ ? FuzionConstants.NO_CLAZZ : _clazzes[clazzId2num(cl)].clazzName();
+    return cl == NO_CLAZZ ? FuzionConstants.NO_CLAZZ : clazzString(cl, ClazzColumn.NAME);
   }
 
   @Override
   public String clazzNameHuman(int cl)
   {
-    return  cl == NO_CLAZZ ? FuzionConstants.NO_CLAZZ : _clazzes[clazzId2num(cl)].clazzNameHuman();
+    return  cl == NO_CLAZZ ? FuzionConstants.NO_CLAZZ : clazzString(cl, ClazzColumn.NAME_HUMAN);
   }
 
   @Override
   public int clazzOuterClazz(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzOuterClazz();
+    return clazzInt(cl, ClazzColumn.OUTER_CLAZZ);
   }
 
   @Override
   public int clazzFieldCount(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzFields().length;
+    return intsLength(clazzInt(cl, ClazzColumn.FIELDS));
   }
 
   @Override
   public int clazzField(int cl, int i)
   {
-    return _clazzes[clazzId2num(cl)].clazzFields()[i];
+    return intsAt(clazzInt(cl, ClazzColumn.FIELDS), i);
   }
 
   @Override
@@ -184,79 +375,79 @@ public class LibraryFuir extends FUIR {
   @Override
   public int clazzChoiceCount(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzChoices().length;
+    return intsLength(clazzInt(cl, ClazzColumn.CHOICES));
   }
 
   @Override
   public int clazzChoice(int cl, int i)
   {
-    return _clazzes[clazzId2num(cl)].clazzChoices()[i];
+    return intsAt(clazzInt(cl, ClazzColumn.CHOICES), i);
   }
 
   @Override
   public int[] clazzInstantiatedHeirs(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzInstantiatedHeirs();
+    return ints(clazzInt(cl, ClazzColumn.INSTANTIATED_HEIRS));
   }
 
   @Override
   public int clazzArgCount(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzArgs().length;
+    return intsLength(clazzInt(cl, ClazzColumn.ARGS));
   }
 
   @Override
   public int clazzArg(int cl, int arg)
   {
-    return _clazzes[clazzId2num(cl)].clazzArgs()[arg];
+    return intsAt(clazzInt(cl, ClazzColumn.ARGS), arg);
   }
 
   @Override
   public int clazzResultField(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzResultField();
+    return clazzInt(cl, ClazzColumn.RESULT_FIELD);
   }
 
   @Override
   public int clazzOuterRef(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzOuterRef();
+    return clazzInt(cl, ClazzColumn.OUTER_REF);
   }
 
   @Override
   public int clazzCode(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzCode();
+    return clazzInt(cl, ClazzColumn.CODE);
   }
 
   @Override
   public boolean clazzNeedsCode(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzNeedsCode();
+    return clazzBool(cl, ClazzColumn.NEEDS_CODE);
   }
 
   @Override
   public boolean clazzIsRef(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzIsRef();
+    return clazzBool(cl, ClazzColumn.IS_REF);
   }
 
   @Override
   public boolean clazzIsBoxed(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzIsBoxed();
+    return clazzBool(cl, ClazzColumn.IS_BOXED);
   }
 
   @Override
   public int clazzAsValue(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzAsValue();
+    return clazzInt(cl, ClazzColumn.AS_VALUE);
   }
 
   @Override
   public byte[] clazzTypeName(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzTypeName();
+    return bytes(clazzInt(cl, ClazzColumn.TYPE_NAME));
   }
 
   @Override
@@ -282,11 +473,11 @@ public class LibraryFuir extends FUIR {
   public int clazzRefConstString()
   {
     var cs = clazz(SpecialClazzes.c_const_string);
-    for (int i = 0; i < _clazzes.length; i++)
+    for (int cl = firstClazz(); cl <= lastClazz(); cl++)
       {
-        if (_clazzes[i].clazzIsRef() && _clazzes[i].clazzAsValue() == cs)
+        if (clazzIsRef(cl) && clazzAsValue(cl) == cs)
           {
-            return i + CLAZZ_BASE;
+            return cl;
           }
       }
     Errors.fatal("clazz_ref_const_string");
@@ -296,19 +487,19 @@ public class LibraryFuir extends FUIR {
   @Override
   public int lookupJavaRef(int cl)
   {
-    return _clazzes[clazzId2num(cl)].lookupJavaRef();
+    return clazzInt(cl, ClazzColumn.LOOKUP_JAVA_REF);
   }
 
   @Override
   public int lookupCall(int cl)
   {
-    return _clazzes[clazzId2num(cl)].lookupCall();
+    return clazzInt(cl, ClazzColumn.LOOKUP_CALL);
   }
 
   @Override
   public int lookupStaticFinally(int cl)
   {
-    return _clazzes[clazzId2num(cl)].lookupStaticFinally();
+    return clazzInt(cl, ClazzColumn.LOOKUP_STATIC_FINALLY);
   }
 
   @Override
@@ -329,13 +520,13 @@ public class LibraryFuir extends FUIR {
   @Override
   public int lookupCause(int ecl)
   {
-    return _clazzes[clazzId2num(ecl)].lookupCause();
+    return clazzInt(ecl, ClazzColumn.LOOKUP_CAUSE);
   }
 
   @Override
   public boolean clazzIsUnitType(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzIsUnitType();
+    return clazzBool(cl, ClazzColumn.IS_UNIT_TYPE);
   }
 
   @Override
@@ -347,19 +538,20 @@ public class LibraryFuir extends FUIR {
   @Override
   public int clazzActualGeneric(int cl, int gix)
   {
-    return _clazzes[clazzId2num(cl)].clazzActualGenerics()[gix];
+    return intsAt(clazzInt(cl, ClazzColumn.ACTUAL_GENERICS), gix);
   }
 
   @Override
   public LifeTime lifeTime(int cl)
   {
-    return _clazzes[clazzId2num(cl)].lifeTime();
+    var lt = clazzInt(cl, ClazzColumn.LIFE_TIME);
+    return lt < 0 ? null : LIFE_TIMES[lt];
   }
 
   @Override
   public int clazzAt(int s)
   {
-    return _sites[s-SITE_BASE].clazzAt();
+    return siteInt(s, SiteColumn.CLAZZ_AT);
   }
 
   @Override
@@ -370,7 +562,7 @@ public class LibraryFuir extends FUIR {
       {
         res = "** NO_SITE **";
       }
-    else if (s >= SITE_BASE && s < SITE_BASE+_sites.length)
+    else if (s >= SITE_BASE && s < SITE_BASE+_siteCount)
       {
         var cl = clazzAt(s);
         var p = sitePos(s);
@@ -386,37 +578,38 @@ public class LibraryFuir extends FUIR {
   @Override
   public ExprKind codeAt(int s)
   {
-    return _sites[s-SITE_BASE].codeAt();
+    var k = siteInt(s, SiteColumn.CODE_AT);
+    return k < 0 ? null : EXPR_KINDS[k];
   }
 
   @Override
   public int tagValueClazz(int s)
   {
-    return _sites[s-SITE_BASE].tagValueClazz();
+    return siteInt(s, SiteColumn.TAG_VALUE_CLAZZ);
   }
 
   @Override
   public int tagNewClazz(int s)
   {
-    return _sites[s-SITE_BASE].tagNewClazz();
+    return siteInt(s, SiteColumn.TAG_NEW_CLAZZ);
   }
 
   @Override
   public int tagTagNum(int s)
   {
-    return _sites[s-SITE_BASE].tagTagNum();
+    return siteInt(s, SiteColumn.TAG_TAG_NUM);
   }
 
   @Override
   public int boxValueClazz(int s)
   {
-    return _sites[s-SITE_BASE].boxValueClazz();
+    return siteInt(s, SiteColumn.BOX_VALUE_CLAZZ);
   }
 
   @Override
   public int boxResultClazz(int s)
   {
-    return _sites[s-SITE_BASE].boxResultClazz();
+    return siteInt(s, SiteColumn.BOX_RESULT_CLAZZ);
   }
 
   @Override
@@ -428,117 +621,117 @@ public class LibraryFuir extends FUIR {
   @Override
   public int accessedClazz(int s)
   {
-    return _sites[s-SITE_BASE].accessedClazz();
+    return siteInt(s, SiteColumn.ACCESSED_CLAZZ);
   }
 
   @Override
   public int assignedType(int s)
   {
-    return _sites[s-SITE_BASE].assignedType();
+    return siteInt(s, SiteColumn.ASSIGNED_TYPE);
   }
 
   @Override
   public int[] accessedClazzes(int s)
   {
-    return _sites[s-SITE_BASE].accessedClazzes();
+    return ints(siteInt(s, SiteColumn.ACCESSED_CLAZZES));
   }
 
   @Override
   public boolean accessIsDynamic(int s)
   {
-    return _sites[s-SITE_BASE].accessIsDynamic();
+    return siteBool(s, SiteColumn.ACCESS_IS_DYNAMIC);
   }
 
   @Override
   public int accessTargetClazz(int s)
   {
-    return _sites[s-SITE_BASE].accessTargetClazz();
+    return siteInt(s, SiteColumn.ACCESS_TARGET_CLAZZ);
   }
 
   @Override
   public int constClazz(int s)
   {
-    return _sites[s-SITE_BASE].constClazz();
+    return siteInt(s, SiteColumn.CONST_CLAZZ);
   }
 
   @Override
   public byte[] constData(int s)
   {
-    return _sites[s-SITE_BASE].constData();
+    return bytes(siteInt(s, SiteColumn.CONST_DATA));
   }
 
   @Override
   public int matchCaseCount(int s)
   {
-    return _sites[s-SITE_BASE].matchCaseCount();
+    return siteInt(s, SiteColumn.MATCH_CASE_COUNT);
   }
 
   @Override
   public int matchStaticSubject(int s)
   {
-    return _sites[s-SITE_BASE].matchStaticSubject();
+    return siteInt(s, SiteColumn.MATCH_STATIC_SUBJECT);
   }
 
   @Override
   public int matchCaseField(int s, int cix)
   {
-    return _sites[s-SITE_BASE].matchCaseField()[cix];
+    return intsAt(siteInt(s, SiteColumn.MATCH_CASE_FIELD), cix);
   }
 
 
   @Override
   public int[] matchCaseTags(int s, int cix)
   {
-    return _sites[s-SITE_BASE].matchCaseTags()[cix];
+    return ints(intsAt(siteInt(s, SiteColumn.MATCH_CASE_TAGS), cix));
   }
 
   @Override
   public int matchCaseCode(int s, int cix)
   {
-    return _sites[s-SITE_BASE].matchCaseCode()[cix];
+    return intsAt(siteInt(s, SiteColumn.MATCH_CASE_CODE), cix);
   }
 
   @Override
   public boolean alwaysResultsInVoid(int s)
   {
-    return s==NO_SITE || s<0 ? false : _sites[s-SITE_BASE].alwaysResultsInVoid();
+    return s==NO_SITE || s<0 ? false : siteBool(s, SiteColumn.ALWAYS_RESULTS_IN_VOID);
   }
 
   @Override
   public boolean doesResultEscape(int s)
   {
-    return s==NO_SITE || s<0 ? false : _sites[s-SITE_BASE].doesResultEscape();
+    return s==NO_SITE || s<0 ? false : siteBool(s, SiteColumn.DOES_RESULT_ESCAPE);
   }
 
   @Override
   public SourcePosition sitePos(int s)
   {
-    return s==NO_SITE || _sites[s-SITE_BASE].module() == null
+    var m = s==NO_SITE ? null : string(siteInt(s, SiteColumn.MODULE));
+    return m == null
       ? SourcePosition.notAvailable
-      : _mainModule.pos(_sites[s-SITE_BASE].module(), _sites[s-SITE_BASE].bytePos());
+      : _mainModule.pos(m, _data.getLong(_pool + siteInt(s, SiteColumn.BYTE_POS)));
   }
 
 
   @Override
   public String clazzSrcFile(int cl)
   {
-    return _clazzes[clazzId2num(cl)].clazzSrcFile();
+    return clazzString(cl, ClazzColumn.SRC_FILE);
   }
 
 
   @Override
   public SourcePosition clazzDeclarationPos(int cl)
   {
-    var r = _clazzes[clazzId2num(cl)];
-    return new SourcePosition(sourceFile(r.clazzSrcFile()),
-                              r.clazzSrcBytePos());
+    return new SourcePosition(sourceFile(clazzSrcFile(cl)),
+                              clazzInt(cl, ClazzColumn.SRC_BYTE_POS));
   }
 
 
   @Override
   public boolean withinCode(int s)
   {
-    return s != NO_SITE && _sites[s - SITE_BASE].codeAt() != null;
+    return s != NO_SITE && siteInt(s, SiteColumn.CODE_AT) >= 0;
   }
 
    /**
@@ -554,7 +747,7 @@ public class LibraryFuir extends FUIR {
   {
     var c = site - SITE_BASE;
     var result = c;
-    while (result > 0 && _sites[result-1].codeAt() != null)
+    while (result > 0 && siteInt(result-1 + SITE_BASE, SiteColumn.CODE_AT) >= 0)
       {
         result--;
       }
@@ -27,22 +27,52 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.fuir;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import dev.flang.util.IntMap;
+
 
 public class OptimizedFUIR extends GeneratingFUIR {
 
 
-  /*--------------------------  constructors  ---------------------------*/
+  /*----------------------------  variables  ----------------------------*/
 
 
   private final GeneratingFUIR _original;
 
 
+  /**
+   * Sites whose code was replaced by an optimization pass: the new ExprKind at
+   * index {@code s-SITE_BASE}, null for sites that were not replaced.
+   *
+   * This is null as long as no site was replaced, such that codeAt() etc. do
+   * not add any lookup if no optimization was performed.
+   */
+  private ExprKind[] _replacedCode = null;
+
+
+  /**
+   * For sites replaced by a constant, the clazz of the constant.
+   */
+  private final IntMap<Integer> _replacedConstClazz = new IntMap<>();
+
+
+  /**
+   * For sites replaced by a constant, the serialized constant data.
+   */
+  private final IntMap<byte[]> _replacedConstData = new IntMap<>();
+
+
+  /**
+   * For sites replaced by a comment, the comment.
+   */
+  private final IntMap<String> _replacedComment = new IntMap<>();
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
   /**
    * Clone this FUIR such that modifications can be made by optimizers.  An heir
    * of FUIR can use this to redefine methods.
@@ -66,6 +96,110 @@ public class OptimizedFUIR extends GeneratingFUIR {
   @Override public int accessedClazz(int s){ return _original.accessedClazz(s); }
 
 
+  /*----------------------  modifying FUIR  ----------------------*/
+
+
+  /**
+   * Replace the code at site {@code s} by a comment.  The replaced code must
+   * neither consume nor produce a value, or the code around it must be
+   * replaced accordingly.
+   *
+   * @param s a site
+   *
+   * @param comment the comment to be shown instead of the code.
+   */
+  public void replaceByComment(int s, String comment)
+  {
+    if (PRECONDITIONS) require
+      (withinCode(s),
+       codeAt(s) != ExprKind.Match);
+
+    replaceCode(s, ExprKind.Comment);
+    _replacedComment.put(s, comment);
+  }
+
+
+  /**
+   * Replace the code at site {@code s} by a constant.  The replaced code must
+   * produce one value of clazz {@code constCl} and must not consume any values,
+   * or the code around it must be replaced accordingly.
+   *
+   * @param s a site
+   *
+   * @param constCl the clazz of the constant
+   *
+   * @param data the constant data, encoded as in {@code constData}.
+   */
+  public void replaceByConst(int s, int constCl, byte[] data)
+  {
+    if (PRECONDITIONS) require
+      (withinCode(s),
+       codeAt(s) != ExprKind.Match);
+
+    replaceCode(s, ExprKind.Const);
+    _replacedConstClazz.put(s, constCl);
+    _replacedConstData.put(s, data);
+  }
+
+
+  /**
+   * Record that the code at site {@code s} was replaced by code of kind k.
+   */
+  private void replaceCode(int s, ExprKind k)
+  {
+    var i = s - SITE_BASE;
+    if (_replacedCode == null || i >= _replacedCode.length)
+      {
+        _replacedCode = _replacedCode == null
+          ? new ExprKind[Math.max(siteCount(), i + 1)]
+          : Arrays.copyOf(_replacedCode, i + 1);
+      }
+    _replacedCode[i] = k;
+  }
+
+
+  /**
+   * The kind of code that replaced the code at site {@code s}, null if the code
+   * at s was not replaced.
+   */
+  private ExprKind replacedCode(int s)
+  {
+    var r = _replacedCode;
+    var i = s - SITE_BASE;
+    return r != null && i >= 0 && i < r.length ? r[i] : null;
+  }
+
+
+  @Override
+  public ExprKind codeAt(int s)
+  {
+    var r = replacedCode(s);
+    return r != null ? r : super.codeAt(s);
+  }
+
+
+  @Override
+  public int constClazz(int s)
+  {
+    return replacedCode(s) == ExprKind.Const ? _replacedConstClazz.get(s) : super.constClazz(s);
+  }
+
+
+  @Override
+  public byte[] constData(int s)
+  {
+    return replacedCode(s) == ExprKind.Const ? _replacedConstData.get(s) : super.constData(s);
+  }
+
+
+  @Override
+  public String comment(int s)
+  {
+    return replacedCode(s) == ExprKind.Comment ? _replacedComment.get(s) : super.comment(s);
+  }
+
+
+
   /*----------------------  serializing FUIR  ----------------------*/
 
 
@@ -161,6 +295,8 @@ public class OptimizedFUIR extends GeneratingFUIR {
   /**
    * serialize the FUIR to a byte array
    * which can be written to a file.
+   *
+   * See FuirOut for the format.
    */
   public byte[] serialize()
   {
@@ -168,110 +304,109 @@ public class OptimizedFUIR extends GeneratingFUIR {
     var lastClazz = lastClazz();
     var siteCount = siteCount();
 
-    var baos = new ByteArrayOutputStream();
-    /**
-     * NYI: UNDER DEVELOPMENT:
-     * replace by custom serialization of FUIR
-     */
-    try (ObjectOutputStream oos = new ObjectOutputStream(baos))
+    var out = new FuirOut(lastClazz-firstClazz+1, siteCount);
+    for (int cl = firstClazz; cl <= lastClazz; cl++)
+      {
+        var n = clazzId2num(cl);
+        var clazzKind = clazzKind(cl);
+        var isRoutine = clazzKind == FeatureKind.Routine;
+        var needsCode = isRoutine && clazzNeedsCode(cl);
+        out.clazz(n, FuirOut.ClazzColumn.BASE_NAME            , out.string(clazzBaseName(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.OUTER_CLAZZ          , clazzOuterClazz(cl));
+        out.clazz(n, FuirOut.ClazzColumn.IS_BOXED             , FuirOut.bool(clazzIsBoxed(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.ARGS                 , out.ints(clazzArgs(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.KIND                 , FuirOut.ordinal(clazzKind));
+        out.clazz(n, FuirOut.ClazzColumn.OUTER_REF            , clazzOuterRef(cl));
+        out.clazz(n, FuirOut.ClazzColumn.RESULT_CLAZZ         , clazzResultClazz(cl));
+        out.clazz(n, FuirOut.ClazzColumn.IS_REF               , FuirOut.bool(clazzIsRef(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.IS_UNIT_TYPE         , FuirOut.bool(clazzIsUnitType(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.AS_VALUE             , clazzAsValue(cl));
+        out.clazz(n, FuirOut.ClazzColumn.CHOICES              , out.ints(clazzChoices(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.INSTANTIATED_HEIRS   , out.ints(clazzInstantiatedHeirs(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.NEEDS_CODE           , FuirOut.bool(clazzNeedsCode(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.FIELDS               , out.ints(clazzFields(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.CODE                 , needsCode ? clazzCode(cl) : NO_SITE);
+        out.clazz(n, FuirOut.ClazzColumn.RESULT_FIELD         , clazzResultField(cl));
+        out.clazz(n, FuirOut.ClazzColumn.ORIGINAL_NAME        , out.string(clazzOriginalName(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.ACTUAL_GENERICS      , out.ints(clazzActualGenerics(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.LOOKUP_CALL          , lookupCall(cl));
+        out.clazz(n, FuirOut.ClazzColumn.LOOKUP_STATIC_FINALLY, lookupStaticFinally(cl));
+        out.clazz(n, FuirOut.ClazzColumn.LIFE_TIME            , FuirOut.ordinal(isRoutine ? lifeTime(cl) : null));
+        out.clazz(n, FuirOut.ClazzColumn.TYPE_NAME            , out.bytes(clazzTypeName(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.NAME                 , out.string(clazzName(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.NAME_HUMAN           , out.string(clazzNameHuman(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.SRC_FILE             , out.string(clazzSrcFile(cl)));
+        out.clazz(n, FuirOut.ClazzColumn.SRC_BYTE_POS         , clazzDeclarationPos(cl).bytePos());
+        out.clazz(n, FuirOut.ClazzColumn.LOOKUP_JAVA_REF      , lookupJavaRef(cl));
+        out.clazz(n, FuirOut.ClazzColumn.LOOKUP_CAUSE         , lookupCause(cl));
+      }
+
+    for (int s = SITE_BASE; s < SITE_BASE+siteCount; s++)
       {
-        oos.writeInt(mainClazz());
-        var clazzes = new ClazzRecord[lastClazz-firstClazz+1];
-        for (int cl = firstClazz; cl <= lastClazz; cl++)
+        var n = s-SITE_BASE;
+        if (invalidSite(s))
           {
-            var clazzKind = clazzKind(cl);
-            var isRoutine = clazzKind == FeatureKind.Routine;
-            var needsCode = isRoutine && clazzNeedsCode(cl);
-            clazzes[clazzId2num(cl)] = new ClazzRecord(
-                clazzBaseName(cl),
-                clazzOuterClazz(cl),
-                clazzIsBoxed(cl),
-                clazzArgs(cl),
-                clazzKind,
-                clazzOuterRef(cl),
-                clazzResultClazz(cl),
-                clazzIsRef(cl),
-                clazzIsUnitType(cl),
-                clazzAsValue(cl),
-                clazzChoices(cl),
-                clazzInstantiatedHeirs(cl),
-                clazzNeedsCode(cl),
-                clazzFields(cl),
-                needsCode ? clazzCode(cl) : NO_SITE,
-                clazzResultField(cl),
-                clazzOriginalName(cl),
-                clazzActualGenerics(cl),
-                lookupCall(cl),
-                lookupStaticFinally(cl),
-                isRoutine ? lifeTime(cl) : null,
-                clazzTypeName(cl),
-                clazzName(cl),
-                clazzNameHuman(cl),
-                clazzSrcFile(cl),
-                clazzDeclarationPos(cl).bytePos(),
-                lookupJavaRef(cl),
-                lookupCause(cl)
-                );
+            out.site(n, FuirOut.SiteColumn.CLAZZ_AT              , clazzAt(s));
+            out.site(n, FuirOut.SiteColumn.ALWAYS_RESULTS_IN_VOID, FuirOut.bool(false));
+            out.site(n, FuirOut.SiteColumn.DOES_RESULT_ESCAPE    , FuirOut.bool(false));
+            out.site(n, FuirOut.SiteColumn.CODE_AT               , FuirOut.ordinal(null));
+            out.site(n, FuirOut.SiteColumn.CONST_CLAZZ           , NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.CONST_DATA            , out.bytes(null));
+            out.site(n, FuirOut.SiteColumn.ACCESSED_CLAZZ        , NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.ACCESSED_CLAZZES      , out.ints(null));
+            out.site(n, FuirOut.SiteColumn.ACCESS_TARGET_CLAZZ   , NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.TAG_VALUE_CLAZZ       , NO_SITE);
+            out.site(n, FuirOut.SiteColumn.ASSIGNED_TYPE         , NO_SITE);
+            out.site(n, FuirOut.SiteColumn.BOX_VALUE_CLAZZ       , NO_SITE);
+            out.site(n, FuirOut.SiteColumn.BOX_RESULT_CLAZZ      , NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.MATCH_STATIC_SUBJECT  , NO_SITE);
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_COUNT      , siteCount);
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_TAGS       , out.intss(null));
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_CODE       , out.ints(null));
+            out.site(n, FuirOut.SiteColumn.TAG_NEW_CLAZZ         , NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.TAG_TAG_NUM           , -1);
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_FIELD      , out.ints(null));
+            out.site(n, FuirOut.SiteColumn.ACCESS_IS_DYNAMIC     , FuirOut.bool(false));
+            out.site(n, FuirOut.SiteColumn.MODULE                , out.string(null));
+            out.site(n, FuirOut.SiteColumn.BYTE_POS              , -1);
           }
-        oos.writeObject(clazzes);
-
-        var sites = new SiteRecord[siteCount];
-        for (int s = SITE_BASE; s < SITE_BASE+siteCount; s++)
+        else
           {
-            if (invalidSite(s))
-              {
-                sites[s-SITE_BASE] = new SiteRecord(
-                  clazzAt(s), false, false, null, NO_CLAZZ, null, NO_CLAZZ, null,
-                  NO_CLAZZ, NO_SITE, NO_SITE, NO_SITE, NO_CLAZZ, NO_SITE, siteCount,
-                  null, null, NO_CLAZZ, -1, null, false, null, -1);
-              }
-            else
-              {
-                var codeAt = codeAt(s);
-                var sitePos = sitePos(s);
-                var accessedClazz =
-                  codeAt.isCallOrAssign() && accessedClazz(s) <= lastClazz
-                    ? accessedClazz(s)
-                    : NO_CLAZZ;
-
-                sites[s-SITE_BASE] = new SiteRecord(
-                    clazzAt(s),
-                    alwaysResultsInVoid(s),
-                    doesResultEscape(s),
-                    codeAt,
-                    codeAt != ExprKind.Const ? NO_CLAZZ : constClazz(s),
-                    codeAt == ExprKind.Const ? constData(s) : null,
-                    accessedClazz,
-                    accessedClazz != NO_CLAZZ ? accessedClazzes(s) : null,
-                    codeAt.isCallOrAssign() ? accessTargetClazz(s) : NO_CLAZZ,
-                    codeAt != ExprKind.Tag ? NO_CLAZZ : tagValueClazz(s),
-                    codeAt != ExprKind.Assign ? NO_CLAZZ : assignedType(s),
-                    codeAt != ExprKind.Box ? NO_CLAZZ : boxValueClazz(s),
-                    codeAt != ExprKind.Box ? NO_CLAZZ : boxResultClazz(s),
-                    codeAt != ExprKind.Match ? NO_CLAZZ : matchStaticSubject(s),
-                    codeAt == ExprKind.Match ? matchCaseCount(s) : -1,
-                    codeAt == ExprKind.Match ? matchCaseTags(s) : null,
-                    codeAt == ExprKind.Match ? matchCaseCode(s) : null,
-                    codeAt != ExprKind.Tag ? NO_CLAZZ : tagNewClazz(s),
-                    codeAt != ExprKind.Tag ? -1 : tagTagNum(s),
-                    codeAt != ExprKind.Match ? null : matchCaseFields(s),
-                    codeAt.isCallOrAssign() ? accessIsDynamic(s) : false,
-                    sitePos == null || sitePos.globalPos() == null
-                      ? null : sitePos.globalPos().v0(),
-                    sitePos == null || sitePos.globalPos() == null
-                      ? -1 : sitePos.globalPos().v1()
-                  );
-              }
+            var codeAt = codeAt(s);
+            var sitePos = sitePos(s);
+            var globalPos = sitePos == null ? null : sitePos.globalPos();
+            var accessedClazz =
+              codeAt.isCallOrAssign() && accessedClazz(s) <= lastClazz
+                ? accessedClazz(s)
+                : NO_CLAZZ;
+
+            out.site(n, FuirOut.SiteColumn.CLAZZ_AT              , clazzAt(s));
+            out.site(n, FuirOut.SiteColumn.ALWAYS_RESULTS_IN_VOID, FuirOut.bool(alwaysResultsInVoid(s)));
+            out.site(n, FuirOut.SiteColumn.DOES_RESULT_ESCAPE    , FuirOut.bool(doesResultEscape(s)));
+            out.site(n, FuirOut.SiteColumn.CODE_AT               , FuirOut.ordinal(codeAt));
+            out.site(n, FuirOut.SiteColumn.CONST_CLAZZ           , codeAt != ExprKind.Const ? NO_CLAZZ : constClazz(s));
+            out.site(n, FuirOut.SiteColumn.CONST_DATA            , out.bytes(codeAt == ExprKind.Const ? constData(s) : null));
+            out.site(n, FuirOut.SiteColumn.ACCESSED_CLAZZ        , accessedClazz);
+            out.site(n, FuirOut.SiteColumn.ACCESSED_CLAZZES      , out.ints(accessedClazz != NO_CLAZZ ? accessedClazzes(s) : null));
+            out.site(n, FuirOut.SiteColumn.ACCESS_TARGET_CLAZZ   , codeAt.isCallOrAssign() ? accessTargetClazz(s) : NO_CLAZZ);
+            out.site(n, FuirOut.SiteColumn.TAG_VALUE_CLAZZ       , codeAt != ExprKind.Tag ? NO_CLAZZ : tagValueClazz(s));
+            out.site(n, FuirOut.SiteColumn.ASSIGNED_TYPE         , codeAt != ExprKind.Assign ? NO_CLAZZ : assignedType(s));
+            out.site(n, FuirOut.SiteColumn.BOX_VALUE_CLAZZ       , codeAt != ExprKind.Box ? NO_CLAZZ : boxValueClazz(s));
+            out.site(n, FuirOut.SiteColumn.BOX_RESULT_CLAZZ      , codeAt != ExprKind.Box ? NO_CLAZZ : boxResultClazz(s));
+            out.site(n, FuirOut.SiteColumn.MATCH_STATIC_SUBJECT  , codeAt != ExprKind.Match ? NO_CLAZZ : matchStaticSubject(s));
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_COUNT      , codeAt == ExprKind.Match ? matchCaseCount(s) : -1);
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_TAGS       , out.intss(codeAt == ExprKind.Match ? matchCaseTags(s) : null));
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_CODE       , out.ints(codeAt == ExprKind.Match ? matchCaseCode(s) : null));
+            out.site(n, FuirOut.SiteColumn.TAG_NEW_CLAZZ         , codeAt != ExprKind.Tag ? NO_CLAZZ : tagNewClazz(s));
+            out.site(n, FuirOut.SiteColumn.TAG_TAG_NUM           , codeAt != ExprKind.Tag ? -1 : tagTagNum(s));
+            out.site(n, FuirOut.SiteColumn.MATCH_CASE_FIELD      , out.ints(codeAt != ExprKind.Match ? null : matchCaseFields(s)));
+            out.site(n, FuirOut.SiteColumn.ACCESS_IS_DYNAMIC     , FuirOut.bool(codeAt.isCallOrAssign() && accessIsDynamic(s)));
+            out.site(n, FuirOut.SiteColumn.MODULE                , out.string(globalPos == null ? null : globalPos.v0()));
+            out.site(n, FuirOut.SiteColumn.BYTE_POS              , globalPos == null ? -1 : out.longValue(globalPos.v1()));
           }
-        oos.writeObject(sites);
-
-        oos.writeObject(specialClazzes());
       }
-    catch(IOException e)
-      {
-        e.printStackTrace();
-      }
-    return baos.toByteArray();
+
+    return out.data(mainClazz(), specialClazzes());
   }
 
 
@@ -217,6 +217,16 @@ public class AbstractInterpreter<VALUE, RESULT> extends ANY
      */
     public abstract RESULT match(int s, AbstractInterpreter<VALUE, RESULT> ai, VALUE subv);
 
+    /**
+     * Check if processing of the current code block should stop after a
+     * match, even though the match does not always result in void.  An
+     * interpreter may use this if the code of the case that was executed
+     * ended in a self tail call.
+     *
+     * @return true to stop processing the current code block.
+     */
+    public boolean stopAfterMatch() { return false; }
+
     /**
      * Create a tagged value of type newcl from an untagged value for type valuecl.
      *
@@ -643,7 +653,7 @@ public class AbstractInterpreter<VALUE, RESULT> extends ANY
           var subjClazz = _fuir.matchStaticSubject(s);
           var subv      = pop(stack, subjClazz);
           res = _processor.match(s, this, subv);
-          if (_fuir.alwaysResultsInVoid(s))
+          if (_fuir.alwaysResultsInVoid(s) || _processor.stopAfterMatch())
             {
               stack.push(null);
             }
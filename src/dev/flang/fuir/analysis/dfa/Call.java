@@ -308,7 +308,10 @@ public class Call extends ANY implements Comparable<Call>, Context
 
     // record how depends on result to mark
     // them as hot again when result changes.
-    _dependOnResult.add(from);
+    if (_dependOnResult.isEmpty() || _dependOnResult.getLast() != from)
+      {
+        _dependOnResult.add(from);
+      }
 
     Val result = null;
     if (_dfa._fuir.clazzKind(calledClazz()) == IR.FeatureKind.Intrinsic)
@@ -619,6 +622,7 @@ public class Call extends ANY implements Comparable<Call>, Context
    */
   Value getEffect(int s, int ecl, boolean ignoreError)
   {
+    _dfa.effectRead(ecl);
     Value result;
     if (_dfa._real)
       {
@@ -977,6 +977,29 @@ public class DFA extends ANY
   List<Call> _hotCalls = new List<>();
 
 
+  /**
+   * The call that is currently being analyzed, null if none.  This is used to
+   * record which calls read the fields of an Instance or the values of an
+   * effect, see Readers.read.
+   */
+  Call _currentCall = null;
+
+
+  /**
+   * For each effect type, the calls that read the values of this effect, see
+   * effectRead() and effectChanged().
+   */
+  private IntMap<Readers> _effectReaders = new IntMap<>();
+
+
+  /**
+   * Total number of calls analyzed, and number of calls analyzed during the
+   * current iteration, for statistics only.
+   */
+  private int _analyzedCalls = 0;
+  private int _analyzedCallsInIteration = 0;
+
+
   /**
    * Current number of recursive analysis of newly created Calls, see {@code analyzeNewCall} for
    * details.
@@ -1075,6 +1098,11 @@ public class DFA extends ANY
   /**
    * Flag to detect changes during current iteration of the fix-point algorithm.
    * If this remains false during one iteration we have reached a fix-point.
+   *
+   * Changes whose dependent calls are known, i.e., changes of the result of a
+   * call, of the arguments of a call, of a field of an Instance or of the
+   * values of an effect, do not set this flag but mark the dependent calls as
+   * hot instead, see hot().
    */
   private boolean _changed = false;
 
@@ -1343,6 +1371,7 @@ public class DFA extends ANY
     _numericValues = new List<>();
     _numericValuesAny = new List<>();
     _preEffectValues = new TreeMap<>();
+    _effectReaders = new IntMap<>();
 
     _trueX = null; _falseX = null; _boolX = null;
 
@@ -1358,7 +1387,8 @@ public class DFA extends ANY
     var realIter = findFixPoint();
     _options.timer("dfa_real");
 
-    _options.verbosePrintln(2, "DFA needed " + (preIter+realIter) +  " iterations (pre/real) ("+ preIter + "/" + realIter + ").");
+    _options.verbosePrintln(2, "DFA needed " + (preIter+realIter) +  " iterations (pre/real) ("+ preIter + "/" + realIter + "), " +
+                            "analyzed " + _analyzedCalls + " calls in " + (System.currentTimeMillis() - startTime) + "ms.");
 
     if (preIter+realIter > MAX_ITERATIONS)
       {
@@ -1376,6 +1406,7 @@ public class DFA extends ANY
                            preIter,
                            realIter,
                            _calls.size(),
+                           _analyzedCalls,
                            _numUniqueValues,
                            _fuir.clazzName(_fuir.mainClazz()));
       }
@@ -1410,7 +1441,8 @@ public class DFA extends ANY
             _options.verbosePrintln(2,
                                     "DFA " + (_real ? "real " : "pre  ") +
                                     "iteration #" + String.format("%02d", cnt)
-                                    + ", prev " + String.format("%4d", delta) + "ms: ---------- " +
+                                    + ", prev " + String.format("%4d", delta) + "ms"
+                                    + ", " + String.format("%6d", _analyzedCallsInIteration) + " calls analyzed: ---------- " +
                                     (_options.verbose(3) ? ("calls:"   + String.format("%5d", _calls.size()) +
                                                             ",values:" + String.format("%5d",_numUniqueValues) +
                                                             ",envs:"   + String.format("%3d",(_envsQuick.size() + _envs.size())) +
@@ -1418,6 +1450,7 @@ public class DFA extends ANY
                                                               ? " ---- " + _changedSetBy.get() : ""))
                                                          : ""                                                     ));
           }
+        _analyzedCallsInIteration = 0;
 
         if (cnt == 1)
           {
@@ -1611,8 +1644,61 @@ public class DFA extends ANY
   }
 
 
+  /**
+   * Record that the call currently being analyzed reads the values of effect
+   * type ecl.
+   *
+   * @param ecl clazz defining the effect type.
+   */
+  void effectRead(int ecl)
+  {
+    effectReaders(ecl).read(this);
+  }
+
+
+  /**
+   * Record that the values of effect type ecl have changed, in an Env, in the
+   * default effects or in the values used while Envs are not traced.
+   *
+   * Readers are recorded per effect type, not per Env, so the readers of ecl
+   * in all Envs will be marked as hot.
+   *
+   * @param ecl clazz defining the effect type.
+   *
+   * @param by used to produce a message describing the change.
+   */
+  void effectChanged(int ecl, Supplier<String> by)
+  {
+    effectReaders(ecl).changed(this, by);
+  }
+
+
+  /**
+   * Get the readers of the values of effect type ecl.
+   *
+   * @param ecl clazz defining the effect type.
+   */
+  private Readers effectReaders(int ecl)
+  {
+    var r = _effectReaders.get(ecl);
+    if (r == null)
+      {
+        r = new Readers();
+        _effectReaders.put(ecl, r);
+      }
+    return r;
+  }
+
+
   /**
    * Perform one iteration of the analysis.
+   *
+   * All calls are analyzed once since changes recorded by wasChanged() may
+   * affect any call.  Then, calls marked as hot are analyzed again until there
+   * are none left.  Calls are marked hot when their arguments, the results of
+   * calls they depend on, fields of instances or effect values they read
+   * change, see hot().  Such changes hence do not require another iteration
+   * over all calls.
    */
   void iteration()
   {
@@ -1666,12 +1752,17 @@ public class DFA extends ANY
         check
           (c._args.size() == _fuir.clazzArgCount(cc));
 
+        _analyzedCalls++;
+        _analyzedCallsInIteration++;
+        var prev = _currentCall;
+        _currentCall = c;
         var ai = new AbstractInterpreter2<Val>(_fuir, new Analyze(c));
         var r = ai.processClazz(cc);
         if (r != null)
           {
             c.returns();
           }
+        _currentCall = prev;
       }
   }
 
@@ -2170,7 +2261,7 @@ public class DFA extends ANY
               if (oev != ev)
                 {
                   cl._dfa._preEffectValues.put(ecl, ev);
-                  cl._dfa.wasChanged(() -> "effect.type.set0 called: " + fuir(cl).clazzName(cl.calledClazz()));
+                  cl._dfa.effectChanged(ecl, () -> "effect.type.set0 called: " + fuir(cl).clazzName(cl.calledClazz()));
                 }
             }
 
@@ -2204,7 +2295,7 @@ public class DFA extends ANY
               if (oev != ev)
                 {
                   cl._dfa._preEffectValues.put(ecl, ev);
-                  cl._dfa.wasChanged(() -> "effect.instate_at_singularity0 called: " + fuir(cl).clazzName(cl.calledClazz()));
+                  cl._dfa.effectChanged(ecl, () -> "effect.instate_at_singularity0 called: " + fuir(cl).clazzName(cl.calledClazz()));
                 }
             }
           return Value.UNIT;
@@ -2231,6 +2322,7 @@ public class DFA extends ANY
                                     cl);
           var result = cll.result(cl);
 
+          cl._dfa.effectRead(ecl);
           Value ev;
           if (cl._dfa._real)
             {
@@ -2250,7 +2342,7 @@ public class DFA extends ANY
               if (oev != ev)
                 {
                   cl._dfa._preEffectValues.put(ecl, ev);
-                  cl._dfa.wasChanged(() -> EFFECT_INSTATE_NAME + " called: " + fuir(cl).clazzName(cl.calledClazz()));
+                  cl._dfa.effectChanged(ecl, () -> EFFECT_INSTATE_NAME + " called: " + fuir(cl).clazzName(cl.calledClazz()));
                 }
             }
           var aborted =
@@ -2652,7 +2744,7 @@ public class DFA extends ANY
             if (old_e == null || Value.compare(old_e, new_e) != 0)
               {
                 _defaultEffects.put(ecl, new_e);
-                wasChanged(() -> "effect.replace called: " + _fuir.clazzName(ecl));
+                effectChanged(ecl, () -> "effect.replace called: " + _fuir.clazzName(ecl));
               }
           }
       }
@@ -3502,6 +3594,7 @@ public class DFA extends ANY
         if (v0 != v1)
           {
             _allValuesForEnv.put(ecl, v1);
+            effectChanged(ecl, () -> "DFA.newEnv for " + _fuir.clazzName(ecl));
           }
         return env;
       }
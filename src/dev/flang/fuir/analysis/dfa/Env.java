@@ -460,7 +460,7 @@ public class Env extends ANY implements Comparable<Env>
         if (Value.compare(oe, ne) != 0)
           {
             _actualEffectValues = ne;
-            _dfa.wasChanged(() -> "effect.replace called: "+_dfa._fuir.clazzName(ecl));
+            _dfa.effectChanged(ecl, () -> "effect.replace called: "+_dfa._fuir.clazzName(ecl));
           }
       }
     else if (_outer != null)
@@ -510,7 +510,7 @@ public class Env extends ANY implements Comparable<Env>
         if (!_isAborted)
           {
             _isAborted = true;
-            _dfa.wasChanged(() -> "effect.abort0 called: "+_dfa._fuir.clazzName(ecl));
+            _dfa.effectChanged(ecl, () -> "effect.abort0 called: "+_dfa._fuir.clazzName(ecl));
           }
       }
     else if (_outer != null)
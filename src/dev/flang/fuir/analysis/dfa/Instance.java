@@ -87,6 +87,13 @@ public class Instance extends Value
   CallGroup _group;
 
 
+  /**
+   * Calls that have read fields of this instance since the last change of a
+   * field.  These are marked as hot when a field that is read changes.
+   */
+  private final Readers _readers = new Readers();
+
+
   /*---------------------------  constructors  ---------------------------*/
 
 
@@ -171,7 +178,7 @@ public class Instance extends Value
         var fv = v;
         if (dfa.isRead(field))
           {
-            _dfa.wasChanged(() -> "setField: new values " + fv + " (was " + oldv + ") for " + this);
+            _readers.changed(_dfa, () -> "setField: new values " + fv + " (was " + oldv + ") for " + this);
           }
         _fields.put(field, v);
       }
@@ -188,6 +195,7 @@ public class Instance extends Value
        site != -1);
 
     dfa.readField(field);
+    _readers.read(dfa);
     var v = _fields.get(field);
     Val res = v;
     if (v == null)
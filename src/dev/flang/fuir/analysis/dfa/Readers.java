@@ -0,0 +1,123 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class Readers
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.fuir.analysis.dfa;
+
+import java.util.LinkedHashSet;
+import java.util.function.Supplier;
+
+import dev.flang.util.ANY;
+
+
+/**
+ * Readers records the calls that read some part of the state of the DFA, the
+ * fields of an Instance or the values of an effect type, to mark them as hot
+ * when this state changes.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+class Readers extends ANY
+{
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * Calls that have read since the last change, in the order of their first
+   * read, null if none.
+   *
+   * Call does not redefine equals() and hashCode(), so this is a set by
+   * identity.  A TreeSet would use Call.compareTo(), which compares the call
+   * groups, the arguments and the environments for every insertion.
+   */
+  private LinkedHashSet<Call> _calls = null;
+
+
+  /**
+   * Has the state been read outside of the analysis of a call?  If so, the
+   * readers are not known and a change requires a new iteration over all
+   * calls.
+   */
+  private boolean _untracked = false;
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Record that the call currently analyzed by dfa reads the state.
+   *
+   * @param dfa the DFA instance we are working with.
+   */
+  void read(DFA dfa)
+  {
+    var c = dfa._currentCall;
+    if (c == null)
+      {
+        _untracked = true;
+      }
+    else
+      {
+        if (_calls == null)
+          {
+            _calls = new LinkedHashSet<>();
+          }
+        _calls.add(c);
+      }
+  }
+
+
+  /**
+   * Record that the state has changed: mark all calls that read it as hot.
+   *
+   * If there were untracked reads or if dfa is reporting its results, call
+   * wasChanged() to get another iteration, this makes the fix point check
+   * after reporting the results see this change.
+   *
+   * @param dfa the DFA instance we are working with.
+   *
+   * @param by used to produce a message describing the change.
+   */
+  void changed(DFA dfa, Supplier<String> by)
+  {
+    if (_untracked || dfa._reportResults)
+      {
+        dfa.wasChanged(by);
+      }
+    if (_calls != null)
+      {
+        for (var c : _calls)
+          {
+            dfa.hot(c);
+          }
+        _calls.clear();
+      }
+  }
+
+}
+
+/* end of file */
@@ -65,11 +65,12 @@ public class Concurrency
     throws Throwable
   {
 
+    long submitTime = System.nanoTime();
     Future<ComputationPerformance<T>> future = executor.submit(() -> {
       long startTime = System.nanoTime();
       var result = callable.call();
       long stopTime = System.nanoTime();
-      return new ComputationPerformance<T>(result, stopTime - startTime);
+      return new ComputationPerformance<T>(result, stopTime - startTime, startTime - submitTime);
     });
 
     try
@@ -38,6 +38,13 @@ import dev.flang.util.ANY;
 
 public class ParserCache extends ANY
 {
+  /*
+   * Only one FrontEnd may be alive: creating a FrontEnd resets static state
+   * like Types.resolved, Types.t_ERROR or the FeatureName and Call tables, so
+   * the AST of an older FrontEnd would refer to the state of the newer one.
+   *
+   * NYI: keep more entries once this state is per FrontEnd.
+   */
   private int PARSER_CACHE_MAX_SIZE = 1;
 
   /*
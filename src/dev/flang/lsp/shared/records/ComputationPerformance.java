@@ -28,6 +28,7 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 package dev.flang.lsp.shared.records;
 
 /**
- * wraps the result of a computation and the time it took to compute the result.
+ * wraps the result of a computation, the time it took to compute the result
+ * and the time the computation waited to be started.
  */
-public record ComputationPerformance<T> (T result, long nanoSeconds){}
+public record ComputationPerformance<T> (T result, long nanoSeconds, long queuedNanoSeconds){}
@@ -49,6 +49,7 @@ public class Computation
   public static <T> CompletableFuture<T> cancellableComputation(Callable<T> callable, String callee, int maxTimeInMs)
   {
     Context.logger.log("[" + callee + "] started computing.");
+    var requestTime = System.nanoTime();
 
     var result = new CompletableFuture<T>();
     return result.completeAsync(() -> {
@@ -64,7 +65,9 @@ public class Computation
             maxTimeInMs);
 
           var ms = res.nanoSeconds() / 1_000_000;
-          Context.logger.log("[" + callee + "] finished in " + ms + "ms");
+          var queuedMs = res.queuedNanoSeconds() / 1_000_000;
+          var latencyMs = (System.nanoTime() - requestTime) / 1_000_000;
+          Context.logger.log("[" + callee + "] finished in " + ms + "ms, waited " + queuedMs + "ms, latency " + latencyMs + "ms");
 
           return res.result();
         }
@@ -0,0 +1,331 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class ConstantFolding
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.opt;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import dev.flang.fuir.OptimizedFUIR;
+
+import dev.flang.ir.IR.ExprKind;
+import dev.flang.ir.IR.FeatureKind;
+
+import dev.flang.util.List;
+
+
+/**
+ * ConstantFolding replaces calls to integer intrinsics whose target and
+ * argument are constants by the constant result.
+ *
+ * A call {@code 3 +° 4} is represented by the sites {@code Const 3}, {@code
+ * Const 4}, {@code Call i32.infix +°}.  This is replaced by {@code Comment},
+ * {@code Comment}, {@code Const 7}.  Since the result is a constant again,
+ * nested expressions like {@code (1 +° 2) *° 3} are folded as well.
+ *
+ * If only the argument is a constant that is the right identity of the
+ * operation, e.g., {@code x +° 0} or {@code x *° 1}, the call and the constant
+ * are replaced by {@code Comment}s such that the value of {@code x} is used
+ * directly.  This does not work for a constant target like in {@code 0 +° x}
+ * since the sites that produce {@code x} are not known.
+ *
+ * Only operations that wrap around are folded, these produce the same lower
+ * bits independent of the signedness and size of the operands such that all
+ * integer types can be handled alike.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+class ConstantFolding extends Pass
+{
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Create constant folding pass for the given FUIR.
+   */
+  ConstantFolding(OptimizedFUIR fuir)
+  {
+    super(fuir);
+  }
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Run this pass.
+   *
+   * @return the number of calls that were replaced by constants.
+   */
+  @Override
+  int run()
+  {
+    var count = new int[] { 0 };
+    forAllCodeBlocks(c ->
+      {
+        // the sites in this block that are not comments, used to find the
+        // sites that produced the arguments of a call.
+        var sites = new List<Integer>();
+        for (var s = c; _fuir.withinCode(s); s = s + _fuir.codeSizeAt(s))
+          {
+            switch (_fuir.codeAt(s))
+              {
+              case Comment -> { }
+              case Call ->
+                {
+                  if (fold(s, sites))
+                    {
+                      count[0]++;
+                    }
+                  else
+                    {
+                      sites.add(s);
+                    }
+                }
+              default -> sites.add(s);
+              }
+          }
+      });
+    return count[0];
+  }
+
+
+  /**
+   * Describe the result of run() for verbose output.
+   *
+   * @param n the number of calls that were replaced by constants.
+   */
+  @Override
+  String describe(int n)
+  {
+    return "folded " + n + " calls";
+  }
+
+
+  /**
+   * Try to fold the call at site {@code s}.
+   *
+   * @param s site of a call
+   *
+   * @param sites the sites preceding {@code s} in its code block that are not
+   * comments.  If the call was folded, the sites replaced by comments are
+   * removed and {@code s} is added if it was replaced by a constant.
+   *
+   * @return true iff the call was folded.
+   */
+  private boolean fold(int s, List<Integer> sites)
+  {
+    var result = false;
+    var cc = _fuir.accessedClazz(s);
+    if (cc != OptimizedFUIR.NO_CLAZZ                         &&
+        !_fuir.accessIsDynamic(s)                            &&
+        _fuir.clazzKind(cc) == FeatureKind.Intrinsic         &&
+        _fuir.clazzOuterClazz(cc) == _fuir.clazzResultClazz(cc))
+      {
+        var rc = _fuir.clazzResultClazz(cc);
+        var bytes = bytes(rc);
+        var name = _fuir.clazzOriginalName(cc);
+        var op = name.substring(name.indexOf('.') + 1);
+        var n = _fuir.clazzArgCount(cc) + 1;
+        if (bytes > 0 &&
+            n <= 2 &&
+            n <= sites.size() &&
+            (n == 1 ? isConst(sites.getLast(), rc, bytes) && isUnary(op)
+                    : isConst(sites.get(sites.size()-2), rc, bytes) && isConst(sites.getLast(), rc, bytes) && isBinary(op)))
+          {
+            var a = value(sites.get(sites.size()-n), bytes);
+            var v = n == 1 ? unary(op, a)
+                           : binary(op, a, value(sites.getLast(), bytes));
+            for (var i = 0; i < n; i++)
+              {
+                _fuir.replaceByComment(sites.removeLast(), "constant folded into call to " + name);
+              }
+            _fuir.replaceByConst(s, rc, data(v, bytes));
+            sites.add(s);
+            result = true;
+          }
+        else if (bytes > 0 &&
+                 n == 2 &&
+                 n <= sites.size() &&
+                 isConst(sites.getLast(), rc, bytes) &&
+                 isRightIdentity(op, value(sites.getLast(), bytes), bytes))
+          {
+            _fuir.replaceByComment(sites.removeLast(), "identity argument of call to " + name + " removed");
+            _fuir.replaceByComment(s, "call to " + name + " with identity argument removed");
+            result = true;
+          }
+      }
+    return result;
+  }
+
+
+  /**
+   * Is op a unary operation handled by this pass?
+   */
+  private static boolean isUnary(String op)
+  {
+    return op.equals("prefix -°");
+  }
+
+
+  /**
+   * Is op a binary operation handled by this pass?
+   */
+  private static boolean isBinary(String op)
+  {
+    return switch (op)
+      {
+      case "infix +°", "infix -°", "infix *°", "infix &", "infix |", "infix ^" -> true;
+      default -> false;
+      };
+  }
+
+
+  /**
+   * Is b the right identity of binary operation op, i.e., is {@code a op b == a}
+   * for all a?
+   *
+   * @param op a binary operation, isBinary(op) must hold.
+   *
+   * @param b the value of the argument.
+   *
+   * @param bytes the number of bytes of the operands.
+   */
+  private static boolean isRightIdentity(String op, long b, int bytes)
+  {
+    var allOnes = bytes == 8 ? -1L : (1L << (8 * bytes)) - 1;
+    return switch (op)
+      {
+      case "infix +°", "infix -°", "infix |", "infix ^" -> b == 0;
+      case "infix *°"                                   -> b == 1;
+      case "infix &"                                    -> b == allOnes;
+      default                                           -> false;
+      };
+  }
+
+
+  /**
+   * Perform unary operation op.
+   */
+  private static long unary(String op, long a)
+  {
+    return switch (op)
+      {
+      case "prefix -°" -> -a;
+      default -> throw new Error("unexpected unary op " + op);
+      };
+  }
+
+
+  /**
+   * Perform binary operation op.
+   */
+  private static long binary(String op, long a, long b)
+  {
+    return switch (op)
+      {
+      case "infix +°" -> a + b;
+      case "infix -°" -> a - b;
+      case "infix *°" -> a * b;
+      case "infix &"  -> a & b;
+      case "infix |"  -> a | b;
+      case "infix ^"  -> a ^ b;
+      default -> throw new Error("unexpected binary op " + op);
+      };
+  }
+
+
+  /**
+   * The number of bytes of integer clazz cl, 0 if cl is not an integer clazz.
+   */
+  private int bytes(int cl)
+  {
+    return switch (_fuir.getSpecialClazz(cl))
+      {
+      case c_i8 , c_u8  -> 1;
+      case c_i16, c_u16 -> 2;
+      case c_i32, c_u32 -> 4;
+      case c_i64, c_u64 -> 8;
+      default           -> 0;
+      };
+  }
+
+
+  /**
+   * Is site s a constant of clazz cl with the given number of bytes?
+   */
+  private boolean isConst(int s, int cl, int bytes)
+  {
+    return
+      _fuir.codeAt(s) == ExprKind.Const &&
+      _fuir.constClazz(s) == cl &&
+      _fuir.constData(s).length == 4 + bytes;
+  }
+
+
+  /**
+   * Get the value of the integer constant at site s.
+   *
+   * @param s site of a constant
+   *
+   * @param bytes the number of bytes of the constant.
+   */
+  private long value(int s, int bytes)
+  {
+    var d = _fuir.constData(s);
+    var result = 0L;
+    for (var i = bytes - 1; i >= 0; i--)
+      {
+        result = (result << 8) | (d[4 + i] & 0xff);
+      }
+    return result;
+  }
+
+
+  /**
+   * Create the constant data for the lower bytes of v.
+   *
+   * @param v a value
+   *
+   * @param bytes the number of bytes of the constant.
+   */
+  private static byte[] data(long v, int bytes)
+  {
+    var bb = ByteBuffer.allocate(4 + bytes).order(ByteOrder.LITTLE_ENDIAN);
+    bb.putInt(bytes);
+    for (var i = 0; i < bytes; i++)
+      {
+        bb.put((byte) (v >>> (8 * i)));
+      }
+    return bb.array();
+  }
+
+
+}
+
+/* end of file */
@@ -26,6 +26,8 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.opt;
 
+import java.util.List;
+
 import dev.flang.fuir.GeneratingFUIR;
 import dev.flang.fuir.OptimizedFUIR;
 
@@ -36,12 +38,29 @@ import dev.flang.util.FuzionOptions;
 /**
  * The Optimizer creates the intermediate code FUIR from the application IR (air)
  *
+ * The FUIR is optimized by running a sequence of passes, see Pass.  Match
+ * cases that are never taken and assignments to unit type fields are already
+ * removed by the FUIR created by the DFA: DFA.new_fuir() redefines
+ * matchCaseTags() to return no tags for cases that are never taken, for which
+ * the backends create no code (see, e.g., the match processor in C), and
+ * accessedClazz() to return NO_CLAZZ for assignments to unit type fields, for
+ * which AbstractInterpreter.process() only drops the values.
+ *
  * @author Fridtjof Siebert (siebert@tokiwa.software)
  */
 public class Optimizer extends ANY
 {
 
 
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * The names of all passes, in the order they are run.
+   */
+  public static final List<String> PASSES = List.of("ConstantFolding");
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
@@ -59,8 +78,42 @@ public class Optimizer extends ANY
   public Optimizer(FuzionOptions options, GeneratingFUIR fuir)
   {
     _options = options;
-    // NYI: UNDER DEVELOPMENT: optimizer implementation still missing
     _fuir = new OptimizedFUIR(fuir);
+    // NYI: UNDER DEVELOPMENT: inlining requires inserting sites into the code
+    // of the caller, which is not supported by OptimizedFUIR yet.
+    for (var p : new Pass[] { new ConstantFolding(_fuir) })
+      {
+        if (CHECKS) check
+          (PASSES.contains(p.name()));
+
+        if (p.enabled())
+          {
+            var n = p.run();
+            _options.verbosePrintln(2, "Optimizer " + p.name() + " " + p.describe(n) + ".");
+          }
+        else
+          {
+            _options.verbosePrintln(2, "Optimizer " + p.name() + " disabled.");
+          }
+      }
+  }
+
+
+  /*--------------------------  static methods  --------------------------*/
+
+
+  /**
+   * Disable the pass with the given name for all following runs of the
+   * Optimizer.  This sets the property that is checked by Pass.enabled().
+   *
+   * @param name the name of a pass, must be in PASSES.
+   */
+  public static void disablePass(String name)
+  {
+    if (PRECONDITIONS) require
+      (PASSES.contains(name));
+
+    System.setProperty(Pass.enableProperty(name), "false");
   }
 
 
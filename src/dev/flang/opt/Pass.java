@@ -0,0 +1,180 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class Pass
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.opt;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+import dev.flang.fuir.OptimizedFUIR;
+
+import dev.flang.ir.IR.ExprKind;
+import dev.flang.ir.IR.FeatureKind;
+
+import dev.flang.util.ANY;
+import dev.flang.util.FuzionOptions;
+
+
+/**
+ * Pass is the parent of all optimization passes run by the Optimizer.
+ *
+ * A pass modifies the OptimizedFUIR in place.  Every pass can be disabled
+ * using the fz option {@code -XdisableOptimizations={<name>,..}} or the
+ * property or env var {@code dev.flang.opt.<name>.enable}, e.g.,
+ * {@code -Ddev.flang.opt.ConstantFolding.enable=false}.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+abstract class Pass extends ANY
+{
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * The FUIR this pass modifies.
+   */
+  final OptimizedFUIR _fuir;
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Create a pass working on the given FUIR.
+   */
+  Pass(OptimizedFUIR fuir)
+  {
+    _fuir = fuir;
+  }
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * The name of this pass as used in the enable property and in verbose
+   * output.
+   */
+  String name()
+  {
+    return getClass().getSimpleName();
+  }
+
+
+  /**
+   * The name of the property or env var to enable or disable the pass with
+   * the given name.
+   */
+  static String enableProperty(String name)
+  {
+    return "dev.flang.opt." + name + ".enable";
+  }
+
+
+  /**
+   * Is this pass enabled?
+   */
+  boolean enabled()
+  {
+    return FuzionOptions.boolPropertyOrEnv(enableProperty(name()), true);
+  }
+
+
+  /**
+   * Run this pass.
+   *
+   * @return the number of optimizations performed, see describe().
+   */
+  abstract int run();
+
+
+  /**
+   * Describe the result of run() for verbose output.
+   *
+   * @param n the result of run().
+   */
+  String describe(int n)
+  {
+    return "performed " + n + " optimizations";
+  }
+
+
+  /**
+   * Call {@code block} for the first site of every code block of every routine
+   * that needs code, including the code blocks of match cases that may be
+   * taken.
+   */
+  void forAllCodeBlocks(IntConsumer block)
+  {
+    var done = new BitSet();
+    for (var cl = _fuir.firstClazz(); cl <= _fuir.lastClazz(); cl++)
+      {
+        if (_fuir.clazzKind(cl) == FeatureKind.Routine && _fuir.clazzNeedsCode(cl))
+          {
+            forAllCodeBlocks(_fuir.clazzCode(cl), done, block);
+          }
+      }
+  }
+
+
+  /**
+   * Helper for forAllCodeBlocks to process code block starting at {@code c}
+   * and all nested match cases.
+   *
+   * @param c the first site of a code block
+   *
+   * @param done the sites of code blocks processed already
+   *
+   * @param block the action to perform for every code block
+   */
+  private void forAllCodeBlocks(int c, BitSet done, IntConsumer block)
+  {
+    if (_fuir.withinCode(c) && !done.get(c - OptimizedFUIR.SITE_BASE))
+      {
+        done.set(c - OptimizedFUIR.SITE_BASE);
+        block.accept(c);
+        for (var s = c; _fuir.withinCode(s); s = s + _fuir.codeSizeAt(s))
+          {
+            if (_fuir.codeAt(s) == ExprKind.Match)
+              {
+                for (var cix = 0; cix < _fuir.matchCaseCount(s); cix++)
+                  {
+                    if (_fuir.matchCaseTags(s, cix).length > 0)
+                      {
+                        forAllCodeBlocks(_fuir.matchCaseCode(s, cix), done, block);
+                      }
+                  }
+              }
+          }
+      }
+  }
+
+
+}
+
+/* end of file */
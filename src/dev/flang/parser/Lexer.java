@@ -28,6 +28,7 @@ package dev.flang.parser;
 
 import java.math.BigInteger;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -122,6 +123,30 @@ public class Lexer extends SourceFile
     }
   }
 
+
+  /**
+   * Key for the results of speculative parsing, see speculation().  This
+   * contains the rule and the position together with all the restrictions that
+   * affect the tokens returned by {@code current()}.  The end position of the
+   * current token is needed since the current token may have been split, see
+   * splitOperator().
+   */
+  private record SpeculationKey(Enum<?> rule,
+                                int tokenPos,
+                                int tokenEndPos,
+                                int minIndent,
+                                int minIndentStartPos,
+                                int sameLine,
+                                int endAtSpace,
+                                boolean endAtComma,
+                                boolean endAtColon,
+                                boolean endAtBar,
+                                SemiState atSemicolon,
+                                SourcePosition surroundingIf,
+                                SourcePosition surroundingLoop)
+  {
+  }
+
   /*----------------------------  constants  ----------------------------*/
 
 
@@ -423,6 +448,20 @@ public class Lexer extends SourceFile
   };
 
 
+  /**
+   * Code point classes for unicode categories, indexed by
+   * UnicodeData.categoryId().
+   */
+  private static final byte[] _unicodeKind = new byte[UnicodeData.categoryCount()];
+  static
+  {
+    for (var id = 0; id < _unicodeKind.length; id++)
+      {
+        _unicodeKind[id] = unicodeKind(UnicodeData.categoryName(id));
+      }
+  }
+
+
   /**
    * ASCII control sequence names or null if normal ASCII char.
    */
@@ -696,6 +735,13 @@ public class Lexer extends SourceFile
   private boolean _ignoredTokenBefore = false;
 
 
+  /**
+   * Results of speculative parsing at a given position, shared by this lexer
+   * and all its forks.  See speculation().
+   */
+  private final HashMap<SpeculationKey, Boolean> _speculations;
+
+
   /*--------------------------  constructors  ---------------------------*/
 
 
@@ -709,6 +755,7 @@ public class Lexer extends SourceFile
     if (PRECONDITIONS) require
       (fileName != null);
 
+    _speculations = new HashMap<>();
     next();
   }
 
@@ -737,12 +784,60 @@ public class Lexer extends SourceFile
     _atSemicolon = original._atSemicolon;
     _ignoredTokenBefore = original._ignoredTokenBefore;
     _stringLexer = original._stringLexer == null ? null : new StringLexer(original._stringLexer);
+    _speculations = original._speculations;
   }
 
 
   /*-----------------------------  methods  -----------------------------*/
 
 
+  /**
+   * Get the memoized result of speculative parsing rule {@code rule} at the
+   * current position, or compute it using {@code speculate} and memoize it.
+   *
+   * Speculative parsing in a fork of the parser is repeated frequently at the
+   * same position, e.g., to check if the current position is a type.  Since
+   * the result depends on the current position and the restrictions that are
+   * set for {@code current()} only, it can be reused.  Within a string, the
+   * state of the string lexer is not part of the key, so the result is not
+   * memoized.
+   *
+   * @param rule the speculative parsing rule
+   *
+   * @param speculate code to perform the speculative parsing, must not change
+   * the state of this lexer.
+   *
+   * @return the result of speculate.
+   */
+  boolean speculation(Enum<?> rule, Supplier<Boolean> speculate)
+  {
+    if (_stringLexer != null)
+      {
+        return speculate.get();
+      }
+    var key = new SpeculationKey(rule,
+                                 _tokenPos,
+                                 bytePos(),
+                                 _minIndent,
+                                 _minIndentStartPos,
+                                 _sameLine,
+                                 _endAtSpace,
+                                 _endAtComma,
+                                 _endAtColon,
+                                 _endAtBar,
+                                 _atSemicolon,
+                                 _surroundingIf,
+                                 _surroundingLoop);
+    var res = _speculations.get(key);
+    if (res == null)
+      {
+        res = speculate.get();
+        _speculations.put(key, res);
+      }
+    return res;
+  }
+
+
   /**
    * Is the given token ignored?  This is usually the case for t_erro, t_ws and
    * t_comment, but it might be different for tools like the pretty printer that
@@ -1893,46 +1988,57 @@ A xref:fuzion_keyword[Fuzion keyword] cannot be used as a Fuzion identifier.
       }
     else
       {
-        kind = switch (UnicodeData.category(p))
-          {
-          case "Cc" -> K_UNKNOWN;  // 	Other, Control
-          case "Cf" -> K_UNKNOWN;  // 	Other, Format
-          case "Cn" -> K_UNKNOWN;  // 	Other, Not Assigned (no characters in the file have this property)
-          case "Co" -> K_UNKNOWN;  // 	Other, Private Use
-          case "Cs" -> K_UNKNOWN;  // 	Other, Surrogate
-          case "LC" -> K_LETTER;   // 	Letter, Cased
-          case "Ll" -> K_LETTER;   // 	Letter, Lowercase
-          case "Lm" -> K_LETTER;   // 	Letter, Modifier
-          case "Lo" -> K_LETTER;   // 	Letter, Other
-          case "Lt" -> K_LETTER;   // 	Letter, Titlecase
-          case "Lu" -> K_LETTER;   // 	Letter, Uppercase
-          case "Mc" -> K_UNKNOWN;  // 	Mark, Spacing Combining
-          case "Me" -> K_UNKNOWN;  // 	Mark, Enclosing
-          case "Mn" -> K_UNKNOWN;  // 	Mark, Nonspacing
-          case "Nd" -> K_NUMERIC;  // 	Number, Decimal Digit
-          case "Nl" -> K_NUMERIC;  // 	Number, Letter
-          case "No" -> K_NUMERIC;  // 	Number, Other
-          case "Pc" -> K_OP;       // 	Punctuation, Connector
-          case "Pd" -> K_OP;       // 	Punctuation, Dash
-          case "Pe" -> K_OP;       // 	Punctuation, Close
-          case "Pf" -> K_OP;       // 	Punctuation, Final quote (may behave like Ps or Pe depending on usage)
-          case "Pi" -> K_OP;       // 	Punctuation, Initial quote (may behave like Ps or Pe depending on usage)
-          case "Po" -> K_OP;       // 	Punctuation, Other
-          case "Ps" -> K_OP;       // 	Punctuation, Open
-          case "Sc" -> K_OP;       // 	Symbol, Currency
-          case "Sk" -> K_OP;       // 	Symbol, Modifier
-          case "Sm" -> K_OP;       // 	Symbol, Math
-          case "So" -> K_OP;       // 	Symbol, Other
-          case "Zl" -> K_UNKNOWN;  // 	Separator, Line
-          case "Zp" -> K_UNKNOWN;  // 	Separator, Paragraph
-          case "Zs" -> K_UNKNOWN;  // 	Separator, Space
-          default   -> K_UNKNOWN;
-          };
+        kind = _unicodeKind[UnicodeData.categoryId(p)];
       }
     return kind;
   }
 
 
+  /**
+   * Determine the kind (K_*) for a given unicode category.
+   *
+   * @param category a unicode category such as "Lu", "Sm", etc.
+   */
+  private static byte unicodeKind(String category)
+  {
+    return switch (category)
+      {
+      case "Cc" -> K_UNKNOWN;  // 	Other, Control
+      case "Cf" -> K_UNKNOWN;  // 	Other, Format
+      case "Cn" -> K_UNKNOWN;  // 	Other, Not Assigned (no characters in the file have this property)
+      case "Co" -> K_UNKNOWN;  // 	Other, Private Use
+      case "Cs" -> K_UNKNOWN;  // 	Other, Surrogate
+      case "LC" -> K_LETTER;   // 	Letter, Cased
+      case "Ll" -> K_LETTER;   // 	Letter, Lowercase
+      case "Lm" -> K_LETTER;   // 	Letter, Modifier
+      case "Lo" -> K_LETTER;   // 	Letter, Other
+      case "Lt" -> K_LETTER;   // 	Letter, Titlecase
+      case "Lu" -> K_LETTER;   // 	Letter, Uppercase
+      case "Mc" -> K_UNKNOWN;  // 	Mark, Spacing Combining
+      case "Me" -> K_UNKNOWN;  // 	Mark, Enclosing
+      case "Mn" -> K_UNKNOWN;  // 	Mark, Nonspacing
+      case "Nd" -> K_NUMERIC;  // 	Number, Decimal Digit
+      case "Nl" -> K_NUMERIC;  // 	Number, Letter
+      case "No" -> K_NUMERIC;  // 	Number, Other
+      case "Pc" -> K_OP;       // 	Punctuation, Connector
+      case "Pd" -> K_OP;       // 	Punctuation, Dash
+      case "Pe" -> K_OP;       // 	Punctuation, Close
+      case "Pf" -> K_OP;       // 	Punctuation, Final quote (may behave like Ps or Pe depending on usage)
+      case "Pi" -> K_OP;       // 	Punctuation, Initial quote (may behave like Ps or Pe depending on usage)
+      case "Po" -> K_OP;       // 	Punctuation, Other
+      case "Ps" -> K_OP;       // 	Punctuation, Open
+      case "Sc" -> K_OP;       // 	Symbol, Currency
+      case "Sk" -> K_OP;       // 	Symbol, Modifier
+      case "Sm" -> K_OP;       // 	Symbol, Math
+      case "So" -> K_OP;       // 	Symbol, Other
+      case "Zl" -> K_UNKNOWN;  // 	Separator, Line
+      case "Zp" -> K_UNKNOWN;  // 	Separator, Paragraph
+      case "Zs" -> K_UNKNOWN;  // 	Separator, Space
+      default   -> K_UNKNOWN;
+      };
+  }
+
+
   /**
    * skip a numeric literal.
    *
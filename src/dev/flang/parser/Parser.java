@@ -59,6 +59,25 @@ public class Parser extends Lexer
   }
 
 
+  /**
+   * Speculative parsing rules whose results are memoized, see
+   * Lexer.speculation().
+   */
+  static enum Speculation
+  {
+    featurePrefix,
+    emptyFormArgs,
+    caseFldDcl,
+    cazePrefix,
+    assignPrefix,
+    type,
+    oneType,
+    oneReturnType,
+    typeFollowedByLBrace,
+    typeFollowedByColon
+  }
+
+
   /**
    * Exception used for control flow to exit a call.
    */
@@ -344,7 +363,8 @@ field       : returnType
     return
       isNonEmptyVisibilityPrefix() ||
       isModifiersPrefix() ||
-      (isNamePrefix(false, true) && !isAnonymousPrefix() || current() == Token.t_type) && fork().skipFeaturePrefix();
+      (isNamePrefix(false, true) && !isAnonymousPrefix() || current() == Token.t_type) &&
+      speculation(Speculation.featurePrefix, () -> fork().skipFeaturePrefix());
   }
 
 
@@ -818,11 +838,12 @@ formArgsOpt : formArgs
   {
     return
       current() != Token.t_lparen ||
-      fork().skipType(false,
-                      false); // result type such as '(i32)->bool' or
-                              // '(a,b)|(c,d)|()' is parsed as resulttype, but
-                              // a type in parentheses like '(list i32)', '(a,
-                              // b i32)' is parsed as an args list.
+      speculation(Speculation.emptyFormArgs,
+                  () -> fork().skipType(false,
+                                        false)); // result type such as '(i32)->bool' or
+                                                 // '(a,b)|(c,d)|()' is parsed as resulttype, but
+                                                 // a type in parentheses like '(list i32)', '(a,
+                                                 // b i32)' is parsed as an args list.
   }
 
 
@@ -2424,7 +2445,7 @@ caseBlock   : ARROW          // if followed by '|'
   {
     return
       (current() == Token.t_ident) &&
-      fork().skipCaseFldDcl();
+      speculation(Speculation.caseFldDcl, () -> fork().skipCaseFldDcl());
   }
 
 
@@ -2451,7 +2472,7 @@ caseBlock   : ARROW          // if followed by '|'
    */
   boolean isCasesAndNotExpr()
   {
-    return fork().skipCazePrefix();
+    return speculation(Speculation.cazePrefix, () -> fork().skipCazePrefix());
   }
 
 
@@ -3143,7 +3164,7 @@ assign      : "set" name ":=" exprInLine
    */
   boolean isAssignPrefix()
   {
-    return (current() == Token.t_set) && fork().skipAssignPrefix();
+    return (current() == Token.t_set) && speculation(Speculation.assignPrefix, () -> fork().skipAssignPrefix());
   }
 
 
@@ -3584,7 +3605,7 @@ boundType   : onetype ( PIPE onetype ) *
    */
   boolean isType()
   {
-    return fork().skipType();
+    return speculation(Speculation.type, () -> fork().skipType());
   }
 
 
@@ -3618,8 +3639,10 @@ boundType   : onetype ( PIPE onetype ) *
   { // we forbid tuples like '(a,b)', '(a)', '()', but we allow lambdas '(a,b)->c' and choice
     // types '(a,b) | (d,e)'
 
-    var hasForbiddenParentheses = !allowTypeInParentheses && !fork().skipOneType(isFunctionReturnType,
-                                                                                     false);
+    var hasForbiddenParentheses = !allowTypeInParentheses &&
+      !speculation(isFunctionReturnType ? Speculation.oneReturnType : Speculation.oneType,
+                   () -> fork().skipOneType(isFunctionReturnType,
+                                            false));
     var res = skipOneType(isFunctionReturnType, true);
     while (res && skip('|'))
       {
@@ -3992,7 +4015,7 @@ typeInParens: "(" typeInParens ")"
    */
   boolean isTypeFollowedByLBrace()
   {
-    return fork().skipTypeFollowedBy(Token.t_lbrace, null);
+    return speculation(Speculation.typeFollowedByLBrace, () -> fork().skipTypeFollowedBy(Token.t_lbrace, null));
   }
 
 
@@ -4006,7 +4029,7 @@ typeInParens: "(" typeInParens ")"
    */
   boolean isTypeFollowedByColon()
   {
-    return fork().skipTypeFollowedBy(Token.t_op, ":");
+    return speculation(Speculation.typeFollowedByColon, () -> fork().skipTypeFollowedBy(Token.t_op, ":"));
   }
 
 
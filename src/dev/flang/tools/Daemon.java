@@ -0,0 +1,684 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source of class Daemon
+ *
+ *---------------------------------------------------------------------*/
+
+package dev.flang.tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import dev.flang.ast.Types;
+
+import dev.flang.fuir.FuirErrors;
+
+import dev.flang.parser.Parser;
+
+import dev.flang.util.ANY;
+import dev.flang.util.Errors;
+import dev.flang.util.FatalError;
+import dev.flang.util.FuzionConstants;
+import dev.flang.util.FuzionOptions;
+import dev.flang.util.Terminal;
+
+
+/**
+ * Daemon is a server for fz requests that runs in a VM that is kept alive
+ * between requests, such that later requests profit from classes that are
+ * already loaded and code that was already compiled by the JIT as well as from
+ * module files that are already mapped.
+ *
+ * The daemon is started via {@code fz -daemon[=<socket>]} in the directory that
+ * requests will be made from.  Requests are made by {@code fz
+ * -useDaemon[=<socket>] <args>}, the client sends the arguments to the daemon
+ * over a Unix domain socket and prints the output it receives.  Requests are
+ * processed one at a time since the compiler keeps state in static fields,
+ * these fields are reset before every request.
+ *
+ * The socket must be in a directory that is owned by the current user and not
+ * accessible by anyone else, the daemon creates this directory if needed.  The
+ * client checks the owner of this directory and of the socket before it
+ * connects.
+ *
+ * The daemon refuses requests that it cannot process like a fresh VM would,
+ * e.g., if the working directory or the environment differs, if input is read
+ * from stdin or if the backend starts an interactive process.  The client then
+ * processes the request itself.
+ *
+ * Backends that run the application, i.e., the JVM backend and the
+ * interpreter, are not run in the daemon since the application may exit the VM
+ * or change static state.  Instead, the daemon creates the .fuir file as with
+ * dev.flang.tools.serializeFUIR set and the client runs the backend on this
+ * file.
+ *
+ * Module files stay mapped between requests, but LibraryModule instances are
+ * created for every request: they refer to the universe that every FrontEnd
+ * creates anew and FrontEnd.mainModule() loads them again for the universe of
+ * the main module after resetting Types and FeatureName.
+ *
+ * NYI: Keep LibraryModule instances once the universe and the state in Types
+ * and FeatureName are no longer created per FrontEnd.
+ *
+ * @author Fridtjof Siebert (siebert@tokiwa.software)
+ */
+public class Daemon extends ANY
+{
+
+
+  /*-----------------------------  classes  -----------------------------*/
+
+
+  /**
+   * OutputStream that sends all data written to it as messages of one kind to
+   * the client.
+   */
+  private static class ToClient extends OutputStream
+  {
+    private final DataOutputStream _out;
+    private final byte _kind;
+
+    ToClient(DataOutputStream out, byte kind)
+    {
+      _out = out;
+      _kind = kind;
+    }
+
+    public void write(int b) throws IOException
+    {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+      synchronized (_out)
+        {
+          _out.writeByte(_kind);
+          _out.writeInt(len);
+          _out.write(b, off, len);
+        }
+    }
+
+    public void flush() throws IOException
+    {
+      synchronized (_out)
+        {
+          _out.flush();
+        }
+    }
+  }
+
+
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Kinds of messages sent from the daemon to the client: data written to
+   * stdout or stderr, the exit status, a refused request or a .fuir file that
+   * was created for the client to run the backend on.
+   */
+  private static final byte MSG_OUT     = 1;
+  private static final byte MSG_ERR     = 2;
+  private static final byte MSG_EXIT    = 3;
+  private static final byte MSG_REFUSED = 4;
+  private static final byte MSG_FUIR    = 5;
+
+
+  /**
+   * Arguments that require processing in the client since they read stdin or
+   * terminate the VM.  Requests with arguments starting with -XjavaProf or
+   * -daemon are processed by the client as well.
+   */
+  private static final Set<String> LOCAL_ARGS = Set.of("-", "-h", "-help", "--help", "-X", "-Xhelp", "--Xhelp", "-version");
+
+
+  /**
+   * Environment variables that are set by the shell and that differ between
+   * the daemon and its clients without affecting fz or the tools it starts.
+   */
+  private static final Set<String> SHELL_ENV = Set.of("_", "OLDPWD", "SHLVL");
+
+
+  /**
+   * Property that makes backends serialize the FUIR, see Fuzion.Backend.serializeFuir().
+   */
+  private static final String SERIALIZE_FUIR = "dev.flang.tools.serializeFUIR";
+
+
+  /**
+   * The permissions of the directory that contains the socket.
+   */
+  private static final Set<PosixFilePermission> PRIVATE_DIR = PosixFilePermissions.fromString("rwx------");
+
+
+  /*----------------------------  variables  ----------------------------*/
+
+
+  /**
+   * The socket to listen on.
+   */
+  private final Path _socket;
+
+
+  /**
+   * Level of verbosity of the daemon's own output.
+   */
+  private final int _verbose;
+
+
+  /**
+   * System properties, Errors.MAX_ERROR_MESSAGES, Errors.MAX_WARNING_MESSAGES
+   * and Parser.ENABLE_SET_KEYWORD when the daemon was started, restored before
+   * every request.
+   */
+  private final Properties _properties = new Properties();
+  private final int _maxErrorMessages = Errors.MAX_ERROR_MESSAGES;
+  private final int _maxWarningMessages = Errors.MAX_WARNING_MESSAGES;
+  private final boolean _enableSetKeyword = Parser.ENABLE_SET_KEYWORD;
+
+
+  /*--------------------------  constructors  ---------------------------*/
+
+
+  /**
+   * Create a daemon
+   *
+   * @param socket the socket to listen on.
+   *
+   * @param verbose level of verbosity of the daemon's own output.
+   */
+  Daemon(Path socket, int verbose)
+  {
+    _socket = socket;
+    _verbose = verbose;
+    _properties.putAll(System.getProperties());
+  }
+
+
+  /*--------------------------  static methods  -------------------------*/
+
+
+  /**
+   * The socket used if none is given explicitly.  This is specific to the
+   * current directory and is located in directory fz-daemon in XDG_RUNTIME_DIR,
+   * if set, or in ~/.cache otherwise.  A shared directory like the temp
+   * directory is not used since others could create files there.
+   */
+  static Path defaultSocket()
+  {
+    var rt = System.getenv("XDG_RUNTIME_DIR");
+    var dir = rt != null ? Path.of(rt) : Path.of(System.getProperty("user.home"), ".cache");
+    var cwd = Path.of("").toAbsolutePath().toString();
+    return dir.resolve("fz-daemon").resolve(Integer.toHexString(cwd.hashCode()) + ".sock");
+  }
+
+
+  /**
+   * The environment of this process that must be the same for the daemon and
+   * a client, i.e., all environment variables except SHELL_ENV.
+   */
+  private static TreeMap<String, String> environment()
+  {
+    var result = new TreeMap<String, String>(System.getenv());
+    result.keySet().removeAll(SHELL_ENV);
+    return result;
+  }
+
+
+  /**
+   * Check that p is owned by the current user.
+   *
+   * @param p a file or directory, symbolic links are not followed.
+   *
+   * @return null if p is owned by the current user, a description of the
+   * problem otherwise.
+   */
+  private static String checkOwner(Path p) throws IOException
+  {
+    var user = System.getProperty("user.name");
+    var me = FileSystems.getDefault().getUserPrincipalLookupService().lookupPrincipalByName(user);
+    var owner = Files.getOwner(p, LinkOption.NOFOLLOW_LINKS);
+    return owner.equals(me) ? null : "'" + p + "' is owned by '" + owner.getName() + "', not by '" + user + "'";
+  }
+
+
+  /**
+   * Check that socket is in a directory that is owned by the current user and
+   * not accessible by anyone else.  If socket exists, check that it is owned by
+   * the current user as well.
+   *
+   * @param socket the socket of a daemon
+   *
+   * @return null if the checks passed, a description of the problem otherwise.
+   */
+  private static String checkPrivate(Path socket)
+  {
+    var dir = socket.toAbsolutePath().getParent();
+    String result;
+    try
+      {
+        if (!Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS))
+          {
+            result = "'" + dir + "' is not a directory";
+          }
+        else
+          {
+            result = checkOwner(dir);
+            var perms = Files.getPosixFilePermissions(dir, LinkOption.NOFOLLOW_LINKS);
+            if (result == null && !PRIVATE_DIR.containsAll(perms))
+              {
+                result = "'" + dir + "' is accessible by other users, permissions are " + PosixFilePermissions.toString(perms);
+              }
+            if (result == null && Files.exists(socket, LinkOption.NOFOLLOW_LINKS))
+              {
+                result = checkOwner(socket);
+              }
+          }
+      }
+    catch (IOException | UnsupportedOperationException e)
+      {
+        result = "cannot check owner and permissions of '" + socket + "': " + e;
+      }
+    return result;
+  }
+
+
+  /**
+   * Process fz command line args using the daemon listening on socket.
+   *
+   * @param socket the socket the daemon listens on.
+   *
+   * @param args the command line arguments.
+   *
+   * @return the exit status, -1 if the daemon is not reachable, refused the
+   * request or created a .fuir file and the request has to be processed
+   * locally.
+   */
+  static int request(Path socket, String[] args)
+  {
+    if (!Files.exists(socket))
+      {
+        return -1;
+      }
+    var problem = checkPrivate(socket);
+    if (problem != null)
+      {
+        say_err("*** not using fz daemon at '" + socket + "': " + problem);
+        return -1;
+      }
+    var received = false;
+    try (var ch = SocketChannel.open(UnixDomainSocketAddress.of(socket)))
+      {
+        var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch)));
+        writeString(out, Tool.fullVersion());
+        writeString(out, Path.of("").toAbsolutePath().toString());
+        writeString(out, String.valueOf(FuzionHome._fuzionHome));
+        out.writeBoolean(Terminal.ENABLED && !Arrays.asList(args).contains("-noANSI"));
+        var env = environment();
+        out.writeInt(env.size());
+        for (var e : env.entrySet())
+          {
+            writeString(out, e.getKey());
+            writeString(out, e.getValue());
+          }
+        out.writeInt(args.length);
+        for (var a : args)
+          {
+            writeString(out, a);
+          }
+        out.flush();
+
+        var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(ch)));
+        while (true)
+          {
+            var kind = in.readByte();
+            switch (kind)
+              {
+              case MSG_OUT, MSG_ERR ->
+                {
+                  received = true;
+                  var ps = kind == MSG_OUT ? System.out : System.err;
+                  ps.write(in.readNBytes(in.readInt()));
+                  ps.flush();
+                }
+              case MSG_EXIT    -> { return in.readInt(); }
+              case MSG_REFUSED -> { return -1; }
+              case MSG_FUIR    ->
+                {
+                  // the backend runs locally on the .fuir file created by
+                  // the daemon, remove files the client would not have kept
+                  System.setProperty(SERIALIZE_FUIR, "true");
+                  var n = in.readInt();
+                  for (var i = 0; i < n; i++)
+                    {
+                      Path.of(readString(in)).toFile().deleteOnExit();
+                    }
+                  return -1;
+                }
+              default          -> throw new IOException("unexpected message kind " + kind);
+              }
+          }
+      }
+    catch (IOException e)
+      {
+        if (received)
+          {
+            // we cannot run locally since part of the output was shown already
+            say_err("*** connection to fz daemon at '" + socket + "' lost: " + e);
+            return 1;
+          }
+        return -1;
+      }
+  }
+
+
+  /**
+   * Write s to out as its length followed by its UTF-8 bytes.
+   */
+  private static void writeString(DataOutputStream out, String s) throws IOException
+  {
+    var b = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(b.length);
+    out.write(b);
+  }
+
+
+  /**
+   * Read a string written by writeString from in.
+   */
+  private static String readString(DataInputStream in) throws IOException
+  {
+    return new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+  }
+
+
+  /*-----------------------------  methods  -----------------------------*/
+
+
+  /**
+   * Create the directory for _socket with permissions PRIVATE_DIR if it does not
+   * exist and check that it is private.  Fatal error if this is not the case.
+   */
+  private void createPrivateDirectory() throws IOException
+  {
+    var dir = _socket.toAbsolutePath().getParent();
+    if (!Files.exists(dir, LinkOption.NOFOLLOW_LINKS))
+      {
+        Files.createDirectories(dir.getParent());
+        try
+          {
+            Files.createDirectory(dir, PosixFilePermissions.asFileAttribute(PRIVATE_DIR));
+          }
+        catch (UnsupportedOperationException e)
+          {
+            Errors.fatal("fz daemon requires a file system with POSIX file permissions",
+                         "While trying to create directory '" + dir + "' received '" + e + "'");
+          }
+      }
+    var problem = checkPrivate(_socket);
+    if (problem != null)
+      {
+        Errors.fatal("fz daemon requires a private directory for its socket",
+                     "The directory of the socket must be owned by the current user and not accessible by others: " + problem);
+      }
+  }
+
+
+  /**
+   * Listen on _socket and process requests until the VM is terminated.
+   */
+  void serve()
+  {
+    try
+      {
+        createPrivateDirectory();
+        if (Files.exists(_socket))
+          {
+            try
+              {
+                SocketChannel.open(UnixDomainSocketAddress.of(_socket)).close();
+                Errors.fatal("fz daemon is already running",
+                             "Socket '" + _socket + "' is in use by another daemon.");
+              }
+            catch (IOException e)
+              { // stale socket of a daemon that terminated
+                Files.delete(_socket);
+              }
+          }
+        try (var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX))
+          {
+            server.bind(UnixDomainSocketAddress.of(_socket));
+            _socket.toFile().deleteOnExit();
+            if (_verbose > 0)
+              {
+                say("fz daemon listening on '" + _socket + "'");
+              }
+            while (true)
+              {
+                try (var ch = server.accept())
+                  {
+                    handle(ch);
+                  }
+                catch (IOException e)
+                  {
+                    if (_verbose > 0)
+                      {
+                        say_err("fz daemon: request failed: " + e);
+                      }
+                  }
+              }
+          }
+      }
+    catch (IOException e)
+      {
+        Errors.fatal("fz daemon failed to listen on socket",
+                     "While trying to use socket '" + _socket + "' received '" + e + "'");
+      }
+  }
+
+
+  /**
+   * Read one request from ch, process it and send the output and the exit
+   * status back.
+   */
+  private void handle(SocketChannel ch) throws IOException
+  {
+    var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(ch)));
+    var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(ch)));
+    var version = readString(in);
+    var cwd = readString(in);
+    var home = readString(in);
+    var ansi = in.readBoolean();
+    var env = new TreeMap<String, String>();
+    var n = in.readInt();
+    for (var i = 0; i < n; i++)
+      {
+        env.put(readString(in), readString(in));
+      }
+    var args = new String[in.readInt()];
+    for (var i = 0; i < args.length; i++)
+      {
+        args[i] = readString(in);
+      }
+
+    var startTime = System.currentTimeMillis();
+    var refused =
+      !version.equals(Tool.fullVersion())                          ? "different version"                :
+      !cwd.equals(Path.of("").toAbsolutePath().toString())         ? "different working directory"      :
+      !home.equals(String.valueOf(FuzionHome._fuzionHome))         ? "different Fuzion home directory"  :
+      ansi != Terminal.ENABLED                                     ? "different use of ANSI escapes"    :
+      !env.equals(environment())                                   ? "different environment"            :
+      Arrays.stream(args).anyMatch(a -> LOCAL_ARGS.contains(a)     ||
+                                        a.startsWith("-XjavaProf") ||
+                                        a.startsWith("-daemon"))    ? "arguments require local processing"
+                                                                   : null;
+    reset();
+    var keepFuir = FuzionOptions.boolPropertyOrEnv(SERIALIZE_FUIR);
+    var status = refused == null ? run(args, out) : -1;
+    var fuir = Fuzion._serializedFuir_;
+    if (status < 0)
+      {
+        refused = refused == null ? "backend starts an interactive process" : refused;
+        out.writeByte(MSG_REFUSED);
+        writeString(out, refused);
+      }
+    else if (status == 0 && fuir != null)
+      {
+        out.writeByte(MSG_FUIR);
+        if (keepFuir)
+          {
+            out.writeInt(0);
+          }
+        else
+          {
+            // the client runs the backend on fuir, it removes the file and
+            // the main module file, see FrontEnd.mainModule()
+            var hash = fuir.getFileName().toString().replaceFirst("\\.fuir$", "");
+            out.writeInt(2);
+            writeString(out, fuir.toString());
+            writeString(out, hash + FuzionConstants.MODULE_FILE_SUFFIX);
+          }
+      }
+    else
+      {
+        out.writeByte(MSG_EXIT);
+        out.writeInt(status);
+      }
+    out.flush();
+    if (_verbose > 0)
+      {
+        say("fz daemon: " + String.join(" ", args) + ": " +
+            (status < 0 ? "refused, " + refused : "status " + status + " in " + (System.currentTimeMillis() - startTime) + "ms"));
+      }
+  }
+
+
+  /**
+   * Run fz with the given args in this VM.  Output to stdout and stderr is sent
+   * to the client via out.
+   *
+   * @param args the command line arguments
+   *
+   * @param out stream to the client
+   *
+   * @return the exit status, -1 if the request was refused since the backend
+   * would start an interactive process like gdb that needs the client's
+   * terminal.
+   */
+  private int run(String[] args, DataOutputStream out)
+  {
+    var oldOut = System.out;
+    var oldErr = System.err;
+    var cout = new PrintStream(new ToClient(out, MSG_OUT), true, StandardCharsets.UTF_8);
+    var cerr = new PrintStream(new ToClient(out, MSG_ERR), true, StandardCharsets.UTF_8);
+    System.setOut(cout);
+    System.setErr(cerr);
+    var status = 0;
+    try
+      {
+        try
+          {
+            var f = new Fuzion(args);
+            f._timer = System.currentTimeMillis();
+            var r = f.parseArgs(args);
+            if (f._backend.startsInteractiveProcess())
+              {
+                status = -1;
+              }
+            else
+              {
+                if (f._backend.takesApplicationArgs())
+                  { // the application runs in the client
+                    System.setProperty(SERIALIZE_FUIR, "true");
+                    Fuzion._serializeFuirOnly_ = true;
+                  }
+                r.run();
+                Errors.showAndExit(true);
+              }
+          }
+        catch (Throwable e)
+          {
+            Errors.fatal(e);
+          }
+      }
+    catch (FatalError e)
+      {
+        status = e.getStatus();
+      }
+    finally
+      {
+        cout.flush();
+        cerr.flush();
+        System.setOut(oldOut);
+        System.setErr(oldErr);
+      }
+    return status;
+  }
+
+
+  /**
+   * Reset the static state changed by the previous request.
+   */
+  private void reset()
+  {
+    var p = System.getProperties();
+    p.keySet().retainAll(_properties.keySet());
+    p.putAll(_properties);
+    Errors.reset();
+    Errors.MAX_ERROR_MESSAGES = _maxErrorMessages;
+    Errors.MAX_WARNING_MESSAGES = _maxWarningMessages;
+    Parser.ENABLE_SET_KEYWORD = _enableSetKeyword;
+    Fuzion.resetStaticOptions();
+    Fuzion._serializeFuirOnly_ = false;
+    Fuzion._serializedFuir_ = null;
+    Types.resetIds();
+    FuirErrors.reset();
+  }
+
+}
+
+/* end of file */
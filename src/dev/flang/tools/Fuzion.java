@@ -29,11 +29,15 @@ package dev.flang.tools;
 import java.io.FileOutputStream;
 import java.io.IOException;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.TreeMap;
 
@@ -43,6 +47,7 @@ import dev.flang.be.c.COptions;
 import dev.flang.be.effects.Effects;
 
 import dev.flang.be.interpreter.Interpreter;
+import dev.flang.be.interpreter.InterpreterOptions;
 
 import dev.flang.be.jvm.JVM;
 import dev.flang.be.jvm.JVMOptions;
@@ -85,26 +90,65 @@ public class Fuzion extends Tool
   protected static final long _timerStart = System.currentTimeMillis();
 
 
-  static String  _binaryName_ = null;
-  static boolean _useBoehmGC_ = true;
-  static String _cCompiler_ = null;
-  static String _cFlags_ = null;
-  static String _cTarget_ = null;
-  static String _cInclude_ = null;
-  static String _cLink_ = null;
-  static boolean _keepGeneratedCode_ = false;
-  static boolean _debugBuild_ = false;
-  static String  _jvmOutName_ = null;
-  static String  _jvmLib_ = null;
+  static String  _binaryName_;
+  static boolean _useBoehmGC_;
+  static String _cCompiler_;
+  static String _cFlags_;
+  static String _cTarget_;
+  static String _cInclude_;
+  static String _cLink_;
+  static int _cUnits_;
+  static String _cCache_;
+  static boolean _keepGeneratedCode_;
+  static boolean _debugBuild_;
+  static String  _jvmOutName_;
+  static String  _jvmLib_;
+  static boolean _jvmVirtualThreads_;
+  static boolean _interpreterBytecode_;
+  static { resetStaticOptions(); }
+
+
+  /**
+   * Set by the daemon to only create the .fuir file of a backend that
+   * serializes the FUIR, without running the backend.  The .fuir file that
+   * was created is stored in _serializedFuir_.
+   */
+  static boolean _serializeFuirOnly_ = false;
+  static Path _serializedFuir_ = null;
+
+
+  /**
+   * Set the static fields above that are set by backend options to their
+   * defaults.  Daemon calls this before every request.
+   */
+  static void resetStaticOptions()
+  {
+    _binaryName_ = null;
+    _useBoehmGC_ = true;
+    _cCompiler_ = null;
+    _cFlags_ = null;
+    _cTarget_ = null;
+    _cInclude_ = null;
+    _cLink_ = null;
+    _cUnits_ = 1;
+    _cCache_ = null;
+    _keepGeneratedCode_ = false;
+    _debugBuild_ = false;
+    _jvmOutName_ = null;
+    _jvmLib_ = null;
+    _jvmVirtualThreads_ = false;
+    _interpreterBytecode_ = false;
+  }
 
 
   /**
    * Handle options used in more than one backend
    *
+   * @param f
    * @param o
    * @return
    */
-  private static boolean handleCommonOption(String o)
+  private static boolean handleCommonOption(Fuzion f, String o)
   {
     boolean result = false;
     if (o.startsWith("-Xgc="))
@@ -137,6 +181,45 @@ public class Fuzion extends Tool
         _cLink_ = o.substring(7);
         result = true;
       }
+    else if (o.startsWith("-CUnits="))
+      {
+        _cUnits_ = Math.max(1, f.parseIntArg(o, 1));
+        result = true;
+      }
+    else if (o.startsWith("-CCache="))
+      {
+        _cCache_ = o.substring(8);
+        result = true;
+      }
+    return result;
+  }
+
+
+  /**
+   * Handle option -XjvmThreads=(platform|virtual) used by the JVM backends.
+   *
+   * @param o the option
+   *
+   * @return true iff o was handled.
+   */
+  private static boolean handleJVMThreadsOption(String o)
+  {
+    boolean result = false;
+    if (o.startsWith("-XjvmThreads="))
+      {
+        _jvmVirtualThreads_ = switch (o.substring(13))
+          {
+          case "platform" -> false;
+          case "virtual"  -> true;
+          default ->
+          {
+            Errors.fatal("Unsupported parameter to command line option '-XjvmThreads'",
+                         "While analyzing command line argument '" + o + "'.  Parameter must be 'platform' or 'virtual'");
+            yield false;
+          }
+          };
+        result = true;
+      }
     return result;
   }
 
@@ -148,13 +231,33 @@ public class Fuzion extends Tool
   {
     interpreter("-interpreter")
     {
+      String usage()
+      {
+        return "[-Xbytecode=(on|off)] ";
+      }
+      boolean handleOption(Fuzion f, String o)
+      {
+        boolean result = false;
+        if (o.startsWith("-Xbytecode="))
+          {
+            _interpreterBytecode_ = parseOnOffArg(o);
+            result = true;
+          }
+        return result;
+      }
       boolean takesApplicationArgs()
       {
         return true;
       }
+      @Override
+      public boolean needsEscapeAnalysis()
+      {
+        // Bytecode reuses instances that do not escape for self tail calls
+        return _interpreterBytecode_;
+      }
       void process(FuzionOptions options, FUIR fuir)
       {
-        new Interpreter(options, fuir).run();
+        new Interpreter(new InterpreterOptions(options, _interpreterBytecode_), fuir).run();
       }
       boolean serializeFuir()
       {
@@ -167,7 +270,7 @@ public class Fuzion extends Tool
     {
       String usage()
       {
-        return "[-o=<file>] [-Xgc=(on|off)] [-XkeepGeneratedCode=(on|off)] [-CC=<c compiler>] [-CFlags=\"list of c compiler flags\"] [-CTarget=\"e.g. x86_64-pc-linux-gnu\"] [-CInclude=\"list of header files to include\"] [-CLink=\"list libraries to link\"] -g ";
+        return "[-o=<file>] [-Xgc=(on|off)] [-XkeepGeneratedCode=(on|off)] [-CC=<c compiler>] [-CFlags=\"list of c compiler flags\"] [-CTarget=\"e.g. x86_64-pc-linux-gnu\"] [-CInclude=\"list of header files to include\"] [-CLink=\"list libraries to link\"] [-CUnits=<n>] [-CCache=(<dir>|off)] -g ";
       }
       boolean handleOption(Fuzion f, String o)
       {
@@ -177,7 +280,7 @@ public class Fuzion extends Tool
             _binaryName_ = o.substring(3);
             result = true;
           }
-        else if (handleCommonOption(o))
+        else if (handleCommonOption(f, o))
           {
             result = true;
           }
@@ -200,7 +303,7 @@ public class Fuzion extends Tool
       }
       void process(FuzionOptions options, FUIR fuir)
       {
-        new C(new COptions(options, _binaryName_, _useBoehmGC_, _cCompiler_, _cFlags_, _cTarget_, _cInclude_, _cLink_, _keepGeneratedCode_, _debugBuild_), fuir).compile();
+        new C(new COptions(options, _binaryName_, _useBoehmGC_, _cCompiler_, _cFlags_, _cTarget_, _cInclude_, _cLink_, _cUnits_, _cCache_, _keepGeneratedCode_, _debugBuild_), fuir).compile();
       }
       boolean serializeFuir()
       {
@@ -213,11 +316,11 @@ public class Fuzion extends Tool
     {
       String usage()
       {
-        return "[-Xgc=(on|off)] [-CC=<c compiler>] [-CFlags=\"list of c compiler flags\"] [-CTarget=\"e.g. x86_64-pc-linux-gnu\"] [-CInclude=\"list of header files to include\"] [-CLink=\"list libraries to link\"] ";
+        return "[-Xgc=(on|off)] [-CC=<c compiler>] [-CFlags=\"list of c compiler flags\"] [-CTarget=\"e.g. x86_64-pc-linux-gnu\"] [-CInclude=\"list of header files to include\"] [-CLink=\"list libraries to link\"] [-CUnits=<n>] [-CCache=(<dir>|off)] ";
       }
       boolean handleOption(Fuzion f, String o)
       {
-        return handleCommonOption(o);
+        return handleCommonOption(f, o);
       }
       @Override
       public boolean needsEscapeAnalysis()
@@ -226,7 +329,7 @@ public class Fuzion extends Tool
       }
       void process(FuzionOptions options, FUIR fuir)
       {
-        new C(new COptions(options, "out", _useBoehmGC_, _cCompiler_, _cFlags_, _cTarget_, _cInclude_, _cLink_, true, true), fuir).compile();
+        new C(new COptions(options, "out", _useBoehmGC_, _cCompiler_, _cFlags_, _cTarget_, _cInclude_, _cLink_, _cUnits_, _cCache_, true, true), fuir).compile();
         say(
           """
 
@@ -252,10 +355,13 @@ public class Fuzion extends Tool
           }
         catch (Exception e)
           {
-            e.printStackTrace();
-            System.exit(1);
+            Errors.fatal("failed to run gdb", e.toString());
           }
       }
+      boolean startsInteractiveProcess()
+      {
+        return true;
+      }
 
     },
 
@@ -265,7 +371,7 @@ public class Fuzion extends Tool
     {
       String usage()
       {
-        return "[-JLibraries=<e.g. openssl>] ";
+        return "[-JLibraries=<e.g. openssl>] [-XjvmThreads=(platform|virtual)] ";
       }
       boolean handleOption(Fuzion f, String o)
       {
@@ -275,13 +381,17 @@ public class Fuzion extends Tool
             _jvmLib_ = o.substring(12);
             result = true;
           }
+        else if (handleJVMThreadsOption(o))
+          {
+            result = true;
+          }
         return result;
       }
       void process(FuzionOptions options, FUIR fuir)
       {
         try
           {
-            new JVM(new JVMOptions(options, /* run */ true, /* save classes */ false, /* save JAR */ false, Optional.empty(), Optional.ofNullable(_jvmLib_)), fuir).compile();
+            new JVM(new JVMOptions(options, /* run */ true, /* save classes */ false, /* save JAR */ false, Optional.empty(), Optional.ofNullable(_jvmLib_), _jvmVirtualThreads_), fuir).compile();
           }
         catch (QuietThreadTermination e)
           {
@@ -296,13 +406,19 @@ public class Fuzion extends Tool
         // NYI: UNDER DEVELOPMENT: use sth. like -XdisableSerializeFUIR
         return FuzionOptions.boolPropertyOrEnv("dev.flang.tools.serializeFUIR");
       }
+      @Override
+      public boolean needsEscapeAnalysis()
+      {
+        // value results of calls whose instance does not escape are not copied
+        return true;
+      }
     },
 
     classes    ("-classes")
     {
       String usage()
       {
-        return "[-o=<outputName>] [-JLibraries=<e.g. openssl>] ";
+        return "[-o=<outputName>] [-JLibraries=<e.g. openssl>] [-XjvmThreads=(platform|virtual)] ";
       }
       boolean handleOption(Fuzion f, String o)
       {
@@ -317,24 +433,34 @@ public class Fuzion extends Tool
             _jvmLib_ = o.substring(12);
             result = true;
           }
+        else if (handleJVMThreadsOption(o))
+          {
+            result = true;
+          }
         return result;
       }
       void process(FuzionOptions options, FUIR fuir)
       {
-        new JVM(new JVMOptions(options, /* run */ false, /* save classes */ true, /* save JAR */ false, Optional.ofNullable(_jvmOutName_), Optional.ofNullable(_jvmLib_)), fuir).compile();
+        new JVM(new JVMOptions(options, /* run */ false, /* save classes */ true, /* save JAR */ false, Optional.ofNullable(_jvmOutName_), Optional.ofNullable(_jvmLib_), _jvmVirtualThreads_), fuir).compile();
       }
       boolean serializeFuir()
       {
         // NYI: UNDER DEVELOPMENT: use sth. like -XdisableSerializeFUIR
         return FuzionOptions.boolPropertyOrEnv("dev.flang.tools.serializeFUIR");
       }
+      @Override
+      public boolean needsEscapeAnalysis()
+      {
+        // value results of calls whose instance does not escape are not copied
+        return true;
+      }
     },
 
     jar        ("-jar")
     {
       String usage()
       {
-        return "[-o=<outputName>] ";
+        return "[-o=<outputName>] [-XjvmThreads=(platform|virtual)] ";
       }
       boolean handleOption(Fuzion f, String o)
       {
@@ -349,17 +475,27 @@ public class Fuzion extends Tool
             _jvmLib_ = o.substring(12);
             result = true;
           }
+        else if (handleJVMThreadsOption(o))
+          {
+            result = true;
+          }
         return result;
       }
       void process(FuzionOptions options, FUIR fuir)
       {
-        new JVM(new JVMOptions(options, /* run */ false, /* save classes */ false, /* save JAR */ true, Optional.ofNullable(_jvmOutName_), Optional.ofNullable(_jvmLib_)), fuir).compile();
+        new JVM(new JVMOptions(options, /* run */ false, /* save classes */ false, /* save JAR */ true, Optional.ofNullable(_jvmOutName_), Optional.ofNullable(_jvmLib_), _jvmVirtualThreads_), fuir).compile();
       }
       boolean serializeFuir()
       {
         // NYI: UNDER DEVELOPMENT: use sth. like -XdisableSerializeFUIR
         return FuzionOptions.boolPropertyOrEnv("dev.flang.tools.serializeFUIR");
       }
+      @Override
+      public boolean needsEscapeAnalysis()
+      {
+        // value results of calls whose instance does not escape are not copied
+        return true;
+      }
     },
 
     llvm       ("-llvm"),
@@ -605,6 +741,15 @@ public class Fuzion extends Tool
       return false;
     }
 
+    /**
+     * Does this backend start a process that interacts with the user via the
+     * terminal of fz, e.g., a debugger?
+     */
+    boolean startsInteractiveProcess()
+    {
+      return false;
+    }
+
     /**
      * If this backend processes the front end data directly, this method will
      * do that and return true.
@@ -645,7 +790,7 @@ public class Fuzion extends Tool
    */
   Path _fuzionHome = FuzionHome._fuzionHome;
   {
-    if (_fuzionHome != null)
+    if (_fuzionHome != null && !ANY._sourceDirs.contains(_fuzionHome.resolve("generated").resolve("src")))
       {
         ANY._sourceDirs.add(_fuzionHome.resolve("generated").resolve("src"));
       }
@@ -741,6 +886,16 @@ public class Fuzion extends Tool
    */
   public static void main(String[] args)
   {
+    if (args.length >= 1 && (args[0].equals("-useDaemon") || args[0].startsWith("-useDaemon=")))
+      {
+        var socket = args[0].equals("-useDaemon") ? Daemon.defaultSocket() : parsePath(args[0]);
+        args = Arrays.copyOfRange(args, 1, args.length);
+        var status = Daemon.request(socket, args);
+        if (status >= 0)
+          {
+            System.exit(status);
+          }
+      }
     new Fuzion(args).run();
   }
 
@@ -753,7 +908,7 @@ public class Fuzion extends Tool
    *
    * @param args the command line arguments.
    */
-  private Fuzion(String[] args)
+  Fuzion(String[] args)
   {
     super("fz", args);
   }
@@ -785,7 +940,7 @@ public class Fuzion extends Tool
     var std = STANDARD_OPTIONS(xtra);
     var stdRun = "[-debug[=<n>]] [-safety=(on|off)] ";
     var stdBe = "[-modules={<m>,..}] [-moduleDirs={<path>,..}] [-sourceDirs={<path>,..}] " +
-      (xtra ? "[-XdumpModules={<name>,..}] " : "");
+      (xtra ? "[-XdumpModules={<name>,..}] [-XdisableOptimizations={<pass>,..}] " : "");
     if (_backend == Backend.undefined)
       {
         var aba = new StringBuilder();
@@ -803,7 +958,9 @@ public class Fuzion extends Tool
           "       " + _cmd + " [" + aba + "] [-h|--help|-version] [<backend specific options>]  --or--\n" +
           "       " + _cmd + " -pretty " + std + " ({<file>} | - | -e <code> | -execute <code>)  --or--\n" +
           "       " + _cmd + " -latex " + std + "  --or--\n" +
-          "       " + _cmd + " -acemode " + std + "  --or--\n";
+          "       " + _cmd + " -acemode " + std + "  --or--\n" +
+          "       " + _cmd + " -daemon[=<socket>] " + std + "  --or--\n" +
+          "       " + _cmd + " -useDaemon[=<socket>] <any of the above>\n";
       }
     else
       {
@@ -842,6 +999,10 @@ public class Fuzion extends Tool
       {
         return parseArgsAceMode(args);
       }
+    else if (args.length >= 1 && (args[0].equals("-daemon") || args[0].startsWith("-daemon=")))
+      {
+        return parseArgsDaemon(args);
+      }
     else
       {
         return parseArgsForBackend(args);
@@ -923,6 +1084,25 @@ public class Fuzion extends Tool
       }
   }
 
+
+  /**
+   * Parse argument {@code -XdisableOptimizations={<pass>,..}} and disable the
+   * given optimizer passes.
+   *
+   * @param a the argument
+   */
+  private void parseDisableOptimizations(String a)
+  {
+    for (var p : parseStringListArg(a))
+      {
+        if (!Optimizer.PASSES.contains(p))
+          {
+            fatal("unknown optimizer pass '" + p + "' in argument '" + a + "', must be one of " + Optimizer.PASSES);
+          }
+        Optimizer.disablePass(p);
+      }
+  }
+
   /**
    * Parse the given command line args for the pretty printer and create a
    * runnable that executes it.  System.exit() in case of error or -help.
@@ -1041,6 +1221,40 @@ public class Fuzion extends Tool
   }
 
 
+  /**
+   * Parse the given command line args for the compile daemon and create a
+   * runnable that runs it.  System.exit() in case of error or -help.
+   *
+   * @param args the command line arguments
+   *
+   * @return a Runnable to run the daemon.
+   */
+  private Runnable parseArgsDaemon(String[] args)
+  {
+    Path socket = null;
+    for (var a : args)
+      {
+        if (a.equals("-daemon"))
+          {
+            socket = Daemon.defaultSocket();
+          }
+        else if (a.startsWith("-daemon="))
+          {
+            socket = parsePath(a);
+          }
+        else if (!parseGenericArg(a))
+          {
+            unknownArg(a);
+          }
+      }
+    var s = socket;
+    return () ->
+      {
+        new Daemon(s, _verbose).serve();
+      };
+  }
+
+
   /**
    * Parse the given command line args to run Fuzion to create or execute code.
    * Return a runnable that runs fuzion.  System.exit() in case of error or
@@ -1100,6 +1314,7 @@ public class Fuzion extends Tool
             else if (a.startsWith("-XloadBaseModule="        )) { _loadBaseMod             = parseOnOffArg(a);          }
             else if (a.startsWith("-modules="                )) { _modules.addAll(parseStringListArg(a));               }
             else if (a.startsWith("-XdumpModules="           )) { _dumpModules             = parseStringListArg(a);     }
+            else if (a.startsWith("-XdisableOptimizations="  )) { parseDisableOptimizations(a);                          }
             else if (a.startsWith("-sourceDirs="             )) { _sourceDirs = new List<>(); _sourceDirs.addAll(parseStringListArg(a)); }
             else if (a.startsWith("-moduleDirs="             )) {                             _moduleDirs.addAll(parseStringListArg(a)); }
             else if (_backend.runsCode() && a.matches("-debug(=\\d+|)"       )) { _debugLevel              = parseIntArg(a, 1); }
@@ -1204,7 +1419,7 @@ public class Fuzion extends Tool
               (options.needsEscapeAnalysis() == true, _backend != Backend.effects);
 
             Path fuirFile = fuirFile(options);
-            if (!Files.exists(fuirFile))
+            if (_serializeFuirOnly_ || !Files.exists(fuirFile) || !LibraryFuir.hasValidHeader(ByteBuffer.wrap(readHeader(fuirFile))))
               {
                 var fe = new FrontEnd(options);                   timer("fe");
                 Errors.showAndExit();
@@ -1219,18 +1434,25 @@ public class Fuzion extends Tool
                     Errors.fatal(e);
                   }
               }
-            try
+            if (_serializeFuirOnly_)
               {
-                var fuir = new LibraryFuir(
-                  Files.readAllBytes(fuirFile),
-                  FrontEnd.loadMainModule(options));
-                timer("loadFUIR");
-                _backend.process(options, fuir);
-                timer("be");
+                _serializedFuir_ = fuirFile;
               }
-            catch (IOException e)
+            else
               {
-                Errors.fatal(e);
+                try (var ch = FileChannel.open(fuirFile, StandardOpenOption.READ))
+                  {
+                    var fuir = new LibraryFuir(
+                      ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()),
+                      FrontEnd.loadMainModule(options));
+                    timer("loadFUIR");
+                    _backend.process(options, fuir);
+                    timer("be");
+                  }
+                catch (IOException e)
+                  {
+                    Errors.fatal(e);
+                  }
               }
           }
         options.verbosePrintln(1, "Elapsed time for phases: " + _times);
@@ -1238,6 +1460,24 @@ public class Fuzion extends Tool
   }
 
 
+  /**
+   * Read the first bytes of a .fuir file that contain magic and version.
+   *
+   * @return the header, empty in case of an I/O error.
+   */
+  private static byte[] readHeader(Path fuirFile)
+  {
+    try (var in = Files.newInputStream(fuirFile))
+      {
+        return in.readNBytes(8);
+      }
+    catch (IOException e)
+      {
+        return new byte[0];
+      }
+  }
+
+
   /**
    * mir -> dfa -> optimizer
    *
@@ -916,8 +916,11 @@ public class Errors extends ANY
   public static synchronized void reset()
   {
     _errors_.clear();
+    _syntaxErrorPositions_.clear();
     _warnings_.clear();
     unusedFieldErrCount = 0;
+    _shutting_down_ = false;
+    _fatal_reported_ = false;
   }
 
 
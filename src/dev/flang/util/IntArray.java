@@ -144,6 +144,17 @@ public class IntArray extends ANY
     return _size;
   }
 
+
+  /**
+   * Create a copy of the values in this array.
+   *
+   * @return a new int[] of length size() containing the values.
+   */
+  public int[] toArray()
+  {
+    return Arrays.copyOf(_data, _size);
+  }
+
 }
 
 /* end of file */
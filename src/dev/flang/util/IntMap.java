@@ -26,7 +26,6 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.util;
 
-import java.util.HashMap;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -42,25 +41,52 @@ import java.util.TreeSet;
  * implemented in a way that provides reproducible execution, i.e, iteration do
  * not depend on memory layout, order of addition of entries, etc.
  *
+ * The implementation is an open addressing hash table with linear probing
+ * that stores the keys in an int[] to avoid boxing into Integer and allocation
+ * of HashMap.Node elements.  Entries are never removed, so no tombstones are
+ * needed.
+ *
  * @author Fridtjof Siebert (siebert@tokiwa.software)
  */
 public class IntMap<T>
 {
 
 
+  /*----------------------------  constants  ----------------------------*/
+
+
+  /**
+   * Initial size of _keys and _values, must be a power of 2.
+   */
+  private static final int INITIAL_CAPACITY = 8;
+
+
+  /**
+   * Marker stored in _values for a key that is mapped to null, since null in
+   * _values marks an empty slot.
+   */
+  private static final Object NULL = new Object();
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
   /**
-   * Underlying implementation.
-   *
-   * This currently uses a @see java.util.HashMap.
-   *
-   * NYI: OPTIMIZATION: We might use our own sparse array implementation here to
-   * improve performance by avoiding boxing into Integer, allocation of
-   * HashMap.Node elements, calling of Integer.hashCode(), etc.
+   * The keys, _keys[i] is valid iff _values[i] != null.
+   */
+  private int[] _keys = new int[INITIAL_CAPACITY];
+
+
+  /**
+   * The values, null for empty slots and NULL for keys mapped to null.
    */
-  HashMap<Integer, T> _m = new HashMap<>();
+  private Object[] _values = new Object[INITIAL_CAPACITY];
+
+
+  /**
+   * The number of entries in this map.
+   */
+  private int _size = 0;
 
 
   /*-----------------------------  methods  -----------------------------*/
@@ -71,7 +97,7 @@ public class IntMap<T>
    */
   public int size()
   {
-    return _m.size();
+    return _size;
   }
 
 
@@ -80,25 +106,42 @@ public class IntMap<T>
    */
   public T get(int i)
   {
-    return _m.get(Integer.valueOf(i));
+    return getOrDefault(i, null);
   }
 
 
   /**
    * @see java.util.Map#getOrDefault(Object, Object)
    */
+  @SuppressWarnings("unchecked")
   public T getOrDefault(int i, T def)
   {
-    return _m.getOrDefault(Integer.valueOf(i), def);
+    var v = _values[slot(_keys, _values, i)];
+    return v == null ? def
+         : v == NULL ? null
+         : (T) v;
   }
 
 
   /**
    * @see java.util.Map#put(Object, Object)
    */
+  @SuppressWarnings("unchecked")
   public T put(int i, T v)
   {
-    return _m.put(Integer.valueOf(i), v);
+    var s = slot(_keys, _values, i);
+    var old = _values[s];
+    _values[s] = v == null ? NULL : v;
+    if (old == null)
+      {
+        _keys[s] = i;
+        _size++;
+        if (_size > _keys.length / 2)
+          {
+            grow();
+          }
+      }
+    return old == NULL ? null : (T) old;
   }
 
 
@@ -111,11 +154,57 @@ public class IntMap<T>
   public Set<Integer> keySet()
   {
     var ts = new TreeSet<Integer>();
-    ts.addAll(_m.keySet());
+    for (var s = 0; s < _keys.length; s++)
+      {
+        if (_values[s] != null)
+          {
+            ts.add(_keys[s]);
+          }
+      }
     return ts;
   }
 
 
+  /**
+   * Find the slot in keys/values that contains key i or the empty slot where
+   * key i would have to be added.
+   */
+  private static int slot(int[] keys, Object[] values, int i)
+  {
+    var mask = keys.length - 1;
+    var h = i * 0x9E3779B9;
+    var s = (h ^ h >>> 16) & mask;
+    while (values[s] != null && keys[s] != i)
+      {
+        s = (s + 1) & mask;
+      }
+    return s;
+  }
+
+
+  /**
+   * Double the capacity and re-insert all entries.
+   */
+  private void grow()
+  {
+    var ok = _keys;
+    var ov = _values;
+    var nk = new int[ok.length * 2];
+    var nv = new Object[ok.length * 2];
+    for (var s = 0; s < ok.length; s++)
+      {
+        if (ov[s] != null)
+          {
+            var n = slot(nk, nv, ok[s]);
+            nk[n] = ok[s];
+            nv[n] = ov[s];
+          }
+      }
+    _keys = nk;
+    _values = nv;
+  }
+
+
 }
 
 /* end of file */
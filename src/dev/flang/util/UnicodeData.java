@@ -26,6 +26,7 @@ Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
 
 package dev.flang.util;
 
+import dev.flang.util.ANY;
 
 
 /**
@@ -43,694 +44,656 @@ public class UnicodeData extends ANY
 
   /* @@@ generated code start @@@: */
   /* Unicode data from './build/UnicodeData.txt' last modified '2025-08-16T00:45:11Z' */
-  static final int[] _START_ = start0();
-  private static int[] start0() { return new int[] {
-    0x0, 0x20, 0x21, 0x24, 0x25, 0x28, 0x29, 0x2a, 0x2b, 0x2c, 0x2d, 0x2e, 0x30, 0x3a, 0x3c, 0x3f, 0x41, 0x5b, 0x5c,
-    0x5d, 0x5e, 0x5f, 0x60, 0x61, 0x7b, 0x7c, 0x7d, 0x7e, 0x7f, 0xa0, 0xa1, 0xa2, 0xa6, 0xa7, 0xa8, 0xa9, 0xaa, 0xab,
-    0xac, 0xad, 0xae, 0xaf, 0xb0, 0xb1, 0xb2, 0xb4, 0xb5, 0xb6, 0xb8, 0xb9, 0xba, 0xbb, 0xbc, 0xbf, 0xc0, 0xd7, 0xd8,
-    0xdf, 0xf7, 0xf8, 0x100, 0x101, 0x102, 0x103, 0x104, 0x105, 0x106, 0x107, 0x108, 0x109, 0x10a, 0x10b, 0x10c, 0x10d,
-    0x10e, 0x10f, 0x110, 0x111, 0x112, 0x113, 0x114, 0x115, 0x116, 0x117, 0x118, 0x119, 0x11a, 0x11b, 0x11c, 0x11d,
-    0x11e, 0x11f, 0x120, 0x121, 0x122, 0x123, 0x124, 0x125, 0x126, 0x127, 0x128, 0x129, 0x12a, 0x12b, 0x12c, 0x12d,
-    0x12e, 0x12f, 0x130, 0x131, 0x132, 0x133, 0x134, 0x135, 0x136, 0x137, 0x139, 0x13a, 0x13b, 0x13c, 0x13d, 0x13e,
-    0x13f, 0x140, 0x141, 0x142, 0x143, 0x144, 0x145, 0x146, 0x147, 0x148, 0x14a, 0x14b, 0x14c, 0x14d, 0x14e, 0x14f,
-    0x150, 0x151, 0x152, 0x153, 0x154, 0x155, 0x156, 0x157, 0x158, 0x159, 0x15a, 0x15b, 0x15c, 0x15d, 0x15e, 0x15f,
-    0x160, 0x161, 0x162, 0x163, 0x164, 0x165, 0x166, 0x167, 0x168, 0x169, 0x16a, 0x16b, 0x16c, 0x16d, 0x16e, 0x16f,
-    0x170, 0x171, 0x172, 0x173, 0x174, 0x175, 0x176, 0x177, 0x178, 0x17a, 0x17b, 0x17c, 0x17d, 0x17e, 0x181, 0x183,
-    0x184, 0x185, 0x186, 0x188, 0x189, 0x18c, 0x18e, 0x192, 0x193, 0x195, 0x196, 0x199, 0x19c, 0x19e, 0x19f, 0x1a1,
-    0x1a2, 0x1a3, 0x1a4, 0x1a5, 0x1a6, 0x1a8, 0x1a9, 0x1aa, 0x1ac, 0x1ad, 0x1ae, 0x1b0, 0x1b1, 0x1b4, 0x1b5, 0x1b6,
-    0x1b7, 0x1b9, 0x1bb, 0x1bc, 0x1bd, 0x1c0, 0x1c4, 0x1c5, 0x1c6, 0x1c7, 0x1c8, 0x1c9, 0x1ca, 0x1cb, 0x1cc, 0x1cd,
-    0x1ce, 0x1cf, 0x1d0, 0x1d1, 0x1d2, 0x1d3, 0x1d4, 0x1d5, 0x1d6, 0x1d7, 0x1d8, 0x1d9, 0x1da, 0x1db, 0x1dc, 0x1de,
-    0x1df, 0x1e0, 0x1e1, 0x1e2, 0x1e3, 0x1e4, 0x1e5, 0x1e6, 0x1e7, 0x1e8, 0x1e9, 0x1ea, 0x1eb, 0x1ec, 0x1ed, 0x1ee,
-    0x1ef, 0x1f1, 0x1f2, 0x1f3, 0x1f4, 0x1f5, 0x1f6, 0x1f9, 0x1fa, 0x1fb, 0x1fc, 0x1fd, 0x1fe, 0x1ff, 0x200, 0x201,
-    0x202, 0x203, 0x204, 0x205, 0x206, 0x207, 0x208, 0x209, 0x20a, 0x20b, 0x20c, 0x20d, 0x20e, 0x20f, 0x210, 0x211,
-    0x212, 0x213, 0x214, 0x215, 0x216, 0x217, 0x218, 0x219, 0x21a, 0x21b, 0x21c, 0x21d, 0x21e, 0x21f, 0x220, 0x221,
-    0x222, 0x223, 0x224, 0x225, 0x226, 0x227, 0x228, 0x229, 0x22a, 0x22b, 0x22c, 0x22d, 0x22e, 0x22f, 0x230, 0x231,
-    0x232, 0x233, 0x23a, 0x23c, 0x23d, 0x23f, 0x241, 0x242, 0x243, 0x247, 0x248, 0x249, 0x24a, 0x24b, 0x24c, 0x24d,
-    0x24e, 0x24f, 0x294, 0x296, 0x2b0, 0x2c2, 0x2c6, 0x2d2, 0x2e0, 0x2e5, 0x2ec, 0x2ed, 0x2ee, 0x2ef, 0x300, 0x370,
-    0x371, 0x372, 0x373, 0x374, 0x375, 0x376, 0x377, 0x37a, 0x37b, 0x37e, 0x37f, 0x384, 0x386, 0x387, 0x388, 0x38c,
-    0x38e, 0x390, 0x391, 0x3a3, 0x3ac, 0x3cf, 0x3d0, 0x3d2, 0x3d5, 0x3d8, 0x3d9, 0x3da, 0x3db, 0x3dc, 0x3dd, 0x3de,
-    0x3df, 0x3e0, 0x3e1, 0x3e2, 0x3e3, 0x3e4, 0x3e5, 0x3e6, 0x3e7, 0x3e8, 0x3e9, 0x3ea, 0x3eb, 0x3ec, 0x3ed, 0x3ee,
-    0x3ef, 0x3f4, 0x3f5, 0x3f6, 0x3f7, 0x3f8, 0x3f9, 0x3fb, 0x3fd, 0x430, 0x460, 0x461, 0x462, 0x463, 0x464, 0x465,
-    0x466, 0x467, 0x468, 0x469, 0x46a, 0x46b, 0x46c, 0x46d, 0x46e, 0x46f, 0x470, 0x471, 0x472, 0x473, 0x474, 0x475,
-    0x476, 0x477, 0x478, 0x479, 0x47a, 0x47b, 0x47c, 0x47d, 0x47e, 0x47f, 0x480, 0x481, 0x482, 0x483, 0x488, 0x48a,
-    0x48b, 0x48c, 0x48d, 0x48e, 0x48f, 0x490, 0x491, 0x492, 0x493, 0x494, 0x495, 0x496, 0x497, 0x498, 0x499, 0x49a,
-    0x49b, 0x49c, 0x49d, 0x49e, 0x49f, 0x4a0, 0x4a1, 0x4a2, 0x4a3, 0x4a4, 0x4a5, 0x4a6, 0x4a7, 0x4a8, 0x4a9, 0x4aa,
-    0x4ab, 0x4ac, 0x4ad, 0x4ae, 0x4af, 0x4b0, 0x4b1, 0x4b2, 0x4b3, 0x4b4, 0x4b5, 0x4b6, 0x4b7, 0x4b8, 0x4b9, 0x4ba,
-    0x4bb, 0x4bc, 0x4bd, 0x4be, 0x4bf, 0x4c0, 0x4c2, 0x4c3, 0x4c4, 0x4c5, 0x4c6, 0x4c7, 0x4c8, 0x4c9, 0x4ca, 0x4cb,
-    0x4cc, 0x4cd, 0x4ce, 0x4d0, 0x4d1, 0x4d2, 0x4d3, 0x4d4, 0x4d5, 0x4d6, 0x4d7, 0x4d8, 0x4d9, 0x4da, 0x4db, 0x4dc,
-    0x4dd, 0x4de, 0x4df, 0x4e0, 0x4e1, 0x4e2, 0x4e3, 0x4e4, 0x4e5, 0x4e6, 0x4e7, 0x4e8, 0x4e9, 0x4ea, 0x4eb, 0x4ec,
-    0x4ed, 0x4ee, 0x4ef, 0x4f0, 0x4f1, 0x4f2, 0x4f3, 0x4f4, 0x4f5, 0x4f6, 0x4f7, 0x4f8, 0x4f9, 0x4fa, 0x4fb, 0x4fc,
-    0x4fd, 0x4fe, 0x4ff, 0x500, 0x501, 0x502, 0x503, 0x504, 0x505, 0x506, 0x507, 0x508, 0x509, 0x50a, 0x50b, 0x50c,
-    0x50d, 0x50e, 0x50f, 0x510, 0x511, 0x512, 0x513, 0x514, 0x515, 0x516, 0x517, 0x518, 0x519, 0x51a, 0x51b, 0x51c,
-    0x51d, 0x51e, 0x51f, 0x520, 0x521, 0x522, 0x523, 0x524, 0x525, 0x526, 0x527, 0x528, 0x529, 0x52a, 0x52b, 0x52c,
-    0x52d, 0x52e, 0x52f, 0x531, 0x559, 0x55a, 0x560, 0x589, 0x58a, 0x58d, 0x58f, 0x591, 0x5be, 0x5bf, 0x5c0, 0x5c1,
-    0x5c3, 0x5c4, 0x5c6, 0x5c7, 0x5d0, 0x5ef, 0x5f3, 0x600, 0x606, 0x609, 0x60b, 0x60c, 0x60e, 0x610, 0x61b, 0x61c,
-    0x61d, 0x620, 0x640, 0x641, 0x64b, 0x660, 0x66a, 0x66e, 0x670, 0x671, 0x6d4, 0x6d5, 0x6d6, 0x6dd, 0x6de, 0x6df,
-    0x6e5, 0x6e7, 0x6e9, 0x6ea, 0x6ee, 0x6f0, 0x6fa, 0x6fd, 0x6ff, 0x700, 0x70f, 0x710, 0x711, 0x712, 0x730, 0x74d,
-    0x7a6, 0x7b1, 0x7c0, 0x7ca, 0x7eb, 0x7f4, 0x7f6, 0x7f7, 0x7fa, 0x7fd, 0x7fe, 0x800, 0x816, 0x81a, 0x81b, 0x824,
-    0x825, 0x828, 0x829, 0x830, 0x840, 0x859, 0x85e, 0x860, 0x870, 0x888, 0x889, 0x890, 0x897, 0x8a0, 0x8c9, 0x8ca,
-    0x8e2, 0x8e3, 0x903, 0x904, 0x93a, 0x93b, 0x93c, 0x93d, 0x93e, 0x941, 0x949, 0x94d, 0x94e, 0x950, 0x951, 0x958,
-    0x962, 0x964, 0x966, 0x970, 0x971, 0x972, 0x981, 0x982, 0x985, 0x98f, 0x993, 0x9aa, 0x9b2, 0x9b6, 0x9bc, 0x9bd,
-    0x9be, 0x9c1, 0x9c7, 0x9cb, 0x9cd, 0x9ce, 0x9d7, 0x9dc, 0x9df, 0x9e2, 0x9e6, 0x9f0, 0x9f2, 0x9f4, 0x9fa, 0x9fb,
-    0x9fc, 0x9fd, 0x9fe, 0xa01, 0xa03, 0xa05, 0xa0f, 0xa13, 0xa2a, 0xa32, 0xa35, 0xa38, 0xa3c, 0xa3e, 0xa41, 0xa47,
-    0xa4b, 0xa51, 0xa59, 0xa5e, 0xa66, 0xa70, 0xa72, 0xa75, 0xa76, 0xa81, 0xa83, 0xa85, 0xa8f, 0xa93, 0xaaa, 0xab2,
-    0xab5, 0xabc, 0xabd, 0xabe, 0xac1, 0xac7, 0xac9, 0xacb, 0xacd, 0xad0, 0xae0, 0xae2, 0xae6, 0xaf0, 0xaf1, 0xaf9,
-    0xafa, 0xb01, 0xb02, 0xb05, 0xb0f, 0xb13, 0xb2a, 0xb32, 0xb35, 0xb3c, 0xb3d, 0xb3e, 0xb3f, 0xb40, 0xb41, 0xb47,
-    0xb4b, 0xb4d, 0xb55, 0xb57, 0xb5c, 0xb5f, 0xb62, 0xb66, 0xb70, 0xb71, 0xb72, 0xb82, 0xb83, 0xb85, 0xb8e, 0xb92,
-    0xb99, 0xb9c, 0xb9e, 0xba3, 0xba8, 0xbae, 0xbbe, 0xbc0, 0xbc1, 0xbc6, 0xbca, 0xbcd, 0xbd0, 0xbd7, 0xbe6, 0xbf0,
-    0xbf3, 0xbf9, 0xbfa, 0xc00, 0xc01, 0xc04, 0xc05, 0xc0e, 0xc12, 0xc2a, 0xc3c, 0xc3d, 0xc3e, 0xc41, 0xc46, 0xc4a,
-    0xc55, 0xc58, 0xc5c, 0xc60, 0xc62, 0xc66, 0xc77, 0xc78, 0xc7f, 0xc80, 0xc81, 0xc82, 0xc84, 0xc85, 0xc8e, 0xc92,
-    0xcaa, 0xcb5, 0xcbc, 0xcbd, 0xcbe, 0xcbf, 0xcc0, 0xcc6, 0xcc7, 0xcca, 0xccc, 0xcd5, 0xcdc, 0xce0, 0xce2, 0xce6,
-    0xcf1, 0xcf3, 0xd00, 0xd02, 0xd04, 0xd0e, 0xd12, 0xd3b, 0xd3d, 0xd3e, 0xd41, 0xd46, 0xd4a, 0xd4d, 0xd4e, 0xd4f,
-    0xd54, 0xd57, 0xd58, 0xd5f, 0xd62, 0xd66, 0xd70, 0xd79, 0xd7a, 0xd81, 0xd82, 0xd85, 0xd9a, 0xdb3, 0xdbd, 0xdc0,
-    0xdca, 0xdcf, 0xdd2, 0xdd6, 0xdd8, 0xde6, 0xdf2, 0xdf4, 0xe01, 0xe31, 0xe32, 0xe34, 0xe3f, 0xe40, 0xe46, 0xe47,
-    0xe4f, 0xe50, 0xe5a, 0xe81, 0xe84, 0xe86, 0xe8c, 0xea5, 0xea7, 0xeb1, 0xeb2, 0xeb4, 0xebd, 0xec0, 0xec6, 0xec8,
-    0xed0, 0xedc, 0xf00, 0xf01, 0xf04, 0xf13, 0xf14, 0xf15, 0xf18, 0xf1a, 0xf20, 0xf2a, 0xf34, 0xf35, 0xf36, 0xf37,
-    0xf38, 0xf39, 0xf3a, 0xf3b, 0xf3c, 0xf3d, 0xf3e, 0xf40, 0xf49, 0xf71, 0xf7f, 0xf80, 0xf85, 0xf86, 0xf88, 0xf8d,
-    0xf99, 0xfbe, 0xfc6, 0xfc7, 0xfce, 0xfd0, 0xfd5, 0xfd9, 0x1000, 0x102b, 0x102d, 0x1031, 0x1032, 0x1038, 0x1039,
-    0x103b, 0x103d, 0x103f, 0x1040, 0x104a, 0x1050, 0x1056, 0x1058, 0x105a, 0x105e, 0x1061, 0x1062, 0x1065, 0x1067,
-    0x106e, 0x1071, 0x1075, 0x1082, 0x1083, 0x1085, 0x1087, 0x108d, 0x108e, 0x108f, 0x1090, 0x109a, 0x109d, 0x109e,
-    0x10a0, 0x10c7, 0x10cd, 0x10d0, 0x10fb, 0x10fc, 0x10fd, 0x1100, 0x124a, 0x1250, 0x1258, 0x125a, 0x1260, 0x128a,
-    0x1290, 0x12b2, 0x12b8, 0x12c0, 0x12c2, 0x12c8, 0x12d8, 0x1312, 0x1318, 0x135d, 0x1360, 0x1369, 0x1380, 0x1390,
-    0x13a0, 0x13f8, 0x1400, 0x1401, 0x166d, 0x166e, 0x166f, 0x1680, 0x1681, 0x169b, 0x169c, 0x16a0, 0x16eb, 0x16ee,
-    0x16f1, 0x1700, 0x1712, 0x1715, 0x171f, 0x1732, 0x1734, 0x1735, 0x1740, 0x1752, 0x1760, 0x176e, 0x1772, 0x1780,
-    0x17b4, 0x17b6, 0x17b7, 0x17be, 0x17c6, 0x17c7, 0x17c9, 0x17d4, 0x17d7, 0x17d8, 0x17db, 0x17dc, 0x17dd, 0x17e0,
-    0x17f0, 0x1800, 0x1806, 0x1807, 0x180b, 0x180e, 0x180f, 0x1810, 0x1820, 0x1843, 0x1844, 0x1880, 0x1885, 0x1887,
-    0x18a9, 0x18aa, 0x18b0, 0x1900, 0x1920, 0x1923, 0x1927, 0x1929, 0x1930, 0x1932, 0x1933, 0x1939, 0x1940, 0x1944,
-    0x1946, 0x1950, 0x1970, 0x1980, 0x19b0, 0x19d0, 0x19da, 0x19de, 0x1a00, 0x1a17, 0x1a19, 0x1a1b, 0x1a1e, 0x1a20,
-    0x1a55, 0x1a56, 0x1a57, 0x1a58, 0x1a60, 0x1a61, 0x1a62, 0x1a63, 0x1a65, 0x1a6d, 0x1a73, 0x1a7f, 0x1a80, 0x1a90,
-    0x1aa0, 0x1aa7, 0x1aa8, 0x1ab0, 0x1abe, 0x1abf, 0x1ae0, 0x1b00, 0x1b04, 0x1b05, 0x1b34, 0x1b35, 0x1b36, 0x1b3b,
-    0x1b3c, 0x1b3d, 0x1b42, 0x1b43, 0x1b45, 0x1b4e, 0x1b50, 0x1b5a, 0x1b61, 0x1b6b, 0x1b74, 0x1b7d, 0x1b80, 0x1b82,
-    0x1b83, 0x1ba1, 0x1ba2, 0x1ba6, 0x1ba8, 0x1baa, 0x1bab, 0x1bae, 0x1bb0, 0x1bba, 0x1be6, 0x1be7, 0x1be8, 0x1bea,
-    0x1bed, 0x1bee, 0x1bef, 0x1bf2, 0x1bfc, 0x1c00, 0x1c24, 0x1c2c, 0x1c34, 0x1c36, 0x1c3b, 0x1c40, 0x1c4d, 0x1c50,
-    0x1c5a, 0x1c78, 0x1c7e, 0x1c80, 0x1c89, 0x1c8a, 0x1c90, 0x1cbd, 0x1cc0, 0x1cd0, 0x1cd3, 0x1cd4, 0x1ce1, 0x1ce2,
-    0x1ce9, 0x1ced, 0x1cee, 0x1cf4, 0x1cf5, 0x1cf7, 0x1cf8, 0x1cfa, 0x1d00, 0x1d2c, 0x1d6b, 0x1d78, 0x1d79, 0x1d9b,
-    0x1dc0, 0x1e00, 0x1e01, 0x1e02, 0x1e03, 0x1e04, 0x1e05, 0x1e06, 0x1e07, 0x1e08, 0x1e09, 0x1e0a, 0x1e0b, 0x1e0c,
-    0x1e0d, 0x1e0e, 0x1e0f, 0x1e10, 0x1e11, 0x1e12, 0x1e13, 0x1e14, 0x1e15, 0x1e16, 0x1e17, 0x1e18, 0x1e19, 0x1e1a,
-    0x1e1b, 0x1e1c, 0x1e1d, 0x1e1e, 0x1e1f, 0x1e20, 0x1e21, 0x1e22, 0x1e23, 0x1e24, 0x1e25, 0x1e26, 0x1e27, 0x1e28,
-    0x1e29, 0x1e2a, 0x1e2b, 0x1e2c, 0x1e2d, 0x1e2e, 0x1e2f, 0x1e30, 0x1e31, 0x1e32, 0x1e33, 0x1e34, 0x1e35, 0x1e36,
-    0x1e37, 0x1e38, 0x1e39, 0x1e3a, 0x1e3b, 0x1e3c, 0x1e3d, 0x1e3e, 0x1e3f, 0x1e40, 0x1e41, 0x1e42, 0x1e43, 0x1e44,
-    0x1e45, 0x1e46, 0x1e47, 0x1e48, 0x1e49, 0x1e4a, 0x1e4b, 0x1e4c, 0x1e4d, 0x1e4e, 0x1e4f, 0x1e50, 0x1e51, 0x1e52,
-    0x1e53, 0x1e54, 0x1e55, 0x1e56, 0x1e57, 0x1e58, 0x1e59, 0x1e5a, 0x1e5b, 0x1e5c, 0x1e5d, 0x1e5e, 0x1e5f, 0x1e60,
-    0x1e61, 0x1e62, 0x1e63, 0x1e64, 0x1e65, 0x1e66, 0x1e67, 0x1e68, 0x1e69, 0x1e6a, 0x1e6b, 0x1e6c, 0x1e6d, 0x1e6e,
-    0x1e6f, 0x1e70, 0x1e71, 0x1e72, 0x1e73, 0x1e74, 0x1e75, 0x1e76, 0x1e77, 0x1e78, 0x1e79, 0x1e7a, 0x1e7b, 0x1e7c,
-    0x1e7d, 0x1e7e, 0x1e7f, 0x1e80, 0x1e81, 0x1e82, 0x1e83, 0x1e84, 0x1e85, 0x1e86, 0x1e87, 0x1e88, 0x1e89, 0x1e8a,
-    0x1e8b, 0x1e8c, 0x1e8d, 0x1e8e, 0x1e8f, 0x1e90, 0x1e91, 0x1e92, 0x1e93, 0x1e94, 0x1e95, 0x1e9e, 0x1e9f, 0x1ea0,
-    0x1ea1, 0x1ea2, 0x1ea3, 0x1ea4, 0x1ea5, 0x1ea6, 0x1ea7, 0x1ea8, 0x1ea9, 0x1eaa, 0x1eab, 0x1eac, 0x1ead, 0x1eae,
-    0x1eaf, 0x1eb0, 0x1eb1, 0x1eb2, 0x1eb3, 0x1eb4, 0x1eb5, 0x1eb6, 0x1eb7, 0x1eb8, 0x1eb9, 0x1eba, 0x1ebb, 0x1ebc,
-    0x1ebd, 0x1ebe, 0x1ebf, 0x1ec0, 0x1ec1, 0x1ec2, 0x1ec3, 0x1ec4, 0x1ec5, 0x1ec6, 0x1ec7, 0x1ec8, 0x1ec9, 0x1eca,
-    0x1ecb, 0x1ecc, 0x1ecd, 0x1ece, 0x1ecf, 0x1ed0, 0x1ed1, 0x1ed2, 0x1ed3, 0x1ed4, 0x1ed5, 0x1ed6, 0x1ed7, 0x1ed8,
-    0x1ed9, 0x1eda, 0x1edb, 0x1edc, 0x1edd, 0x1ede, 0x1edf, 0x1ee0, 0x1ee1, 0x1ee2, 0x1ee3, 0x1ee4, 0x1ee5, 0x1ee6,
-    0x1ee7, 0x1ee8, 0x1ee9, 0x1eea, 0x1eeb, 0x1eec, 0x1eed, 0x1eee, 0x1eef, 0x1ef0, 0x1ef1, 0x1ef2, 0x1ef3, 0x1ef4,
-    0x1ef5, 0x1ef6, 0x1ef7, 0x1ef8, 0x1ef9, 0x1efa, 0x1efb, 0x1efc, 0x1efd, 0x1efe, 0x1eff, 0x1f08, 0x1f10, 0x1f18,
-    0x1f20, 0x1f28, 0x1f30, 0x1f38, 0x1f40, 0x1f48, 0x1f50, 0x1f59, 0x1f5b, 0x1f5d, 0x1f5f, 0x1f60, 0x1f68, 0x1f70,
-    0x1f80, 0x1f88, 0x1f90, 0x1f98, 0x1fa0, 0x1fa8, 0x1fb0, 0x1fb6, 0x1fb8, 0x1fbc, 0x1fbd, 0x1fbe, 0x1fbf, 0x1fc2,
-    0x1fc6, 0x1fc8, 0x1fcc, 0x1fcd, 0x1fd0, 0x1fd6, 0x1fd8, 0x1fdd, 0x1fe0, 0x1fe8, 0x1fed, 0x1ff2, 0x1ff6, 0x1ff8,
-    0x1ffc, 0x1ffd, 0x2000, 0x200b, 0x2010, 0x2016, 0x2018, 0x2019, 0x201a, 0x201b, 0x201d, 0x201e, 0x201f, 0x2020,
-    0x2028, 0x2029, 0x202a, 0x202f, 0x2030, 0x2039, 0x203a, 0x203b, 0x203f, 0x2041, 0x2044, 0x2045, 0x2046, 0x2047,
-    0x2052, 0x2053, 0x2054, 0x2055, 0x205f, 0x2060, 0x2066, 0x2070, 0x2071, 0x2074, 0x207a, 0x207d, 0x207e, 0x207f,
-    0x2080, 0x208a, 0x208d, 0x208e, 0x2090, 0x20a0, 0x20d0, 0x20dd, 0x20e1, 0x20e2, 0x20e5, 0x2100, 0x2102, 0x2103,
-    0x2107, 0x2108, 0x210a, 0x210b, 0x210e, 0x2110, 0x2113, 0x2114, 0x2115, 0x2116, 0x2118, 0x2119, 0x211e, 0x2124,
-    0x2125, 0x2126, 0x2127, 0x2128, 0x2129, 0x212a, 0x212e, 0x212f, 0x2130, 0x2134, 0x2135, 0x2139, 0x213a, 0x213c,
-    0x213e, 0x2140, 0x2145, 0x2146, 0x214a, 0x214b, 0x214c, 0x214e, 0x214f, 0x2150, 0x2160, 0x2183, 0x2184, 0x2185,
-    0x2189, 0x218a, 0x2190, 0x2195, 0x219a, 0x219c, 0x21a0, 0x21a1, 0x21a3, 0x21a4, 0x21a6, 0x21a7, 0x21ae, 0x21af,
-    0x21ce, 0x21d0, 0x21d2, 0x21d3, 0x21d4, 0x21d5, 0x21f4, 0x2300, 0x2308, 0x2309, 0x230a, 0x230b, 0x230c, 0x2320,
-    0x2322, 0x2329, 0x232a, 0x232b, 0x237c, 0x237d, 0x239b, 0x23b4, 0x23dc, 0x23e2, 0x2440, 0x2460, 0x249c, 0x24ea,
-    0x2500, 0x25b7, 0x25b8, 0x25c1, 0x25c2, 0x25f8, 0x2600, 0x266f, 0x2670, 0x2768, 0x2769, 0x276a, 0x276b, 0x276c,
-    0x276d, 0x276e, 0x276f, 0x2770, 0x2771, 0x2772, 0x2773, 0x2774, 0x2775, 0x2776, 0x2794, 0x27c0, 0x27c5, 0x27c6,
-    0x27c7, 0x27e6, 0x27e7, 0x27e8, 0x27e9, 0x27ea, 0x27eb, 0x27ec, 0x27ed, 0x27ee, 0x27ef, 0x27f0, 0x2800, 0x2900,
-    0x2983, 0x2984, 0x2985, 0x2986, 0x2987, 0x2988, 0x2989, 0x298a, 0x298b, 0x298c, 0x298d, 0x298e, 0x298f, 0x2990,
-    0x2991, 0x2992, 0x2993, 0x2994, 0x2995, 0x2996, 0x2997, 0x2998, 0x2999, 0x29d8, 0x29d9, 0x29da, 0x29db, 0x29dc,
-    0x29fc, 0x29fd, 0x29fe, 0x2b00, 0x2b30, 0x2b45, 0x2b47, 0x2b4d, 0x2b76, 0x2c00, 0x2c30, 0x2c60, 0x2c61, 0x2c62,
-    0x2c65, 0x2c67, 0x2c68, 0x2c69, 0x2c6a, 0x2c6b, 0x2c6c, 0x2c6d, 0x2c71, 0x2c72, 0x2c73, 0x2c75, 0x2c76, 0x2c7c,
-    0x2c7e, 0x2c81, 0x2c82, 0x2c83, 0x2c84, 0x2c85, 0x2c86, 0x2c87, 0x2c88, 0x2c89, 0x2c8a, 0x2c8b, 0x2c8c, 0x2c8d,
-    0x2c8e, 0x2c8f, 0x2c90, 0x2c91, 0x2c92, 0x2c93, 0x2c94, 0x2c95, 0x2c96, 0x2c97, 0x2c98, 0x2c99, 0x2c9a, 0x2c9b,
-    0x2c9c, 0x2c9d, 0x2c9e, 0x2c9f, 0x2ca0, 0x2ca1, 0x2ca2, 0x2ca3, 0x2ca4, 0x2ca5, 0x2ca6, 0x2ca7, 0x2ca8, 0x2ca9,
-    0x2caa, 0x2cab, 0x2cac, 0x2cad, 0x2cae, 0x2caf, 0x2cb0, 0x2cb1, 0x2cb2, 0x2cb3, 0x2cb4, 0x2cb5, 0x2cb6, 0x2cb7,
-    0x2cb8, 0x2cb9, 0x2cba, 0x2cbb, 0x2cbc, 0x2cbd, 0x2cbe, 0x2cbf, 0x2cc0, 0x2cc1, 0x2cc2, 0x2cc3, 0x2cc4, 0x2cc5,
-    0x2cc6, 0x2cc7, 0x2cc8, 0x2cc9, 0x2cca, 0x2ccb, 0x2ccc, 0x2ccd, 0x2cce, 0x2ccf, 0x2cd0, 0x2cd1, 0x2cd2, 0x2cd3,
-    0x2cd4, 0x2cd5, 0x2cd6, 0x2cd7, 0x2cd8, 0x2cd9, 0x2cda, 0x2cdb, 0x2cdc, 0x2cdd, 0x2cde, 0x2cdf, 0x2ce0, 0x2ce1,
-    0x2ce2, 0x2ce3, 0x2ce5, 0x2ceb, 0x2cec, 0x2ced, 0x2cee, 0x2cef, 0x2cf2, 0x2cf3, 0x2cf9, 0x2cfd, 0x2cfe, 0x2d00,
-    0x2d27, 0x2d2d, 0x2d30, 0x2d6f, 0x2d70, 0x2d7f, 0x2d80, 0x2da0, 0x2da8, 0x2db0, 0x2db8, 0x2dc0, 0x2dc8, 0x2dd0,
-    0x2dd8, 0x2de0, 0x2e00, 0x2e02, 0x2e03, 0x2e04, 0x2e05, 0x2e06, 0x2e09, 0x2e0a, 0x2e0b, 0x2e0c, 0x2e0d, 0x2e0e,
-    0x2e17, 0x2e18, 0x2e1a, 0x2e1b, 0x2e1c, 0x2e1d, 0x2e1e, 0x2e20, 0x2e21, 0x2e22, 0x2e23, 0x2e24, 0x2e25, 0x2e26,
-    0x2e27, 0x2e28, 0x2e29, 0x2e2a, 0x2e2f, 0x2e30, 0x2e3a, 0x2e3c, 0x2e40, 0x2e41, 0x2e42, 0x2e43, 0x2e50, 0x2e52,
-    0x2e55, 0x2e56, 0x2e57, 0x2e58, 0x2e59, 0x2e5a, 0x2e5b, 0x2e5c, 0x2e5d, 0x2e80, 0x2e9b, 0x2f00, 0x2ff0, 0x3000,
-    0x3001, 0x3004, 0x3005, 0x3006, 0x3007, 0x3008, 0x3009, 0x300a, 0x300b, 0x300c, 0x300d, 0x300e, 0x300f, 0x3010,
-    0x3011, 0x3012, 0x3014, 0x3015, 0x3016, 0x3017, 0x3018, 0x3019, 0x301a, 0x301b, 0x301c, 0x301d, 0x301e, 0x3020,
-    0x3021, 0x302a, 0x302e, 0x3030, 0x3031, 0x3036, 0x3038, 0x303b, 0x303c, 0x303d, 0x303e, 0x3041, 0x3099, 0x309b,
-    0x309d, 0x309f, 0x30a0, 0x30a1, 0x30fb, 0x30fc, 0x30ff, 0x3105, 0x3131, 0x3190, 0x3192, 0x3196, 0x31a0, 0x31c0,
-    0x31ef, 0x31f0, 0x3200, 0x3220, 0x322a, 0x3248, 0x3250, 0x3251, 0x3260, 0x3280, 0x328a, 0x32b1, 0x32c0, 0x3400,
-    0x4dc0, 0x4e00, 0xa015, 0xa016, 0xa490, 0xa4d0, 0xa4f8, 0xa4fe, 0xa500, 0xa60c, 0xa60d, 0xa610, 0xa620, 0xa62a,
-    0xa640, 0xa641, 0xa642, 0xa643, 0xa644, 0xa645, 0xa646, 0xa647, 0xa648, 0xa649, 0xa64a, 0xa64b, 0xa64c, 0xa64d,
-    0xa64e, 0xa64f, 0xa650, 0xa651, 0xa652, 0xa653, 0xa654, 0xa655, 0xa656, 0xa657, 0xa658, 0xa659, 0xa65a, 0xa65b,
-    0xa65c, 0xa65d, 0xa65e, 0xa65f, 0xa660, 0xa661, 0xa662, 0xa663, 0xa664, 0xa665, 0xa666, 0xa667, 0xa668, 0xa669,
-    0xa66a, 0xa66b, 0xa66c, 0xa66d, 0xa66e, 0xa66f, 0xa670, 0xa673, 0xa674, 0xa67e, 0xa67f, 0xa680, 0xa681, 0xa682,
-    0xa683, 0xa684, 0xa685, 0xa686, 0xa687, 0xa688, 0xa689, 0xa68a, 0xa68b, 0xa68c, 0xa68d, 0xa68e, 0xa68f, 0xa690,
-    0xa691, 0xa692, 0xa693, 0xa694, 0xa695, 0xa696, 0xa697, 0xa698, 0xa699, 0xa69a, 0xa69b, 0xa69c, 0xa69e, 0xa6a0,
-    0xa6e6, 0xa6f0, 0xa6f2, 0xa700, 0xa717, 0xa720, 0xa722, 0xa723, 0xa724, 0xa725, 0xa726, 0xa727, 0xa728, 0xa729,
-    0xa72a, 0xa72b, 0xa72c, 0xa72d, 0xa72e, 0xa72f, 0xa732, 0xa733, 0xa734, 0xa735, 0xa736, 0xa737, 0xa738, 0xa739,
-    0xa73a, 0xa73b, 0xa73c, 0xa73d, 0xa73e, 0xa73f, 0xa740, 0xa741, 0xa742, 0xa743, 0xa744, 0xa745, 0xa746, 0xa747,
-    0xa748, 0xa749, 0xa74a, 0xa74b, 0xa74c, 0xa74d, 0xa74e, 0xa74f, 0xa750, 0xa751, 0xa752, 0xa753, 0xa754, 0xa755,
-    0xa756, 0xa757, 0xa758, 0xa759, 0xa75a, 0xa75b, 0xa75c, 0xa75d, 0xa75e, 0xa75f, 0xa760, 0xa761, 0xa762, 0xa763,
-    0xa764, 0xa765, 0xa766, 0xa767, 0xa768, 0xa769, 0xa76a, 0xa76b, 0xa76c, 0xa76d, 0xa76e, 0xa76f, 0xa770, 0xa771,
-    0xa779, 0xa77a, 0xa77b, 0xa77c, 0xa77d, 0xa77f, 0xa780, 0xa781, 0xa782, 0xa783, 0xa784, 0xa785, 0xa786, 0xa787,
-    0xa788, 0xa789, 0xa78b, 0xa78c, 0xa78d, 0xa78e, 0xa78f, 0xa790, 0xa791, 0xa792, 0xa793, 0xa796, 0xa797, 0xa798,
-    0xa799, 0xa79a, 0xa79b, 0xa79c, 0xa79d, 0xa79e, 0xa79f, 0xa7a0, 0xa7a1, 0xa7a2, 0xa7a3, 0xa7a4, 0xa7a5, 0xa7a6,
-    0xa7a7, 0xa7a8, 0xa7a9, 0xa7aa, 0xa7af, 0xa7b0, 0xa7b5, 0xa7b6, 0xa7b7, 0xa7b8, 0xa7b9, 0xa7ba, 0xa7bb, 0xa7bc,
-    0xa7bd, 0xa7be, 0xa7bf, 0xa7c0, 0xa7c1, 0xa7c2, 0xa7c3, 0xa7c4, 0xa7c8, 0xa7c9, 0xa7ca, 0xa7cb, 0xa7cd, 0xa7ce,
-    0xa7cf, 0xa7d0, 0xa7d1, 0xa7d2, 0xa7d3, 0xa7d4, 0xa7d5, 0xa7d6, 0xa7d7, 0xa7d8, 0xa7d9, 0xa7da, 0xa7db, 0xa7dc,
-    0xa7f1, 0xa7f5, 0xa7f6, 0xa7f7, 0xa7f8, 0xa7fa, 0xa7fb, 0xa802, 0xa803, 0xa806, 0xa807, 0xa80b, 0xa80c, 0xa823,
-    0xa825, 0xa827, 0xa828, 0xa82c, 0xa830, 0xa836, 0xa838, 0xa839, 0xa840, 0xa874, 0xa880, 0xa882, 0xa8b4, 0xa8c4,
-    0xa8ce, 0xa8d0, 0xa8e0, 0xa8f2, 0xa8f8, 0xa8fb, 0xa8fc, 0xa8fd, 0xa8ff, 0xa900, 0xa90a, 0xa926, 0xa92e, 0xa930,
-    0xa947, 0xa952, 0xa95f, 0xa960, 0xa980, 0xa983, 0xa984, 0xa9b3, 0xa9b4, 0xa9b6, 0xa9ba, 0xa9bc, 0xa9be, 0xa9c1,
-    0xa9cf, 0xa9d0, 0xa9de, 0xa9e0, 0xa9e5, 0xa9e6, 0xa9e7, 0xa9f0, 0xa9fa, 0xaa00, 0xaa29, 0xaa2f, 0xaa31, 0xaa33,
-    0xaa35, 0xaa40, 0xaa43, 0xaa44, 0xaa4c, 0xaa4d, 0xaa50, 0xaa5c, 0xaa60, 0xaa70, 0xaa71, 0xaa77, 0xaa7a, 0xaa7b,
-    0xaa7c, 0xaa7d, 0xaa7e, 0xaab0, 0xaab1, 0xaab2, 0xaab5, 0xaab7, 0xaab9, 0xaabe, 0xaac0, 0xaac1, 0xaac2, 0xaadb,
-    0xaadd, 0xaade, 0xaae0, 0xaaeb, 0xaaec, 0xaaee, 0xaaf0, 0xaaf2, 0xaaf3, 0xaaf5, 0xaaf6, 0xab01, 0xab09, 0xab11,
-    0xab20, 0xab28, 0xab30, 0xab5b, 0xab5c, 0xab60, 0xab69, 0xab6a, 0xab70, 0xabc0, 0xabe3, 0xabe5, 0xabe6, 0xabe8,
-    0xabe9, 0xabeb, 0xabec, 0xabed, 0xabf0, 0xac00, 0xd7b0, 0xd7cb, 0xd800, 0xdb80, 0xdc00, 0xe000, 0xf900, 0xfa70,
-    0xfb00, 0xfb13, 0xfb1d, 0xfb1e, 0xfb1f, 0xfb29, 0xfb2a, 0xfb38, 0xfb3e, 0xfb40, 0xfb43, 0xfb46, 0xfbb2, 0xfbc3,
-    0xfbd3, 0xfd3e, 0xfd3f, 0xfd40, 0xfd50, 0xfd90, 0xfd92, 0xfdc8, 0xfdf0, 0xfdfc, 0xfdfd, 0xfe00, 0xfe10, 0xfe17,
-    0xfe18, 0xfe19, 0xfe20, 0xfe30, 0xfe31, 0xfe33, 0xfe35, 0xfe36, 0xfe37, 0xfe38, 0xfe39, 0xfe3a, 0xfe3b, 0xfe3c,
-    0xfe3d, 0xfe3e, 0xfe3f, 0xfe40, 0xfe41, 0xfe42, 0xfe43, 0xfe44, 0xfe45, 0xfe47, 0xfe48, 0xfe49, 0xfe4d, 0xfe50,
-    0xfe54, 0xfe58, 0xfe59, 0xfe5a, 0xfe5b, 0xfe5c, 0xfe5d, 0xfe5e, 0xfe5f, 0xfe62, 0xfe63, 0xfe64, 0xfe68, 0xfe69,
-    0xfe6a, 0xfe70, 0xfe76, 0xfeff, 0xff01, 0xff04, 0xff05, 0xff08, 0xff09, 0xff0a, 0xff0b, 0xff0c, 0xff0d, 0xff0e,
-    0xff10, 0xff1a, 0xff1c, 0xff1f, 0xff21, 0xff3b, 0xff3c, 0xff3d, 0xff3e, 0xff3f, 0xff40, 0xff41, 0xff5b, 0xff5c,
-    0xff5d, 0xff5e, 0xff5f, 0xff60, 0xff61, 0xff62, 0xff63, 0xff64, 0xff66, 0xff70, 0xff71, 0xff9e, 0xffa0, 0xffc2,
-    0xffca, 0xffd2, 0xffda, 0xffe0, 0xffe2, 0xffe3, 0xffe4, 0xffe5, 0xffe8, 0xffe9, 0xffed, 0xfff9, 0xfffc, 0x10000,
-    0x1000d, 0x10028, 0x1003c, 0x1003f, 0x10050, 0x10080, 0x10100, 0x10107, 0x10137, 0x10140, 0x10175, 0x10179,
-    0x1018a, 0x1018c, 0x10190, 0x101a0, 0x101d0, 0x101fd, 0x10280, 0x102a0, 0x102e0, 0x102e1, 0x10300, 0x10320,
-    0x1032d, 0x10341, 0x10342, 0x1034a, 0x10350, 0x10376, 0x10380, 0x1039f, 0x103a0, 0x103c8, 0x103d0, 0x103d1,
-    0x10400, 0x10428, 0x10450, 0x104a0, 0x104b0, 0x104d8, 0x10500, 0x10530, 0x1056f, 0x10570, 0x1057c, 0x1058c,
-    0x10594, 0x10597, 0x105a3, 0x105b3, 0x105bb, 0x105c0, 0x10600, 0x10740, 0x10760, 0x10780, 0x10787, 0x107b2,
-    0x10800, 0x10808, 0x1080a, 0x10837, 0x1083c, 0x1083f, 0x10857, 0x10858, 0x10860, 0x10877, 0x10879, 0x10880,
-    0x108a7, 0x108e0, 0x108f4, 0x108fb, 0x10900, 0x10916, 0x1091f, 0x10920, 0x1093f, 0x10940, 0x10980, 0x109bc,
-    0x109be, 0x109c0, 0x109d2, 0x10a00, 0x10a01, 0x10a05, 0x10a0c, 0x10a10, 0x10a15, 0x10a19, 0x10a38, 0x10a3f,
-    0x10a40, 0x10a50, 0x10a60, 0x10a7d, 0x10a7f, 0x10a80, 0x10a9d, 0x10ac0, 0x10ac8, 0x10ac9, 0x10ae5, 0x10aeb,
-    0x10af0, 0x10b00, 0x10b39, 0x10b40, 0x10b58, 0x10b60, 0x10b78, 0x10b80, 0x10b99, 0x10ba9, 0x10c00, 0x10c80,
-    0x10cc0, 0x10cfa, 0x10d00, 0x10d24, 0x10d30, 0x10d40, 0x10d4a, 0x10d4e, 0x10d4f, 0x10d50, 0x10d69, 0x10d6e,
-    0x10d6f, 0x10d70, 0x10d8e, 0x10e60, 0x10e80, 0x10eab, 0x10ead, 0x10eb0, 0x10ec2, 0x10ec5, 0x10ec6, 0x10ed0,
-    0x10ed1, 0x10efa, 0x10f00, 0x10f1d, 0x10f27, 0x10f30, 0x10f46, 0x10f51, 0x10f55, 0x10f70, 0x10f82, 0x10f86,
-    0x10fb0, 0x10fc5, 0x10fe0, 0x11000, 0x11001, 0x11002, 0x11003, 0x11038, 0x11047, 0x11052, 0x11066, 0x11070,
-    0x11071, 0x11073, 0x11075, 0x1107f, 0x11082, 0x11083, 0x110b0, 0x110b3, 0x110b7, 0x110b9, 0x110bb, 0x110bd,
-    0x110be, 0x110c2, 0x110cd, 0x110d0, 0x110f0, 0x11100, 0x11103, 0x11127, 0x1112c, 0x1112d, 0x11136, 0x11140,
-    0x11144, 0x11145, 0x11147, 0x11150, 0x11173, 0x11174, 0x11176, 0x11180, 0x11182, 0x11183, 0x111b3, 0x111b6,
-    0x111bf, 0x111c1, 0x111c5, 0x111c9, 0x111cd, 0x111ce, 0x111cf, 0x111d0, 0x111da, 0x111db, 0x111dc, 0x111dd,
-    0x111e1, 0x11200, 0x11213, 0x1122c, 0x1122f, 0x11232, 0x11234, 0x11235, 0x11236, 0x11238, 0x1123e, 0x1123f,
-    0x11241, 0x11280, 0x11288, 0x1128a, 0x1128f, 0x1129f, 0x112a9, 0x112b0, 0x112df, 0x112e0, 0x112e3, 0x112f0,
-    0x11300, 0x11302, 0x11305, 0x1130f, 0x11313, 0x1132a, 0x11332, 0x11335, 0x1133b, 0x1133d, 0x1133e, 0x11340,
-    0x11341, 0x11347, 0x1134b, 0x11350, 0x11357, 0x1135d, 0x11362, 0x11366, 0x11370, 0x11380, 0x1138b, 0x1138e,
-    0x11390, 0x113b7, 0x113b8, 0x113bb, 0x113c2, 0x113c5, 0x113c7, 0x113cc, 0x113ce, 0x113cf, 0x113d0, 0x113d1,
-    0x113d2, 0x113d3, 0x113d4, 0x113d7, 0x113e1, 0x11400, 0x11435, 0x11438, 0x11440, 0x11442, 0x11445, 0x11446,
-    0x11447, 0x1144b, 0x11450, 0x1145a, 0x1145d, 0x1145e, 0x1145f, 0x11480, 0x114b0, 0x114b3, 0x114b9, 0x114ba,
-    0x114bb, 0x114bf, 0x114c1, 0x114c2, 0x114c4, 0x114c6, 0x114c7, 0x114d0, 0x11580, 0x115af, 0x115b2, 0x115b8,
-    0x115bc, 0x115be, 0x115bf, 0x115c1, 0x115d8, 0x115dc, 0x11600, 0x11630, 0x11633, 0x1163b, 0x1163d, 0x1163e,
-    0x1163f, 0x11641, 0x11644, 0x11650, 0x11660, 0x11680, 0x116ab, 0x116ac, 0x116ad, 0x116ae, 0x116b0, 0x116b6,
-    0x116b7, 0x116b8, 0x116b9, 0x116c0, 0x116d0, 0x11700, 0x1171d, 0x1171e, 0x1171f, 0x11720, 0x11722, 0x11726,
-    0x11727, 0x11730, 0x1173a, 0x1173c, 0x1173f, 0x11740, 0x11800, 0x1182c, 0x1182f, 0x11838, 0x11839, 0x1183b,
-    0x118a0, 0x118c0, 0x118e0, 0x118ea, 0x118ff, 0x11909, 0x1190c, 0x11915, 0x11918, 0x11930, 0x11937, 0x1193b,
-    0x1193d, 0x1193e, 0x1193f, 0x11940, 0x11941, 0x11942, 0x11943, 0x11944, 0x11950, 0x119a0, 0x119aa, 0x119d1,
-    0x119d4, 0x119da, 0x119dc, 0x119e0, 0x119e1, 0x119e2, 0x119e3, 0x119e4, 0x11a00, 0x11a01, 0x11a0b, 0x11a33,
-    0x11a39, 0x11a3a, 0x11a3b, 0x11a3f, 0x11a47, 0x11a50, 0x11a51, 0x11a57, 0x11a59, 0x11a5c, 0x11a8a, 0x11a97,
-    0x11a98, 0x11a9a, 0x11a9d, 0x11a9e, 0x11ab0, 0x11b00, 0x11b60, 0x11b61, 0x11b62, 0x11b65, 0x11b66, 0x11b67,
-    0x11bc0, 0x11be1, 0x11bf0, 0x11c00, 0x11c0a, 0x11c2f, 0x11c30, 0x11c38, 0x11c3e, 0x11c3f, 0x11c40, 0x11c41,
-    0x11c50, 0x11c5a, 0x11c70, 0x11c72, 0x11c92, 0x11ca9, 0x11caa, 0x11cb1, 0x11cb2, 0x11cb4, 0x11cb5, 0x11d00,
-    0x11d08, 0x11d0b, 0x11d31, 0x11d3a, 0x11d3c, 0x11d3f, 0x11d46, 0x11d47, 0x11d50, 0x11d60, 0x11d67, 0x11d6a,
-    0x11d8a, 0x11d90, 0x11d93, 0x11d95, 0x11d96, 0x11d97, 0x11d98, 0x11da0, 0x11db0, 0x11dd9, 0x11dda, 0x11de0,
-    0x11ee0, 0x11ef3, 0x11ef5, 0x11ef7, 0x11f00, 0x11f02, 0x11f03, 0x11f04, 0x11f12, 0x11f34, 0x11f36, 0x11f3e,
-    0x11f40, 0x11f41, 0x11f42, 0x11f43, 0x11f50, 0x11f5a, 0x11fb0, 0x11fc0, 0x11fd5, 0x11fdd, 0x11fe1, 0x11fff,
-    0x12000, 0x12400, 0x12470, 0x12480, 0x12f90, 0x12ff1, 0x13000, 0x13430, 0x13440, 0x13441, 0x13447, 0x13460,
-    0x14400, 0x16100, 0x1611e, 0x1612a, 0x1612d, 0x16130, 0x16800, 0x16a40, 0x16a60, 0x16a6e, 0x16a70, 0x16ac0,
-    0x16ad0, 0x16af0, 0x16af5, 0x16b00, 0x16b30, 0x16b37, 0x16b3c, 0x16b40, 0x16b44, 0x16b45, 0x16b50, 0x16b5b,
-    0x16b63, 0x16b7d, 0x16d40, 0x16d43, 0x16d6b, 0x16d6d, 0x16d70, 0x16e40, 0x16e60, 0x16e80, 0x16e97, 0x16ea0,
-    0x16ebb, 0x16f00, 0x16f4f, 0x16f50, 0x16f51, 0x16f8f, 0x16f93, 0x16fe0, 0x16fe2, 0x16fe3, 0x16fe4, 0x16ff0,
-    0x16ff2, 0x16ff4, 0x17000, 0x18cff, 0x18d00, 0x18d80, 0x1aff0, 0x1aff5, 0x1affd, 0x1b000, 0x1b132, 0x1b150,
-    0x1b155, 0x1b164, 0x1b170, 0x1bc00, 0x1bc70, 0x1bc80, 0x1bc90, 0x1bc9c, 0x1bc9d, 0x1bc9f, 0x1bca0, 0x1cc00,
-    0x1ccf0, 0x1ccfa, 0x1cd00, 0x1ceba, 0x1cee0, 0x1cef0, 0x1cf00, 0x1cf30, 0x1cf50, 0x1d000, 0x1d100, 0x1d129,
-    0x1d165, 0x1d167, 0x1d16a, 0x1d16d, 0x1d173, 0x1d17b, 0x1d183, 0x1d185, 0x1d18c, 0x1d1aa, 0x1d1ae, 0x1d200,
-    0x1d242, 0x1d245, 0x1d2c0, 0x1d2e0, 0x1d300, 0x1d360, 0x1d400, 0x1d41a, 0x1d434, 0x1d44e, 0x1d456, 0x1d468,
-    0x1d482, 0x1d49c, 0x1d49e, 0x1d4a2, 0x1d4a5, 0x1d4a9, 0x1d4ae, 0x1d4b6, 0x1d4bb, 0x1d4bd, 0x1d4c5, 0x1d4d0,
-    0x1d4ea, 0x1d504, 0x1d507, 0x1d50d, 0x1d516, 0x1d51e, 0x1d538, 0x1d53b, 0x1d540, 0x1d546, 0x1d54a, 0x1d552,
-    0x1d56c, 0x1d586, 0x1d5a0, 0x1d5ba, 0x1d5d4, 0x1d5ee, 0x1d608, 0x1d622, 0x1d63c, 0x1d656, 0x1d670, 0x1d68a,
-    0x1d6a8, 0x1d6c1, 0x1d6c2, 0x1d6db, 0x1d6dc, 0x1d6e2, 0x1d6fb, 0x1d6fc, 0x1d715, 0x1d716, 0x1d71c, 0x1d735,
-    0x1d736, 0x1d74f, 0x1d750, 0x1d756, 0x1d76f, 0x1d770, 0x1d789, 0x1d78a, 0x1d790, 0x1d7a9, 0x1d7aa, 0x1d7c3,
-    0x1d7c4, 0x1d7ca, 0x1d7cb, 0x1d7ce, 0x1d800, 0x1da00, 0x1da37, 0x1da3b, 0x1da6d, 0x1da75, 0x1da76, 0x1da84,
-    0x1da85, 0x1da87, 0x1da9b, 0x1daa1, 0x1df00, 0x1df0a, 0x1df0b, 0x1df25, 0x1e000, 0x1e008, 0x1e01b, 0x1e023,
-    0x1e026, 0x1e030, 0x1e08f, 0x1e100, 0x1e130, 0x1e137, 0x1e140, 0x1e14e, 0x1e14f, 0x1e290, 0x1e2ae, 0x1e2c0,
-    0x1e2ec, 0x1e2f0, 0x1e2ff, 0x1e4d0, 0x1e4eb, 0x1e4ec, 0x1e4f0, 0x1e5d0, 0x1e5ee, 0x1e5f0, 0x1e5f1, 0x1e5ff,
-    0x1e6c0, 0x1e6e0, 0x1e6e3, 0x1e6e4, 0x1e6e6, 0x1e6e7, 0x1e6ee, 0x1e6f0, 0x1e6f5, 0x1e6fe, 0x1e6ff, 0x1e7e0,
-    0x1e7e8, 0x1e7ed, 0x1e7f0, 0x1e800, 0x1e8c7, 0x1e8d0, 0x1e900, 0x1e922, 0x1e944, 0x1e94b, 0x1e950, 0x1e95e,
-    0x1ec71, 0x1ecac, 0x1ecad, 0x1ecb0, 0x1ecb1, 0x1ed01, 0x1ed2e, 0x1ed2f, 0x1ee00, 0x1ee05, 0x1ee21, 0x1ee24,
-    0x1ee27, 0x1ee29, 0x1ee34, 0x1ee39, 0x1ee3b, 0x1ee42, 0x1ee47, 0x1ee49, 0x1ee4b, 0x1ee4d, 0x1ee51, 0x1ee54,
-    0x1ee57, 0x1ee59, 0x1ee5b, 0x1ee5d, 0x1ee5f, 0x1ee61, 0x1ee64, 0x1ee67, 0x1ee6c, 0x1ee74, 0x1ee79, 0x1ee7e,
-    0x1ee80, 0x1ee8b, 0x1eea1, 0x1eea5, 0x1eeab, 0x1eef0, 0x1f000, 0x1f030, 0x1f0a0, 0x1f0b1, 0x1f0c1, 0x1f0d1,
-    0x1f100, 0x1f10d, 0x1f1e6, 0x1f210, 0x1f240, 0x1f250, 0x1f260, 0x1f300, 0x1f3fb, 0x1f400, 0x1f6dc, 0x1f6f0,
-    0x1f700, 0x1f7e0, 0x1f7f0, 0x1f800, 0x1f810, 0x1f850, 0x1f860, 0x1f890, 0x1f8b0, 0x1f8c0, 0x1f8d0, 0x1f900,
-    0x1fa60, 0x1fa70, 0x1fa80, 0x1fa8e, 0x1fac8, 0x1facd, 0x1fadf, 0x1faef, 0x1fb00, 0x1fb94, 0x1fbf0, 0x1fbfa,
-    0x20000, 0x2a700, 0x2b740, 0x2b820, 0x2ceb0, 0x2ebf0, 0x2f800, 0x30000, 0x31350, 0x323b0, 0xe0001, 0xe0020,
-    0xe0100, 0xf0000, 0x100000};
-  }
-  static final int[] _END_ = end0();
-  private static int[] end0() { return new int[] {
-    0x1f, 0x20, 0x23, 0x24, 0x27, 0x28, 0x29, 0x2a, 0x2b, 0x2c, 0x2d, 0x2f, 0x39, 0x3b, 0x3e, 0x40, 0x5a, 0x5b, 0x5c,
-    0x5d, 0x5e, 0x5f, 0x60, 0x7a, 0x7b, 0x7c, 0x7d, 0x7e, 0x9f, 0xa0, 0xa1, 0xa5, 0xa6, 0xa7, 0xa8, 0xa9, 0xaa, 0xab,
-    0xac, 0xad, 0xae, 0xaf, 0xb0, 0xb1, 0xb3, 0xb4, 0xb5, 0xb7, 0xb8, 0xb9, 0xba, 0xbb, 0xbe, 0xbf, 0xd6, 0xd7, 0xde,
-    0xf6, 0xf7, 0xff, 0x100, 0x101, 0x102, 0x103, 0x104, 0x105, 0x106, 0x107, 0x108, 0x109, 0x10a, 0x10b, 0x10c, 0x10d,
-    0x10e, 0x10f, 0x110, 0x111, 0x112, 0x113, 0x114, 0x115, 0x116, 0x117, 0x118, 0x119, 0x11a, 0x11b, 0x11c, 0x11d,
-    0x11e, 0x11f, 0x120, 0x121, 0x122, 0x123, 0x124, 0x125, 0x126, 0x127, 0x128, 0x129, 0x12a, 0x12b, 0x12c, 0x12d,
-    0x12e, 0x12f, 0x130, 0x131, 0x132, 0x133, 0x134, 0x135, 0x136, 0x138, 0x139, 0x13a, 0x13b, 0x13c, 0x13d, 0x13e,
-    0x13f, 0x140, 0x141, 0x142, 0x143, 0x144, 0x145, 0x146, 0x147, 0x149, 0x14a, 0x14b, 0x14c, 0x14d, 0x14e, 0x14f,
-    0x150, 0x151, 0x152, 0x153, 0x154, 0x155, 0x156, 0x157, 0x158, 0x159, 0x15a, 0x15b, 0x15c, 0x15d, 0x15e, 0x15f,
-    0x160, 0x161, 0x162, 0x163, 0x164, 0x165, 0x166, 0x167, 0x168, 0x169, 0x16a, 0x16b, 0x16c, 0x16d, 0x16e, 0x16f,
-    0x170, 0x171, 0x172, 0x173, 0x174, 0x175, 0x176, 0x177, 0x179, 0x17a, 0x17b, 0x17c, 0x17d, 0x180, 0x182, 0x183,
-    0x184, 0x185, 0x187, 0x188, 0x18b, 0x18d, 0x191, 0x192, 0x194, 0x195, 0x198, 0x19b, 0x19d, 0x19e, 0x1a0, 0x1a1,
-    0x1a2, 0x1a3, 0x1a4, 0x1a5, 0x1a7, 0x1a8, 0x1a9, 0x1ab, 0x1ac, 0x1ad, 0x1af, 0x1b0, 0x1b3, 0x1b4, 0x1b5, 0x1b6,
-    0x1b8, 0x1ba, 0x1bb, 0x1bc, 0x1bf, 0x1c3, 0x1c4, 0x1c5, 0x1c6, 0x1c7, 0x1c8, 0x1c9, 0x1ca, 0x1cb, 0x1cc, 0x1cd,
-    0x1ce, 0x1cf, 0x1d0, 0x1d1, 0x1d2, 0x1d3, 0x1d4, 0x1d5, 0x1d6, 0x1d7, 0x1d8, 0x1d9, 0x1da, 0x1db, 0x1dd, 0x1de,
-    0x1df, 0x1e0, 0x1e1, 0x1e2, 0x1e3, 0x1e4, 0x1e5, 0x1e6, 0x1e7, 0x1e8, 0x1e9, 0x1ea, 0x1eb, 0x1ec, 0x1ed, 0x1ee,
-    0x1f0, 0x1f1, 0x1f2, 0x1f3, 0x1f4, 0x1f5, 0x1f8, 0x1f9, 0x1fa, 0x1fb, 0x1fc, 0x1fd, 0x1fe, 0x1ff, 0x200, 0x201,
-    0x202, 0x203, 0x204, 0x205, 0x206, 0x207, 0x208, 0x209, 0x20a, 0x20b, 0x20c, 0x20d, 0x20e, 0x20f, 0x210, 0x211,
-    0x212, 0x213, 0x214, 0x215, 0x216, 0x217, 0x218, 0x219, 0x21a, 0x21b, 0x21c, 0x21d, 0x21e, 0x21f, 0x220, 0x221,
-    0x222, 0x223, 0x224, 0x225, 0x226, 0x227, 0x228, 0x229, 0x22a, 0x22b, 0x22c, 0x22d, 0x22e, 0x22f, 0x230, 0x231,
-    0x232, 0x239, 0x23b, 0x23c, 0x23e, 0x240, 0x241, 0x242, 0x246, 0x247, 0x248, 0x249, 0x24a, 0x24b, 0x24c, 0x24d,
-    0x24e, 0x293, 0x295, 0x2af, 0x2c1, 0x2c5, 0x2d1, 0x2df, 0x2e4, 0x2eb, 0x2ec, 0x2ed, 0x2ee, 0x2ff, 0x36f, 0x370,
-    0x371, 0x372, 0x373, 0x374, 0x375, 0x376, 0x377, 0x37a, 0x37d, 0x37e, 0x37f, 0x385, 0x386, 0x387, 0x38a, 0x38c,
-    0x38f, 0x390, 0x3a1, 0x3ab, 0x3ce, 0x3cf, 0x3d1, 0x3d4, 0x3d7, 0x3d8, 0x3d9, 0x3da, 0x3db, 0x3dc, 0x3dd, 0x3de,
-    0x3df, 0x3e0, 0x3e1, 0x3e2, 0x3e3, 0x3e4, 0x3e5, 0x3e6, 0x3e7, 0x3e8, 0x3e9, 0x3ea, 0x3eb, 0x3ec, 0x3ed, 0x3ee,
-    0x3f3, 0x3f4, 0x3f5, 0x3f6, 0x3f7, 0x3f8, 0x3fa, 0x3fc, 0x42f, 0x45f, 0x460, 0x461, 0x462, 0x463, 0x464, 0x465,
-    0x466, 0x467, 0x468, 0x469, 0x46a, 0x46b, 0x46c, 0x46d, 0x46e, 0x46f, 0x470, 0x471, 0x472, 0x473, 0x474, 0x475,
-    0x476, 0x477, 0x478, 0x479, 0x47a, 0x47b, 0x47c, 0x47d, 0x47e, 0x47f, 0x480, 0x481, 0x482, 0x487, 0x489, 0x48a,
-    0x48b, 0x48c, 0x48d, 0x48e, 0x48f, 0x490, 0x491, 0x492, 0x493, 0x494, 0x495, 0x496, 0x497, 0x498, 0x499, 0x49a,
-    0x49b, 0x49c, 0x49d, 0x49e, 0x49f, 0x4a0, 0x4a1, 0x4a2, 0x4a3, 0x4a4, 0x4a5, 0x4a6, 0x4a7, 0x4a8, 0x4a9, 0x4aa,
-    0x4ab, 0x4ac, 0x4ad, 0x4ae, 0x4af, 0x4b0, 0x4b1, 0x4b2, 0x4b3, 0x4b4, 0x4b5, 0x4b6, 0x4b7, 0x4b8, 0x4b9, 0x4ba,
-    0x4bb, 0x4bc, 0x4bd, 0x4be, 0x4bf, 0x4c1, 0x4c2, 0x4c3, 0x4c4, 0x4c5, 0x4c6, 0x4c7, 0x4c8, 0x4c9, 0x4ca, 0x4cb,
-    0x4cc, 0x4cd, 0x4cf, 0x4d0, 0x4d1, 0x4d2, 0x4d3, 0x4d4, 0x4d5, 0x4d6, 0x4d7, 0x4d8, 0x4d9, 0x4da, 0x4db, 0x4dc,
-    0x4dd, 0x4de, 0x4df, 0x4e0, 0x4e1, 0x4e2, 0x4e3, 0x4e4, 0x4e5, 0x4e6, 0x4e7, 0x4e8, 0x4e9, 0x4ea, 0x4eb, 0x4ec,
-    0x4ed, 0x4ee, 0x4ef, 0x4f0, 0x4f1, 0x4f2, 0x4f3, 0x4f4, 0x4f5, 0x4f6, 0x4f7, 0x4f8, 0x4f9, 0x4fa, 0x4fb, 0x4fc,
-    0x4fd, 0x4fe, 0x4ff, 0x500, 0x501, 0x502, 0x503, 0x504, 0x505, 0x506, 0x507, 0x508, 0x509, 0x50a, 0x50b, 0x50c,
-    0x50d, 0x50e, 0x50f, 0x510, 0x511, 0x512, 0x513, 0x514, 0x515, 0x516, 0x517, 0x518, 0x519, 0x51a, 0x51b, 0x51c,
-    0x51d, 0x51e, 0x51f, 0x520, 0x521, 0x522, 0x523, 0x524, 0x525, 0x526, 0x527, 0x528, 0x529, 0x52a, 0x52b, 0x52c,
-    0x52d, 0x52e, 0x52f, 0x556, 0x559, 0x55f, 0x588, 0x589, 0x58a, 0x58e, 0x58f, 0x5bd, 0x5be, 0x5bf, 0x5c0, 0x5c2,
-    0x5c3, 0x5c5, 0x5c6, 0x5c7, 0x5ea, 0x5f2, 0x5f4, 0x605, 0x608, 0x60a, 0x60b, 0x60d, 0x60f, 0x61a, 0x61b, 0x61c,
-    0x61f, 0x63f, 0x640, 0x64a, 0x65f, 0x669, 0x66d, 0x66f, 0x670, 0x6d3, 0x6d4, 0x6d5, 0x6dc, 0x6dd, 0x6de, 0x6e4,
-    0x6e6, 0x6e8, 0x6e9, 0x6ed, 0x6ef, 0x6f9, 0x6fc, 0x6fe, 0x6ff, 0x70d, 0x70f, 0x710, 0x711, 0x72f, 0x74a, 0x7a5,
-    0x7b0, 0x7b1, 0x7c9, 0x7ea, 0x7f3, 0x7f5, 0x7f6, 0x7f9, 0x7fa, 0x7fd, 0x7ff, 0x815, 0x819, 0x81a, 0x823, 0x824,
-    0x827, 0x828, 0x82d, 0x83e, 0x858, 0x85b, 0x85e, 0x86a, 0x887, 0x888, 0x88f, 0x891, 0x89f, 0x8c8, 0x8c9, 0x8e1,
-    0x8e2, 0x902, 0x903, 0x939, 0x93a, 0x93b, 0x93c, 0x93d, 0x940, 0x948, 0x94c, 0x94d, 0x94f, 0x950, 0x957, 0x961,
-    0x963, 0x965, 0x96f, 0x970, 0x971, 0x980, 0x981, 0x983, 0x98c, 0x990, 0x9a8, 0x9b0, 0x9b2, 0x9b9, 0x9bc, 0x9bd,
-    0x9c0, 0x9c4, 0x9c8, 0x9cc, 0x9cd, 0x9ce, 0x9d7, 0x9dd, 0x9e1, 0x9e3, 0x9ef, 0x9f1, 0x9f3, 0x9f9, 0x9fa, 0x9fb,
-    0x9fc, 0x9fd, 0x9fe, 0xa02, 0xa03, 0xa0a, 0xa10, 0xa28, 0xa30, 0xa33, 0xa36, 0xa39, 0xa3c, 0xa40, 0xa42, 0xa48,
-    0xa4d, 0xa51, 0xa5c, 0xa5e, 0xa6f, 0xa71, 0xa74, 0xa75, 0xa76, 0xa82, 0xa83, 0xa8d, 0xa91, 0xaa8, 0xab0, 0xab3,
-    0xab9, 0xabc, 0xabd, 0xac0, 0xac5, 0xac8, 0xac9, 0xacc, 0xacd, 0xad0, 0xae1, 0xae3, 0xaef, 0xaf0, 0xaf1, 0xaf9,
-    0xaff, 0xb01, 0xb03, 0xb0c, 0xb10, 0xb28, 0xb30, 0xb33, 0xb39, 0xb3c, 0xb3d, 0xb3e, 0xb3f, 0xb40, 0xb44, 0xb48,
-    0xb4c, 0xb4d, 0xb56, 0xb57, 0xb5d, 0xb61, 0xb63, 0xb6f, 0xb70, 0xb71, 0xb77, 0xb82, 0xb83, 0xb8a, 0xb90, 0xb95,
-    0xb9a, 0xb9c, 0xb9f, 0xba4, 0xbaa, 0xbb9, 0xbbf, 0xbc0, 0xbc2, 0xbc8, 0xbcc, 0xbcd, 0xbd0, 0xbd7, 0xbef, 0xbf2,
-    0xbf8, 0xbf9, 0xbfa, 0xc00, 0xc03, 0xc04, 0xc0c, 0xc10, 0xc28, 0xc39, 0xc3c, 0xc3d, 0xc40, 0xc44, 0xc48, 0xc4d,
-    0xc56, 0xc5a, 0xc5d, 0xc61, 0xc63, 0xc6f, 0xc77, 0xc7e, 0xc7f, 0xc80, 0xc81, 0xc83, 0xc84, 0xc8c, 0xc90, 0xca8,
-    0xcb3, 0xcb9, 0xcbc, 0xcbd, 0xcbe, 0xcbf, 0xcc4, 0xcc6, 0xcc8, 0xccb, 0xccd, 0xcd6, 0xcde, 0xce1, 0xce3, 0xcef,
-    0xcf2, 0xcf3, 0xd01, 0xd03, 0xd0c, 0xd10, 0xd3a, 0xd3c, 0xd3d, 0xd40, 0xd44, 0xd48, 0xd4c, 0xd4d, 0xd4e, 0xd4f,
-    0xd56, 0xd57, 0xd5e, 0xd61, 0xd63, 0xd6f, 0xd78, 0xd79, 0xd7f, 0xd81, 0xd83, 0xd96, 0xdb1, 0xdbb, 0xdbd, 0xdc6,
-    0xdca, 0xdd1, 0xdd4, 0xdd6, 0xddf, 0xdef, 0xdf3, 0xdf4, 0xe30, 0xe31, 0xe33, 0xe3a, 0xe3f, 0xe45, 0xe46, 0xe4e,
-    0xe4f, 0xe59, 0xe5b, 0xe82, 0xe84, 0xe8a, 0xea3, 0xea5, 0xeb0, 0xeb1, 0xeb3, 0xebc, 0xebd, 0xec4, 0xec6, 0xece,
-    0xed9, 0xedf, 0xf00, 0xf03, 0xf12, 0xf13, 0xf14, 0xf17, 0xf19, 0xf1f, 0xf29, 0xf33, 0xf34, 0xf35, 0xf36, 0xf37,
-    0xf38, 0xf39, 0xf3a, 0xf3b, 0xf3c, 0xf3d, 0xf3f, 0xf47, 0xf6c, 0xf7e, 0xf7f, 0xf84, 0xf85, 0xf87, 0xf8c, 0xf97,
-    0xfbc, 0xfc5, 0xfc6, 0xfcc, 0xfcf, 0xfd4, 0xfd8, 0xfda, 0x102a, 0x102c, 0x1030, 0x1031, 0x1037, 0x1038, 0x103a,
-    0x103c, 0x103e, 0x103f, 0x1049, 0x104f, 0x1055, 0x1057, 0x1059, 0x105d, 0x1060, 0x1061, 0x1064, 0x1066, 0x106d,
-    0x1070, 0x1074, 0x1081, 0x1082, 0x1084, 0x1086, 0x108c, 0x108d, 0x108e, 0x108f, 0x1099, 0x109c, 0x109d, 0x109f,
-    0x10c5, 0x10c7, 0x10cd, 0x10fa, 0x10fb, 0x10fc, 0x10ff, 0x1248, 0x124d, 0x1256, 0x1258, 0x125d, 0x1288, 0x128d,
-    0x12b0, 0x12b5, 0x12be, 0x12c0, 0x12c5, 0x12d6, 0x1310, 0x1315, 0x135a, 0x135f, 0x1368, 0x137c, 0x138f, 0x1399,
-    0x13f5, 0x13fd, 0x1400, 0x166c, 0x166d, 0x166e, 0x167f, 0x1680, 0x169a, 0x169b, 0x169c, 0x16ea, 0x16ed, 0x16f0,
-    0x16f8, 0x1711, 0x1714, 0x1715, 0x1731, 0x1733, 0x1734, 0x1736, 0x1751, 0x1753, 0x176c, 0x1770, 0x1773, 0x17b3,
-    0x17b5, 0x17b6, 0x17bd, 0x17c5, 0x17c6, 0x17c8, 0x17d3, 0x17d6, 0x17d7, 0x17da, 0x17db, 0x17dc, 0x17dd, 0x17e9,
-    0x17f9, 0x1805, 0x1806, 0x180a, 0x180d, 0x180e, 0x180f, 0x1819, 0x1842, 0x1843, 0x1878, 0x1884, 0x1886, 0x18a8,
-    0x18a9, 0x18aa, 0x18f5, 0x191e, 0x1922, 0x1926, 0x1928, 0x192b, 0x1931, 0x1932, 0x1938, 0x193b, 0x1940, 0x1945,
-    0x194f, 0x196d, 0x1974, 0x19ab, 0x19c9, 0x19d9, 0x19da, 0x19ff, 0x1a16, 0x1a18, 0x1a1a, 0x1a1b, 0x1a1f, 0x1a54,
-    0x1a55, 0x1a56, 0x1a57, 0x1a5e, 0x1a60, 0x1a61, 0x1a62, 0x1a64, 0x1a6c, 0x1a72, 0x1a7c, 0x1a7f, 0x1a89, 0x1a99,
-    0x1aa6, 0x1aa7, 0x1aad, 0x1abd, 0x1abe, 0x1add, 0x1aeb, 0x1b03, 0x1b04, 0x1b33, 0x1b34, 0x1b35, 0x1b3a, 0x1b3b,
-    0x1b3c, 0x1b41, 0x1b42, 0x1b44, 0x1b4c, 0x1b4f, 0x1b59, 0x1b60, 0x1b6a, 0x1b73, 0x1b7c, 0x1b7f, 0x1b81, 0x1b82,
-    0x1ba0, 0x1ba1, 0x1ba5, 0x1ba7, 0x1ba9, 0x1baa, 0x1bad, 0x1baf, 0x1bb9, 0x1be5, 0x1be6, 0x1be7, 0x1be9, 0x1bec,
-    0x1bed, 0x1bee, 0x1bf1, 0x1bf3, 0x1bff, 0x1c23, 0x1c2b, 0x1c33, 0x1c35, 0x1c37, 0x1c3f, 0x1c49, 0x1c4f, 0x1c59,
-    0x1c77, 0x1c7d, 0x1c7f, 0x1c88, 0x1c89, 0x1c8a, 0x1cba, 0x1cbf, 0x1cc7, 0x1cd2, 0x1cd3, 0x1ce0, 0x1ce1, 0x1ce8,
-    0x1cec, 0x1ced, 0x1cf3, 0x1cf4, 0x1cf6, 0x1cf7, 0x1cf9, 0x1cfa, 0x1d2b, 0x1d6a, 0x1d77, 0x1d78, 0x1d9a, 0x1dbf,
-    0x1dff, 0x1e00, 0x1e01, 0x1e02, 0x1e03, 0x1e04, 0x1e05, 0x1e06, 0x1e07, 0x1e08, 0x1e09, 0x1e0a, 0x1e0b, 0x1e0c,
-    0x1e0d, 0x1e0e, 0x1e0f, 0x1e10, 0x1e11, 0x1e12, 0x1e13, 0x1e14, 0x1e15, 0x1e16, 0x1e17, 0x1e18, 0x1e19, 0x1e1a,
-    0x1e1b, 0x1e1c, 0x1e1d, 0x1e1e, 0x1e1f, 0x1e20, 0x1e21, 0x1e22, 0x1e23, 0x1e24, 0x1e25, 0x1e26, 0x1e27, 0x1e28,
-    0x1e29, 0x1e2a, 0x1e2b, 0x1e2c, 0x1e2d, 0x1e2e, 0x1e2f, 0x1e30, 0x1e31, 0x1e32, 0x1e33, 0x1e34, 0x1e35, 0x1e36,
-    0x1e37, 0x1e38, 0x1e39, 0x1e3a, 0x1e3b, 0x1e3c, 0x1e3d, 0x1e3e, 0x1e3f, 0x1e40, 0x1e41, 0x1e42, 0x1e43, 0x1e44,
-    0x1e45, 0x1e46, 0x1e47, 0x1e48, 0x1e49, 0x1e4a, 0x1e4b, 0x1e4c, 0x1e4d, 0x1e4e, 0x1e4f, 0x1e50, 0x1e51, 0x1e52,
-    0x1e53, 0x1e54, 0x1e55, 0x1e56, 0x1e57, 0x1e58, 0x1e59, 0x1e5a, 0x1e5b, 0x1e5c, 0x1e5d, 0x1e5e, 0x1e5f, 0x1e60,
-    0x1e61, 0x1e62, 0x1e63, 0x1e64, 0x1e65, 0x1e66, 0x1e67, 0x1e68, 0x1e69, 0x1e6a, 0x1e6b, 0x1e6c, 0x1e6d, 0x1e6e,
-    0x1e6f, 0x1e70, 0x1e71, 0x1e72, 0x1e73, 0x1e74, 0x1e75, 0x1e76, 0x1e77, 0x1e78, 0x1e79, 0x1e7a, 0x1e7b, 0x1e7c,
-    0x1e7d, 0x1e7e, 0x1e7f, 0x1e80, 0x1e81, 0x1e82, 0x1e83, 0x1e84, 0x1e85, 0x1e86, 0x1e87, 0x1e88, 0x1e89, 0x1e8a,
-    0x1e8b, 0x1e8c, 0x1e8d, 0x1e8e, 0x1e8f, 0x1e90, 0x1e91, 0x1e92, 0x1e93, 0x1e94, 0x1e9d, 0x1e9e, 0x1e9f, 0x1ea0,
-    0x1ea1, 0x1ea2, 0x1ea3, 0x1ea4, 0x1ea5, 0x1ea6, 0x1ea7, 0x1ea8, 0x1ea9, 0x1eaa, 0x1eab, 0x1eac, 0x1ead, 0x1eae,
-    0x1eaf, 0x1eb0, 0x1eb1, 0x1eb2, 0x1eb3, 0x1eb4, 0x1eb5, 0x1eb6, 0x1eb7, 0x1eb8, 0x1eb9, 0x1eba, 0x1ebb, 0x1ebc,
-    0x1ebd, 0x1ebe, 0x1ebf, 0x1ec0, 0x1ec1, 0x1ec2, 0x1ec3, 0x1ec4, 0x1ec5, 0x1ec6, 0x1ec7, 0x1ec8, 0x1ec9, 0x1eca,
-    0x1ecb, 0x1ecc, 0x1ecd, 0x1ece, 0x1ecf, 0x1ed0, 0x1ed1, 0x1ed2, 0x1ed3, 0x1ed4, 0x1ed5, 0x1ed6, 0x1ed7, 0x1ed8,
-    0x1ed9, 0x1eda, 0x1edb, 0x1edc, 0x1edd, 0x1ede, 0x1edf, 0x1ee0, 0x1ee1, 0x1ee2, 0x1ee3, 0x1ee4, 0x1ee5, 0x1ee6,
-    0x1ee7, 0x1ee8, 0x1ee9, 0x1eea, 0x1eeb, 0x1eec, 0x1eed, 0x1eee, 0x1eef, 0x1ef0, 0x1ef1, 0x1ef2, 0x1ef3, 0x1ef4,
-    0x1ef5, 0x1ef6, 0x1ef7, 0x1ef8, 0x1ef9, 0x1efa, 0x1efb, 0x1efc, 0x1efd, 0x1efe, 0x1f07, 0x1f0f, 0x1f15, 0x1f1d,
-    0x1f27, 0x1f2f, 0x1f37, 0x1f3f, 0x1f45, 0x1f4d, 0x1f57, 0x1f59, 0x1f5b, 0x1f5d, 0x1f5f, 0x1f67, 0x1f6f, 0x1f7d,
-    0x1f87, 0x1f8f, 0x1f97, 0x1f9f, 0x1fa7, 0x1faf, 0x1fb4, 0x1fb7, 0x1fbb, 0x1fbc, 0x1fbd, 0x1fbe, 0x1fc1, 0x1fc4,
-    0x1fc7, 0x1fcb, 0x1fcc, 0x1fcf, 0x1fd3, 0x1fd7, 0x1fdb, 0x1fdf, 0x1fe7, 0x1fec, 0x1fef, 0x1ff4, 0x1ff7, 0x1ffb,
-    0x1ffc, 0x1ffe, 0x200a, 0x200f, 0x2015, 0x2017, 0x2018, 0x2019, 0x201a, 0x201c, 0x201d, 0x201e, 0x201f, 0x2027,
-    0x2028, 0x2029, 0x202e, 0x202f, 0x2038, 0x2039, 0x203a, 0x203e, 0x2040, 0x2043, 0x2044, 0x2045, 0x2046, 0x2051,
-    0x2052, 0x2053, 0x2054, 0x205e, 0x205f, 0x2064, 0x206f, 0x2070, 0x2071, 0x2079, 0x207c, 0x207d, 0x207e, 0x207f,
-    0x2089, 0x208c, 0x208d, 0x208e, 0x209c, 0x20c1, 0x20dc, 0x20e0, 0x20e1, 0x20e4, 0x20f0, 0x2101, 0x2102, 0x2106,
-    0x2107, 0x2109, 0x210a, 0x210d, 0x210f, 0x2112, 0x2113, 0x2114, 0x2115, 0x2117, 0x2118, 0x211d, 0x2123, 0x2124,
-    0x2125, 0x2126, 0x2127, 0x2128, 0x2129, 0x212d, 0x212e, 0x212f, 0x2133, 0x2134, 0x2138, 0x2139, 0x213b, 0x213d,
-    0x213f, 0x2144, 0x2145, 0x2149, 0x214a, 0x214b, 0x214d, 0x214e, 0x214f, 0x215f, 0x2182, 0x2183, 0x2184, 0x2188,
-    0x2189, 0x218b, 0x2194, 0x2199, 0x219b, 0x219f, 0x21a0, 0x21a2, 0x21a3, 0x21a5, 0x21a6, 0x21ad, 0x21ae, 0x21cd,
-    0x21cf, 0x21d1, 0x21d2, 0x21d3, 0x21d4, 0x21f3, 0x22ff, 0x2307, 0x2308, 0x2309, 0x230a, 0x230b, 0x231f, 0x2321,
-    0x2328, 0x2329, 0x232a, 0x237b, 0x237c, 0x239a, 0x23b3, 0x23db, 0x23e1, 0x2429, 0x244a, 0x249b, 0x24e9, 0x24ff,
-    0x25b6, 0x25b7, 0x25c0, 0x25c1, 0x25f7, 0x25ff, 0x266e, 0x266f, 0x2767, 0x2768, 0x2769, 0x276a, 0x276b, 0x276c,
-    0x276d, 0x276e, 0x276f, 0x2770, 0x2771, 0x2772, 0x2773, 0x2774, 0x2775, 0x2793, 0x27bf, 0x27c4, 0x27c5, 0x27c6,
-    0x27e5, 0x27e6, 0x27e7, 0x27e8, 0x27e9, 0x27ea, 0x27eb, 0x27ec, 0x27ed, 0x27ee, 0x27ef, 0x27ff, 0x28ff, 0x2982,
-    0x2983, 0x2984, 0x2985, 0x2986, 0x2987, 0x2988, 0x2989, 0x298a, 0x298b, 0x298c, 0x298d, 0x298e, 0x298f, 0x2990,
-    0x2991, 0x2992, 0x2993, 0x2994, 0x2995, 0x2996, 0x2997, 0x2998, 0x29d7, 0x29d8, 0x29d9, 0x29da, 0x29db, 0x29fb,
-    0x29fc, 0x29fd, 0x2aff, 0x2b2f, 0x2b44, 0x2b46, 0x2b4c, 0x2b73, 0x2bff, 0x2c2f, 0x2c5f, 0x2c60, 0x2c61, 0x2c64,
-    0x2c66, 0x2c67, 0x2c68, 0x2c69, 0x2c6a, 0x2c6b, 0x2c6c, 0x2c70, 0x2c71, 0x2c72, 0x2c74, 0x2c75, 0x2c7b, 0x2c7d,
-    0x2c80, 0x2c81, 0x2c82, 0x2c83, 0x2c84, 0x2c85, 0x2c86, 0x2c87, 0x2c88, 0x2c89, 0x2c8a, 0x2c8b, 0x2c8c, 0x2c8d,
-    0x2c8e, 0x2c8f, 0x2c90, 0x2c91, 0x2c92, 0x2c93, 0x2c94, 0x2c95, 0x2c96, 0x2c97, 0x2c98, 0x2c99, 0x2c9a, 0x2c9b,
-    0x2c9c, 0x2c9d, 0x2c9e, 0x2c9f, 0x2ca0, 0x2ca1, 0x2ca2, 0x2ca3, 0x2ca4, 0x2ca5, 0x2ca6, 0x2ca7, 0x2ca8, 0x2ca9,
-    0x2caa, 0x2cab, 0x2cac, 0x2cad, 0x2cae, 0x2caf, 0x2cb0, 0x2cb1, 0x2cb2, 0x2cb3, 0x2cb4, 0x2cb5, 0x2cb6, 0x2cb7,
-    0x2cb8, 0x2cb9, 0x2cba, 0x2cbb, 0x2cbc, 0x2cbd, 0x2cbe, 0x2cbf, 0x2cc0, 0x2cc1, 0x2cc2, 0x2cc3, 0x2cc4, 0x2cc5,
-    0x2cc6, 0x2cc7, 0x2cc8, 0x2cc9, 0x2cca, 0x2ccb, 0x2ccc, 0x2ccd, 0x2cce, 0x2ccf, 0x2cd0, 0x2cd1, 0x2cd2, 0x2cd3,
-    0x2cd4, 0x2cd5, 0x2cd6, 0x2cd7, 0x2cd8, 0x2cd9, 0x2cda, 0x2cdb, 0x2cdc, 0x2cdd, 0x2cde, 0x2cdf, 0x2ce0, 0x2ce1,
-    0x2ce2, 0x2ce4, 0x2cea, 0x2ceb, 0x2cec, 0x2ced, 0x2cee, 0x2cf1, 0x2cf2, 0x2cf3, 0x2cfc, 0x2cfd, 0x2cff, 0x2d25,
-    0x2d27, 0x2d2d, 0x2d67, 0x2d6f, 0x2d70, 0x2d7f, 0x2d96, 0x2da6, 0x2dae, 0x2db6, 0x2dbe, 0x2dc6, 0x2dce, 0x2dd6,
-    0x2dde, 0x2dff, 0x2e01, 0x2e02, 0x2e03, 0x2e04, 0x2e05, 0x2e08, 0x2e09, 0x2e0a, 0x2e0b, 0x2e0c, 0x2e0d, 0x2e16,
-    0x2e17, 0x2e19, 0x2e1a, 0x2e1b, 0x2e1c, 0x2e1d, 0x2e1f, 0x2e20, 0x2e21, 0x2e22, 0x2e23, 0x2e24, 0x2e25, 0x2e26,
-    0x2e27, 0x2e28, 0x2e29, 0x2e2e, 0x2e2f, 0x2e39, 0x2e3b, 0x2e3f, 0x2e40, 0x2e41, 0x2e42, 0x2e4f, 0x2e51, 0x2e54,
-    0x2e55, 0x2e56, 0x2e57, 0x2e58, 0x2e59, 0x2e5a, 0x2e5b, 0x2e5c, 0x2e5d, 0x2e99, 0x2ef3, 0x2fd5, 0x2fff, 0x3000,
-    0x3003, 0x3004, 0x3005, 0x3006, 0x3007, 0x3008, 0x3009, 0x300a, 0x300b, 0x300c, 0x300d, 0x300e, 0x300f, 0x3010,
-    0x3011, 0x3013, 0x3014, 0x3015, 0x3016, 0x3017, 0x3018, 0x3019, 0x301a, 0x301b, 0x301c, 0x301d, 0x301f, 0x3020,
-    0x3029, 0x302d, 0x302f, 0x3030, 0x3035, 0x3037, 0x303a, 0x303b, 0x303c, 0x303d, 0x303f, 0x3096, 0x309a, 0x309c,
-    0x309e, 0x309f, 0x30a0, 0x30fa, 0x30fb, 0x30fe, 0x30ff, 0x312f, 0x318e, 0x3191, 0x3195, 0x319f, 0x31bf, 0x31e5,
-    0x31ef, 0x31ff, 0x321e, 0x3229, 0x3247, 0x324f, 0x3250, 0x325f, 0x327f, 0x3289, 0x32b0, 0x32bf, 0x33ff, 0x4dbf,
-    0x4dff, 0xa014, 0xa015, 0xa48c, 0xa4c6, 0xa4f7, 0xa4fd, 0xa4ff, 0xa60b, 0xa60c, 0xa60f, 0xa61f, 0xa629, 0xa62b,
-    0xa640, 0xa641, 0xa642, 0xa643, 0xa644, 0xa645, 0xa646, 0xa647, 0xa648, 0xa649, 0xa64a, 0xa64b, 0xa64c, 0xa64d,
-    0xa64e, 0xa64f, 0xa650, 0xa651, 0xa652, 0xa653, 0xa654, 0xa655, 0xa656, 0xa657, 0xa658, 0xa659, 0xa65a, 0xa65b,
-    0xa65c, 0xa65d, 0xa65e, 0xa65f, 0xa660, 0xa661, 0xa662, 0xa663, 0xa664, 0xa665, 0xa666, 0xa667, 0xa668, 0xa669,
-    0xa66a, 0xa66b, 0xa66c, 0xa66d, 0xa66e, 0xa66f, 0xa672, 0xa673, 0xa67d, 0xa67e, 0xa67f, 0xa680, 0xa681, 0xa682,
-    0xa683, 0xa684, 0xa685, 0xa686, 0xa687, 0xa688, 0xa689, 0xa68a, 0xa68b, 0xa68c, 0xa68d, 0xa68e, 0xa68f, 0xa690,
-    0xa691, 0xa692, 0xa693, 0xa694, 0xa695, 0xa696, 0xa697, 0xa698, 0xa699, 0xa69a, 0xa69b, 0xa69d, 0xa69f, 0xa6e5,
-    0xa6ef, 0xa6f1, 0xa6f7, 0xa716, 0xa71f, 0xa721, 0xa722, 0xa723, 0xa724, 0xa725, 0xa726, 0xa727, 0xa728, 0xa729,
-    0xa72a, 0xa72b, 0xa72c, 0xa72d, 0xa72e, 0xa731, 0xa732, 0xa733, 0xa734, 0xa735, 0xa736, 0xa737, 0xa738, 0xa739,
-    0xa73a, 0xa73b, 0xa73c, 0xa73d, 0xa73e, 0xa73f, 0xa740, 0xa741, 0xa742, 0xa743, 0xa744, 0xa745, 0xa746, 0xa747,
-    0xa748, 0xa749, 0xa74a, 0xa74b, 0xa74c, 0xa74d, 0xa74e, 0xa74f, 0xa750, 0xa751, 0xa752, 0xa753, 0xa754, 0xa755,
-    0xa756, 0xa757, 0xa758, 0xa759, 0xa75a, 0xa75b, 0xa75c, 0xa75d, 0xa75e, 0xa75f, 0xa760, 0xa761, 0xa762, 0xa763,
-    0xa764, 0xa765, 0xa766, 0xa767, 0xa768, 0xa769, 0xa76a, 0xa76b, 0xa76c, 0xa76d, 0xa76e, 0xa76f, 0xa770, 0xa778,
-    0xa779, 0xa77a, 0xa77b, 0xa77c, 0xa77e, 0xa77f, 0xa780, 0xa781, 0xa782, 0xa783, 0xa784, 0xa785, 0xa786, 0xa787,
-    0xa788, 0xa78a, 0xa78b, 0xa78c, 0xa78d, 0xa78e, 0xa78f, 0xa790, 0xa791, 0xa792, 0xa795, 0xa796, 0xa797, 0xa798,
-    0xa799, 0xa79a, 0xa79b, 0xa79c, 0xa79d, 0xa79e, 0xa79f, 0xa7a0, 0xa7a1, 0xa7a2, 0xa7a3, 0xa7a4, 0xa7a5, 0xa7a6,
-    0xa7a7, 0xa7a8, 0xa7a9, 0xa7ae, 0xa7af, 0xa7b4, 0xa7b5, 0xa7b6, 0xa7b7, 0xa7b8, 0xa7b9, 0xa7ba, 0xa7bb, 0xa7bc,
-    0xa7bd, 0xa7be, 0xa7bf, 0xa7c0, 0xa7c1, 0xa7c2, 0xa7c3, 0xa7c7, 0xa7c8, 0xa7c9, 0xa7ca, 0xa7cc, 0xa7cd, 0xa7ce,
-    0xa7cf, 0xa7d0, 0xa7d1, 0xa7d2, 0xa7d3, 0xa7d4, 0xa7d5, 0xa7d6, 0xa7d7, 0xa7d8, 0xa7d9, 0xa7da, 0xa7db, 0xa7dc,
-    0xa7f4, 0xa7f5, 0xa7f6, 0xa7f7, 0xa7f9, 0xa7fa, 0xa801, 0xa802, 0xa805, 0xa806, 0xa80a, 0xa80b, 0xa822, 0xa824,
-    0xa826, 0xa827, 0xa82b, 0xa82c, 0xa835, 0xa837, 0xa838, 0xa839, 0xa873, 0xa877, 0xa881, 0xa8b3, 0xa8c3, 0xa8c5,
-    0xa8cf, 0xa8d9, 0xa8f1, 0xa8f7, 0xa8fa, 0xa8fb, 0xa8fc, 0xa8fe, 0xa8ff, 0xa909, 0xa925, 0xa92d, 0xa92f, 0xa946,
-    0xa951, 0xa953, 0xa95f, 0xa97c, 0xa982, 0xa983, 0xa9b2, 0xa9b3, 0xa9b5, 0xa9b9, 0xa9bb, 0xa9bd, 0xa9c0, 0xa9cd,
-    0xa9cf, 0xa9d9, 0xa9df, 0xa9e4, 0xa9e5, 0xa9e6, 0xa9ef, 0xa9f9, 0xa9fe, 0xaa28, 0xaa2e, 0xaa30, 0xaa32, 0xaa34,
-    0xaa36, 0xaa42, 0xaa43, 0xaa4b, 0xaa4c, 0xaa4d, 0xaa59, 0xaa5f, 0xaa6f, 0xaa70, 0xaa76, 0xaa79, 0xaa7a, 0xaa7b,
-    0xaa7c, 0xaa7d, 0xaaaf, 0xaab0, 0xaab1, 0xaab4, 0xaab6, 0xaab8, 0xaabd, 0xaabf, 0xaac0, 0xaac1, 0xaac2, 0xaadc,
-    0xaadd, 0xaadf, 0xaaea, 0xaaeb, 0xaaed, 0xaaef, 0xaaf1, 0xaaf2, 0xaaf4, 0xaaf5, 0xaaf6, 0xab06, 0xab0e, 0xab16,
-    0xab26, 0xab2e, 0xab5a, 0xab5b, 0xab5f, 0xab68, 0xab69, 0xab6b, 0xabbf, 0xabe2, 0xabe4, 0xabe5, 0xabe7, 0xabe8,
-    0xabea, 0xabeb, 0xabec, 0xabed, 0xabf9, 0xd7a3, 0xd7c6, 0xd7fb, 0xdb7f, 0xdbff, 0xdfff, 0xf8ff, 0xfa6d, 0xfad9,
-    0xfb06, 0xfb17, 0xfb1d, 0xfb1e, 0xfb28, 0xfb29, 0xfb36, 0xfb3c, 0xfb3e, 0xfb41, 0xfb44, 0xfbb1, 0xfbc2, 0xfbd2,
-    0xfd3d, 0xfd3e, 0xfd3f, 0xfd4f, 0xfd8f, 0xfd91, 0xfdc7, 0xfdcf, 0xfdfb, 0xfdfc, 0xfdff, 0xfe0f, 0xfe16, 0xfe17,
-    0xfe18, 0xfe19, 0xfe2f, 0xfe30, 0xfe32, 0xfe34, 0xfe35, 0xfe36, 0xfe37, 0xfe38, 0xfe39, 0xfe3a, 0xfe3b, 0xfe3c,
-    0xfe3d, 0xfe3e, 0xfe3f, 0xfe40, 0xfe41, 0xfe42, 0xfe43, 0xfe44, 0xfe46, 0xfe47, 0xfe48, 0xfe4c, 0xfe4f, 0xfe52,
-    0xfe57, 0xfe58, 0xfe59, 0xfe5a, 0xfe5b, 0xfe5c, 0xfe5d, 0xfe5e, 0xfe61, 0xfe62, 0xfe63, 0xfe66, 0xfe68, 0xfe69,
-    0xfe6b, 0xfe74, 0xfefc, 0xfeff, 0xff03, 0xff04, 0xff07, 0xff08, 0xff09, 0xff0a, 0xff0b, 0xff0c, 0xff0d, 0xff0f,
-    0xff19, 0xff1b, 0xff1e, 0xff20, 0xff3a, 0xff3b, 0xff3c, 0xff3d, 0xff3e, 0xff3f, 0xff40, 0xff5a, 0xff5b, 0xff5c,
-    0xff5d, 0xff5e, 0xff5f, 0xff60, 0xff61, 0xff62, 0xff63, 0xff65, 0xff6f, 0xff70, 0xff9d, 0xff9f, 0xffbe, 0xffc7,
-    0xffcf, 0xffd7, 0xffdc, 0xffe1, 0xffe2, 0xffe3, 0xffe4, 0xffe6, 0xffe8, 0xffec, 0xffee, 0xfffb, 0xfffd, 0x1000b,
-    0x10026, 0x1003a, 0x1003d, 0x1004d, 0x1005d, 0x100fa, 0x10102, 0x10133, 0x1013f, 0x10174, 0x10178, 0x10189,
-    0x1018b, 0x1018e, 0x1019c, 0x101a0, 0x101fc, 0x101fd, 0x1029c, 0x102d0, 0x102e0, 0x102fb, 0x1031f, 0x10323,
-    0x10340, 0x10341, 0x10349, 0x1034a, 0x10375, 0x1037a, 0x1039d, 0x1039f, 0x103c3, 0x103cf, 0x103d0, 0x103d5,
-    0x10427, 0x1044f, 0x1049d, 0x104a9, 0x104d3, 0x104fb, 0x10527, 0x10563, 0x1056f, 0x1057a, 0x1058a, 0x10592,
-    0x10595, 0x105a1, 0x105b1, 0x105b9, 0x105bc, 0x105f3, 0x10736, 0x10755, 0x10767, 0x10785, 0x107b0, 0x107ba,
-    0x10805, 0x10808, 0x10835, 0x10838, 0x1083c, 0x10855, 0x10857, 0x1085f, 0x10876, 0x10878, 0x1087f, 0x1089e,
-    0x108af, 0x108f2, 0x108f5, 0x108ff, 0x10915, 0x1091b, 0x1091f, 0x10939, 0x1093f, 0x10959, 0x109b7, 0x109bd,
-    0x109bf, 0x109cf, 0x109ff, 0x10a00, 0x10a03, 0x10a06, 0x10a0f, 0x10a13, 0x10a17, 0x10a35, 0x10a3a, 0x10a3f,
-    0x10a48, 0x10a58, 0x10a7c, 0x10a7e, 0x10a7f, 0x10a9c, 0x10a9f, 0x10ac7, 0x10ac8, 0x10ae4, 0x10ae6, 0x10aef,
-    0x10af6, 0x10b35, 0x10b3f, 0x10b55, 0x10b5f, 0x10b72, 0x10b7f, 0x10b91, 0x10b9c, 0x10baf, 0x10c48, 0x10cb2,
-    0x10cf2, 0x10cff, 0x10d23, 0x10d27, 0x10d39, 0x10d49, 0x10d4d, 0x10d4e, 0x10d4f, 0x10d65, 0x10d6d, 0x10d6e,
-    0x10d6f, 0x10d85, 0x10d8f, 0x10e7e, 0x10ea9, 0x10eac, 0x10ead, 0x10eb1, 0x10ec4, 0x10ec5, 0x10ec7, 0x10ed0,
-    0x10ed8, 0x10eff, 0x10f1c, 0x10f26, 0x10f27, 0x10f45, 0x10f50, 0x10f54, 0x10f59, 0x10f81, 0x10f85, 0x10f89,
-    0x10fc4, 0x10fcb, 0x10ff6, 0x11000, 0x11001, 0x11002, 0x11037, 0x11046, 0x1104d, 0x11065, 0x1106f, 0x11070,
-    0x11072, 0x11074, 0x11075, 0x11081, 0x11082, 0x110af, 0x110b2, 0x110b6, 0x110b8, 0x110ba, 0x110bc, 0x110bd,
-    0x110c1, 0x110c2, 0x110cd, 0x110e8, 0x110f9, 0x11102, 0x11126, 0x1112b, 0x1112c, 0x11134, 0x1113f, 0x11143,
-    0x11144, 0x11146, 0x11147, 0x11172, 0x11173, 0x11175, 0x11176, 0x11181, 0x11182, 0x111b2, 0x111b5, 0x111be,
-    0x111c0, 0x111c4, 0x111c8, 0x111cc, 0x111cd, 0x111ce, 0x111cf, 0x111d9, 0x111da, 0x111db, 0x111dc, 0x111df,
-    0x111f4, 0x11211, 0x1122b, 0x1122e, 0x11231, 0x11233, 0x11234, 0x11235, 0x11237, 0x1123d, 0x1123e, 0x11240,
-    0x11241, 0x11286, 0x11288, 0x1128d, 0x1129d, 0x112a8, 0x112a9, 0x112de, 0x112df, 0x112e2, 0x112ea, 0x112f9,
-    0x11301, 0x11303, 0x1130c, 0x11310, 0x11328, 0x11330, 0x11333, 0x11339, 0x1133c, 0x1133d, 0x1133f, 0x11340,
-    0x11344, 0x11348, 0x1134d, 0x11350, 0x11357, 0x11361, 0x11363, 0x1136c, 0x11374, 0x11389, 0x1138b, 0x1138e,
-    0x113b5, 0x113b7, 0x113ba, 0x113c0, 0x113c2, 0x113c5, 0x113ca, 0x113cd, 0x113ce, 0x113cf, 0x113d0, 0x113d1,
-    0x113d2, 0x113d3, 0x113d5, 0x113d8, 0x113e2, 0x11434, 0x11437, 0x1143f, 0x11441, 0x11444, 0x11445, 0x11446,
-    0x1144a, 0x1144f, 0x11459, 0x1145b, 0x1145d, 0x1145e, 0x11461, 0x114af, 0x114b2, 0x114b8, 0x114b9, 0x114ba,
-    0x114be, 0x114c0, 0x114c1, 0x114c3, 0x114c5, 0x114c6, 0x114c7, 0x114d9, 0x115ae, 0x115b1, 0x115b5, 0x115bb,
-    0x115bd, 0x115be, 0x115c0, 0x115d7, 0x115db, 0x115dd, 0x1162f, 0x11632, 0x1163a, 0x1163c, 0x1163d, 0x1163e,
-    0x11640, 0x11643, 0x11644, 0x11659, 0x1166c, 0x116aa, 0x116ab, 0x116ac, 0x116ad, 0x116af, 0x116b5, 0x116b6,
-    0x116b7, 0x116b8, 0x116b9, 0x116c9, 0x116e3, 0x1171a, 0x1171d, 0x1171e, 0x1171f, 0x11721, 0x11725, 0x11726,
-    0x1172b, 0x11739, 0x1173b, 0x1173e, 0x1173f, 0x11746, 0x1182b, 0x1182e, 0x11837, 0x11838, 0x1183a, 0x1183b,
-    0x118bf, 0x118df, 0x118e9, 0x118f2, 0x11906, 0x11909, 0x11913, 0x11916, 0x1192f, 0x11935, 0x11938, 0x1193c,
-    0x1193d, 0x1193e, 0x1193f, 0x11940, 0x11941, 0x11942, 0x11943, 0x11946, 0x11959, 0x119a7, 0x119d0, 0x119d3,
-    0x119d7, 0x119db, 0x119df, 0x119e0, 0x119e1, 0x119e2, 0x119e3, 0x119e4, 0x11a00, 0x11a0a, 0x11a32, 0x11a38,
-    0x11a39, 0x11a3a, 0x11a3e, 0x11a46, 0x11a47, 0x11a50, 0x11a56, 0x11a58, 0x11a5b, 0x11a89, 0x11a96, 0x11a97,
-    0x11a99, 0x11a9c, 0x11a9d, 0x11aa2, 0x11af8, 0x11b09, 0x11b60, 0x11b61, 0x11b64, 0x11b65, 0x11b66, 0x11b67,
-    0x11be0, 0x11be1, 0x11bf9, 0x11c08, 0x11c2e, 0x11c2f, 0x11c36, 0x11c3d, 0x11c3e, 0x11c3f, 0x11c40, 0x11c45,
-    0x11c59, 0x11c6c, 0x11c71, 0x11c8f, 0x11ca7, 0x11ca9, 0x11cb0, 0x11cb1, 0x11cb3, 0x11cb4, 0x11cb6, 0x11d06,
-    0x11d09, 0x11d30, 0x11d36, 0x11d3a, 0x11d3d, 0x11d45, 0x11d46, 0x11d47, 0x11d59, 0x11d65, 0x11d68, 0x11d89,
-    0x11d8e, 0x11d91, 0x11d94, 0x11d95, 0x11d96, 0x11d97, 0x11d98, 0x11da9, 0x11dd8, 0x11dd9, 0x11ddb, 0x11de9,
-    0x11ef2, 0x11ef4, 0x11ef6, 0x11ef8, 0x11f01, 0x11f02, 0x11f03, 0x11f10, 0x11f33, 0x11f35, 0x11f3a, 0x11f3f,
-    0x11f40, 0x11f41, 0x11f42, 0x11f4f, 0x11f59, 0x11f5a, 0x11fb0, 0x11fd4, 0x11fdc, 0x11fe0, 0x11ff1, 0x11fff,
-    0x12399, 0x1246e, 0x12474, 0x12543, 0x12ff0, 0x12ff2, 0x1342f, 0x1343f, 0x13440, 0x13446, 0x13455, 0x143fa,
-    0x14646, 0x1611d, 0x16129, 0x1612c, 0x1612f, 0x16139, 0x16a38, 0x16a5e, 0x16a69, 0x16a6f, 0x16abe, 0x16ac9,
-    0x16aed, 0x16af4, 0x16af5, 0x16b2f, 0x16b36, 0x16b3b, 0x16b3f, 0x16b43, 0x16b44, 0x16b45, 0x16b59, 0x16b61,
-    0x16b77, 0x16b8f, 0x16d42, 0x16d6a, 0x16d6c, 0x16d6f, 0x16d79, 0x16e5f, 0x16e7f, 0x16e96, 0x16e9a, 0x16eb8,
-    0x16ed3, 0x16f4a, 0x16f4f, 0x16f50, 0x16f87, 0x16f92, 0x16f9f, 0x16fe1, 0x16fe2, 0x16fe3, 0x16fe4, 0x16ff1,
-    0x16ff3, 0x16ff6, 0x18cd5, 0x18cff, 0x18d1e, 0x18df2, 0x1aff3, 0x1affb, 0x1affe, 0x1b122, 0x1b132, 0x1b152,
-    0x1b155, 0x1b167, 0x1b2fb, 0x1bc6a, 0x1bc7c, 0x1bc88, 0x1bc99, 0x1bc9c, 0x1bc9e, 0x1bc9f, 0x1bca3, 0x1ccef,
-    0x1ccf9, 0x1ccfc, 0x1ceb3, 0x1ced0, 0x1ceef, 0x1cef0, 0x1cf2d, 0x1cf46, 0x1cfc3, 0x1d0f5, 0x1d126, 0x1d164,
-    0x1d166, 0x1d169, 0x1d16c, 0x1d172, 0x1d17a, 0x1d182, 0x1d184, 0x1d18b, 0x1d1a9, 0x1d1ad, 0x1d1ea, 0x1d241,
-    0x1d244, 0x1d245, 0x1d2d3, 0x1d2f3, 0x1d356, 0x1d378, 0x1d419, 0x1d433, 0x1d44d, 0x1d454, 0x1d467, 0x1d481,
-    0x1d49b, 0x1d49c, 0x1d49f, 0x1d4a2, 0x1d4a6, 0x1d4ac, 0x1d4b5, 0x1d4b9, 0x1d4bb, 0x1d4c3, 0x1d4cf, 0x1d4e9,
-    0x1d503, 0x1d505, 0x1d50a, 0x1d514, 0x1d51c, 0x1d537, 0x1d539, 0x1d53e, 0x1d544, 0x1d546, 0x1d550, 0x1d56b,
-    0x1d585, 0x1d59f, 0x1d5b9, 0x1d5d3, 0x1d5ed, 0x1d607, 0x1d621, 0x1d63b, 0x1d655, 0x1d66f, 0x1d689, 0x1d6a5,
-    0x1d6c0, 0x1d6c1, 0x1d6da, 0x1d6db, 0x1d6e1, 0x1d6fa, 0x1d6fb, 0x1d714, 0x1d715, 0x1d71b, 0x1d734, 0x1d735,
-    0x1d74e, 0x1d74f, 0x1d755, 0x1d76e, 0x1d76f, 0x1d788, 0x1d789, 0x1d78f, 0x1d7a8, 0x1d7a9, 0x1d7c2, 0x1d7c3,
-    0x1d7c9, 0x1d7ca, 0x1d7cb, 0x1d7ff, 0x1d9ff, 0x1da36, 0x1da3a, 0x1da6c, 0x1da74, 0x1da75, 0x1da83, 0x1da84,
-    0x1da86, 0x1da8b, 0x1da9f, 0x1daaf, 0x1df09, 0x1df0a, 0x1df1e, 0x1df2a, 0x1e006, 0x1e018, 0x1e021, 0x1e024,
-    0x1e02a, 0x1e06d, 0x1e08f, 0x1e12c, 0x1e136, 0x1e13d, 0x1e149, 0x1e14e, 0x1e14f, 0x1e2ad, 0x1e2ae, 0x1e2eb,
-    0x1e2ef, 0x1e2f9, 0x1e2ff, 0x1e4ea, 0x1e4eb, 0x1e4ef, 0x1e4f9, 0x1e5ed, 0x1e5ef, 0x1e5f0, 0x1e5fa, 0x1e5ff,
-    0x1e6de, 0x1e6e2, 0x1e6e3, 0x1e6e5, 0x1e6e6, 0x1e6ed, 0x1e6ef, 0x1e6f4, 0x1e6f5, 0x1e6fe, 0x1e6ff, 0x1e7e6,
-    0x1e7eb, 0x1e7ee, 0x1e7fe, 0x1e8c4, 0x1e8cf, 0x1e8d6, 0x1e921, 0x1e943, 0x1e94a, 0x1e94b, 0x1e959, 0x1e95f,
-    0x1ecab, 0x1ecac, 0x1ecaf, 0x1ecb0, 0x1ecb4, 0x1ed2d, 0x1ed2e, 0x1ed3d, 0x1ee03, 0x1ee1f, 0x1ee22, 0x1ee24,
-    0x1ee27, 0x1ee32, 0x1ee37, 0x1ee39, 0x1ee3b, 0x1ee42, 0x1ee47, 0x1ee49, 0x1ee4b, 0x1ee4f, 0x1ee52, 0x1ee54,
-    0x1ee57, 0x1ee59, 0x1ee5b, 0x1ee5d, 0x1ee5f, 0x1ee62, 0x1ee64, 0x1ee6a, 0x1ee72, 0x1ee77, 0x1ee7c, 0x1ee7e,
-    0x1ee89, 0x1ee9b, 0x1eea3, 0x1eea9, 0x1eebb, 0x1eef1, 0x1f02b, 0x1f093, 0x1f0ae, 0x1f0bf, 0x1f0cf, 0x1f0f5,
-    0x1f10c, 0x1f1ad, 0x1f202, 0x1f23b, 0x1f248, 0x1f251, 0x1f265, 0x1f3fa, 0x1f3ff, 0x1f6d8, 0x1f6ec, 0x1f6fc,
-    0x1f7d9, 0x1f7eb, 0x1f7f0, 0x1f80b, 0x1f847, 0x1f859, 0x1f887, 0x1f8ad, 0x1f8bb, 0x1f8c1, 0x1f8d8, 0x1fa57,
-    0x1fa6d, 0x1fa7c, 0x1fa8a, 0x1fac6, 0x1fac8, 0x1fadc, 0x1faea, 0x1faf8, 0x1fb92, 0x1fbef, 0x1fbf9, 0x1fbfa,
-    0x2a6df, 0x2b73f, 0x2b81d, 0x2cead, 0x2ebe0, 0x2ee5d, 0x2fa1d, 0x3134a, 0x323af, 0x33479, 0xe0001, 0xe007f,
-    0xe01ef, 0xffffd, 0x10fffd};
-  }
-  static final String[] _CATEGORY_ = category0();
-  private static String[] category0() { return new String[] {
-    "Cc", "Zs", "Po", "Sc", "Po", "Ps", "Pe", "Po", "Sm", "Po", "Pd", "Po", "Nd", "Po", "Sm", "Po", "Lu", "Ps", "Po",
-    "Pe", "Sk", "Pc", "Sk", "Ll", "Ps", "Sm", "Pe", "Sm", "Cc", "Zs", "Po", "Sc", "So", "Po", "Sk", "So", "Lo", "Pi",
-    "Sm", "Cf", "So", "Sk", "So", "Sm", "No", "Sk", "Ll", "Po", "Sk", "No", "Lo", "Pf", "No", "Po", "Lu", "Sm", "Lu",
-    "Ll", "Sm", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lo", "Lu", "Ll", "Lo", "Lu", "Lt", "Ll", "Lu",
-    "Lt", "Ll", "Lu", "Lt", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Lt", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lo", "Ll", "Lm", "Sk", "Lm", "Sk", "Lm", "Sk", "Lm", "Sk", "Lm", "Sk", "Mn",
-    "Lu", "Ll", "Lu", "Ll", "Lm", "Sk", "Lu", "Ll", "Lm", "Ll", "Po", "Lu", "Sk", "Lu", "Po", "Lu", "Lu", "Lu", "Ll",
-    "Lu", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Sm", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "So", "Mn",
-    "Me", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Lm", "Po", "Ll", "Po", "Pd",
-    "So", "Sc", "Mn", "Pd", "Mn", "Po", "Mn", "Po", "Mn", "Po", "Mn", "Lo", "Lo", "Po", "Cf", "Sm", "Po", "Sc", "Po",
-    "So", "Mn", "Po", "Cf", "Po", "Lo", "Lm", "Lo", "Mn", "Nd", "Po", "Lo", "Mn", "Lo", "Po", "Lo", "Mn", "Cf", "So",
-    "Mn", "Lm", "Mn", "So", "Mn", "Lo", "Nd", "Lo", "So", "Lo", "Po", "Cf", "Lo", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo",
-    "Nd", "Lo", "Mn", "Lm", "So", "Po", "Lm", "Mn", "Sc", "Lo", "Mn", "Lm", "Mn", "Lm", "Mn", "Lm", "Mn", "Po", "Lo",
-    "Mn", "Po", "Lo", "Lo", "Sk", "Lo", "Cf", "Mn", "Lo", "Lm", "Mn", "Cf", "Mn", "Mc", "Lo", "Mn", "Mc", "Mn", "Lo",
-    "Mc", "Mn", "Mc", "Mn", "Mc", "Lo", "Mn", "Lo", "Mn", "Po", "Nd", "Po", "Lm", "Lo", "Mn", "Mc", "Lo", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Mn", "Lo", "Mc", "Mn", "Mc", "Mc", "Mn", "Lo", "Mc", "Lo", "Lo", "Mn", "Nd", "Lo", "Sc", "No",
-    "So", "Sc", "Lo", "Po", "Mn", "Mn", "Mc", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Mc", "Mn", "Mn", "Mn",
-    "Mn", "Lo", "Lo", "Nd", "Mn", "Lo", "Mn", "Po", "Mn", "Mc", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Lo", "Mc",
-    "Mn", "Mn", "Mc", "Mc", "Mn", "Lo", "Lo", "Mn", "Nd", "Po", "Sc", "Lo", "Mn", "Mn", "Mc", "Lo", "Lo", "Lo", "Lo",
-    "Lo", "Lo", "Mn", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mc", "Mn", "Mn", "Mc", "Lo", "Lo", "Mn", "Nd", "So", "Lo",
-    "No", "Mn", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mc", "Mn", "Mc", "Mc", "Mc", "Mn", "Lo",
-    "Mc", "Nd", "No", "So", "Sc", "So", "Mn", "Mc", "Mn", "Lo", "Lo", "Lo", "Lo", "Mn", "Lo", "Mn", "Mc", "Mn", "Mn",
-    "Mn", "Lo", "Lo", "Lo", "Mn", "Nd", "Po", "No", "So", "Lo", "Mn", "Mc", "Po", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn",
-    "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mc", "Mn", "Mc", "Lo", "Lo", "Mn", "Nd", "Lo", "Mc", "Mn", "Mc", "Lo", "Lo",
-    "Lo", "Mn", "Lo", "Mc", "Mn", "Mc", "Mc", "Mn", "Lo", "So", "Lo", "Mc", "No", "Lo", "Mn", "Nd", "No", "So", "Lo",
-    "Mn", "Mc", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Mc", "Mn", "Mn", "Mc", "Nd", "Mc", "Po", "Lo", "Mn", "Lo", "Mn",
-    "Sc", "Lo", "Lm", "Mn", "Po", "Nd", "Po", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Lo", "Mn", "Lo", "Lo", "Lm",
-    "Mn", "Nd", "Lo", "Lo", "So", "Po", "So", "Po", "So", "Mn", "So", "Nd", "No", "So", "Mn", "So", "Mn", "So", "Mn",
-    "Ps", "Pe", "Ps", "Pe", "Mc", "Lo", "Lo", "Mn", "Mc", "Mn", "Po", "Mn", "Lo", "Mn", "Mn", "So", "Mn", "So", "So",
-    "Po", "So", "Po", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Nd", "Po", "Lo", "Mc", "Mn", "Lo",
-    "Mn", "Lo", "Mc", "Lo", "Mc", "Lo", "Mn", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Mc", "Nd", "Mc", "Mn", "So",
-    "Lu", "Lu", "Lu", "Ll", "Po", "Lm", "Ll", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Lo", "Mn", "Po", "No", "Lo", "So", "Lu", "Ll", "Pd", "Lo", "So", "Po", "Lo", "Zs", "Lo", "Ps",
-    "Pe", "Lo", "Po", "Nl", "Lo", "Lo", "Mn", "Mc", "Lo", "Mn", "Mc", "Po", "Lo", "Mn", "Lo", "Lo", "Mn", "Lo", "Mn",
-    "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Po", "Lm", "Po", "Sc", "Lo", "Mn", "Nd", "No", "Po", "Pd", "Po", "Mn", "Cf",
-    "Mn", "Nd", "Lo", "Lm", "Lo", "Lo", "Mn", "Lo", "Mn", "Lo", "Lo", "Lo", "Mn", "Mc", "Mn", "Mc", "Mc", "Mn", "Mc",
-    "Mn", "So", "Po", "Nd", "Lo", "Lo", "Lo", "Lo", "Nd", "No", "So", "Lo", "Mn", "Mc", "Mn", "Po", "Lo", "Mc", "Mn",
-    "Mc", "Mn", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Mn", "Nd", "Nd", "Po", "Lm", "Po", "Mn", "Me", "Mn", "Mn",
-    "Mn", "Mc", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Lo", "Po", "Nd", "Po", "So", "Mn", "So", "Po",
-    "Mn", "Mc", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Nd", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn",
-    "Mc", "Po", "Lo", "Mc", "Mn", "Mc", "Mn", "Po", "Nd", "Lo", "Nd", "Lo", "Lm", "Po", "Ll", "Lu", "Ll", "Lu", "Lu",
-    "Po", "Mn", "Po", "Mn", "Mc", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo", "Mc", "Mn", "Lo", "Ll", "Lm", "Ll", "Lm", "Ll",
-    "Lm", "Mn", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Lu", "Lu", "Lu", "Ll", "Lu",
-    "Ll", "Ll", "Lt", "Ll", "Lt", "Ll", "Lt", "Ll", "Ll", "Lu", "Lt", "Sk", "Ll", "Sk", "Ll", "Ll", "Lu", "Lt", "Sk",
-    "Ll", "Ll", "Lu", "Sk", "Ll", "Lu", "Sk", "Ll", "Ll", "Lu", "Lt", "Sk", "Zs", "Cf", "Pd", "Po", "Pi", "Pf", "Ps",
-    "Pi", "Pf", "Ps", "Pi", "Po", "Zl", "Zp", "Cf", "Zs", "Po", "Pi", "Pf", "Po", "Pc", "Po", "Sm", "Ps", "Pe", "Po",
-    "Sm", "Po", "Pc", "Po", "Zs", "Cf", "Cf", "No", "Lm", "No", "Sm", "Ps", "Pe", "Lm", "No", "Sm", "Ps", "Pe", "Lm",
-    "Sc", "Mn", "Me", "Mn", "Me", "Mn", "So", "Lu", "So", "Lu", "So", "Ll", "Lu", "Ll", "Lu", "Ll", "So", "Lu", "So",
-    "Sm", "Lu", "So", "Lu", "So", "Lu", "So", "Lu", "So", "Lu", "So", "Ll", "Lu", "Ll", "Lo", "Ll", "So", "Ll", "Lu",
-    "Sm", "Lu", "Ll", "So", "Sm", "So", "Ll", "So", "No", "Nl", "Lu", "Ll", "Nl", "No", "So", "Sm", "So", "Sm", "So",
-    "Sm", "So", "Sm", "So", "Sm", "So", "Sm", "So", "Sm", "So", "Sm", "So", "Sm", "So", "Sm", "So", "Ps", "Pe", "Ps",
-    "Pe", "So", "Sm", "So", "Ps", "Pe", "So", "Sm", "So", "Sm", "So", "Sm", "So", "So", "No", "So", "No", "So", "Sm",
-    "So", "Sm", "So", "Sm", "So", "Sm", "So", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe",
-    "Ps", "Pe", "No", "So", "Sm", "Ps", "Pe", "Sm", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Sm",
-    "So", "Sm", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps",
-    "Pe", "Ps", "Pe", "Ps", "Pe", "Sm", "Ps", "Pe", "Ps", "Pe", "Sm", "Ps", "Pe", "Sm", "So", "Sm", "So", "Sm", "So",
-    "So", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lm", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "So", "Lu", "Ll", "Lu", "Ll", "Mn", "Lu", "Ll", "Po", "No", "Po", "Ll", "Ll",
-    "Ll", "Lo", "Lm", "Po", "Mn", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Po", "Pi", "Pf", "Pi",
-    "Pf", "Po", "Pi", "Pf", "Po", "Pi", "Pf", "Po", "Pd", "Po", "Pd", "Po", "Pi", "Pf", "Po", "Pi", "Pf", "Ps", "Pe",
-    "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Po", "Lm", "Po", "Pd", "Po", "Pd", "Po", "Ps", "Po", "So", "Po", "Ps", "Pe",
-    "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Pd", "So", "So", "So", "So", "Zs", "Po", "So", "Lm", "Lo", "Nl", "Ps", "Pe",
-    "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "So", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Pd", "Ps",
-    "Pe", "So", "Nl", "Mn", "Mc", "Pd", "Lm", "So", "Nl", "Lm", "Lo", "Po", "So", "Lo", "Mn", "Sk", "Lm", "Lo", "Pd",
-    "Lo", "Po", "Lm", "Lo", "Lo", "Lo", "So", "No", "So", "Lo", "So", "So", "Lo", "So", "No", "So", "No", "So", "No",
-    "So", "No", "So", "No", "So", "Lo", "So", "Lo", "Lm", "Lo", "So", "Lo", "Lm", "Po", "Lo", "Lm", "Po", "Lo", "Nd",
-    "Lo", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lo", "Mn", "Me", "Po", "Mn", "Po", "Lm", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lm", "Mn", "Lo", "Nl", "Mn", "Po", "Sk", "Lm", "Sk", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lm", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lm", "Sk", "Lu", "Ll", "Lu", "Ll", "Lo",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu",
-    "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Lm", "Lu", "Ll", "Lo", "Lm", "Ll", "Lo", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo",
-    "Mc", "Mn", "Mc", "So", "Mn", "No", "So", "Sc", "So", "Lo", "Po", "Mc", "Lo", "Mc", "Mn", "Po", "Nd", "Mn", "Lo",
-    "Po", "Lo", "Po", "Lo", "Mn", "Nd", "Lo", "Mn", "Po", "Lo", "Mn", "Mc", "Po", "Lo", "Mn", "Mc", "Lo", "Mn", "Mc",
-    "Mn", "Mc", "Mn", "Mc", "Po", "Lm", "Nd", "Po", "Lo", "Mn", "Lm", "Lo", "Nd", "Lo", "Lo", "Mn", "Mc", "Mn", "Mc",
-    "Mn", "Lo", "Mn", "Lo", "Mn", "Mc", "Nd", "Po", "Lo", "Lm", "Lo", "So", "Lo", "Mc", "Mn", "Mc", "Lo", "Mn", "Lo",
-    "Mn", "Lo", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo", "Lo", "Lm", "Po", "Lo", "Mc", "Mn", "Mc", "Po", "Lo", "Lm", "Mc",
-    "Mn", "Lo", "Lo", "Lo", "Lo", "Lo", "Ll", "Sk", "Lm", "Ll", "Lm", "Sk", "Ll", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc",
-    "Po", "Mc", "Mn", "Nd", "Lo", "Lo", "Lo", "Cs", "Cs", "Cs", "Co", "Lo", "Lo", "Ll", "Ll", "Lo", "Mn", "Lo", "Sm",
-    "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Sk", "So", "Lo", "Pe", "Ps", "So", "Lo", "So", "Lo", "So", "Lo", "Sc", "So",
-    "Mn", "Po", "Ps", "Pe", "Po", "Mn", "Po", "Pd", "Pc", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Ps", "Pe",
-    "Ps", "Pe", "Ps", "Pe", "Ps", "Pe", "Po", "Ps", "Pe", "Po", "Pc", "Po", "Po", "Pd", "Ps", "Pe", "Ps", "Pe", "Ps",
-    "Pe", "Po", "Sm", "Pd", "Sm", "Po", "Sc", "Po", "Lo", "Lo", "Cf", "Po", "Sc", "Po", "Ps", "Pe", "Po", "Sm", "Po",
-    "Pd", "Po", "Nd", "Po", "Sm", "Po", "Lu", "Ps", "Po", "Pe", "Sk", "Pc", "Sk", "Ll", "Ps", "Sm", "Pe", "Sm", "Ps",
-    "Pe", "Po", "Ps", "Pe", "Po", "Lo", "Lm", "Lo", "Lm", "Lo", "Lo", "Lo", "Lo", "Lo", "Sc", "Sm", "Sk", "So", "Sc",
-    "So", "Sm", "So", "Cf", "So", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Po", "No", "So", "Nl", "No", "So", "No",
-    "So", "So", "So", "So", "Mn", "Lo", "Lo", "Mn", "No", "Lo", "No", "Lo", "Nl", "Lo", "Nl", "Lo", "Mn", "Lo", "Po",
-    "Lo", "Lo", "Po", "Nl", "Lu", "Ll", "Lo", "Nd", "Lu", "Ll", "Lo", "Lo", "Po", "Lu", "Lu", "Lu", "Lu", "Ll", "Ll",
-    "Ll", "Ll", "Lo", "Lo", "Lo", "Lo", "Lm", "Lm", "Lm", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Po", "No", "Lo", "So",
-    "No", "Lo", "No", "Lo", "Lo", "No", "Lo", "No", "Po", "Lo", "Po", "Lo", "Lo", "No", "Lo", "No", "No", "Lo", "Mn",
-    "Mn", "Mn", "Lo", "Lo", "Lo", "Mn", "Mn", "No", "Po", "Lo", "No", "Po", "Lo", "No", "Lo", "So", "Lo", "Mn", "No",
-    "Po", "Lo", "Po", "Lo", "No", "Lo", "No", "Lo", "Po", "No", "Lo", "Lu", "Ll", "No", "Lo", "Mn", "Nd", "Nd", "Lo",
-    "Lm", "Lo", "Lu", "Mn", "Pd", "Lm", "Ll", "Sm", "No", "Lo", "Mn", "Pd", "Lo", "Lo", "Lm", "Lo", "Po", "So", "Mn",
-    "Lo", "No", "Lo", "Lo", "Mn", "No", "Po", "Lo", "Mn", "Po", "Lo", "No", "Lo", "Mc", "Mn", "Mc", "Lo", "Mn", "Po",
-    "No", "Nd", "Mn", "Lo", "Mn", "Lo", "Mn", "Mc", "Lo", "Mc", "Mn", "Mc", "Mn", "Po", "Cf", "Po", "Mn", "Cf", "Lo",
-    "Nd", "Mn", "Lo", "Mn", "Mc", "Mn", "Nd", "Po", "Lo", "Mc", "Lo", "Lo", "Mn", "Po", "Lo", "Mn", "Mc", "Lo", "Mc",
-    "Mn", "Mc", "Lo", "Po", "Mn", "Po", "Mc", "Mn", "Nd", "Lo", "Po", "Lo", "Po", "No", "Lo", "Lo", "Mc", "Mn", "Mc",
-    "Mn", "Mc", "Mn", "Po", "Mn", "Lo", "Mn", "Lo", "Lo", "Lo", "Lo", "Lo", "Po", "Lo", "Mn", "Mc", "Mn", "Nd", "Mn",
-    "Mc", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Mn", "Lo", "Mc", "Mn", "Mc", "Mc", "Mc", "Lo", "Mc", "Lo", "Mc", "Mn",
-    "Mn", "Lo", "Lo", "Lo", "Lo", "Lo", "Mc", "Mn", "Mc", "Mc", "Mc", "Mc", "Mn", "Mc", "Mn", "Lo", "Mn", "Lo", "Po",
-    "Po", "Mn", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Po", "Nd", "Po", "Po", "Mn", "Lo", "Lo", "Mc", "Mn",
-    "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Po", "Lo", "Nd", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Po", "Lo",
-    "Mn", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Po", "Lo", "Nd", "Po", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc",
-    "Mn", "Lo", "Po", "Nd", "Nd", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Nd", "No", "Po", "So", "Lo", "Lo",
-    "Mc", "Mn", "Mc", "Mn", "Po", "Lu", "Ll", "Nd", "No", "Lo", "Lo", "Lo", "Lo", "Lo", "Mc", "Mc", "Mn", "Mc", "Mn",
-    "Lo", "Mc", "Lo", "Mc", "Mn", "Po", "Nd", "Lo", "Lo", "Mc", "Mn", "Mn", "Mc", "Mn", "Lo", "Po", "Lo", "Mc", "Lo",
-    "Mn", "Lo", "Mn", "Mc", "Lo", "Mn", "Po", "Mn", "Lo", "Mn", "Mc", "Mn", "Lo", "Mn", "Mc", "Mn", "Po", "Lo", "Po",
-    "Lo", "Po", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Lo", "Po", "Nd", "Lo", "Lo", "Mc", "Mn", "Mn", "Mc", "Mn", "Lo",
-    "Po", "Nd", "No", "Po", "Lo", "Mn", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Lo", "Lo", "Mn", "Mn", "Mn", "Mn",
-    "Lo", "Mn", "Nd", "Lo", "Lo", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Lo", "Nd", "Lo", "Lm", "Lo", "Nd", "Lo",
-    "Mn", "Mc", "Po", "Mn", "Lo", "Mc", "Lo", "Lo", "Mc", "Mn", "Mc", "Mn", "Mc", "Mn", "Po", "Nd", "Mn", "Lo", "No",
-    "So", "Sc", "So", "Po", "Lo", "Nl", "Po", "Lo", "Lo", "Po", "Lo", "Cf", "Mn", "Lo", "Mn", "Lo", "Lo", "Lo", "Mn",
-    "Mc", "Mn", "Nd", "Lo", "Lo", "Nd", "Po", "Lo", "Nd", "Lo", "Mn", "Po", "Lo", "Mn", "Po", "So", "Lm", "Po", "So",
-    "Nd", "No", "Lo", "Lo", "Lm", "Lo", "Lm", "Po", "Nd", "Lu", "Ll", "No", "Po", "Lu", "Ll", "Lo", "Mn", "Lo", "Mc",
-    "Mn", "Lm", "Lm", "Po", "Lm", "Mn", "Mc", "Lm", "Nl", "Lo", "Lo", "Lo", "Lo", "Lm", "Lm", "Lm", "Lo", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "So", "Mn", "Po", "Cf", "So", "Nd", "So", "So", "So", "So", "Sm", "Mn",
-    "Mn", "So", "So", "So", "So", "Mc", "Mn", "So", "Mc", "Cf", "Mn", "So", "Mn", "So", "Mn", "So", "So", "Mn", "So",
-    "No", "No", "So", "No", "Lu", "Ll", "Lu", "Ll", "Ll", "Lu", "Ll", "Lu", "Lu", "Lu", "Lu", "Lu", "Lu", "Ll", "Ll",
-    "Ll", "Ll", "Lu", "Ll", "Lu", "Lu", "Lu", "Lu", "Ll", "Lu", "Lu", "Lu", "Lu", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll",
-    "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Ll", "Lu", "Sm", "Ll", "Sm", "Ll", "Lu", "Sm", "Ll", "Sm", "Ll", "Lu",
-    "Sm", "Ll", "Sm", "Ll", "Lu", "Sm", "Ll", "Sm", "Ll", "Lu", "Sm", "Ll", "Sm", "Ll", "Lu", "Ll", "Nd", "So", "Mn",
-    "So", "Mn", "So", "Mn", "So", "Mn", "So", "Po", "Mn", "Mn", "Ll", "Lo", "Ll", "Ll", "Mn", "Mn", "Mn", "Mn", "Mn",
-    "Lm", "Mn", "Lo", "Mn", "Lm", "Nd", "Lo", "So", "Lo", "Mn", "Lo", "Mn", "Nd", "Sc", "Lo", "Lm", "Mn", "Nd", "Lo",
-    "Mn", "Lo", "Nd", "Po", "Lo", "Lo", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo", "Mn", "Lo", "Lm", "Lo", "Lo", "Lo", "Lo",
-    "Lo", "No", "Mn", "Lu", "Ll", "Mn", "Lm", "Nd", "Po", "No", "So", "No", "Sc", "No", "No", "So", "No", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Sm", "So", "So", "So", "So", "So", "So",
-    "No", "So", "So", "So", "So", "So", "So", "So", "Sk", "So", "So", "So", "So", "So", "So", "So", "So", "So", "So",
-    "So", "So", "So", "Sm", "So", "So", "So", "So", "So", "So", "So", "So", "So", "So", "So", "Nd", "So", "Lo", "Lo",
-    "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Lo", "Cf", "Cf", "Mn", "Co", "Co"};
+  static final int _CATEGORY_SHIFT_ = 8;
+  static final char[] _STAGE1_ = stage1();
+  private static char[] stage1() { return new char[] {
+    0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 17, 21, 22, 23, 24, 25, 26, 27, 28, 29,
+    30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 33, 41, 42, 43, 44, 45, 46, 47, 48, 39, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 49, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 50, 17, 17, 17, 51, 17, 52, 53, 54, 55, 56, 57, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 58, 59, 59, 59, 59, 59, 59, 59, 59, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 17, 61, 62, 17, 63, 64, 65, 66, 67, 68, 69, 70, 71, 17,
+    72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 17, 17, 17, 97,
+    98, 99, 100, 100, 100, 100, 100, 100, 100, 100, 100, 101, 17, 17, 17, 17, 102, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 103, 17, 17, 104, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 105, 100, 100, 100, 100, 100, 100, 17, 17, 106, 107, 100,
+    108, 109, 110, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 111, 112, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 113, 17, 114, 115, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 116, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 117, 39,
+    118, 119, 120, 121, 122, 123, 124, 125, 126, 127, 39, 39, 128, 100, 100, 100, 100, 129, 130, 131, 132, 100, 133,
+    134, 135, 136, 137, 138, 100, 100, 139, 140, 141, 100, 142, 143, 144, 145, 39, 39, 146, 147, 148, 39, 149, 150,
+    100, 100, 100, 100, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 151, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 152, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 153, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 154, 17, 17, 155, 100, 100, 100, 100, 100, 100, 100, 100, 100, 17, 17,
+    156, 100, 100, 100, 100, 100, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 157, 17,
+    17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+    17, 17, 158, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 159, 160, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 100,
+    100, 100, 100, 100, 100, 100, 100, 100, 100, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 161, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60, 60,
+    60, 60, 161};
   }
+  static final String _STAGE2_ = String.join("", new String[] {
+    "11111111111111111111111111111111MEEEGEEEFBEIEAEE==========EEIIIEE99999999999999999999999999FEBH@H555" +
+    "55555555555555555555555FIBI111111111111111111111111111111111MEGGGGJEHJ7DI2JHJI??H5EEH?7C???E99999999" +
+    "999999999999999I9999999555555555555555555555555I5555555595959595959595959595959595959595959595959595" +
+    "9595959595955959595959595959559595959595959595959595959595959595959595959595995959555995959959995599" +
+    "9959959995559959959595995955959959995959955795557777985985985959595959595959559595959595959595955985" +
+    "9599959595959595959595959595959595959595959595959595959595959595555555995995595999959595959555555555" +
+    "5555555555555555555555555555555555555555555555555555555555557755555555555555555555555555666666666666" +
+    "666666HHHH666666666666HHHHHHHHHHHHHH66666HHHHHHH6H6HHHHHHHHHHHHHHHHH<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<95956H95006555E90000" +
+    "HH9E999090995999999999999999990999999999555555555555555555555555555555555559559995559595959595959595" +
+    "95959595555595I9599559999999999999999999999999999999999999999999999999995555555555555555555555555555" +
+    "555555555555555555559595959595959595959595959595959595J<<<<<;;95959595959595959595959595959595959595" +
+    "9595959595959595995959595959595595959595959595959595959595959595959595959595959595959595959595959595" +
+    "9595959595959595959595959595099999999999999999999999999999999999999006EEEEEE555555555555555555555555" +
+    "55555555555555555EA00JJG0<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<A<E<<E<<E<00000000777777777777" +
+    "77777777777777700007777EE00000000000222222IIIEEGEEJJ<<<<<<<<<<<E2EEE77777777777777777777777777777777" +
+    "67777777777<<<<<<<<<<<<<<<<<<<<<==========EEEE77<777777777777777777777777777777777777777777777777777" +
+    "777777777777777777777777777777777777777777777777E7<<<<<<<2J<<<<<<66<<J<<<<77==========777JJ7EEEEEEEE" +
+    "EEEEEE027<777777777777777777777777777777<<<<<<<<<<<<<<<<<<<<<<<<<<<007777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777<<<<<<<<<<<700000000000000==========777777" +
+    "777777777777777777777777777<<<<<<<<<66JEEE600<GG7777777777777777777777<<<<6<<<<<<<<<6<<<6<<<<<00EEEE" +
+    "EEEEEEEEEEE07777777777777777777777777<<<00E07777777777700000777777777777777777777777H77777772200000<" +
+    "<<<<<<<<777777777777777777777777777777777777777776<<<<<<<<<<<<<<<<<<<<<<<<2<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<:777777777777777777777777777777777777777777777777777777<:<7:::<<<<<<<<::::<::7<<<<<<<77777777" +
+    "77<<EE==========E6777777777777777<::07777777700770077777777777777777777770777777707000777700<7:::<<<" +
+    "<00::00::<700000000:0000770777<<00==========77GG??????JG7E<00<<:077777700007700777777777777777777777" +
+    "70777777707707707700<0:::<<0000<<00<<<000<00000007777070000000==========<<777<E0000000000<<:07777777" +
+    "770777077777777777777777777770777777707707777700<7:::<<<<<0<<:0::<00700000000000000077<<00==========" +
+    "EG00000007<<<<<<0<::07777777700770077777777777777777777770777777707707777700<7:<:<<<<00::00::<000000" +
+    "0<<:0000770777<<00==========J7??????0000000000<70777777000777077770007707077000770007770007777777777" +
+    "770000::<::000:::0:::<007000000:00000000000000==========???JJJJJJGJ00000<:::<77777777077707777777777" +
+    "77777777777770777777777777777700<7<<<::::0<<<0<<<<0000000<<07770770077<<00==========0000000E???????J" +
+    "7<::E7777777707770777777777777777777777770777777777707777700<7:<:::::0<::0::<<0000000::00000777077<<" +
+    "00==========077:000000000000<<::7777777770777077777777777777777777777777777777777777777<<7:::<<<<0::" +
+    ":0:::<7J0000777:???????777<<00==========?????????J7777770<::0777777777777777777000777777777777777777" +
+    "777777077777777707007777777000<0000:::<<<0<0::::::::000000==========00::E000000000000777777777777777" +
+    "777777777777777777777777777777777<77<<<<<<<0000G7777776<<<<<<<<E==========EE000000000000000000000000" +
+    "0000000000000770707777707777777777777777777777770707777777777<77<<<<<<<<<70077777060<<<<<<<0========" +
+    "==007777000000000000000000000000000000007JJJEEEEEEEEEEEEEEEJEJJJ<<JJJJJJ==========??????????J<J<J<FB" +
+    "FB::7777777707777777777777777777777777777777777770000<<<<<<<<<<<<<<:<<<<<E<<77777<<<<<<<<<<<0<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<<<<<<<0JJJJJJJJ<JJJJJJ0JJEEEEEJJJJEE00000000000000000000000000000000000007777" +
+    "777777777777777777777777777777777777777::<<<<:<<<<<<:<<::<<7==========EEEEEE777777::<<7777<<<7:::77:" +
+    "::::::777<<<<7777777777777<::<<::::::<7:==========:::<JJ99999999999999999999999999999999999999090000" +
+    "09005555555555555555555555555555555555555555555E6555777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777770777700777777707077" +
+    "7700777777777777777777777777777777777777777770777700777777777777777777777777777777777077770077777770" +
+    "7077770077777777777777707777777777777777777777777777777777777777777777777777777770777700777777777777" +
+    "777777777777777777777777777777777777777777777777777777700<<<EEEEEEEEE????????????????????00077777777" +
+    "77777777JJJJJJJJJJ0000009999999999999999999999999999999999999999999999999999999999999999999999999999" +
+    "99999999990055555500A7777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777JE7777777777777" +
+    "7777M77777777777777777777777777FB0007777777777777777777777777777777777777777777777777777777777777777" +
+    "77777777777EEE>>>777777770000000777777777777777777<<<:0000000007777777777777777777<<:EE0000000007777" +
+    "77777777777777<<000000000000777777777777707770<<0000000000007777777777777777777777777777777777777777" +
+    "777777777777<<:<<<<<<<::::::::<::<<<<<<<<<<<EEE6EEEG7<00==========000000??????????000000EEEEEEAEEEE<" +
+    "<<2<==========00000077777777777777777777777777777777777677777777777777777777777777777777777777777777" +
+    "777777777000000077777<<7777777777777777777777777777777777<700000777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777000000000077777777777777777777777777777770<<<::::<<:::0000::<:::::" +
+    ":<<<0000J000EE==========7777777777777777777777777777770077777000000000007777777777777777777777777777" +
+    "7777777777777777000077777777777777777777777777000000==========?000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "77777777777777777777777<<::<00EE77777777777777777777777777777777777777777777777777777:<:<<<<<<<0<:<:" +
+    ":<<<<<<<<::::::<<<<<<<<<<00<==========000000==========000000EEEEEEE6EEEEEE00<<<<<<<<<<<<<<;<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<00<<<<<<<<<<<<00000000000000000000<<<<:777777777777777777777777777777777777777" +
+    "77777777<:<<<<<:<:::::<::777777770EE==========EEEEEEEJJJJJJJJJJ<<<<<<<<<JJJJJJJJJEEE<<:7777777777777" +
+    "77777777777777777:<<<<::<<:<<<77==========77777777777777777777777777777777777777777777<:<<:::<:<<<::" +
+    "00000000EEEE777777777777777777777777777777777777::::::::<<<<<<<<::<<000EEEEE==========000777========" +
+    "==777777777777777777777777777777666666EE555555555950000099999999999999999999999999999999999999999990" +
+    "0999EEEEEEEE00000000<<<E<<<<<<<<<<<<<:<<<<<<<7777<777777<77:<<70000055555555555555555555555555555555" +
+    "5555555555556666666666666666666666666666666666666666666666666666666666666665555555555555655555555555" +
+    "555555555555555555555556666666666666666666666666666666666666<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<<9595959595959595959595959595959595959595959595959595959595959595959595959595" +
+    "9595959595959595959595959595959595959595959595959595959595959595959595959555555555959595959595959595" +
+    "9595959595959595959595959595959595959595959595959595959595959595959595959595959555555555999999995555" +
+    "5500999999005555555599999999555555559999999955555500999999005555555509090909555555559999999955555555" +
+    "555555005555555588888888555555558888888855555555888888885555505599998H5HHH55505599998HHH555500559999" +
+    "0HHH5555555599999HHH0055505599998HH0MMMMMMMMMMM22222AAAAAAEEDCFDDCFDEEEEEEEEKL22222MEEEEEEEEEDCEEEE@" +
+    "@EEEIFBEEEEEEEEEEEIE@EEEEEEEEEEM2222202222222222?600??????IIIFB6??????????IIIFB06666666666666000GGGG" +
+    "GGGGGGGGGGGGGGGGGGGGGGGGGGGGGG00000000000000<<<<<<<<<<<<<;;;;<;;;<<<<<<<<<<<<000000000000000JJ9JJJJ9" +
+    "JJ5999559995J9JJI99999JJJJJJ9J9J9J9999J59999577775JJ5599IIIII95555JIJJ5J????????????????>>>>>>>>>>>>" +
+    ">>>>>>>>>>>>>>>>>>>>>>>95>>>>?JJ0000IIIIIJJJJJIIJJJJIJJIJJIJJJJJJJIJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJII" +
+    "JJIJIJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIII" +
+    "IIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIII" +
+    "IIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIII" +
+    "IIIIJJJJJJJJFBFBJJJJJJJJJJJJJJJJJJJJIIJJJJJJJFBJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJIJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIIIIIIIIIIIIIIIIIIIIIIIIIJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJIIIIIIJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJ0000000000000000000000JJJJJJJJJJJ000000000000000000000????????????????????????????????????????????" +
+    "????????????????JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ??????" +
+    "????????????????JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJI" +
+    "JJJJJJJJJIJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIIIIIIIIJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJFBFBFBFBFBFBFB??????????????????????????????JJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJIIIIIFBIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIFBFBFBFBFBIIIIIIIIIIIIIIIIJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIII" +
+    "IIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIFBFBFBFBFBFBFBFBFBFBFBIIIIIII" +
+    "IIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIFBFBIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIIFBIIJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJIIIIIIIIIIIIIIIIIIIIIJJIIIIIIJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJ00JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ999999999999999999999999999999999999999999999999" +
+    "5555555555555555555555555555555555555555555555559599955959595999959559555555669995959595959595959595" +
+    "959595959595959595959595959595959595959595959595959595959595959595959595959595955JJJJJJ9595<<<950000" +
+    "0EEEE?EE55555555555555555555555555555555555555050000050077777777777777777777777777777777777777777777" +
+    "77777777777700000006E00000000000000<7777777777777777777777700000000077777770777777707777777077777770" +
+    "77777770777777707777777077777770<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<EEDCDCEEEDCEDCEEEEEEEEEAEEAEDCEEDCFB" +
+    "FBFBFBEEEEE6EEEEEEEEEEAAEEEEAEFEEEEEEEEEEEEEJJEEEFBFBFBFBA0000000000000000000000000000000000JJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJ0JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJ000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ00000000000000000000000000JJJJJJJJJJJJJJJJMEEEJ67>FBFBFBFBFBJJFBFB" +
+    "FBFBAFBBJ>>>>>>>>><<<<::A66666JJ>>>67EJJ077777777777777777777777777777777777777777777777777777777777" +
+    "77777777777777777777777777700<<HH667A777777777777777777777777777777777777777777777777777777777777777" +
+    "777777777777777777777777777E666700000777777777777777777777777777777777777777777707777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777770JJ????JJJJJJJJJJ77777777" +
+    "777777777777777777777777JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000000J7777777777777777JJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJ0??????????JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ????????J???????????????JJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJ??????????JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ???????????????JJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ77777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "777777777777777777777777777777777777JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "7777777777777777777776777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777000" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000000777777777777777777777777777777777777" +
+    "7777666666EE7777777777776EEE7777777777777777==========7700000000000000000000959595959595959595959595" +
+    "95959595959595959595957<;;;E<<<<<<<<<<E6959595959595959595959595959566<<7777777777777777777777777777" +
+    "777777777777777777777777777777777777777777>>>>>>>>>><<EEEEEE00000000HHHHHHHHHHHHHHHHHHHHHHH666666666" +
+    "HH95959595959595559595959595959595959595959595959595959595959595959595959595959565555555595959959595" +
+    "95956HH959579595559595959595959595959599999599999595959595959595999959599595959595959595900000000000" +
+    "00000000066669576657777777<777<7777<77777777777777777777777::<<:JJJJ<000??????JJGJ000000777777777777" +
+    "7777777777777777777777777777777777777777EEEE00000000::7777777777777777777777777777777777777777777777" +
+    "7777::::::::::::::::<<00000000EE==========000000<<<<<<<<<<<<<<<<<<777777EEE7E77<==========7777777777" +
+    "777777777777777777<<<<<<<<EE77777777777777777777777<<<<<<<<<<<::00000000000E777777777777777777777777" +
+    "77777000<<<:77777777777777777777777777777777777777777777777<::<<<<::<<:::EEEEEEEEEEEEE06==========00" +
+    "00EE77777<6777777777==========77777077777777777777777777777777777777777777777<<<<<<::<<::<<000000000" +
+    "777<77777777<:00==========00EEEE77777777777777776777777JJJ7:<:77777777777777777777777777777777777777" +
+    "777777777777<7<<<77<<77777<<7<7000000000000000000000000776EE77777777777:<<::EE766:<00000000007777770" +
+    "07777770077777700000000077777770777777705555555555555555555555555555555555555555555H66665555555556HH" +
+    "0000555555555555555555555555555555555555555555555555555555555555555555555555555555557777777777777777" +
+    "7777777777777777777::<::<::E:<00==========0000007777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777770000000000007777777777777777777777700007777777777777777777777777777777777777777777777777" +
+    "0000444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444" +
+    "4444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444444" +
+    "4444444444444444444444444444444444444444444444444444444444443333333333333333333333333333333333333333" +
+    "3333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333" +
+    "3333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333" +
+    "3333333333333333777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777700777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777000000000000000000000000000000000000005555555000000000000555550000" +
+    "07<7777777777I77777777777770777770707707707777777777777777777777777777777777777777777777777777777777" +
+    "77777777777777777777777777777777777777777777777777HHHHHHHHHHHHHHHHHJJJJJJJJJJJJJJJJ77777777777777777" +
+    "777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777BFJJJJJJJJ" +
+    "JJJJJJJJ7777777777777777777777777777777777777777777777777777777777777777JJ77777777777777777777777777" +
+    "7777777777777777777777777777JJJJJJJJ00000000000000000000000000000000777777777777GJJJ<<<<<<<<<<<<<<<<" +
+    "EEEEEEEFBE000000<<<<<<<<<<<<<<<<EAA@@FBFBFBFBFBFBFBFBEEFBEEEE@@@EEE0EEEEAFBFBFBEEEIAIII0EGEE00007777" +
+    "7077777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "77777777777777777777777777777777777770020EEEGEEEFBEIEAEE==========EEIIIEE99999999999999999999999999F" +
+    "EBH@H55555555555555555555555555FIBIFBEFBEE7777777777677777777777777777777777777777777777777777777766" +
+    "7777777777777777777777777777777000777777007777770077777700777000GGIHJGG0JIIIIJJ0000000000222JJ007777" +
+    "7777777707777777777777777777777777707777777777777777777077077777777777777700777777777777770000000000" +
+    "0000000000000000000000007777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777700000EEE0000?????????????????????????????????????????" +
+    "????000JJJJJJJJJ>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>????JJJJJJJJJJJJJJJJJ??JJJ0JJJJ" +
+    "JJJJJJJJJ000J00000000000000000000000000000000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJ<0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000007777777777777777777777777777700077777777777777777777777777777777" +
+    "77777777777777777000000000000000<???????????????????????????000077777777777777777777777777777777????" +
+    "00000000077777777777777777777>77777777>0000077777777777777777777777777777777777777<<<<<0000077777777" +
+    "77777777777777777777770E777777777777777777777777777777777777000077777777E>>>>>0000000000000000000000" +
+    "0000000000000000000099999999999999999999999999999999999999995555555555555555555555555555555555555555" +
+    "77777777777777777777777777777777777777777777777777777777777777777777777777777700==========0000009999" +
+    "9999999999999999999999999999999900005555555555555555555555555555555555550000777777777777777777777777" +
+    "777777777777777700000000777777777777777777777777777777777777777777777777777700000000000E999999999990" +
+    "9999999999999990999999909905555555555505555555555555550555555505500077777777777777777777777777777777" +
+    "7777777777777777777700000000000077777777777777777777777777777777777777777777777777777770000000007777" +
+    "7777777777777777770000000000777777770000000000000000000000006666660666666666666666666666666666666666" +
+    "6666666660666666666000000000000000000000000000000000000000000000000000000000000000000000777777007077" +
+    "777777777777777777777777777777777777777777077000700777777777777777777777770E????????7777777777777777" +
+    "7777777JJ???????777777777777777777777777777777700000000?????????000000000000000000000000000000000000" +
+    "000000000000777777777777777777707700000?????7777777777777777777777??????000E777777777777777777777777" +
+    "7700000E77777777777777777777777777000000000000000000000000000000000000007777777777777777777777777777" +
+    "77777777777777777777777777770000??77????????????????00??????????????????????????????????????????????" +
+    "7<<<0<<00000<<<<7777077707777777777777777777777777777700<<<0000<?????????0000000EEEEEEEEE00000007777" +
+    "7777777777777777777777777??E77777777777777777777777777777???0000000000000000000000000000000077777777" +
+    "J7777777777777777777777777777<<0000?????EEEEEEE00000000077777777777777777777777777777777777777777777" +
+    "7777777777000EEEEEEE777777777777777777777700????????777777777777777777700000????????7777777777777777" +
+    "770000000EEEE000000000000???????00000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000007777777777777777777777777777777777777777777777777777777777777777777777777000000000000000" +
+    "0000000000000000000000000000000000000000999999999999999999999999999999999999999999999999999000000000" +
+    "00005555555555555555555555555555555555555555555555555550000000??????77777777777777777777777777777777",
+    "7777<<<<00000000==========000000==========7777679999999999999999999999000<<<<<A655555555555555555555" +
+    "5500000000II0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "00000000000000000000???????????????????????????????07777777777777777777777777777777777777777770<<A00" +
+    "77000000000000000077767700000000EJJJJJJJJ000000000000000000000000000000000<<<<<<77777777777777777777" +
+    "777777777??????????7000000007777777777777777777777<<<<<<<<<<<????EEEEE000000000000000000000077777777" +
+    "7777777777<<<<EEEE00000000000000000000000000000000000000777777777777777777777???????0000000000000000" +
+    "000077777777777777777777777000000000:<:77777777777777777777777777777777777777777777777777777<<<<<<<<" +
+    "<<<<<<<EEEEEEE0000????????????????????==========<77<<7000000000<<<:777777777777777777777777777777777" +
+    "777777777777:::<<<<::<<EE2EEEE<000000000020077777777777777777777777770000000==========000000<<<77777" +
+    "7777777777777777777777777777777<<<<<:<<<<<<<<0==========EEEE7::7000000007777777777777777777777777777" +
+    "7777777<EE7000000000<<:777777777777777777777777777777777777777777777777:::<<<<<<<<<::7777EEEE<<<<E:<" +
+    "==========7E7EEE0????????????????????0000000000077777777777777777707777777777777777777777777:::<<<::" +
+    "<:<<EEEEEE<77<00000000000000000000000000000000000000000000000000000000000000777777707077770777777777" +
+    "77777707777777777E00000077777777777777777777777777777777777777777777777<:::<<<<<<<<00000==========00" +
+    "0000<<::0777777770077007777777777777777777777077777770770777770<<7::<::::00::00:::007000000:00000777" +
+    "77::00<<<<<<<000<<<<<0000000000077777777770700707777777777777777777777777777777777777707:::<<<<<<0:0" +
+    "0:0::::0::<:<7<7EE0EE00000000<<000000000000000000000000000007777777777777777777777777777777777777777" +
+    "7777777777777:::<<<<<<<<::<<<:<7777EEEEE==========EE0E<777000000000000000000000000000000777777777777" +
+    "777777777777777777777777777777777777:::<<<<<<:<::::<<:<<77E700000000==========0000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000077777777777777777777777777777777777777777777777:::<<<<00" +
+    "::::<<:<<EEEEEEEEEEEEEEEEEEEEEEE7777<<00000000000000000000000000000000007777777777777777777777777777" +
+    "77777777777777777777:::<<<<<<<<::<:<<EEE700000000000==========000000EEEEEEEEEEEEE0000000000000000000" +
+    "7777777777777777777777777777777777777777777<:<::<<<<<<:<7E000000==========000000====================" +
+    "000000000000000000000000000077777777777777777777777777700<:<::<<<<:<<<<<0000==========??EEEJ77777770" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000007777777777777777" +
+    "7777777777777777777777777777:::<<<<<<<<<:<<E00000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000099999999999999999999999999999999555555555555555555555555" +
+    "55555555==========?????????0000000000007777777700700777777770770777777777777777777777777::::::0::00<" +
+    "<:<7:7:<EEE000000000==========0000000000000000000000000000000000000000000000000000000000000000000000" +
+    "7777777700777777777777777777777777777777777777777:::<<<<00<<::::<7E7:0000000000000000000000000007<<<" +
+    "<<<<<<<7777777777777777777777777777777777777777<<<<<<:7<<<<EEEEEEEE<000000007<<<<<<::<<<777777777777" +
+    "7777777777777777777777777777777777<<<<<<<<<<<<<:<<EEE7EEEEE00000000000007777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777770000000EEEEEEEEEE00000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000000000000000<:<<<:<:00000000000000000000000000000000000000000000" +
+    "00000000000000000000000000000000000000000000777777777777777777777777777777777E00000000000000========" +
+    "==00000077777777707777777777777777777777777777777777777:<<<<<<<0<<<<<<:<7EEEEE0000000000==========??" +
+    "?????????????????000EE77777777777777777777777777777700<<<<<<<<<<<<<<<<<<<<<<0:<<<<<<<:<<:<<000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000777777707707777777777777777777777777" +
+    "7777777777777<<<<<<000<0<<0<<<<<<<7<00000000==========0000007777770770777777777777777777777777777777" +
+    "77:::::0<<0::<:<70000000==========000000777777777777777777777777777777777777777776770000==========00" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000000000007777777777777777777<<::EE0000000<<7:77777777777770777777" +
+    "7777777777777777777777777777::<<<<<000::<:<EEEEEEEEEEEEE==========<000000000000000000000000000000000" +
+    "00000000000000000000000000000000000000000000000000007000000000000000?????????????????????JJJJJJJJGGG" +
+    "GJJJJJJJJJJJJJJJJJ0000000000000E77777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777700000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000>>>>>>>>>>>>" +
+    ">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>0" +
+    "EEEEE00000000000777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777770000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777EE0" +
+    "0000000000007777777777777777777777777777777777777777777777772222222222222222<777777<<<<<<<<<<<<<<<00" +
+    "0000000077777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777000007777777777777777777777777777777777777777777777777777777777777777777777700000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000077777777777777777777" +
+    "7777777777<<<<<<<<<<<<:::<<<==========00000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000007777777777777777777777777777777777777777777777777777777770000000" +
+    "77777777777777777777777777777770==========0000EE7777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777770==========00000077777777777777777777777777777700<<<<<E000000000077777777" +
+    "7777777777777777777777777777777777777777<<<<<<<EEEEEJJJJ6666EJ0000000000==========0???????0777777777" +
+    "7777777777770000077777777777777777770000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000666777777777777777777777777777777777777777766EEE==========000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000099999999999999999999999999999999" +
+    "55555555555555555555555555555555???????????????????????EEEE00000999999999999999999999999900555555555" +
+    "5555555555555555000000000000000000000000000000000000000000007777777777777777777777777777777777777777" +
+    "777777777777777777777777777777777770000<7:::::::::::::::::::::::::::::::::::::::::::::::::::::::0000" +
+    "000<<<<6666666666666000000000000000000000000000000000000000000000000000000000000000066E6<00000000000" +
+    "::66>>>000000000777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777770000000000000000000000000000000000000000077777777777777777777777777777" +
+    "7770000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777770000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000066660666666606607777777777777777" +
+    "7777777777777777777000000000000000700000000000000000000000000000777007000000000000007777000000007777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777700007777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7770000077777777777770007777777770000000777777777700J<<E22220000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ========" +
+    "==JJJ000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000JJJJJJ" +
+    "JJJJJJJJJJJJJJJJJ000000000000000JJJJJJJJJJJJJJJJI000000000000000<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<00<<<<<<<<<<<<<<<<<<<<<<<000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0000000000000000000000000000000000000000" +
+    "00000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0000000000JJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJ00JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ::<<<JJJ::::::22222222<" +
+    "<<<<<<<JJ<<<<<<<JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ<<<<JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJ000000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ<<" +
+    "<J00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000????????????????????000000000000????????????????????000000000000JJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000000????????????????" +
+    "?????????0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000099999999999999999999999999555555555555555555555555559999" +
+    "9999999999999999999999555555505555555555555555559999999999999999999999999955555555555555555555555555" +
+    "9099009009900999909999999955550505555555055555555555999999999999999999999999995555555555555555555555" +
+    "5555990999900999999990999999905555555555555555555555555599099990999990900099999990555555555555555555" +
+    "5555555599999999999999999999999999555555555555555555555555559999999999999999999999999955555555555555" +
+    "5555555555559999999999999999999999999955555555555555555555555555999999999999999999999999995555555555" +
+    "5555555555555555999999999999999999999999995555555555555555555555555599999999999999999999999999555555" +
+    "5555555555555555555555009999999999999999999999999I5555555555555555555555555I555555999999999999999999" +
+    "9999999I5555555555555555555555555I5555559999999999999999999999999I5555555555555555555555555I55555599" +
+    "99999999999999999999999I5555555555555555555555555I5555559999999999999999999999999I555555555555555555" +
+    "5555555I5555559500==================================================<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<JJJJ<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<JJJJJJJJ<JJJJJJJJJJJJJJ" +
+    "<JJEEEEE000000000000000<<<<<0<<<<<<<<<<<<<<<00000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000005555555555755555555555555555555000000555555000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "00000000000000000000000000000000000000000000000000000000000000000000000000000000<<<<<<<0<<<<<<<<<<<<" +
+    "<<<<<00<<<<<<<0<<0<<<<<00000666666666666666666666666666666666666666666666666666666666666660000000000" +
+    "00000000000000000000000<0000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000777777777777777777777777777777777777777777777000<<<<<<<666666600" +
+    "==========00007J000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000777777777777777777777777777777<000000000000000007777777777777777" +
+    "7777777777777777777777777777<<<<==========00000G0000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000000000000000000000007777777777777777777777777776<<<<==========00" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000777777777777777777777777777777<<7==========0000E0000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000000000000000000077777777777777777777777777777770777<77<7777777<<" +
+    "77777<0000000076000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000777777707777077077777777777777707777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "77777777777777777777777777777777777777777777777777777777777777777777700?????????<<<<<<<0000000000000" +
+    "000000000000000000000000000099999999999999999999999999999999995555555555555555555555555555555555<<<<" +
+    "<<<60000==========0000EE0000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000???" +
+    "????????????????????????????????????????????????????????J???G????00000000000000000000000000000000000" +
+    "00000000000000000000000000000000000000000?????????????????????????????????????????????J?????????????" +
+    "??00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000007777" +
+    "0777777777777777777777777777077070070777777777707777070700000070000707070777077070070707070707707007" +
+    "7770777777707777077770707777777777077777777777777777000007770777770777777777777777770000000000000000" +
+    "000000000000000000000000000000000000II00000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0000" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "000000000000JJJJJJJJJJJJJJJ00JJJJJJJJJJJJJJJ0JJJJJJJJJJJJJJJ0JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ00" +
+    "00000000?????????????JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000000000000000" +
+    "00000000000000000000000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0000000000000JJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJ0000JJJJJJJJJ0000000JJ00000000000000JJJJJJ0000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "00000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJHHHHHJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000JJJJ" +
+    "JJJJJJJJJJJJJ000JJJJJJJJJJJJJ000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ000000JJJJJJJJJJJJ0000J000000000000000JJJJJJJJJJJJ" +
+    "0000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ00000000JJJJJJJJJJ000000JJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJ00000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ00JJJJJJJJJJJJ0000JJ00000000000000IIII" +
+    "IIIII000000000000000000000000000000000000000JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ00000000JJJJJJJJJJJJJJ00JJJJJJJJJJJJJ000JJJJJJJJJJJ000JJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0J0000JJJJJJJJJJJJJJJJ00JJJJJJJJJJJJ0000JJJJJJJJJJ0000000" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ0JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ" +
+    "JJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJJ==========J0000077777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777700000000000000000000" +
+    "0000000000007777777777777777777777777777770077777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777770077777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777000000000000000777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777700000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000007777777777777777777777777777770000000000000000000000000000000000",
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000077777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777000007777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777777" +
+    "7777777777777777777777777777777777777777777777777777777777777777777777000000000000000000000000000000" +
+    "0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000" +
+    "0000020000000000000000000000000000002222222222222222222222222222222222222222222222222222222222222222" +
+    "2222222222222222222222222222222200000000000000000000000000000000000000000000000000000000000000000000" +
+    "000000000000000000000000000000000000000000000000000000000000<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<" +
+    "0000000000000000333333333333333333333333333333333333333333333333333333333333333333333333333333333333" +
+    "3333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333333" +
+    "333333333333333333333333333333333333333333333333333333333333333333333300"});
   static final String[] _CATEGORIES_ = new String[] {
-    "Cc", "Cf", "Co", "Cs", "Ll", "Lm", "Lo", "Lt", "Lu", "Mc", "Me", "Mn", "Nd", "Nl", "No", "Pc", "Pd", "Pe", "Pf",
-    "Pi", "Po", "Ps", "Sc", "Sk", "Sm", "So", "Zl", "Zp", "Zs"
+    "Cn", "Cc", "Cf", "Co", "Cs", "Ll", "Lm", "Lo", "Lt", "Lu", "Mc", "Me", "Mn", "Nd", "Nl", "No", "Pc", "Pd", "Pe",
+    "Pf", "Pi", "Po", "Ps", "Sc", "Sk", "Sm", "So", "Zl", "Zp", "Zs"
   };
   /* generated code end. */
 
 
   /*--------------------------  static methods  -------------------------*/
 
+  /**
+   * Get the id of the category of a given code point.  This is an O(1)
+   * lookup in a two-stage table.
+   *
+   * @param codePoint a code point
+   *
+   * @return 0 if codePoint is not a defined unicode code point, otherwise
+   * the index of the category in categoryName, e.g., categoryName(categoryId(65))
+   * is "Lu".
+   */
+  public static byte categoryId(int codePoint)
+  {
+    return 0 <= codePoint && codePoint <= Character.MAX_CODE_POINT
+      ? (byte) (_STAGE2_.charAt(_STAGE1_[codePoint >> _CATEGORY_SHIFT_] << _CATEGORY_SHIFT_ |
+                                codePoint & ((1 << _CATEGORY_SHIFT_) - 1)) - '0')
+      : 0;
+  }
+
+
+  /**
+   * Number of different category ids returned by categoryId.
+   */
+  public static int categoryCount()
+  {
+    return _CATEGORIES_.length;
+  }
+
+
+  /**
+   * Get the name of a category id.
+   *
+   * @param id a category id, 0 <= id < categoryCount().
+   *
+   * @return the category entry such as "Cn", "Lu", "Sm", etc.
+   */
+  public static String categoryName(int id)
+  {
+    return _CATEGORIES_[id];
+  }
+
+
   /**
    * Get the category of a given code point
    *
@@ -741,19 +704,7 @@ public class UnicodeData extends ANY
    */
   public static String category(int codePoint)
   {
-    int l = 0;
-    int r = _START_.length-1;
-    while (l <= r)
-      {
-        int m = (l + r) / 2;
-        if      (_START_[m] > codePoint) { r = m - 1; }
-        else if (_END_  [m] < codePoint) { l = m + 1; }
-        else
-          {
-            return _CATEGORY_[m];
-          }
-      }
-    return "Cn";
+    return _CATEGORIES_[categoryId(codePoint)];
   }
 
 }
@@ -171,6 +171,19 @@ public class ParseUnicodeData extends ANY
   static final boolean VERBOSE = false;
 
 
+  /**
+   * log2 of the size of the blocks of code points in the category table.
+   */
+  static final int CATEGORY_SHIFT = 8;
+
+
+  /**
+   * Number of 100 char lines of _STAGE2_ in one String constant, must be small
+   * enough for the constant to stay below the class file limit of 65535 bytes.
+   */
+  static final int STRING_LINES = 200;
+
+
   /*----------------------------  variables  ----------------------------*/
 
 
@@ -276,7 +289,7 @@ public class ParseUnicodeData extends ANY
   }
 
 
-  <T> String table(java.util.List<T> l, ToString<T> b2s)
+  static <T> String table(java.util.List<T> l, ToString<T> b2s)
   {
     StringBuilder sb = new StringBuilder();
     int line = 200;
@@ -350,14 +363,75 @@ public class ParseUnicodeData extends ANY
                            _cats.size() + " categories in " + _blocks.size() + " blocks. ");
       }
 
-    say("  static final int[] _START_ = start0();\n" +
-                       "  private static int[] start0() { return new int[] {"          + table(_blocks, x -> "0x" + Integer.toHexString(x._first._code)) + "};\n  }");
-    say("  static final int[] _END_ = end0();\n" +
-                       "  private static int[] end0() { return new int[] {"            + table(_blocks, x -> "0x" + Integer.toHexString(x._last ._code)) + "};\n  }");
-    say("  static final String[] _CATEGORY_ = category0();\n"+
-                       "  private static String[] category0() { return new String[] {" + table(_blocks, x -> "\"" + x._first._category + "\"") + "};\n  }");
-    var c = Arrays.asList(_cats.keySet().toArray(new String[_cats.size()]));
-    say("  static final String[] _CATEGORIES_ = new String[] {" + table(c, x -> "\"" + x + "\"") + "\n  };");
+    var cats = new List<String>();
+    cats.add("Cn");
+    cats.addAll(_cats.keySet());
+    var ids = new byte[Character.MAX_CODE_POINT + 1];
+    for (var b : _blocks)
+      {
+        Arrays.fill(ids, b._first._code, b._last._code + 1, (byte) cats.indexOf(b._first._category));
+      }
+    say(categoryTables(cats, ids));
+  }
+
+
+  /**
+   * Create Java source code for a two-stage lookup table that maps code points
+   * to category ids in O(1).
+   *
+   * The code points are split into blocks of 1<<CATEGORY_SHIFT code points.
+   * _STAGE1_ maps the block number of a code point to the start of its block
+   * in _STAGE2_, equal blocks are stored only once.  _STAGE2_ is a String
+   * of chars '0'+id giving the category id of each code point.
+   *
+   * @param cats the category names, "Cn" must be at index 0.
+   *
+   * @param ids the category id for every code point 0..Character.MAX_CODE_POINT.
+   */
+  static String categoryTables(List<String> cats, byte[] ids)
+  {
+    var size = 1 << CATEGORY_SHIFT;
+    var blocks = new TreeMap<String, Integer>();
+    var stage1 = new List<Integer>();
+    var stage2 = new StringBuilder();
+    for (var b = 0; b < ids.length; b += size)
+      {
+        var sb = new StringBuilder();
+        for (var i = b; i < b + size; i++)
+          {
+            sb.append((char) ('0' + ids[i]));
+          }
+        var block = sb.toString();
+        var s = blocks.get(block);
+        if (s == null)
+          {
+            s = stage2.length();
+            blocks.put(block, s);
+            stage2.append(block);
+          }
+        stage1.add(s >> CATEGORY_SHIFT);
+      }
+    var strings = new List<String>();
+    for (var i = 0; i < stage2.length(); i += 100)
+      {
+        strings.add(stage2.substring(i, Math.min(stage2.length(), i + 100)));
+      }
+    var parts = new StringBuilder();
+    for (var i = 0; i < strings.size(); i += STRING_LINES)
+      {
+        parts.append(i == 0 ? "" : ",")
+          .append("\n    ")
+          .append(strings.subList(i, Math.min(strings.size(), i + STRING_LINES))
+                  .stream()
+                  .map(x -> "\"" + x + "\"")
+                  .collect(Collectors.joining(" +\n    ")));
+      }
+    return
+      "  static final int _CATEGORY_SHIFT_ = " + CATEGORY_SHIFT + ";\n" +
+      "  static final char[] _STAGE1_ = stage1();\n" +
+      "  private static char[] stage1() { return new char[] {" + table(stage1, x -> Integer.toString(x)) + "};\n  }\n" +
+      "  static final String _STAGE2_ = String.join(\"\", new String[] {" + parts + "});\n" +
+      "  static final String[] _CATEGORIES_ = new String[] {" + table(cats, x -> "\"" + x + "\"") + "\n  };";
   }
 
 
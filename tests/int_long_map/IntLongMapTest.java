@@ -0,0 +1,169 @@
+/*
+
+This file is part of the Fuzion language implementation.
+
+The Fuzion language implementation is free software: you can redistribute it
+and/or modify it under the terms of the GNU General Public License as published
+by the Free Software Foundation, version 3 of the License.
+
+The Fuzion language implementation is distributed in the hope that it will be
+useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public
+License for more details.
+
+You should have received a copy of the GNU General Public License along with The
+Fuzion language implementation.  If not, see <https://www.gnu.org/licenses/>.
+
+*/
+
+/*-----------------------------------------------------------------------
+ *
+ * Tokiwa Software GmbH, Germany
+ *
+ * Source code of class IntLongMapTest
+ *
+ *---------------------------------------------------------------------*/
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+import dev.flang.util.IntMap;
+import dev.flang.util.LongMap;
+
+
+/**
+ * IntLongMapTest performs random operations on dev.flang.util.IntMap and
+ * dev.flang.util.LongMap and on a java.util.HashMap and checks that both
+ * give the same results.
+ *
+ * The keys are taken from different distributions: dense small keys like
+ * clazz or site ids, multiples of large powers of two that all hash to the
+ * same bucket without mixing, random keys over the whole range including
+ * negative values and 0, and long keys that combine two ints like the keys
+ * used by the DFA.  Some values are null to check that null values are
+ * distinguished from missing keys.
+ *
+ * The output is independent of the map implementation, it is compared
+ * against IntLongMapTest.expected_out.
+ */
+public class IntLongMapTest
+{
+
+  static int OPERATIONS = 200_000;
+
+  static int _errors = 0;
+
+
+  static void check(boolean ok, String what, Object key, Object expected, Object actual)
+  {
+    if (!ok && _errors++ < 20)
+      {
+        System.out.println("*** " + what + " for key " + key + ": expected " + expected + " got " + actual);
+      }
+  }
+
+
+  static void testInt(String name, long seed, LongSupplier keys)
+  {
+    var r = new Random(seed);
+    var m = new IntMap<String>();
+    var h = new HashMap<Integer, String>();
+    var errors = _errors;
+    for (var n = 0; n < OPERATIONS; n++)
+      {
+        var k = (int) keys.getAsLong();
+        switch (r.nextInt(4))
+          {
+          case 0, 1 ->
+            {
+              var v = r.nextInt(10) == 0 ? null : "v" + r.nextInt(1000);
+              var e = h.get(k);
+              var a = m.put(k, v);
+              check(e == a || e != null && e.equals(a), "put", k, e, a);
+              h.put(k, v);
+            }
+          case 2 ->
+            {
+              var e = h.get(k);
+              var a = m.get(k);
+              check(e == a || e != null && e.equals(a), "get", k, e, a);
+            }
+          default ->
+            {
+              var e = h.getOrDefault(k, "<default>");
+              var a = m.getOrDefault(k, "<default>");
+              check(e == a || e != null && e.equals(a), "getOrDefault", k, e, a);
+            }
+          }
+        check(m.size() == h.size(), "size", k, h.size(), m.size());
+      }
+    var ks = new ArrayList<Integer>(m.keySet());
+    var es = new ArrayList<Integer>(new TreeSet<>(h.keySet()));
+    check(ks.equals(es), "keySet", "*", es.size() + " keys", ks.size() + " keys");
+    System.out.println("IntMap  " + name + ": " + h.size() + " keys " + (_errors == errors ? "ok" : "FAILED"));
+  }
+
+
+  static void testLong(String name, long seed, LongSupplier keys)
+  {
+    var r = new Random(seed);
+    var m = new LongMap<String>();
+    var h = new HashMap<Long, String>();
+    var errors = _errors;
+    for (var n = 0; n < OPERATIONS; n++)
+      {
+        var k = keys.getAsLong();
+        switch (r.nextInt(4))
+          {
+          case 0, 1 ->
+            {
+              var v = r.nextInt(10) == 0 ? null : "v" + r.nextInt(1000);
+              var e = h.get(k);
+              var a = m.put(k, v);
+              check(e == a || e != null && e.equals(a), "put", k, e, a);
+              h.put(k, v);
+            }
+          case 2 ->
+            {
+              var e = h.get(k);
+              var a = m.get(k);
+              check(e == a || e != null && e.equals(a), "get", k, e, a);
+            }
+          default ->
+            {
+              var e = h.getOrDefault(k, "<default>");
+              var a = m.getOrDefault(k, "<default>");
+              check(e == a || e != null && e.equals(a), "getOrDefault", k, e, a);
+            }
+          }
+        check(m.size() == h.size(), "size", k, h.size(), m.size());
+      }
+    var ks = new ArrayList<Long>(m.keySet());
+    var es = new ArrayList<Long>(new TreeSet<>(h.keySet()));
+    check(ks.equals(es), "keySet", "*", es.size() + " keys", ks.size() + " keys");
+    System.out.println("LongMap " + name + ": " + h.size() + " keys " + (_errors == errors ? "ok" : "FAILED"));
+  }
+
+
+  public static void main(String[] args)
+  {
+    var r = new Random(42);
+    testInt("dense      ", 1, () -> r.nextInt(5000));
+    testInt("tiny       ", 2, () -> r.nextInt(3) - 1);
+    testInt("pow2 stride", 3, () -> r.nextInt(1000) << 20);
+    testInt("random     ", 4, () -> r.nextInt());
+    testInt("min/max/0  ", 5, () -> switch (r.nextInt(4)) { case 0 -> Integer.MIN_VALUE; case 1 -> Integer.MAX_VALUE; case 2 -> 0; default -> r.nextInt(100); });
+    testLong("dense      ", 6, () -> r.nextInt(5000));
+    testLong("int pairs  ", 7, () -> (long) r.nextInt(300) << 32 | r.nextInt(300));
+    testLong("pow2 stride", 8, () -> (long) r.nextInt(1000) << 40);
+    testLong("random     ", 9, () -> r.nextLong());
+    testLong("min/max/0  ", 10, () -> switch (r.nextInt(4)) { case 0 -> Long.MIN_VALUE; case 1 -> Long.MAX_VALUE; case 2 -> 0; default -> r.nextInt(100); });
+    System.out.println(_errors == 0 ? "all ok" : _errors + " errors");
+  }
+
+}
+
+/* end of file */
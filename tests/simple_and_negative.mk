@@ -34,6 +34,7 @@
 
 FUZION_OPTIONS ?=
 FUZION_JVM_BACKEND_OPTIONS ?=
+FUZION_INT_BACKEND_OPTIONS ?=
 FUZION_C_BACKEND_OPTIONS ?=
 FUZION_DEPENDENCIES ?=
 FUZION ?= ../../bin/fz
@@ -45,6 +46,7 @@ ENV = \
   $(if $(FUZION_JAVA_OPTIONS)       , FUZION_JAVA_OPTIONS="$(FUZION_JAVA_OPTIONS)"              ,) \
   $(if $(FUZION_OPTIONS)            , FUZION_OPTIONS="$(FUZION_OPTIONS)"                        ,) \
   $(if $(FUZION_JVM_BACKEND_OPTIONS), FUZION_JVM_BACKEND_OPTIONS="$(FUZION_JVM_BACKEND_OPTIONS)",) \
+  $(if $(FUZION_INT_BACKEND_OPTIONS), FUZION_INT_BACKEND_OPTIONS="$(FUZION_INT_BACKEND_OPTIONS)",) \
   $(if $(FUZION_C_BACKEND_OPTIONS)  , FUZION_C_BACKEND_OPTIONS="$(FUZION_C_BACKEND_OPTIONS)"    ,) \
   $(if $(FUZION_DEPENDENCIES)       , FUZION_OPTIONS="$(FUZION_DEPENDENCIES)"                   ,) \
 